@@ -4,10 +4,13 @@ import com.team8.project2.domain.curation.report.dto.ReportedCurationsDetailResD
 import com.team8.project2.domain.admin.dto.StatsResDto;
 import com.team8.project2.domain.admin.service.AdminService;
 import com.team8.project2.domain.comment.service.CommentService;
+import com.team8.project2.domain.curation.curation.service.CurationSearchIndex;
 import com.team8.project2.domain.curation.curation.service.CurationService;
+import com.team8.project2.domain.curation.curation.service.CurationTagIndex;
 import com.team8.project2.domain.curation.report.service.ReportService;
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.service.MemberService;
+import com.team8.project2.global.RedisLikeRebuilder;
 import com.team8.project2.global.Rq;
 import com.team8.project2.global.dto.RsData;
 import com.team8.project2.global.exception.ServiceException;
@@ -27,6 +30,9 @@ public class ApiV1AdminController {
 	private final MemberService memberService;
 	private final CommentService commentService;
 	private final ReportService reportService;
+	private final CurationSearchIndex curationSearchIndex;
+	private final CurationTagIndex curationTagIndex;
+	private final RedisLikeRebuilder redisLikeRebuilder;
 
 	// ✅ 큐레이션 삭제
 	@DeleteMapping("/curations/{curationId}")
@@ -63,6 +69,64 @@ public class ApiV1AdminController {
 		return RsData.success("신고된 큐레이션 목록 조회 성공", reportService.getReportedCurationsDetailResDtos(reportedcurations));
 	}
 
+	// ✅ 큐레이션 전문 검색 색인 재구축
+	@PostMapping("/curations/search-index/rebuild")
+	public RsData<Long> rebuildCurationSearchIndex() {
+		if (!rq.getActor().isAdmin()) {
+			throw new ServiceException("403-1", "권한이 없습니다.");
+		}
+		long indexedCount = curationSearchIndex.rebuild();
+		if (indexedCount < 0) {
+			throw new ServiceException("409-1", "검색 색인 작업이 이미 진행 중입니다.");
+		}
+		return RsData.success("검색 색인이 재구축되었습니다.", indexedCount);
+	}
+
+	// ✅ 큐레이션 태그 색인 재구축
+	@PostMapping("/curations/tag-index/rebuild")
+	public RsData<Long> rebuildCurationTagIndex() {
+		if (!rq.getActor().isAdmin()) {
+			throw new ServiceException("403-1", "권한이 없습니다.");
+		}
+		long postingCount = curationTagIndex.rebuild();
+		if (postingCount < 0) {
+			throw new ServiceException("409-1", "태그 색인 작업이 이미 진행 중입니다.");
+		}
+		return RsData.success("태그 색인이 재구축되었습니다.", postingCount);
+	}
+
+	// ✅ 큐레이션 태그 색인 크기 조회
+	@GetMapping("/curations/tag-index/stats")
+	public RsData<CurationTagIndex.Stats> getCurationTagIndexStats() {
+		if (!rq.getActor().isAdmin()) {
+			throw new ServiceException("403-1", "권한이 없습니다.");
+		}
+		return RsData.success("태그 색인 크기 조회 성공", curationTagIndex.stats());
+	}
+
+	// ✅ DB 좋아요로 Redis 좋아요 SET 재구축 (백그라운드)
+	@PostMapping("/likes/rebuild")
+	public RsData<List<RedisLikeRebuilder.Progress>> rebuildLikes(
+		@RequestParam(defaultValue = "false") boolean restart) {
+		if (!rq.getActor().isAdmin()) {
+			throw new ServiceException("403-1", "권한이 없습니다.");
+		}
+		if (!redisLikeRebuilder.start(restart)) {
+			throw new ServiceException("409-1", "좋아요 재구축 작업이 이미 진행 중입니다.");
+		}
+		return RsData.success("좋아요 재구축을 시작했습니다.", redisLikeRebuilder.progress());
+	}
+
+	// ✅ 좋아요 재구축 진행 상황 조회
+	@GetMapping("/likes/rebuild")
+	public RsData<List<RedisLikeRebuilder.Progress>> getLikeRebuildProgress() {
+		if (!rq.getActor().isAdmin()) {
+			throw new ServiceException("403-1", "권한이 없습니다.");
+		}
+		String message = redisLikeRebuilder.isRunning() ? "좋아요 재구축 진행 중" : "좋아요 재구축 진행 상황 조회 성공";
+		return RsData.success(message, redisLikeRebuilder.progress());
+	}
+
 	// ✅ 큐레이션 & 플레이리스트 통계 조회
 	@GetMapping("/stats")
 	public RsData<StatsResDto> getStats() {
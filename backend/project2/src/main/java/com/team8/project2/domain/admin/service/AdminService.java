@@ -2,6 +2,7 @@ package com.team8.project2.domain.admin.service;
 
 import com.team8.project2.domain.curation.report.dto.ReportedCurationsDetailResDto;
 import com.team8.project2.domain.admin.dto.StatsResDto;
+import com.team8.project2.domain.comment.event.CommentChangeEvent;
 import com.team8.project2.domain.comment.repository.CommentRepository;
 import com.team8.project2.domain.comment.service.CommentService;
 import com.team8.project2.domain.curation.curation.entity.Curation;
@@ -11,6 +12,7 @@ import com.team8.project2.domain.curation.report.entity.ReportType;
 import com.team8.project2.domain.curation.report.repository.ReportRepository;
 import com.team8.project2.domain.member.dto.AllMemberResDto;
 import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.member.event.FollowChangeEvent;
 import com.team8.project2.domain.member.repository.FollowRepository;
 import com.team8.project2.domain.member.repository.MemberRepository;
 import com.team8.project2.domain.member.service.MemberService;
@@ -21,6 +23,7 @@ import com.team8.project2.global.exception.ServiceException;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -47,14 +50,32 @@ public class AdminService {
 	private final FollowRepository followRepository;
 	private final CommentRepository commentRepository;
 	private final ReportRepository reportRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional(noRollbackFor = ServiceException.class)
 	public void deleteMember(Member member) {
+		// 일괄 삭제는 엔티티별 이벤트를 발행하지 않으므로, 캐시·색인·타임라인 정리에 필요한 정보를 먼저 읽어 둠
+		Map<Long, List<String>> deletedCurations = curationService.getTagNamesByAuthor(member);
+		List<Long> commentedCurationIds = commentRepository.findCurationIdsByAuthor(member);
+		List<Long> followerIds = followRepository.findFollowerIds(member.getId(), Pageable.unpaged());
+		List<Long> followeeIds = followRepository.findFolloweeIds(member.getId());
+
 		commentRepository.deleteByAuthor(member);
+		if (!commentedCurationIds.isEmpty()) {
+			curationRepository.recountCommentCounts(commentedCurationIds);
+		}
 		curationRepository.deleteByMember(member);
 		followRepository.deleteByFollowerOrFollowee(member, member);
 
 		memberService.deleteMember(member.getMemberId());
+
+		curationService.cleanUpDeletedCurations(deletedCurations);
+		commentedCurationIds.stream()
+			.filter(curationId -> !deletedCurations.containsKey(curationId))
+			.forEach(curationId -> eventPublisher.publishEvent(new CommentChangeEvent(curationId)));
+		// 팔로워의 타임라인에 남은 삭제된 큐레이션이 보이지 않도록 다시 만들게 함
+		followerIds.forEach(followerId -> eventPublisher.publishEvent(new FollowChangeEvent(followerId, member.getId())));
+		followeeIds.forEach(followeeId -> eventPublisher.publishEvent(new FollowChangeEvent(member.getId(), followeeId)));
 	}
 
 	public void deleteMemberById(Long Id) {
@@ -0,0 +1,13 @@
+package com.team8.project2.domain.comment.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 또는 답글이 작성, 수정, 삭제되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class CommentChangeEvent {
+	private Long curationId;
+}
@@ -3,6 +3,8 @@ package com.team8.project2.domain.comment.repository;
 import com.team8.project2.domain.comment.entity.Comment;
 import com.team8.project2.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,9 +23,29 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     List<Comment> findByCurationId(Long curationId);
 
+    /**
+     * 특정 큐레이션의 댓글을 답글과 답글 작성자까지 함께 조회합니다.
+     * 답글 수와 관계없이 한 번의 쿼리로 댓글별 답글 컬렉션이 초기화됩니다.
+     * @param curationId 큐레이션 ID
+     * @return 답글이 초기화된 댓글 리스트
+     */
+    @Query("SELECT DISTINCT c FROM Comment c " +
+            "LEFT JOIN FETCH c.replyComments r " +
+            "LEFT JOIN FETCH r.author " +
+            "WHERE c.curation.id = :curationId")
+    List<Comment> findWithRepliesByCurationId(@Param("curationId") Long curationId);
+
     List<Comment> findAllByAuthor_Id(Long memberId);
 
     List<Comment> findAllByAuthor(Member author);
 
+    /**
+     * 회원이 댓글을 작성한 큐레이션의 ID를 조회합니다.
+     * @param author 작성자
+     * @return 큐레이션 ID 목록
+     */
+    @Query("SELECT DISTINCT c.curation.id FROM Comment c WHERE c.author = :author")
+    List<Long> findCurationIdsByAuthor(@Param("author") Member author);
+
     void deleteByAuthor(Member member);
 }
@@ -7,4 +7,6 @@ import com.team8.project2.domain.comment.entity.ReplyComment;
 
 @Repository
 public interface ReplyCommentRepository extends JpaRepository<ReplyComment, Long> {
+
+	long countByCommentId(Long commentId);
 }
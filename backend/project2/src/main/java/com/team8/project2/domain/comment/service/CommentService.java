@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.hibernate.annotations.Comments;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +13,7 @@ import com.team8.project2.domain.comment.dto.CommentDto;
 import com.team8.project2.domain.comment.dto.ReplyCommentDto;
 import com.team8.project2.domain.comment.entity.Comment;
 import com.team8.project2.domain.comment.entity.ReplyComment;
+import com.team8.project2.domain.comment.event.CommentChangeEvent;
 import com.team8.project2.domain.comment.repository.CommentRepository;
 import com.team8.project2.domain.comment.repository.ReplyCommentRepository;
 import com.team8.project2.domain.curation.curation.entity.Curation;
@@ -36,6 +38,7 @@ public class CommentService {
 	private final CurationRepository curationRepository;
 	private final ReplyCommentRepository replyCommentRepository;
 	private final Rq rq;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 새로운 댓글을 생성합니다.
@@ -53,6 +56,8 @@ public class CommentService {
 		// Curation 객체를 사용해 Comment 생성
 		Comment comment = commentDto.toEntity(author, curation);
 		Comment savedComment = commentRepository.save(comment);
+		curationRepository.increaseCommentCount(curationId, 1);
+		eventPublisher.publishEvent(new CommentChangeEvent(curationId));
 		return CommentDto.fromEntity(savedComment);
 	}
 
@@ -76,7 +81,11 @@ public class CommentService {
 	public void deleteComment(Long commentId) {
 		Comment comment = commentRepository.findById(commentId)
 			.orElseThrow(() -> new ServiceException("404-2", "해당 댓글을 찾을 수 없습니다."));
+		// 댓글을 삭제하면 답글도 함께 삭제됨
+		int deletedCount = 1 + (int)replyCommentRepository.countByCommentId(commentId);
 		commentRepository.delete(comment);
+		curationRepository.increaseCommentCount(comment.getCuration().getId(), -deletedCount);
+		eventPublisher.publishEvent(new CommentChangeEvent(comment.getCuration().getId()));
 	}
 
 	@Transactional
@@ -84,6 +93,7 @@ public class CommentService {
 		Comment comment = commentRepository.findById(commentId)
 			.orElseThrow(() -> new ServiceException("404-2", "해당 댓글을 찾을 수 없습니다."));
 		comment.updateContent(commentDto.getContent());
+		eventPublisher.publishEvent(new CommentChangeEvent(comment.getCuration().getId()));
 		return CommentDto.fromEntity(comment);
 	}
 
@@ -152,6 +162,8 @@ public class CommentService {
 			.content(content)
 			.build();
 		ReplyComment savedReply = replyCommentRepository.save(reply);
+		curationRepository.increaseCommentCount(curationId, 1);
+		eventPublisher.publishEvent(new CommentChangeEvent(curationId));
 		return ReplyCommentDto.fromEntity(savedReply);
 	}
 
@@ -190,6 +202,7 @@ public class CommentService {
 		ReplyComment reply = replyCommentRepository.findById(replyId)
 			.orElseThrow(() -> new ServiceException("404-2", "해당 댓글을 찾을 수 없습니다."));
 		reply.updateContent(replyDto.getContent());
+		eventPublisher.publishEvent(new CommentChangeEvent(reply.getCuration().getId()));
 		return ReplyCommentDto.fromEntity(reply);
 	}
 
@@ -198,6 +211,8 @@ public class CommentService {
 		ReplyComment replyComment = replyCommentRepository.findById(replyId)
 			.orElseThrow(() -> new ServiceException("404-2", "해당 답글을 찾을 수 없습니다."));
 		replyCommentRepository.delete(replyComment);
+		curationRepository.increaseCommentCount(replyComment.getCuration().getId(), -1);
+		eventPublisher.publishEvent(new CommentChangeEvent(replyComment.getCuration().getId()));
 	}
 
 }
@@ -5,6 +5,7 @@ import com.team8.project2.domain.curation.curation.dto.CurationReqDTO;
 import com.team8.project2.domain.curation.curation.dto.CurationResDto;
 import com.team8.project2.domain.curation.curation.dto.CurationSearchResDto;
 import com.team8.project2.domain.curation.curation.dto.TrendingCurationResDto;
+import com.team8.project2.domain.curation.curation.dto.TrendingWindow;
 import com.team8.project2.domain.curation.curation.entity.Curation;
 import com.team8.project2.domain.curation.curation.entity.SearchOrder;
 import com.team8.project2.domain.curation.curation.service.CurationService;
@@ -19,6 +20,7 @@ import com.team8.project2.global.Rq;
 import com.team8.project2.global.dto.RsData;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -26,10 +28,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -42,6 +48,9 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/v1/curation")
 public class ApiV1CurationController {
 
+	private static final Duration TRENDING_MAX_AGE = Duration.ofSeconds(60);
+	private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
 	private final CurationService curationService;
 
 	private final Rq rq;
@@ -95,15 +104,22 @@ public class ApiV1CurationController {
 
 	/**
 	 * 특정 큐레이션을 조회합니다.
+	 * 조회수 집계를 위해 서비스는 항상 호출하고, If-None-Match가 현재 ETag와 같으면 본문 없이 304로 응답합니다.
 	 * @param id 큐레이션 ID
-	 * @return 조회된 큐레이션 정보 응답
+	 * @return 조회된 큐레이션 정보 응답 (변경이 없으면 null)
 	 */
 	@GetMapping("/{id}")
 	@Transactional(readOnly = true)
-	public RsData<CurationDetailResDto> getCuration(@PathVariable Long id, HttpServletRequest request) {
+	public RsData<CurationDetailResDto> getCuration(@PathVariable Long id, HttpServletRequest request,
+		HttpServletResponse response, WebRequest webRequest) {
 		// 큐레이션 서비스 호출 시 IP를 전달
 		CurationDetailResDto curationDetailResDto = curationService.getCuration(id, request);
 
+		// 사용자별 정보가 포함되므로 브라우저에만 저장하고 매번 재검증
+		response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+		if (webRequest.checkNotModified(curationDetailResDto.eTag())) {
+			return null;
+		}
 		return new RsData<>("200-1", "조회 성공", curationDetailResDto);
 	}
 
@@ -113,6 +129,8 @@ public class ApiV1CurationController {
 	 * @param title 제목 검색어 (선택적)
 	 * @param content 내용 검색어 (선택적)
 	 * @param order 정렬 기준 (기본값: 최신순)
+	 * @param cursor 커서 기반 조회 시 이전 응답의 nextCursor (빈 값이면 첫 페이지, 없으면 페이지 번호 방식)
+	 * @param includeTotal 커서 조회에서 전체 개수 포함 여부 (기본값: 포함하지 않음)
 	 * @return 검색된 큐레이션 목록 응답
 	 */
 	@GetMapping
@@ -122,16 +140,38 @@ public class ApiV1CurationController {
 		@RequestParam(required = false) String author,
 		@RequestParam(required = false, defaultValue = "LATEST") SearchOrder order,
 		@RequestParam(defaultValue = "0") int page,  // 기본값 0
-		@RequestParam(defaultValue = "20") int size // 기본값 20
+		@RequestParam(defaultValue = "20") int size, // 기본값 20
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "false") boolean includeTotal,
+		HttpServletResponse response
 	) {
-		CurationSearchResDto curationSearchResDto = curationService.searchCurations(tags, title, content, author, order, page, size);
+		CurationSearchResDto curationSearchResDto;
+		if (cursor != null) {
+			curationSearchResDto = curationService.searchCurationsByCursor(tags, title, content, author, order,
+				cursor, size, includeTotal);
+			setNextCursorHeader(response, curationSearchResDto.getNextCursor());
+		} else {
+			curationSearchResDto = curationService.searchCurations(tags, title, content, author, order, page, size);
+		}
 		return new RsData<>("200-1", "글이 검색되었습니다.", curationSearchResDto);
 	}
 
+	/**
+	 * 작성자의 큐레이션을 최신순으로 조회합니다.
+	 * cursor 파라미터가 있으면 커서 기반으로 조회하고 다음 페이지 커서를 X-Next-Cursor 헤더로 응답합니다.
+	 */
 	@GetMapping("/author/{username}")
 	public RsData<List<CurationResDto>> searchCurationByUserName(@PathVariable String username,
-		@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
-		List<CurationResDto> result = curationService.searchCurationByUserName(username, page, size);
+		@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size,
+		@RequestParam(required = false) String cursor, HttpServletResponse response) {
+		List<CurationResDto> result;
+		if (cursor != null) {
+			CurationSearchResDto slice = curationService.searchCurationByUserNameByCursor(username, cursor, size);
+			setNextCursorHeader(response, slice.getNextCursor());
+			result = slice.getCurations();
+		} else {
+			result = curationService.searchCurationByUserName(username, page, size);
+		}
 		return new RsData<>("200-1", "작성자로 큐레이션이 검색되었습니다.", result);
 	}
 
@@ -164,12 +204,26 @@ public class ApiV1CurationController {
 	@Transactional(readOnly = true)
 	@PreAuthorize("isAuthenticated()")
 	public RsData<List<CurationResDto>> followingCuration(@RequestParam(defaultValue = "0") int page,
-		@RequestParam(defaultValue = "20") int size) {
+		@RequestParam(defaultValue = "20") int size, @RequestParam(required = false) String cursor,
+		HttpServletResponse response) {
 		Member actor = rq.getActor();
-		List<CurationResDto> curations = curationService.getFollowingCurations(actor, page, size);
+		List<CurationResDto> curations;
+		if (cursor != null) {
+			CurationSearchResDto slice = curationService.getFollowingCurationsByCursor(actor, cursor, size);
+			setNextCursorHeader(response, slice.getNextCursor());
+			curations = slice.getCurations();
+		} else {
+			curations = curationService.getFollowingCurations(actor, page, size);
+		}
 		return new RsData<>("200-1", "팔로우중인 큐레이터의 큐레이션이 조회되었습니다.", curations);
 	}
 
+	private void setNextCursorHeader(HttpServletResponse response, String nextCursor) {
+		if (nextCursor != null) {
+			response.setHeader(NEXT_CURSOR_HEADER, nextCursor);
+		}
+	}
+
 	record CurationReportReqDto(@NotNull String reportType) {
 	}
 
@@ -201,9 +255,22 @@ public class ApiV1CurationController {
 		return new RsData<>("200-1", "트렌딩 태그가 조회되었습니다.", tagResDto);
 	}
 
+	/**
+	 * 트렌딩 큐레이션을 조회합니다.
+	 * 사용자와 무관한 응답이므로 공유 캐시에 짧게 저장할 수 있도록 허용하고, 변경이 없으면 304로 응답합니다.
+	 * @param window 집계 구간 (HOUR, DAY, WEEK)
+	 * @return 트렌딩 큐레이션 응답 (변경이 없으면 null)
+	 */
 	@GetMapping("/trending-curation")
-	public RsData<TrendingCurationResDto> trendingCuration() {
-		TrendingCurationResDto trendingCurationResDto = curationService.getTrendingCuration();
+	public RsData<TrendingCurationResDto> trendingCuration(@RequestParam(defaultValue = "DAY") TrendingWindow window,
+		HttpServletResponse response, WebRequest webRequest) {
+		TrendingCurationResDto trendingCurationResDto = curationService.getTrendingCuration(window);
+
+		response.setHeader(HttpHeaders.CACHE_CONTROL,
+			CacheControl.maxAge(TRENDING_MAX_AGE).cachePublic().getHeaderValue());
+		if (webRequest.checkNotModified(trendingCurationResDto.eTag())) {
+			return null;
+		}
 		return new RsData<>("200-1", "트렌딩 큐레이션이 조회되었습니다.", trendingCurationResDto);
 	}
 }
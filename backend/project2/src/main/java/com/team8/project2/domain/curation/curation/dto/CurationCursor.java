@@ -0,0 +1,74 @@
+package com.team8.project2.domain.curation.curation.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.domain.curation.curation.entity.SearchOrder;
+import com.team8.project2.global.exception.ServiceException;
+
+/**
+ * 커서 기반 페이지 조회에서 마지막으로 받은 큐레이션의 위치입니다.
+ * 클라이언트에는 정렬 기준, 정렬 값(작성일 또는 좋아요 수), ID를 Base64로 인코딩한 불투명한 문자열로 전달합니다.
+ * 다음 요청에서는 (정렬 값, ID) 조합보다 뒤에 있는 큐레이션만 조회하므로 OFFSET 없이 이어서 읽을 수 있습니다.
+ *
+ * @param order 커서를 발급한 요청의 정렬 기준
+ * @param sortValue 마지막 큐레이션의 정렬 값
+ * @param id 마지막 큐레이션 ID
+ */
+public record CurationCursor(SearchOrder order, String sortValue, Long id) {
+
+	private static final String DELIMITER = "|";
+
+	/**
+	 * 마지막으로 응답한 큐레이션으로 다음 페이지 커서를 만듭니다.
+	 * 좋아요 수는 Redis 값으로 덮어쓰기 전의 DB 값이어야 합니다.
+	 */
+	public static CurationCursor of(SearchOrder order, Curation last) {
+		String sortValue = order == SearchOrder.LIKECOUNT
+			? String.valueOf(last.getLikeCount())
+			: last.getCreatedAt().toString();
+		return new CurationCursor(order, sortValue, last.getId());
+	}
+
+	/**
+	 * 클라이언트가 보낸 커서를 해석합니다.
+	 * @param token 인코딩된 커서
+	 * @param order 현재 요청의 정렬 기준
+	 * @return 해석된 커서
+	 * @throws ServiceException 형식이 잘못되었거나 다른 정렬 기준으로 발급된 커서인 경우
+	 */
+	public static CurationCursor decode(String token, SearchOrder order) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\" + DELIMITER, -1);
+			CurationCursor cursor = new CurationCursor(SearchOrder.valueOf(parts[0]), parts[1], Long.parseLong(parts[2]));
+			if (parts.length == 3 && cursor.order == order) {
+				// 정렬 값 형식 검증
+				if (order == SearchOrder.LIKECOUNT) {
+					cursor.likeCount();
+				} else {
+					cursor.createdAt();
+				}
+				return cursor;
+			}
+		} catch (RuntimeException e) {
+			// 아래에서 400 응답
+		}
+		throw new ServiceException("400-1", "잘못된 커서입니다.");
+	}
+
+	public String encode() {
+		String raw = order.name() + DELIMITER + sortValue + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public LocalDateTime createdAt() {
+		return LocalDateTime.parse(sortValue);
+	}
+
+	public Long likeCount() {
+		return Long.parseLong(sortValue);
+	}
+}
@@ -1,10 +1,13 @@
 package com.team8.project2.domain.curation.curation.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.team8.project2.domain.comment.dto.ReplyCommentDto;
 import com.team8.project2.domain.comment.entity.Comment;
 import com.team8.project2.domain.curation.curation.entity.Curation;
 import com.team8.project2.domain.curation.tag.entity.Tag;
 import com.team8.project2.domain.link.entity.Link;
+import com.team8.project2.domain.link.entity.LinkMetadataStatus;
+import com.team8.project2.standard.util.Ut;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,7 +20,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class CurationDetailResDto {
@@ -66,17 +69,24 @@ public class CurationDetailResDto {
 	/** 로그인 여부*/
 	private boolean isLogin;
 
+	/** 캐시된 상세 정보의 버전 (ETag 계산용, 응답에는 포함하지 않음) */
+	@JsonIgnore
+	private long contentVersion;
+
 	/**
 	 * 링크 정보를 포함하는 내부 DTO 클래스
 	 */
 	@Getter
-	static class LinkResDto {
+	@NoArgsConstructor
+	public static class LinkResDto {
 		private Long id;
 		private String url;
 		private String title;
 		private String description;
 		private String imageUrl;
 		private int click;
+		/** 메타데이터 수집 상태 (PENDING이면 다음 조회 때 제목·설명·이미지가 채워짐) */
+		private LinkMetadataStatus metadataStatus;
 
 		public LinkResDto(Link link) {
 			this.id = link.getId();
@@ -85,6 +95,7 @@ public class CurationDetailResDto {
 			this.description = link.getDescription();
 			this.imageUrl = link.getMetaImageUrl();
 			this.click = link.getClick();
+			this.metadataStatus = link.getMetadataStatus();
 		}
 	}
 
@@ -92,7 +103,8 @@ public class CurationDetailResDto {
 	 * 태그 정보를 포함하는 내부 DTO 클래스
 	 */
 	@Getter
-	static class TagResDto {
+	@NoArgsConstructor
+	public static class TagResDto {
 		private String name;
 
 		public TagResDto(Tag tag) {
@@ -101,7 +113,8 @@ public class CurationDetailResDto {
 	}
 
 	@Getter
-	static class CommentResDto {
+	@NoArgsConstructor
+	public static class CommentResDto {
 		private long commentId;
 		private long authorId;
 		private String authorName;
@@ -126,6 +139,37 @@ public class CurationDetailResDto {
 		}
 	}
 
+	/**
+	 * 사용자별 정보와 실시간 집계값을 반영한 복사본을 반환합니다.
+	 * 원본 DTO는 변경하지 않으므로 여러 요청이 같은 DTO를 공유해도 안전합니다.
+	 *
+	 * @param likeCount  좋아요 수
+	 * @param viewCount  조회수
+	 * @param isLiked    좋아요 여부
+	 * @param isFollowed 작성자 팔로우 여부
+	 * @param isLogin    로그인 여부
+	 * @return 사용자별 정보가 반영된 상세 큐레이션 DTO
+	 */
+	public CurationDetailResDto withViewerState(Long likeCount, Long viewCount, boolean isLiked, boolean isFollowed,
+		boolean isLogin) {
+		return this.toBuilder()
+			.likeCount(likeCount)
+			.viewCount(viewCount)
+			.isLiked(isLiked)
+			.isFollowed(isFollowed)
+			.isLogin(isLogin)
+			.build();
+	}
+
+	/**
+	 * 응답 내용을 식별하는 약한 ETag를 반환합니다.
+	 * 캐시 버전과 사용자별로 덧씌운 값이 모두 같으면 응답 본문도 같습니다.
+	 * @return 약한 ETag
+	 */
+	public String eTag() {
+		return Ut.ETag.weak(id, contentVersion, likeCount, viewCount, isLiked, isFollowed, isLogin);
+	}
+
 	/**
 	 * 엔티티(Curation) 객체를 DTO(CurationDetailResDto)로 변환합니다.
 	 *
@@ -3,6 +3,7 @@ package com.team8.project2.domain.curation.curation.dto;
 import com.team8.project2.domain.curation.curation.entity.Curation;
 import com.team8.project2.domain.curation.tag.entity.Tag;
 import com.team8.project2.domain.link.entity.Link;
+import com.team8.project2.domain.link.entity.LinkMetadataStatus;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -48,6 +49,8 @@ public class CurationResDto {
 
     private int commentCount;
 
+    /** 로그인 회원의 좋아요 여부 (비로그인 시 false) */
+    private boolean isLiked;
 
 
     /**
@@ -61,6 +64,8 @@ public class CurationResDto {
         private String title;
         private String description;
         private String imageUrl;
+        /** 메타데이터 수집 상태 (PENDING이면 다음 조회 때 제목·설명·이미지가 채워짐) */
+        private LinkMetadataStatus metadataStatus;
 
         public LinkResDto(Link link) {
             this.id = link.getId();
@@ -68,6 +73,7 @@ public class CurationResDto {
             this.title = link.getTitle();
             this.description = link.getDescription();
             this.imageUrl = link.getMetaImageUrl();
+            this.metadataStatus = link.getMetadataStatus();
         }
     }
 
@@ -89,6 +95,15 @@ public class CurationResDto {
      * @param curation 변환할 큐레이션 엔티티
      */
     public CurationResDto(Curation curation) {
+        this(curation, false);
+    }
+
+    /**
+     * 큐레이션 엔티티와 로그인 회원의 좋아요 여부로 DTO를 만드는 생성자
+     * @param curation 변환할 큐레이션 엔티티
+     * @param isLiked 좋아요 여부
+     */
+    public CurationResDto(Curation curation, boolean isLiked) {
         this.id = curation.getId();
         this.title = curation.getTitle();
         this.content = curation.getContent();
@@ -105,5 +120,6 @@ public class CurationResDto {
         this.likeCount = curation.getLikeCount();
         this.viewCount = curation.getViewCount();
         this.commentCount = curation.getCommentCount();
+        this.isLiked = isLiked;
     }
 }
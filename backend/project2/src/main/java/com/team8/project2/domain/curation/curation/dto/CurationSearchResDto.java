@@ -1,6 +1,7 @@
 package com.team8.project2.domain.curation.curation.dto;
 
 import java.util.List;
+import java.util.Set;
 
 import com.team8.project2.domain.curation.curation.entity.Curation;
 
@@ -10,15 +11,18 @@ import lombok.Getter;
 public class CurationSearchResDto {
 
 	private List<CurationResDto> curations;
-	private int totalPages;
-	private long totalElements;
+	// 커서 조회에서 전체 개수를 요청하지 않으면 null
+	private Integer totalPages;
+	private Long totalElements;
 	private int numberOfElements;
 	private int size;
+	// 커서 조회에서만 사용하며, 마지막 페이지면 null
+	private String nextCursor;
 
-	public static CurationSearchResDto of(List<Curation> curations, int totalPages, long totalElements, int numberOfElements, int size) {
+	public static CurationSearchResDto of(List<Curation> curations, Set<Long> likedIds, int totalPages, long totalElements, int numberOfElements, int size) {
 		CurationSearchResDto dto = new CurationSearchResDto();
 		dto.curations = curations.stream()
-			.map(CurationResDto::new)
+			.map(curation -> new CurationResDto(curation, likedIds.contains(curation.getId())))
 			.toList();
 		dto.totalPages = totalPages;
 		dto.totalElements = totalElements;
@@ -26,4 +30,28 @@ public class CurationSearchResDto {
 		dto.size = size;
 		return dto;
 	}
+
+	/**
+	 * 커서 조회 결과를 만듭니다.
+	 * @param curations 현재 페이지의 큐레이션 목록
+	 * @param likedIds 로그인 회원이 좋아요한 큐레이션 ID
+	 * @param size 요청한 페이지 크기
+	 * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+	 * @param totalElements 전체 개수 (계산하지 않았으면 null)
+	 */
+	public static CurationSearchResDto ofCursor(List<Curation> curations, Set<Long> likedIds, int size,
+		String nextCursor, Long totalElements) {
+		CurationSearchResDto dto = new CurationSearchResDto();
+		dto.curations = curations.stream()
+			.map(curation -> new CurationResDto(curation, likedIds.contains(curation.getId())))
+			.toList();
+		if (totalElements != null) {
+			dto.totalElements = totalElements;
+			dto.totalPages = size == 0 ? 1 : (int)Math.ceil((double)totalElements / size);
+		}
+		dto.numberOfElements = curations.size();
+		dto.size = size;
+		dto.nextCursor = nextCursor;
+		return dto;
+	}
 }
@@ -10,6 +10,7 @@ public class CurationSummaryResDto {
 	private String title;
 	private String authorName;
 	private Long viewCount;
+	private Long likeCount;
 
 	public static CurationSummaryResDto of(Curation curation) {
 		CurationSummaryResDto dto = new CurationSummaryResDto();
@@ -17,6 +18,7 @@ public class CurationSummaryResDto {
 		dto.title = curation.getTitle();
 		dto.authorName = curation.getMemberName();
 		dto.viewCount = curation.getViewCount();
+		dto.likeCount = curation.getLikeCount();
 		return dto;
 	}
 }
@@ -1,8 +1,10 @@
 package com.team8.project2.domain.curation.curation.dto;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.standard.util.Ut;
 
 import lombok.Getter;
 
@@ -18,4 +20,31 @@ public class TrendingCurationResDto {
 			.toList();
 		return dto;
 	}
+
+	/**
+	 * 삭제된 큐레이션을 뺀 응답을 반환합니다.
+	 * @param curationId 삭제된 큐레이션 ID
+	 * @return 해당 큐레이션이 없으면 자기 자신, 있으면 뺀 새 응답
+	 */
+	public TrendingCurationResDto without(Long curationId) {
+		if (curations.stream().noneMatch(curation -> curation.getCurationId().equals(curationId))) {
+			return this;
+		}
+		TrendingCurationResDto dto = new TrendingCurationResDto();
+		dto.curations = curations.stream()
+			.filter(curation -> !curation.getCurationId().equals(curationId))
+			.toList();
+		return dto;
+	}
+
+	/**
+	 * 응답 내용을 식별하는 약한 ETag를 반환합니다.
+	 * @return 약한 ETag
+	 */
+	public String eTag() {
+		return Ut.ETag.weakHash(curations.stream()
+			.flatMap(curation -> Stream.of(curation.getCurationId(), curation.getTitle(), curation.getAuthorName(),
+				curation.getViewCount(), curation.getLikeCount()))
+			.toArray());
+	}
 }
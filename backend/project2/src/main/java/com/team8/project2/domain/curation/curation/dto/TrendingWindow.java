@@ -0,0 +1,18 @@
+package com.team8.project2.domain.curation.curation.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 트렌딩 집계 구간
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingWindow {
+	HOUR(1),
+	DAY(24),
+	WEEK(24 * 7);
+
+	/** 구간 길이 (시간) */
+	private final int hours;
+}
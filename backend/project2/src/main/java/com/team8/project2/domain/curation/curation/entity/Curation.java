@@ -4,10 +4,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -22,6 +18,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -44,7 +41,14 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "Curation")
+@Table(name = "Curation", indexes = {
+    // 커서 기반 페이지 조회용 (정렬 값, ID) 복합 인덱스
+    @Index(name = "idx_curation_created_at_id", columnList = "createdAt, curationId"),
+    @Index(name = "idx_curation_like_count_id", columnList = "likeCount, curationId"),
+    @Index(name = "idx_curation_member_created_at_id", columnList = "memberId, createdAt, curationId"),
+    // 트렌딩 기록이 없을 때 조회수 상위 큐레이션 조회용
+    @Index(name = "idx_curation_view_count", columnList = "viewCount")
+})
 public class Curation {
 
     /**
@@ -98,6 +102,12 @@ public class Curation {
     @Column(name = "viewCount", nullable = false)
     private Long viewCount = 0L;
 
+    /**
+     * 댓글과 답글 수 (댓글·답글 작성·삭제 시 갱신)
+     */
+    @Column(name = "commentCount", nullable = false)
+    private int commentCount;
+
     /**
      * 큐레이션 작성자 (Member와 N:1 관계, 선택적)
      */
@@ -147,27 +157,4 @@ public class Curation {
     public String getMemberImgUrl() {
         return member.getProfileImage();
     }
-
-    public List<String> getImageNames() {
-        List<String> imageFileNames = new ArrayList<>();
-        Document document = Jsoup.parse(content);
-        Elements images = document.select("img[src]");
-
-        for (Element img : images) {
-            String src = img.attr("src");
-            if (src.startsWith("https://linkurator-bucket")) {
-                String fileName = extractFileNameFromUrl(src);
-                imageFileNames.add(fileName);
-            }
-        }
-        return imageFileNames;
-    }
-
-    private String extractFileNameFromUrl(String fileUrl) {
-        return fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
-    }
-
-    public int getCommentCount() {
-        return comments.size();
-    }
 }
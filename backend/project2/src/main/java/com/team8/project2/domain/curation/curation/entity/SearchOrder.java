@@ -12,5 +12,8 @@ public enum SearchOrder {
     OLDEST,
 
     /** 좋아요순 정렬 */
-    LIKECOUNT
+    LIKECOUNT,
+
+    /** 검색어 관련도순 정렬 (검색어가 없으면 최신순) */
+    RELEVANCE
 }
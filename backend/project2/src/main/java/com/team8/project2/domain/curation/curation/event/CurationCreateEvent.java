@@ -0,0 +1,18 @@
+package com.team8.project2.domain.curation.curation.event;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CurationCreateEvent {
+	private Long curationId;
+	/** 큐레이션에 연결된 태그 이름 */
+	private List<String> tagNames;
+	/** 작성자 ID */
+	private Long authorId;
+	/** 작성자 이름 */
+	private String authorName;
+}
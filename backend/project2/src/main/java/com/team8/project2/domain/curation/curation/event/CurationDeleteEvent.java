@@ -1,5 +1,7 @@
 package com.team8.project2.domain.curation.curation.event;
 
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -7,4 +9,6 @@ import lombok.Getter;
 @AllArgsConstructor
 public class CurationDeleteEvent {
 	private Long curationId;
+	/** 삭제 전 연결되어 있던 태그 이름 */
+	private List<String> tagNames;
 }
@@ -0,0 +1,68 @@
+package com.team8.project2.domain.curation.curation.event;
+
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.team8.project2.domain.comment.event.CommentChangeEvent;
+import com.team8.project2.domain.curation.curation.repository.CurationLinkRepository;
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.curation.service.CurationDetailCache;
+import com.team8.project2.domain.link.event.LinkMetadataUpdateEvent;
+import com.team8.project2.domain.member.event.ProfileImageUpdateEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐레이션 상세 화면에 표시되는 데이터가 바뀌면 상세 캐시를 삭제한다.
+ * 커밋 이후에 삭제해야 다른 요청이 변경 전 데이터를 다시 캐싱하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurationDetailCacheEventListener {
+
+	private final CurationDetailCache curationDetailCache;
+	private final CurationRepository curationRepository;
+	private final CurationLinkRepository curationLinkRepository;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void evictUpdatedCuration(CurationUpdateEvent event) {
+		curationDetailCache.evict(event.getCurationId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void evictDeletedCuration(CurationDeleteEvent event) {
+		curationDetailCache.evict(event.getCurationId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void evictCommentedCuration(CommentChangeEvent event) {
+		curationDetailCache.evict(event.getCurationId());
+	}
+
+	/**
+	 * 프로필 이미지가 바뀌면 해당 회원이 작성자로 표시되는 모든 큐레이션의 캐시를 삭제한다
+	 * @param event 프로필 이미지 수정 이벤트
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void evictCurationsOfMember(ProfileImageUpdateEvent event) {
+		List<Long> curationIds = curationRepository.findIdsDisplayingMember(event.getMemberId());
+		curationDetailCache.evictAll(curationIds);
+	}
+
+	/**
+	 * 링크 메타데이터 수집이 끝나면 해당 링크가 포함된 모든 큐레이션의 캐시를 삭제한다
+	 * 수집 스레드에서 트랜잭션 없이 발행되므로 바로 처리한다.
+	 * @param event 링크 메타데이터 수정 이벤트
+	 */
+	@EventListener
+	public void evictCurationsOfLink(LinkMetadataUpdateEvent event) {
+		curationDetailCache.evictAll(curationLinkRepository.findCurationIdsByLinkId(event.getLinkId()));
+	}
+}
@@ -26,22 +26,17 @@ public class CurationEventListener {
 
 	/**
 	 * 큐레이션이 수정되었을 때, 큐레이션 내용에서 삭제된 이미지를 DB와 S3에서 이미지를 삭제 처리한다
+	 * 삭제할 이미지는 저장된 이미지 연결 정보와 비교해 이벤트에 담겨 전달된다
 	 * @param event 큐레이션 수정 이벤트
 	 */
 	@Async
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void deleteImageForUpdatedCuration(CurationUpdateEvent event) {
-		Long curationId = event.getCurationId();
-		List<String> imageUrls = event.getImageUrls();
-
-		List<CurationImage> savedImages = curationImageService.findByCurationId(curationId);
-		savedImages.removeAll(imageUrls);
-
-		// 큐레이션에서 삭제된 이미지 S3, DB에서 제거
-		for (CurationImage savedImage : savedImages) {
-			s3Uploader.deleteFile(savedImage.getImageName());
-			curationImageService.deleteByImageName(savedImage.getImageName());
+		// 본문 파싱과 비교는 수정 트랜잭션에서 끝났으므로, 빠진 이미지만 S3, DB에서 제거
+		for (String imageName : event.getRemovedImageNames()) {
+			s3Uploader.deleteFile(imageName);
+			curationImageService.deleteByImageName(imageName);
 		}
 	}
 
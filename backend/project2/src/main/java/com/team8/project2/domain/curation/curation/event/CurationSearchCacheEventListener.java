@@ -0,0 +1,35 @@
+package com.team8.project2.domain.curation.curation.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.team8.project2.domain.curation.curation.service.CurationSearchCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐레이션이 생성·수정·삭제되면 영향을 받는 검색 결과 캐시만 삭제한다.
+ * 커밋 전에 삭제하면 다른 요청이 커밋 전 데이터로 캐시를 다시 채울 수 있으므로 커밋 이후에 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurationSearchCacheEventListener {
+
+	private final CurationSearchCache curationSearchCache;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void evictForCreatedCuration(CurationCreateEvent event) {
+		curationSearchCache.evictForCreated(event.getCurationId(), event.getTagNames(), event.getAuthorName());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void evictForUpdatedCuration(CurationUpdateEvent event) {
+		curationSearchCache.evictForUpdated(event.getCurationId(), event.getTagNames(), event.getAuthorName());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void evictForDeletedCuration(CurationDeleteEvent event) {
+		curationSearchCache.evictForDeleted(event.getCurationId());
+	}
+}
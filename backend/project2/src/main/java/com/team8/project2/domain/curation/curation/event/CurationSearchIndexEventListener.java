@@ -0,0 +1,44 @@
+package com.team8.project2.domain.curation.curation.event;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.curation.service.CurationSearchIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐레이션이 생성·수정·삭제되면 전문 검색 색인에 반영한다.
+ * 커밋 이후에 DB에서 다시 읽어 색인해야 롤백된 내용이 색인에 남지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurationSearchIndexEventListener {
+
+	private final CurationSearchIndex curationSearchIndex;
+	private final CurationRepository curationRepository;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void indexCreatedCuration(CurationCreateEvent event) {
+		reindex(event.getCurationId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void indexUpdatedCuration(CurationUpdateEvent event) {
+		reindex(event.getCurationId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void deleteFromIndex(CurationDeleteEvent event) {
+		curationSearchIndex.delete(List.of(event.getCurationId()));
+	}
+
+	private void reindex(Long curationId) {
+		curationRepository.findWithMemberByIdIn(List.of(curationId))
+			.forEach(curationSearchIndex::index);
+	}
+}
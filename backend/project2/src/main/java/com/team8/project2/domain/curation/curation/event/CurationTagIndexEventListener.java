@@ -0,0 +1,37 @@
+package com.team8.project2.domain.curation.curation.event;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.team8.project2.domain.curation.curation.service.CurationTagIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐레이션이 생성·수정·삭제되면 태그 색인에 반영한다.
+ * 커밋 이후에 DB에서 태그를 다시 읽어야 롤백된 변경이 색인에 남지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurationTagIndexEventListener {
+
+	private final CurationTagIndex curationTagIndex;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void indexCreatedCuration(CurationCreateEvent event) {
+		curationTagIndex.reload(List.of(event.getCurationId()));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void indexUpdatedCuration(CurationUpdateEvent event) {
+		curationTagIndex.reload(List.of(event.getCurationId()));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void deleteFromIndex(CurationDeleteEvent event) {
+		curationTagIndex.delete(List.of(event.getCurationId()));
+	}
+}
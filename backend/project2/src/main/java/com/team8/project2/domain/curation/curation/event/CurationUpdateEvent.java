@@ -9,5 +9,12 @@ import lombok.Getter;
 @Builder
 public class CurationUpdateEvent {
 	private Long curationId;
-	private List<String> imageUrls;
+	/** 수정으로 본문에서 빠진 이미지 파일 이름 */
+	private List<String> removedImageNames;
+	/** 수정 후 연결된 태그 이름 */
+	private List<String> tagNames;
+	/** 수정 전 연결되어 있던 태그 이름 */
+	private List<String> previousTagNames;
+	/** 작성자 이름 */
+	private String authorName;
 }
@@ -0,0 +1,97 @@
+package com.team8.project2.domain.curation.curation.event;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.team8.project2.domain.curation.curation.service.FollowingTimeline;
+import com.team8.project2.domain.member.event.FollowChangeEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 큐레이션이 생성되면 팔로워 타임라인에 배포하고, 팔로우가 바뀌면 팔로워의 타임라인을 지운다.
+ * 커밋 이후에 반영해야 롤백된 큐레이션이 타임라인에 남지 않는다.
+ * 배포는 팔로워 조회와 여러 번의 스크립트 실행이 필요하므로 요청 스레드가 아닌 별도 스레드에서 처리한다.
+ * 대기 큐는 크기를 제한하고, 큐가 가득 차거나 종료 중이면 배포를 버리지 않고 요청 스레드에서 직접 처리한다.
+ * 종료 시에는 대기 중인 배포를 제한 시간 동안 마저 처리하고, 그래도 남은 배포는 큐레이션 ID를 기록한다.
+ */
+@Slf4j
+@Component
+public class FollowingTimelineEventListener {
+
+	private final FollowingTimeline followingTimeline;
+	private final ThreadPoolExecutor fanOutExecutor;
+	private final long shutdownTimeoutMs;
+
+	public FollowingTimelineEventListener(FollowingTimeline followingTimeline,
+		@Value("${custom.curation.timeline.fan-out-threads:2}") int fanOutThreads,
+		@Value("${custom.curation.timeline.fan-out-queue-size:1000}") int fanOutQueueSize,
+		@Value("${custom.curation.timeline.fan-out-shutdown-timeout-ms:30000}") long shutdownTimeoutMs) {
+		this.followingTimeline = followingTimeline;
+		this.shutdownTimeoutMs = shutdownTimeoutMs;
+		// CallerRunsPolicy는 종료 후 들어온 작업을 버리므로, 큐가 가득 차거나 종료 중이면 항상 요청 스레드에서 처리
+		this.fanOutExecutor = new ThreadPoolExecutor(fanOutThreads, fanOutThreads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(fanOutQueueSize),
+			Thread.ofPlatform().name("timeline-fan-out-", 0).daemon().factory(),
+			(task, executor) -> task.run());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void fanOutCreatedCuration(CurationCreateEvent event) {
+		fanOutExecutor.execute(new FanOutTask(event.getCurationId(), event.getAuthorId()));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void invalidateTimeline(FollowChangeEvent event) {
+		followingTimeline.invalidate(event.getFollowerId());
+	}
+
+	/**
+	 * 대기 중인 배포를 제한 시간 동안 마저 처리합니다. 시간 안에 끝나지 않은 배포는 큐레이션 ID를 남기고 중단합니다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		fanOutExecutor.shutdown();
+		try {
+			if (fanOutExecutor.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		List<Long> pendingCurationIds = fanOutExecutor.shutdownNow().stream()
+			.map(task -> ((FanOutTask)task).curationId)
+			.toList();
+		if (!pendingCurationIds.isEmpty()) {
+			log.warn("종료 전에 팔로워 타임라인 배포를 마치지 못했습니다 (curationIds: {})", pendingCurationIds);
+		}
+	}
+
+	private final class FanOutTask implements Runnable {
+
+		private final Long curationId;
+		private final Long authorId;
+
+		private FanOutTask(Long curationId, Long authorId) {
+			this.curationId = curationId;
+			this.authorId = authorId;
+		}
+
+		@Override
+		public void run() {
+			try {
+				followingTimeline.fanOut(curationId, authorId);
+			} catch (RuntimeException e) {
+				log.warn("팔로워 타임라인 배포 실패 (curationId: {})", curationId, e);
+			}
+		}
+	}
+}
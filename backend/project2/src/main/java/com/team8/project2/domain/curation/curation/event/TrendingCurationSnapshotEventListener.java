@@ -0,0 +1,24 @@
+package com.team8.project2.domain.curation.curation.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.team8.project2.domain.curation.curation.service.TrendingCurationSnapshot;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐레이션이 삭제되면 다음 스냅샷 갱신을 기다리지 않고 트렌딩 스냅샷에서 뺀다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingCurationSnapshotEventListener {
+
+	private final TrendingCurationSnapshot trendingCurationSnapshot;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void evictDeletedCuration(CurationDeleteEvent event) {
+		trendingCurationSnapshot.evict(event.getCurationId());
+	}
+}
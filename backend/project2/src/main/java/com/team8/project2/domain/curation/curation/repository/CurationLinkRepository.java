@@ -2,8 +2,12 @@ package com.team8.project2.domain.curation.curation.repository;
 
 import com.team8.project2.domain.curation.curation.entity.CurationLink;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * 큐레이션과 링크 간의 관계를 관리하는 데이터 접근 레포지토리 인터페이스입니다.
  */
@@ -15,4 +19,12 @@ public interface CurationLinkRepository extends JpaRepository<CurationLink, Long
      * @param curationId 삭제할 큐레이션의 ID
      */
     void deleteByCurationId(Long curationId);
+
+    /**
+     * 링크가 포함된 큐레이션의 ID를 조회합니다.
+     * @param linkId 링크 ID
+     * @return 큐레이션 ID 목록
+     */
+    @Query("SELECT cl.curation.id FROM CurationLink cl WHERE cl.link.id = :linkId")
+    List<Long> findCurationIdsByLinkId(@Param("linkId") Long linkId);
 }
\ No newline at end of file
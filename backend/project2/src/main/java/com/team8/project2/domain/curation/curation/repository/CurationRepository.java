@@ -3,15 +3,20 @@ package com.team8.project2.domain.curation.curation.repository;
 import com.team8.project2.domain.curation.curation.entity.Curation;
 import com.team8.project2.domain.curation.curation.entity.SearchOrder;
 import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.suggest.dto.SuggestSource;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 큐레이션(Curation) 데이터를 관리하는 레포지토리 인터페이스입니다.
@@ -59,9 +64,370 @@ public interface CurationRepository extends JpaRepository<Curation, Long> {
 		@Param("author") String author,
 		Pageable pageable);
 
+	/**
+	 * 커서 이후의 큐레이션을 조회합니다. (태그 조건 없음)
+	 * 정렬 기준에 맞는 커서 값 하나만 채우고 나머지는 null로 전달하며, 정렬과 개수는 pageable로 지정합니다.
+	 * 최신순은 beforeCreatedAt, 오래된순은 afterCreatedAt, 좋아요순은 beforeLikeCount를 사용하고
+	 * 첫 페이지는 모두 null입니다. 정렬 값이 같으면 ID로 순서를 정합니다.
+	 *
+	 * @param beforeCreatedAt 최신순 커서의 작성일
+	 * @param afterCreatedAt 오래된순 커서의 작성일
+	 * @param beforeLikeCount 좋아요순 커서의 좋아요 수
+	 * @param cursorId 커서의 큐레이션 ID
+	 * @param pageable 정렬 및 조회 개수 (페이지 번호는 항상 0)
+	 * @return 커서 다음 큐레이션 목록
+	 */
+	@Query("SELECT c FROM Curation c " +
+		"WHERE (:title IS NULL OR c.title LIKE CONCAT('%', :title, '%')) " +
+		"AND (:content IS NULL OR c.content LIKE CONCAT('%', :content, '%')) " +
+		"AND (:author IS NULL OR c.member.username LIKE CONCAT('%', :author, '%')) " +
+		"AND (:beforeCreatedAt IS NULL OR c.createdAt < :beforeCreatedAt " +
+		"OR (c.createdAt = :beforeCreatedAt AND c.id < :cursorId)) " +
+		"AND (:afterCreatedAt IS NULL OR c.createdAt > :afterCreatedAt " +
+		"OR (c.createdAt = :afterCreatedAt AND c.id > :cursorId)) " +
+		"AND (:beforeLikeCount IS NULL OR c.likeCount < :beforeLikeCount " +
+		"OR (c.likeCount = :beforeLikeCount AND c.id < :cursorId))")
+	List<Curation> searchByFiltersAfterCursor(@Param("title") String title,
+		@Param("content") String content,
+		@Param("author") String author,
+		@Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+		@Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+		@Param("beforeLikeCount") Long beforeLikeCount,
+		@Param("cursorId") Long cursorId,
+		Pageable pageable);
+
+	/**
+	 * 커서 이후의 큐레이션 중 주어진 태그를 모두 가진 큐레이션을 조회합니다.
+	 * 커서 파라미터는 {@link #searchByFiltersAfterCursor}와 같습니다.
+	 */
+	@Query("SELECT c FROM Curation c " +
+		"WHERE (:title IS NULL OR c.title LIKE CONCAT('%', :title, '%')) " +
+		"AND (:content IS NULL OR c.content LIKE CONCAT('%', :content, '%')) " +
+		"AND (:author IS NULL OR c.member.username LIKE CONCAT('%', :author, '%')) " +
+		"AND c.id IN (SELECT ct.curation.id FROM CurationTag ct JOIN ct.tag t " +
+		"WHERE t.name IN :tags GROUP BY ct.curation.id HAVING COUNT(DISTINCT t.name) = :tagsSize) " +
+		"AND (:beforeCreatedAt IS NULL OR c.createdAt < :beforeCreatedAt " +
+		"OR (c.createdAt = :beforeCreatedAt AND c.id < :cursorId)) " +
+		"AND (:afterCreatedAt IS NULL OR c.createdAt > :afterCreatedAt " +
+		"OR (c.createdAt = :afterCreatedAt AND c.id > :cursorId)) " +
+		"AND (:beforeLikeCount IS NULL OR c.likeCount < :beforeLikeCount " +
+		"OR (c.likeCount = :beforeLikeCount AND c.id < :cursorId))")
+	List<Curation> searchByTagsAfterCursor(@Param("tags") List<String> tags,
+		@Param("tagsSize") long tagsSize,
+		@Param("title") String title,
+		@Param("content") String content,
+		@Param("author") String author,
+		@Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+		@Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+		@Param("beforeLikeCount") Long beforeLikeCount,
+		@Param("cursorId") Long cursorId,
+		Pageable pageable);
+
+	/**
+	 * 커서 조회에서 전체 개수를 요청한 경우에만 사용하는 개수 조회입니다. (태그 조건 없음)
+	 */
+	@Query("SELECT COUNT(c) FROM Curation c " +
+		"WHERE (:title IS NULL OR c.title LIKE CONCAT('%', :title, '%')) " +
+		"AND (:content IS NULL OR c.content LIKE CONCAT('%', :content, '%')) " +
+		"AND (:author IS NULL OR c.member.username LIKE CONCAT('%', :author, '%'))")
+	long countByFilters(@Param("title") String title,
+		@Param("content") String content,
+		@Param("author") String author);
+
+	/**
+	 * 커서 조회에서 전체 개수를 요청한 경우에만 사용하는 개수 조회입니다. (태그 조건 포함)
+	 */
+	@Query("SELECT COUNT(c) FROM Curation c " +
+		"WHERE (:title IS NULL OR c.title LIKE CONCAT('%', :title, '%')) " +
+		"AND (:content IS NULL OR c.content LIKE CONCAT('%', :content, '%')) " +
+		"AND (:author IS NULL OR c.member.username LIKE CONCAT('%', :author, '%')) " +
+		"AND c.id IN (SELECT ct.curation.id FROM CurationTag ct JOIN ct.tag t " +
+		"WHERE t.name IN :tags GROUP BY ct.curation.id HAVING COUNT(DISTINCT t.name) = :tagsSize)")
+	long countByTags(@Param("tags") List<String> tags,
+		@Param("tagsSize") long tagsSize,
+		@Param("title") String title,
+		@Param("content") String content,
+		@Param("author") String author);
+
+	/**
+	 * 전문 검색 결과로 받은 ID의 큐레이션을 작성자와 함께 한 번에 조회합니다.
+	 *
+	 * @param ids 큐레이션 ID 목록
+	 * @return 작성자가 초기화된 큐레이션 목록 (순서 보장 없음)
+	 */
+	@Query("SELECT c FROM Curation c LEFT JOIN FETCH c.member WHERE c.id IN :ids")
+	List<Curation> findWithMemberByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 커서(좋아요 수, ID) 다음 큐레이션의 ID와 좋아요 수를 좋아요순으로 조회합니다.
+	 * 전문 검색 결과가 IN 조건으로 넘기기에 많을 때, 좋아요 수 인덱스 순서로 나눠 읽으며 결과에 속한 큐레이션만 고르는 데 사용합니다.
+	 *
+	 * @param beforeLikeCount 커서의 좋아요 수 (첫 조회는 null)
+	 * @param cursorId 커서의 큐레이션 ID
+	 * @param pageable 조회 개수
+	 * @return [큐레이션 ID, 좋아요 수] 목록
+	 */
+	@Query("SELECT c.id, c.likeCount FROM Curation c " +
+		"WHERE :beforeLikeCount IS NULL OR c.likeCount < :beforeLikeCount " +
+		"OR (c.likeCount = :beforeLikeCount AND c.id < :cursorId) " +
+		"ORDER BY c.likeCount DESC, c.id DESC")
+	List<Object[]> findLikeCountsAfterCursor(@Param("beforeLikeCount") Long beforeLikeCount,
+		@Param("cursorId") Long cursorId,
+		Pageable pageable);
+
+	/**
+	 * 전문 검색 결과로 받은 ID 중 커서(좋아요 수, ID) 다음의 큐레이션을 좋아요순으로 조회합니다.
+	 *
+	 * @param ids 큐레이션 ID 목록
+	 * @param beforeLikeCount 커서의 좋아요 수 (첫 페이지는 null)
+	 * @param cursorId 커서의 큐레이션 ID
+	 * @param pageable 조회 개수
+	 * @return 커서 다음 큐레이션 목록
+	 */
+	@Query("SELECT c FROM Curation c WHERE c.id IN :ids " +
+		"AND (:beforeLikeCount IS NULL OR c.likeCount < :beforeLikeCount " +
+		"OR (c.likeCount = :beforeLikeCount AND c.id < :cursorId)) " +
+		"ORDER BY c.likeCount DESC, c.id DESC")
+	List<Curation> findByIdInAfterLikeCursor(@Param("ids") Collection<Long> ids,
+		@Param("beforeLikeCount") Long beforeLikeCount,
+		@Param("cursorId") Long cursorId,
+		Pageable pageable);
+
+	/**
+	 * 검색 색인 재구축용으로 ID 순서대로 큐레이션을 작성자와 함께 조회합니다.
+	 *
+	 * @param afterId 이전 배치의 마지막 ID
+	 * @param pageable 배치 크기
+	 * @return afterId 다음부터의 큐레이션 목록
+	 */
+	@Query("SELECT c FROM Curation c LEFT JOIN FETCH c.member WHERE c.id > :afterId ORDER BY c.id")
+	List<Curation> findForIndexing(@Param("afterId") Long afterId, Pageable pageable);
+
+	/**
+	 * 검색 색인 동기화용으로 특정 시각 이후 생성·수정된 큐레이션을 ID 순서대로 작성자와 함께 조회합니다.
+	 *
+	 * @param since 기준 시각
+	 * @param afterId 이전 배치의 마지막 ID
+	 * @param pageable 배치 크기
+	 * @return 기준 시각 이후 변경된 큐레이션 목록
+	 */
+	@Query("SELECT c FROM Curation c LEFT JOIN FETCH c.member " +
+		"WHERE (c.modifiedAt >= :since OR c.createdAt >= :since) AND c.id > :afterId " +
+		"ORDER BY c.id")
+	List<Curation> findModifiedSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId,
+		Pageable pageable);
+
+	/**
+	 * 태그 색인 동기화용으로 특정 시각 이후 생성·수정된 큐레이션 ID를 순서대로 조회합니다.
+	 *
+	 * @param since 기준 시각
+	 * @param afterId 이전 배치의 마지막 ID
+	 * @param pageable 배치 크기
+	 * @return 기준 시각 이후 변경된 큐레이션 ID 목록
+	 */
+	@Query("SELECT c.id FROM Curation c " +
+		"WHERE (c.modifiedAt >= :since OR c.createdAt >= :since) AND c.id > :afterId " +
+		"ORDER BY c.id")
+	List<Long> findIdsModifiedSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId,
+		Pageable pageable);
+
+	/**
+	 * 태그 색인 결과로 받은 ID의 큐레이션을 정렬해 필요한 만큼만 조회합니다. (개수 조회 없음)
+	 *
+	 * @param ids 큐레이션 ID 목록
+	 * @param pageable 페이지 및 정렬 정보
+	 * @return 큐레이션 목록
+	 */
+	List<Curation> findAllByIdIn(Collection<Long> ids, Pageable pageable);
+
+	/**
+	 * 상세 조회용으로 작성자와 링크 목록을 함께 조회합니다.
+	 * 링크와 태그는 모두 List 컬렉션이라 한 쿼리에서 함께 fetch join 할 수 없으므로 태그는 별도로 조회합니다.
+	 *
+	 * @param curationId 큐레이션 ID
+	 * @return 작성자와 링크가 초기화된 큐레이션
+	 */
+	@Query("SELECT DISTINCT c FROM Curation c " +
+		"LEFT JOIN FETCH c.member " +
+		"LEFT JOIN FETCH c.curationLinks cl " +
+		"LEFT JOIN FETCH cl.link " +
+		"WHERE c.id = :curationId")
+	Optional<Curation> findWithMemberAndLinksById(@Param("curationId") Long curationId);
+
+	/**
+	 * 상세 조회용으로 태그 목록을 함께 조회합니다.
+	 * 같은 영속성 컨텍스트에 있는 큐레이션의 태그 컬렉션이 초기화됩니다.
+	 *
+	 * @param curationId 큐레이션 ID
+	 * @return 태그가 초기화된 큐레이션
+	 */
+	@Query("SELECT DISTINCT c FROM Curation c " +
+		"LEFT JOIN FETCH c.tags ct " +
+		"LEFT JOIN FETCH ct.tag " +
+		"WHERE c.id = :curationId")
+	Optional<Curation> findWithTagsById(@Param("curationId") Long curationId);
+
+	/**
+	 * 상세 조회용으로 댓글과 댓글 작성자를 함께 조회합니다.
+	 *
+	 * @param curationId 큐레이션 ID
+	 * @return 댓글이 초기화된 큐레이션
+	 */
+	@Query("SELECT DISTINCT c FROM Curation c " +
+		"LEFT JOIN FETCH c.comments cm " +
+		"LEFT JOIN FETCH cm.author " +
+		"WHERE c.id = :curationId")
+	Optional<Curation> findWithCommentsById(@Param("curationId") Long curationId);
+
+	/**
+	 * 목록 조회용으로 여러 큐레이션의 작성자와 링크 목록을 함께 조회합니다.
+	 * 같은 영속성 컨텍스트에 있는 큐레이션의 작성자와 링크 컬렉션이 초기화됩니다.
+	 *
+	 * @param ids 큐레이션 ID 목록
+	 * @return 작성자와 링크가 초기화된 큐레이션 목록
+	 */
+	@Query("SELECT DISTINCT c FROM Curation c " +
+		"LEFT JOIN FETCH c.member " +
+		"LEFT JOIN FETCH c.curationLinks cl " +
+		"LEFT JOIN FETCH cl.link " +
+		"WHERE c.id IN :ids")
+	List<Curation> findWithMemberAndLinksByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 목록 조회용으로 여러 큐레이션의 태그 목록을 함께 조회합니다.
+	 *
+	 * @param ids 큐레이션 ID 목록
+	 * @return 태그가 초기화된 큐레이션 목록
+	 */
+	@Query("SELECT DISTINCT c FROM Curation c " +
+		"LEFT JOIN FETCH c.tags ct " +
+		"LEFT JOIN FETCH ct.tag " +
+		"WHERE c.id IN :ids")
+	List<Curation> findWithTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 큐레이션의 댓글 수를 원자적으로 증감합니다.
+	 *
+	 * @param curationId 큐레이션 ID
+	 * @param delta 증감할 댓글·답글 수
+	 */
+	@Modifying
+	@Query("UPDATE Curation c SET c.commentCount = c.commentCount + :delta WHERE c.id = :curationId")
+	void increaseCommentCount(@Param("curationId") Long curationId, @Param("delta") int delta);
+
+	/**
+	 * 큐레이션의 댓글 수를 댓글과 답글 테이블에서 다시 세어 덮어씁니다. (댓글을 한꺼번에 삭제한 경우)
+	 *
+	 * @param ids 큐레이션 ID 목록
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Curation c SET c.commentCount = " +
+		"(SELECT COUNT(cm) FROM Comment cm WHERE cm.curation.id = c.id) + " +
+		"(SELECT COUNT(r) FROM ReplyComment r WHERE r.curation.id = c.id) " +
+		"WHERE c.id IN :ids")
+	void recountCommentCounts(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 주어진 ID보다 큰 큐레이션 ID를 오름차순으로 조회합니다. (전체 큐레이션을 나눠 처리할 때 사용)
+	 *
+	 * @param afterId 이 ID보다 큰 큐레이션만 조회 (처음은 0)
+	 * @param pageable 조회할 개수
+	 * @return 큐레이션 ID 목록
+	 */
+	@Query("SELECT c.id FROM Curation c WHERE c.id > :afterId ORDER BY c.id")
+	List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+	/**
+	 * 큐레이션의 현재 조회수만 조회합니다.
+	 * 상세 캐시에 저장된 조회수는 캐싱 시점의 값이므로 응답 시 이 값으로 덮어씁니다.
+	 *
+	 * @param curationId 큐레이션 ID
+	 * @return DB에 반영된 조회수
+	 */
+	@Query("SELECT c.viewCount FROM Curation c WHERE c.id = :curationId")
+	Optional<Long> findViewCountById(@Param("curationId") Long curationId);
+
+	/**
+	 * 특정 회원이 작성자로 표시되는 큐레이션 ID를 조회합니다.
+	 * 큐레이션 작성자이거나 댓글·답글을 작성한 경우가 포함됩니다.
+	 *
+	 * @param memberId 회원 ID
+	 * @return 큐레이션 ID 목록
+	 */
+	@Query("SELECT c.id FROM Curation c WHERE c.member.id = :memberId " +
+		"OR c.id IN (SELECT cm.curation.id FROM Comment cm WHERE cm.author.id = :memberId) " +
+		"OR c.id IN (SELECT r.curation.id FROM ReplyComment r WHERE r.author.id = :memberId)")
+	List<Long> findIdsDisplayingMember(@Param("memberId") Long memberId);
+
 	@Query("SELECT c FROM Curation c WHERE c.member IN (SELECT f.followee FROM Follow f WHERE f.follower.id = :userId) ORDER BY c.createdAt DESC")
 	List<Curation> findFollowingCurations(@Param("userId") Long userId, Pageable pageable);
 
+	/**
+	 * 팔로우한 회원의 큐레이션 중 커서(작성일, ID)보다 오래된 큐레이션을 최신순으로 조회합니다.
+	 *
+	 * @param userId 팔로워 회원 ID
+	 * @param beforeCreatedAt 커서의 작성일 (첫 페이지는 null)
+	 * @param cursorId 커서의 큐레이션 ID
+	 * @param pageable 조회 개수
+	 * @return 커서 다음 큐레이션 목록
+	 */
+	@Query("SELECT c FROM Curation c " +
+		"WHERE c.member IN (SELECT f.followee FROM Follow f WHERE f.follower.id = :userId) " +
+		"AND (:beforeCreatedAt IS NULL OR c.createdAt < :beforeCreatedAt " +
+		"OR (c.createdAt = :beforeCreatedAt AND c.id < :cursorId)) " +
+		"ORDER BY c.createdAt DESC, c.id DESC")
+	List<Curation> findFollowingCurationsAfterCursor(@Param("userId") Long userId,
+		@Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+		@Param("cursorId") Long cursorId,
+		Pageable pageable);
+
+	/**
+	 * 팔로우한 회원의 큐레이션 ID를 최신순으로 조회합니다. (팔로잉 타임라인 재구성용)
+	 * 큐레이션 ID는 작성 순서대로 증가하므로 ID 역순이 최신순입니다.
+	 *
+	 * @param userId 팔로워 회원 ID
+	 * @param afterId 이 ID보다 새로운 큐레이션만 조회 (전체는 0)
+	 * @param pageable 조회할 개수
+	 * @return 큐레이션 ID 목록
+	 */
+	@Query("SELECT c.id FROM Curation c " +
+		"WHERE c.member IN (SELECT f.followee FROM Follow f WHERE f.follower.id = :userId) " +
+		"AND c.id > :afterId " +
+		"ORDER BY c.id DESC")
+	List<Long> findFollowingCurationIds(@Param("userId") Long userId, @Param("afterId") Long afterId,
+		Pageable pageable);
+
+	/**
+	 * 작성자의 큐레이션 ID를 최신순으로 조회합니다. (작성자 타임라인 재구성용)
+	 *
+	 * @param memberId 작성자 ID
+	 * @param afterId 이 ID보다 새로운 큐레이션만 조회 (전체는 0)
+	 * @param pageable 조회할 개수
+	 * @return 큐레이션 ID 목록
+	 */
+	@Query("SELECT c.id FROM Curation c WHERE c.member.id = :memberId AND c.id > :afterId ORDER BY c.id DESC")
+	List<Long> findIdsByMemberId(@Param("memberId") Long memberId, @Param("afterId") Long afterId,
+		Pageable pageable);
+
+	/**
+	 * 작성자의 큐레이션 중 커서(작성일, ID)보다 오래된 큐레이션을 최신순으로 조회합니다.
+	 *
+	 * @param member 작성자
+	 * @param beforeCreatedAt 커서의 작성일 (첫 페이지는 null)
+	 * @param cursorId 커서의 큐레이션 ID
+	 * @param pageable 조회 개수
+	 * @return 커서 다음 큐레이션 목록
+	 */
+	@Query("SELECT c FROM Curation c " +
+		"WHERE c.member = :member " +
+		"AND (:beforeCreatedAt IS NULL OR c.createdAt < :beforeCreatedAt " +
+		"OR (c.createdAt = :beforeCreatedAt AND c.id < :cursorId)) " +
+		"ORDER BY c.createdAt DESC, c.id DESC")
+	List<Curation> findByMemberAfterCursor(@Param("member") Member member,
+		@Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+		@Param("cursorId") Long cursorId,
+		Pageable pageable);
+
 	/**
 	 * 일정 개수 이상 신고된 큐레이션을 조회하는 메서드
 	 *
@@ -100,5 +466,30 @@ public interface CurationRepository extends JpaRepository<Curation, Long> {
 
 	List<Curation> findTop3ByOrderByViewCountDesc();
 
+	/**
+	 * 조회수가 높은 순서로 큐레이션 ID를 조회합니다. (트렌딩 기록이 없을 때 사용)
+	 *
+	 * @param pageable 조회할 개수
+	 * @return 큐레이션 ID 목록
+	 */
+	@Query("SELECT c.id FROM Curation c ORDER BY c.viewCount DESC, c.id DESC")
+	List<Long> findIdsOrderByViewCountDesc(Pageable pageable);
+
 	List<Curation> findByIdIn(List<Long> reportedcurations);
+
+	/**
+	 * 자동완성 색인용으로 큐레이션 제목과 좋아요 수를 ID 순서로 조회합니다.
+	 * @param afterId 이 ID 다음부터 조회
+	 * @param pageable 조회 개수
+	 */
+	@Query("SELECT c.id AS id, c.title AS text, c.likeCount AS weight FROM Curation c " +
+		"WHERE c.id > :afterId ORDER BY c.id")
+	List<SuggestSource> findSuggestSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+	/**
+	 * 자동완성 색인용으로 주어진 큐레이션의 제목과 좋아요 수를 조회합니다.
+	 * @param ids 큐레이션 ID 목록
+	 */
+	@Query("SELECT c.id AS id, c.title AS text, c.likeCount AS weight FROM Curation c WHERE c.id IN :ids")
+	List<SuggestSource> findSuggestSourcesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,9 +1,15 @@
 package com.team8.project2.domain.curation.curation.repository;
 
 import com.team8.project2.domain.curation.curation.entity.CurationTag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 큐레이션과 태그 간의 관계를 관리하는 데이터 접근 레포지토리 인터페이스입니다.
  */
@@ -15,4 +21,40 @@ public interface CurationTagRepository extends JpaRepository<CurationTag, Long>
      * @param curationId 삭제할 큐레이션의 ID
      */
     void deleteByCurationId(Long curationId);
-}
\ No newline at end of file
+
+    /**
+     * 태그 색인 구축용으로 (큐레이션 ID, 태그 ID) 순서대로 큐레이션-태그 연결을 조회합니다.
+     * @param afterCurationId 이전 배치의 마지막 큐레이션 ID
+     * @param afterTagId 이전 배치의 마지막 태그 ID
+     * @param pageable 배치 크기
+     * @return 다음 배치의 큐레이션-태그 연결 목록
+     */
+    @Query("SELECT ct.id.curationId AS curationId, ct.id.tagId AS tagId, t.name AS tagName " +
+        "FROM CurationTag ct JOIN ct.tag t " +
+        "WHERE ct.id.curationId > :afterCurationId " +
+        "OR (ct.id.curationId = :afterCurationId AND ct.id.tagId > :afterTagId) " +
+        "ORDER BY ct.id.curationId, ct.id.tagId")
+    List<TagPosting> findPostingsAfter(@Param("afterCurationId") Long afterCurationId,
+        @Param("afterTagId") Long afterTagId, Pageable pageable);
+
+    /**
+     * 주어진 큐레이션들의 태그 연결을 조회합니다.
+     * @param curationIds 큐레이션 ID 목록
+     * @return 큐레이션-태그 연결 목록
+     */
+    @Query("SELECT ct.id.curationId AS curationId, ct.id.tagId AS tagId, t.name AS tagName " +
+        "FROM CurationTag ct JOIN ct.tag t " +
+        "WHERE ct.id.curationId IN :curationIds")
+    List<TagPosting> findPostingsByCurationIdIn(@Param("curationIds") Collection<Long> curationIds);
+
+    /**
+     * 큐레이션-태그 연결 한 건 (태그 색인용 프로젝션)
+     */
+    interface TagPosting {
+        Long getCurationId();
+
+        Long getTagId();
+
+        String getTagName();
+    }
+}
@@ -0,0 +1,150 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 댓글 수 컬럼(commentCount)이 추가되기 전에 만들어진 큐레이션은 0으로 시작하므로, 시작 시 한 번 전체 큐레이션의
+ * 댓글 수를 댓글·답글 테이블에서 다시 셉니다. 큐레이션 ID 순서로 나눠 배치마다 별도 트랜잭션에서 처리하고,
+ * 마지막으로 처리한 ID를 Redis(comment_count_backfill)에 기록해 중단되면 다음 시작 시 이어서 처리합니다.
+ * 완료하면 DONE을 기록해 다시 실행하지 않습니다.
+ *
+ * 상태 확인과 보정은 모두 별도 스레드에서 실행하므로 Redis에 연결할 수 없어도 애플리케이션 시작을 막지 않고,
+ * 실패하면 주기적으로 다시 시도합니다.
+ */
+@Slf4j
+@Component
+public class CommentCountBackfill {
+
+	static final String STATE_KEY = "comment_count_backfill";
+	static final String DONE = "DONE";
+	/** 여러 인스턴스가 동시에 처리하지 않도록 잡는 락 */
+	private static final String LOCK_KEY = "comment_count_backfill:lock";
+	private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+	private final CurationRepository curationRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean onStartup;
+	private final int batchSize;
+
+	private final String lockOwner = UUID.randomUUID().toString();
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(
+		Thread.ofVirtual().name("comment-count-backfill").factory());
+	/** 이 인스턴스에서 완료를 확인했는지 (확인 후에는 재시도하지 않음) */
+	private volatile boolean done;
+
+	public CommentCountBackfill(CurationRepository curationRepository, RedisTemplate<String, String> redisTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${custom.comment-count-backfill.on-startup:true}") boolean onStartup,
+		@Value("${custom.comment-count-backfill.batch-size:500}") int batchSize) {
+		this.curationRepository = curationRepository;
+		this.redisTemplate = redisTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.onStartup = onStartup;
+		this.batchSize = batchSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillOnStartup() {
+		if (onStartup) {
+			executor.execute(this::backfillIfPending);
+		}
+	}
+
+	/**
+	 * 시작 시 Redis나 DB 오류로 끝내지 못한 보정을 다시 시도합니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.comment-count-backfill.retry-interval-ms:600000}",
+		initialDelayString = "${custom.comment-count-backfill.retry-interval-ms:600000}")
+	public void retry() {
+		if (onStartup && !done) {
+			executor.execute(this::backfillIfPending);
+		}
+	}
+
+	private void backfillIfPending() {
+		if (done) {
+			return;
+		}
+		try {
+			if (DONE.equals(redisTemplate.opsForValue().get(STATE_KEY))) {
+				done = true;
+				return;
+			}
+			backfill();
+		} catch (DataAccessException e) {
+			log.warn("댓글 수 보정을 시작하지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 완료 기록이 없으면 마지막으로 처리한 큐레이션 다음부터 댓글 수를 다시 셉니다.
+	 */
+	public void backfill() {
+		Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockOwner, LOCK_TTL);
+		if (!Boolean.TRUE.equals(locked)) {
+			log.info("다른 인스턴스에서 댓글 수 보정이 진행 중입니다.");
+			return;
+		}
+		try {
+			String state = redisTemplate.opsForValue().get(STATE_KEY);
+			if (DONE.equals(state)) {
+				done = true;
+				return;
+			}
+			long afterId = state == null ? 0 : Long.parseLong(state);
+			long count = 0;
+			long startedAt = System.currentTimeMillis();
+			List<Long> ids;
+			do {
+				ids = curationRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+				if (ids.isEmpty()) {
+					break;
+				}
+				List<Long> batch = ids;
+				transactionTemplate.executeWithoutResult(status -> curationRepository.recountCommentCounts(batch));
+				afterId = ids.get(ids.size() - 1);
+				count += ids.size();
+				redisTemplate.opsForValue().set(STATE_KEY, String.valueOf(afterId));
+				redisTemplate.expire(LOCK_KEY, LOCK_TTL);
+			} while (ids.size() == batchSize && !Thread.currentThread().isInterrupted());
+
+			if (!Thread.currentThread().isInterrupted()) {
+				redisTemplate.opsForValue().set(STATE_KEY, DONE);
+				done = true;
+				log.info("댓글 수 보정 완료: 큐레이션 {}개 ({}ms)", count, System.currentTimeMillis() - startedAt);
+			}
+		} catch (RuntimeException e) {
+			log.warn("댓글 수 보정 실패, 다음 주기에 이어서 처리합니다.", e);
+		} finally {
+			if (lockOwner.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+				redisTemplate.delete(LOCK_KEY);
+			}
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team8.project2.domain.curation.curation.dto.CurationDetailResDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 큐레이션 상세 DTO 중 사용자와 무관한 부분(본문, 링크, 태그, 댓글, 작성자)을 캐싱합니다.
+ * 1차는 인스턴스 내부 Caffeine 캐시, 2차는 인스턴스 간에 공유되는 Redis 캐시입니다.
+ * 좋아요 여부, 팔로우 여부, 로그인 여부와 좋아요 수·조회수는 요청마다 덧씌워야 합니다.
+ * 다른 인스턴스의 1차 캐시는 삭제 신호를 받지 못하므로 짧은 TTL로 오래된 값을 제한합니다.
+ * DB에서 다시 읽을 때마다 새 버전을 매겨 DTO와 함께 저장하므로, 상세 조회 응답의 ETag는
+ * 실제로 응답한 본문의 버전을 가리킵니다(1차 캐시가 Redis보다 오래되었더라도 어긋나지 않음).
+ *
+ * 삭제할 때마다 큐레이션별 세대 번호(curation:detail:generation:{id})를 올리고, DB에서 다시 읽은 값은
+ * 읽기 전에 본 세대가 그대로일 때만 Redis에 저장합니다. 커밋 전에 읽기 시작한 요청이 커밋 후 삭제가 끝난 뒤에
+ * 변경 전 값을 다시 저장하지 못하게 하기 위함입니다.
+ */
+@Slf4j
+@Component
+public class CurationDetailCache {
+
+	private static final String REDIS_KEY_PREFIX = "curation:detail:";
+	private static final String GENERATION_KEY_PREFIX = "curation:detail:generation:";
+
+	/**
+	 * 세대가 읽기 전과 같을 때만 저장하는 스크립트
+	 * KEYS: 캐시 키, 세대 키
+	 * ARGV: 값, TTL(초), 읽기 전 세대
+	 */
+	private static final DefaultRedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+		"if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[3] then " +
+			"   return 0 " +
+			"end " +
+			"redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+			"return 1", Long.class);
+
+	/**
+	 * 캐시를 지우고 세대를 올리는 스크립트
+	 * KEYS: (캐시 키, 세대 키) 쌍
+	 * ARGV: 세대 보관 기간(초)
+	 */
+	private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+		"for i = 1, #KEYS, 2 do " +
+			"   redis.call('DEL', KEYS[i]) " +
+			"   redis.call('INCR', KEYS[i + 1]) " +
+			"   redis.call('EXPIRE', KEYS[i + 1], ARGV[1]) " +
+			"end " +
+			"return #KEYS / 2", Long.class);
+
+	private final Cache<Long, CurationDetailResDto> localCache;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Duration redisTtl;
+	private final Counter redisHits;
+	private final Counter redisMisses;
+
+	public CurationDetailCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${custom.curation.detail-cache.max-size:10000}") long maxSize,
+		@Value("${custom.curation.detail-cache.local-ttl-seconds:10}") long localTtlSeconds,
+		@Value("${custom.curation.detail-cache.redis-ttl-seconds:600}") long redisTtlSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+			.recordStats()
+			.build();
+
+		// 1차 캐시: cache.gets / cache.evictions / cache.size 등, 2차 캐시: hit / miss 카운터
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, "curationDetail");
+		this.redisHits = meterRegistry.counter("curation.detail.cache.redis", "result", "hit");
+		this.redisMisses = meterRegistry.counter("curation.detail.cache.redis", "result", "miss");
+	}
+
+	/**
+	 * 캐시된 상세 DTO를 반환하고, 없으면 loader로 만들어 두 계층에 모두 저장합니다.
+	 * 같은 인스턴스에서 동시에 들어온 요청은 하나의 loader 호출을 공유합니다.
+	 * @param curationId 큐레이션 ID
+	 * @param loader 캐시에 없을 때 DTO를 만드는 함수
+	 * @return 사용자별 정보가 비어 있고 캐시 버전이 채워진 상세 DTO
+	 */
+	public CurationDetailResDto get(Long curationId, Function<Long, CurationDetailResDto> loader) {
+		return localCache.get(curationId, id -> {
+			// 캐시 값과 세대를 한 번에 읽음 (세대는 loader 호출 전에 읽어야 함)
+			List<String> values = redisTemplate.opsForValue().multiGet(List.of(cacheKey(id), generationKey(id)));
+			CachedDetail cached = values == null ? null : parse(id, values.get(0));
+			if (cached != null) {
+				redisHits.increment();
+				return cached.toDto();
+			}
+			redisMisses.increment();
+			String generation = values == null || values.get(1) == null ? "0" : values.get(1);
+			CachedDetail loaded = new CachedDetail(System.currentTimeMillis(), loader.apply(id));
+			writeRedis(id, loaded, generation);
+			return loaded.toDto();
+		});
+	}
+
+	/**
+	 * 큐레이션 상세 캐시를 두 계층에서 모두 삭제합니다.
+	 * @param curationId 큐레이션 ID
+	 */
+	public void evict(Long curationId) {
+		evictAll(List.of(curationId));
+	}
+
+	/**
+	 * 여러 큐레이션의 상세 캐시를 한 번에 삭제합니다.
+	 * @param curationIds 큐레이션 ID 목록
+	 */
+	public void evictAll(Collection<Long> curationIds) {
+		if (curationIds.isEmpty()) {
+			return;
+		}
+		localCache.invalidateAll(curationIds);
+		List<String> keys = new ArrayList<>(curationIds.size() * 2);
+		for (Long curationId : curationIds) {
+			keys.add(cacheKey(curationId));
+			keys.add(generationKey(curationId));
+		}
+		// 진행 중인 loader가 끝날 때까지 세대를 유지하면 되므로 캐시 TTL만큼 보관
+		redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(redisTtl.toSeconds()));
+	}
+
+	private static String cacheKey(Long curationId) {
+		return REDIS_KEY_PREFIX + curationId;
+	}
+
+	private static String generationKey(Long curationId) {
+		return GENERATION_KEY_PREFIX + curationId;
+	}
+
+	private CachedDetail parse(Long curationId, String json) {
+		if (json == null) {
+			return null;
+		}
+		try {
+			CachedDetail cached = objectMapper.readValue(json, CachedDetail.class);
+			// 버전 없이 DTO만 저장하던 이전 형식은 다시 읽음
+			return cached.detail() != null ? cached : null;
+		} catch (JsonProcessingException e) {
+			log.warn("큐레이션 상세 캐시 역직렬화 실패, 캐시를 삭제합니다. (id: {})", curationId, e);
+			redisTemplate.delete(cacheKey(curationId));
+			return null;
+		}
+	}
+
+	private void writeRedis(Long curationId, CachedDetail detail, String generation) {
+		try {
+			redisTemplate.execute(WRITE_SCRIPT, List.of(cacheKey(curationId), generationKey(curationId)),
+				objectMapper.writeValueAsString(detail), String.valueOf(redisTtl.toSeconds()), generation);
+		} catch (JsonProcessingException e) {
+			log.warn("큐레이션 상세 캐시 직렬화 실패 (id: {})", curationId, e);
+		}
+	}
+
+	/**
+	 * Redis에 저장되는 값. 버전은 응답에서 제외되는 필드이므로 DTO와 따로 직렬화합니다.
+	 * @param version DB에서 다시 읽은 시각(밀리초)
+	 * @param detail 사용자별 정보가 비어 있는 상세 DTO
+	 */
+	record CachedDetail(long version, CurationDetailResDto detail) {
+
+		CurationDetailResDto toDto() {
+			return detail.toBuilder().contentVersion(version).build();
+		}
+	}
+}
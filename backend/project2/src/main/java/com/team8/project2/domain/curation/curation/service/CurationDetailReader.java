@@ -0,0 +1,49 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.team8.project2.domain.comment.repository.CommentRepository;
+import com.team8.project2.domain.curation.curation.dto.CurationDetailResDto;
+import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.global.exception.ServiceException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐레이션 상세 화면용 읽기 모델을 구성하는 클래스입니다.
+ * 댓글·답글 수와 관계없이 아래 네 번의 쿼리로 상세 화면에 필요한 연관관계를 모두 초기화합니다.
+ * <ol>
+ *     <li>큐레이션 + 작성자 + 링크</li>
+ *     <li>태그</li>
+ *     <li>댓글 + 댓글 작성자</li>
+ *     <li>답글 + 답글 작성자</li>
+ * </ol>
+ * 반환하는 DTO에는 사용자별 정보(좋아요 여부, 팔로우 여부, 로그인 여부)가 포함되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurationDetailReader {
+
+	private final CurationRepository curationRepository;
+	private final CommentRepository commentRepository;
+
+	/**
+	 * 큐레이션 상세 정보를 조회합니다.
+	 * @param curationId 조회할 큐레이션 ID
+	 * @return 사용자별 정보가 비어 있는 상세 DTO
+	 */
+	@Transactional(readOnly = true)
+	public CurationDetailResDto read(Long curationId) {
+		Curation curation = curationRepository.findWithMemberAndLinksById(curationId)
+			.orElseThrow(() -> new ServiceException("404-1", "해당 큐레이션을 찾을 수 없습니다."));
+
+		// 같은 영속성 컨텍스트 안에서 나머지 컬렉션을 초기화
+		curationRepository.findWithTagsById(curationId);
+		curationRepository.findWithCommentsById(curationId);
+		commentRepository.findWithRepliesByCurationId(curationId);
+
+		return CurationDetailResDto.fromEntity(curation, false, false, false);
+	}
+}
@@ -0,0 +1,40 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐레이션 목록 응답에 필요한 연관관계를 한 번에 초기화하는 클래스입니다.
+ * 목록 크기와 관계없이 아래 두 번의 쿼리로 카드마다 필요한 작성자·링크·태그를 모두 초기화하고,
+ * 댓글 수는 큐레이션의 commentCount 컬럼을 사용하므로 댓글 컬렉션은 읽지 않습니다.
+ * <ol>
+ *     <li>작성자 + 링크</li>
+ *     <li>태그</li>
+ * </ol>
+ * 조회한 큐레이션과 같은 영속성 컨텍스트에서 초기화해야 하므로 호출자의 트랜잭션 안에서 호출해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurationListReader {
+
+	private final CurationRepository curationRepository;
+
+	/**
+	 * 큐레이션 목록의 작성자, 링크, 태그를 초기화합니다.
+	 * @param curations 같은 영속성 컨텍스트에서 조회한 큐레이션 목록
+	 */
+	public void initialize(List<Curation> curations) {
+		if (curations.isEmpty()) {
+			return;
+		}
+		List<Long> ids = curations.stream().map(Curation::getId).toList();
+		curationRepository.findWithMemberAndLinksByIdIn(ids);
+		curationRepository.findWithTagsByIdIn(ids);
+	}
+}
@@ -0,0 +1,173 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team8.project2.domain.curation.curation.entity.SearchOrder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 큐레이션 검색 결과를 정규화된 검색 조건별로 캐싱합니다.
+ * 엔티티 대신 정렬된 큐레이션 ID와 페이지 정보만 저장하며, 응답 시 ID로 한 번에 다시 조회하므로
+ * 제목·본문 수정은 캐시 삭제 없이도 바로 반영됩니다. 좋아요 수와 좋아요 여부는 요청마다 Redis에서 채웁니다.
+ *
+ * 큐레이션이 생성·수정되면 그 큐레이션이 새로 포함될 수 있는 항목만, 수정·삭제되면 그 큐레이션을 포함한 항목만 삭제합니다.
+ * 좋아요 변화에 따른 좋아요순 순서 변화와 다른 인스턴스의 변경은 짧은 TTL로 반영합니다.
+ * 같은 조건의 요청이 동시에 캐시를 놓치면 한 요청만 DB를 조회하고 나머지는 그 결과를 기다립니다.
+ */
+@Component
+public class CurationSearchCache {
+
+	private final Cache<Key, Entry> cache;
+
+	public CurationSearchCache(MeterRegistry meterRegistry,
+		@Value("${custom.curation.search-cache.max-size:1000}") long maxSize,
+		@Value("${custom.curation.search-cache.ttl-seconds:30}") long ttlSeconds) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.recordStats()
+			.build();
+
+		// cache.gets(result=hit|miss), cache.evictions 등과 함께 적중률을 바로 볼 수 있도록 게이지를 등록
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "curationSearch");
+		Gauge.builder("curation.search.cache.hit.ratio", cache, c -> c.stats().hitRate())
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 캐시된 검색 결과를 반환하고, 없으면 loader로 만들어 저장합니다.
+	 * @param key 정규화된 검색 조건
+	 * @param loader 캐시에 없을 때 검색하는 함수
+	 * @return 검색 결과
+	 */
+	public Entry get(Key key, Supplier<Entry> loader) {
+		return cache.get(key, k -> loader.get());
+	}
+
+	/**
+	 * 새 큐레이션이 나타날 수 있는 항목을 삭제합니다.
+	 * 조건이 맞는 항목 중 오래된순은 새 큐레이션이 맨 뒤에 오므로 마지막 페이지만 삭제합니다.
+	 * @param curationId 생성된 큐레이션 ID
+	 * @param tagNames 큐레이션의 태그 이름
+	 * @param authorName 작성자 이름
+	 */
+	public void evictForCreated(Long curationId, Collection<String> tagNames, String authorName) {
+		Set<String> tags = normalizeTagNames(tagNames);
+		evictIf((key, entry) -> key.mayMatch(tags, authorName)
+			&& (key.order() != SearchOrder.OLDEST || entry.isLastPage()));
+	}
+
+	/**
+	 * 수정된 큐레이션이 들어 있거나 새로 포함될 수 있는 항목을 삭제합니다.
+	 * @param curationId 수정된 큐레이션 ID
+	 * @param tagNames 수정 후 태그 이름
+	 * @param authorName 작성자 이름
+	 */
+	public void evictForUpdated(Long curationId, Collection<String> tagNames, String authorName) {
+		Set<String> tags = normalizeTagNames(tagNames);
+		evictIf((key, entry) -> entry.ids().contains(curationId) || key.mayMatch(tags, authorName));
+	}
+
+	/**
+	 * 삭제된 큐레이션이 들어 있는 항목을 삭제합니다.
+	 * @param curationId 삭제된 큐레이션 ID
+	 */
+	public void evictForDeleted(Long curationId) {
+		evictIf((key, entry) -> entry.ids().contains(curationId));
+	}
+
+	private Set<String> normalizeTagNames(Collection<String> tagNames) {
+		if (tagNames == null) {
+			return Set.of();
+		}
+		return tagNames.stream().filter(Objects::nonNull).map(String::trim).collect(Collectors.toSet());
+	}
+
+	private void evictIf(BiPredicate<Key, Entry> condition) {
+		cache.asMap().entrySet().removeIf(entry -> condition.test(entry.getKey(), entry.getValue()));
+	}
+
+	/**
+	 * 정규화된 검색 조건입니다.
+	 * 태그는 공백을 제거해 중복 없이 정렬하고, 검색어는 앞뒤 공백을 제거해 비어 있으면 null로 둡니다.
+	 * 페이지 번호 조회는 cursor가 null이고, 커서 조회는 page가 0이며 첫 페이지의 cursor는 빈 문자열입니다.
+	 */
+	public record Key(List<String> tags, String title, String content, String author, SearchOrder order,
+					  int page, String cursor, int size, boolean includeTotal) {
+
+		public static Key ofPage(List<String> tags, String title, String content, String author, SearchOrder order,
+			int page, int size) {
+			return new Key(normalizeTags(tags), normalizeTerm(title), normalizeTerm(content), normalizeTerm(author),
+				order, page, null, size, true);
+		}
+
+		public static Key ofCursor(List<String> tags, String title, String content, String author,
+			SearchOrder order, String cursor, int size, boolean includeTotal) {
+			return new Key(normalizeTags(tags), normalizeTerm(title), normalizeTerm(content), normalizeTerm(author),
+				order, 0, cursor == null ? "" : cursor.trim(), size, includeTotal);
+		}
+
+		/**
+		 * 주어진 태그와 작성자를 가진 큐레이션이 이 조건의 결과에 포함될 수 있는지 반환합니다.
+		 * 제목·본문 검색어는 분석 방식에 따라 일치 여부가 달라지므로 포함될 수 있다고 봅니다.
+		 */
+		boolean mayMatch(Set<String> curationTags, String authorName) {
+			if (!curationTags.containsAll(tags)) {
+				return false;
+			}
+			return author == null || (authorName != null
+				&& authorName.toLowerCase(Locale.ROOT).contains(author.toLowerCase(Locale.ROOT)));
+		}
+
+		private static List<String> normalizeTags(List<String> tags) {
+			if (tags == null) {
+				return List.of();
+			}
+			return tags.stream()
+				.filter(Objects::nonNull)
+				.map(String::trim)
+				.filter(tag -> !tag.isEmpty())
+				.distinct()
+				.sorted()
+				.collect(Collectors.toUnmodifiableList());
+		}
+
+		private static String normalizeTerm(String term) {
+			if (term == null || term.isBlank()) {
+				return null;
+			}
+			return term.trim();
+		}
+	}
+
+	/**
+	 * 캐시된 검색 결과
+	 * @param ids 현재 페이지의 큐레이션 ID (정렬 순서)
+	 * @param totalPages 전체 페이지 수 (계산하지 않았으면 null)
+	 * @param totalElements 전체 개수 (계산하지 않았으면 null)
+	 * @param size 페이지 크기
+	 * @param nextCursor 다음 페이지 커서 (페이지 번호 조회이거나 마지막 페이지면 null)
+	 */
+	public record Entry(List<Long> ids, Integer totalPages, Long totalElements, int size, String nextCursor) {
+
+		boolean isLastPage() {
+			return ids.size() < size && nextCursor == null;
+		}
+	}
+}
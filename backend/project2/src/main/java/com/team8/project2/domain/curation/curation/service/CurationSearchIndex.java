@@ -0,0 +1,693 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.charfilter.HTMLStripCharFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldCollectorManager;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.domain.curation.curation.dto.CurationCursor;
+import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.domain.curation.curation.entity.SearchOrder;
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 큐레이션 제목·내용·작성자 이름에 대한 Lucene 전문 검색 색인입니다.
+ * 본문은 HTML 태그를 제거한 뒤, 단어를 글자마다 위치를 매긴 1~2글자 단위(n-gram)로 나눠 색인합니다.
+ * 검색어의 각 단어는 2글자 조각들이 순서대로 붙어 있어야 하는 구문 조건으로 찾으므로, 기존 LIKE 검색처럼
+ * 한글 조사가 붙은 단어나 영문 단어의 일부로 찾되 조각이 흩어져 있는 문서는 찾지 않습니다.
+ * 검색 결과로는 요청한 페이지의 정렬된 큐레이션 ID와 일치하는 전체 개수만 반환하며, 엔티티 조회는 호출하는 쪽에서
+ * 한 번에 처리합니다. 페이지는 색인 안에서 나누고 커서 조회는 searchAfter로 이어 읽으므로, 일치하는 큐레이션이
+ * 많아도 DB 검색으로 넘기지 않습니다.
+ *
+ * 같은 인스턴스의 생성·수정·삭제는 이벤트로 바로 반영하고, 다른 인스턴스에서 생성·수정된 큐레이션은
+ * 주기적으로 수정 시각 기준으로 따라잡습니다. 색인은 파일에 두어 재시작 후에는 변경분만 따라잡고, 색인이 비어 있거나
+ * 색인 방식이 바뀌었으면 별도 스레드에서 DB로부터 다시 만듭니다. 준비되기 전에는 호출하는 쪽이 DB에서 검색합니다.
+ */
+@Slf4j
+@Component
+public class CurationSearchIndex {
+
+	private static final String ID_FIELD = "id";
+	/** 정렬 동점 처리, 태그 조건 필터, 전체 ID 수집에 쓰는 숫자 ID */
+	private static final String CURATION_ID_FIELD = "curationId";
+	private static final String TITLE_FIELD = "title";
+	private static final String CONTENT_FIELD = "content";
+	private static final String AUTHOR_FIELD = "author";
+	private static final String CREATED_AT_FIELD = "createdAt";
+	private static final String LAST_SYNCED_AT_KEY = "lastSyncedAt";
+	private static final String ANALYZER_VERSION_KEY = "analyzerVersion";
+	/** 색인 방식이 바뀌면 올려서 기존 색인을 시작 시 다시 만듦 (2: 글자별 위치를 가진 n-gram, 3: 숫자 ID 필드) */
+	private static final String ANALYZER_VERSION = "3";
+
+	/** 필드별 검색 조각 수 상한 (BooleanQuery 절 개수 제한 1024 이내로 유지, 넘는 조각은 버려 결과가 넓어질 뿐 누락되지 않음) */
+	private static final int MAX_TERMS_PER_FIELD = 200;
+
+	/** 트랜잭션 커밋 지연과 서버 간 시각 차이를 고려해 동기화 기준 시각을 앞당기는 여유 시간(분) */
+	private static final long SYNC_MARGIN_MINUTES = 1;
+
+	private final CurationRepository curationRepository;
+	private final String indexPath;
+	private final int batchSize;
+
+	private final Analyzer indexAnalyzer = new CurationAnalyzer(true);
+	private final Analyzer queryAnalyzer = new CurationAnalyzer(false);
+	private final AtomicBoolean bulkIndexing = new AtomicBoolean(false);
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(
+		Thread.ofVirtual().name("curation-search-initialize").factory());
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+	private SearcherManager searcherManager;
+	private volatile LocalDateTime lastSyncedAt;
+	private String analyzerVersion;
+	/** 현재 색인 방식으로 한 번 이상 전체 색인되었는지 여부 (재시작 후에도 파일 색인의 커밋 정보로 판단) */
+	private volatile boolean ready;
+
+	public CurationSearchIndex(CurationRepository curationRepository,
+		@Value("${custom.curation.search.index-path:}") String indexPath,
+		@Value("${custom.curation.search.batch-size:500}") int batchSize) {
+		this.curationRepository = curationRepository;
+		this.indexPath = indexPath;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 색인 경로가 설정되어 있으면 파일 색인을, 없으면 메모리 색인을 연다. (메모리 색인은 시작할 때마다 재구축)
+	 */
+	@PostConstruct
+	public void open() throws IOException {
+		directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+		IndexWriterConfig config = new IndexWriterConfig(indexAnalyzer)
+			.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+		indexWriter = new IndexWriter(directory, config);
+		searcherManager = new SearcherManager(indexWriter, null);
+
+		if (indexWriter.getLiveCommitData() != null) {
+			for (Map.Entry<String, String> entry : indexWriter.getLiveCommitData()) {
+				if (LAST_SYNCED_AT_KEY.equals(entry.getKey())) {
+					lastSyncedAt = LocalDateTime.parse(entry.getValue());
+				} else if (ANALYZER_VERSION_KEY.equals(entry.getKey())) {
+					analyzerVersion = entry.getValue();
+				}
+			}
+		}
+		ready = indexWriter.getDocStats().numDocs > 0 && lastSyncedAt != null
+			&& ANALYZER_VERSION.equals(analyzerVersion);
+	}
+
+	/**
+	 * 애플리케이션이 준비되면 별도 스레드에서 재구축하거나 변경분을 반영하므로, 큐레이션이 많아도 시작을 막지 않는다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		executor.execute(this::syncModified);
+	}
+
+	/**
+	 * 검색에 사용할 수 있는지 확인합니다.
+	 * @return 현재 색인 방식으로 전체 색인되었으면 true (false면 DB에서 검색)
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 큐레이션 하나를 색인에 추가하거나 갱신합니다.
+	 * @param curation 작성자가 초기화된 큐레이션
+	 */
+	public void index(Curation curation) {
+		try {
+			indexWriter.updateDocument(idTerm(curation.getId()), toDocument(curation));
+			refresh();
+		} catch (IOException e) {
+			log.warn("큐레이션 검색 색인 갱신 실패 (id: {})", curation.getId(), e);
+		}
+	}
+
+	/**
+	 * 큐레이션들을 색인에서 삭제합니다.
+	 * @param curationIds 삭제할 큐레이션 ID 목록
+	 */
+	public void delete(Collection<Long> curationIds) {
+		if (curationIds.isEmpty()) {
+			return;
+		}
+		try {
+			indexWriter.deleteDocuments(curationIds.stream().map(this::idTerm).toArray(Term[]::new));
+			refresh();
+		} catch (IOException e) {
+			log.warn("큐레이션 검색 색인 삭제 실패 (ids: {})", curationIds, e);
+		}
+	}
+
+	/**
+	 * 검색 결과 한 페이지의 큐레이션 ID와 일치하는 전체 개수입니다.
+	 * @param ids 정렬된 큐레이션 ID 목록
+	 * @param totalHits 일치하는 전체 큐레이션 수 (세지 않았으면 -1)
+	 */
+	public record Hits(List<Long> ids, long totalHits) {
+
+		static final Hits EMPTY = new Hits(List.of(), 0);
+	}
+
+	/**
+	 * 검색어와 일치하는 큐레이션 중 offset 번째부터 limit 개의 ID를 정렬 기준에 맞게 반환합니다.
+	 * 최신순·오래된순은 작성 시각으로, 그 외에는 관련도 순으로 정렬하며 같으면 ID로 순서를 정합니다.
+	 * 여러 검색어가 주어지면 모두 만족해야 하며, 분석 후 남는 단어가 없는 검색어가 있으면 빈 결과를 반환합니다.
+	 * @param title 제목 검색어 (선택적)
+	 * @param content 내용 검색어 (선택적)
+	 * @param author 작성자 검색어 (선택적)
+	 * @param filterIds 이 ID만 검색 (태그 조건, 선택적)
+	 * @param order 정렬 기준
+	 * @param offset 건너뛸 개수
+	 * @param limit 반환할 최대 개수
+	 * @return 정렬된 큐레이션 ID와 일치하는 전체 개수
+	 */
+	public Hits search(String title, String content, String author, RoaringBitmap filterIds, SearchOrder order,
+		int offset, int limit) {
+		Optional<Query> query = buildQuery(title, content, author, filterIds);
+		if (query.isEmpty()) {
+			return Hits.EMPTY;
+		}
+
+		IndexSearcher searcher = null;
+		try {
+			searcher = searcherManager.acquire();
+			TopDocs topDocs = searcher.search(query.get(),
+				new TopFieldCollectorManager(sort(order), offset + limit, null, Integer.MAX_VALUE));
+			return new Hits(toIds(searcher, topDocs, offset), topDocs.totalHits.value);
+		} catch (IOException e) {
+			throw new UncheckedIOException("큐레이션 검색 색인 조회 실패", e);
+		} finally {
+			release(searcher);
+		}
+	}
+
+	/**
+	 * 검색어와 일치하는 큐레이션 중 커서 다음 위치부터 limit 개의 ID를 정렬 기준에 맞게 반환합니다.
+	 * 앞쪽 결과를 다시 정렬하지 않도록 커서의 정렬 값에서 이어 읽습니다. 관련도순은 커서 큐레이션의 현재 점수를
+	 * 같은 색인에서 다시 구해 이어 읽습니다.
+	 * @param after 이전 페이지의 마지막 큐레이션 위치 (비어 있으면 첫 페이지)
+	 * @param countTotal 일치하는 전체 개수를 셀지 여부
+	 * @return 정렬된 큐레이션 ID와 전체 개수 (관련도순에서 커서 큐레이션이 더 이상 일치하지 않으면 빈 값)
+	 * @see #search
+	 */
+	public Optional<Hits> searchAfter(String title, String content, String author, RoaringBitmap filterIds,
+		SearchOrder order, CurationCursor after, int limit, boolean countTotal) {
+		Optional<Query> query = buildQuery(title, content, author, filterIds);
+		if (query.isEmpty()) {
+			return Optional.of(Hits.EMPTY);
+		}
+
+		IndexSearcher searcher = null;
+		try {
+			searcher = searcherManager.acquire();
+			FieldDoc afterDoc = null;
+			if (after != null) {
+				Optional<FieldDoc> cursorDoc = toFieldDoc(searcher, query.get(), order, after);
+				if (cursorDoc.isEmpty()) {
+					return Optional.empty();
+				}
+				afterDoc = cursorDoc.get();
+			}
+			TopDocs topDocs = searcher.search(query.get(), new TopFieldCollectorManager(sort(order), limit, afterDoc,
+				countTotal ? Integer.MAX_VALUE : limit));
+			return Optional.of(new Hits(toIds(searcher, topDocs, 0), countTotal ? topDocs.totalHits.value : -1));
+		} catch (IOException e) {
+			throw new UncheckedIOException("큐레이션 검색 색인 조회 실패", e);
+		} finally {
+			release(searcher);
+		}
+	}
+
+	/**
+	 * 검색어와 일치하는 큐레이션 ID를 모두 반환합니다. 색인에 없는 값(좋아요 수)으로 DB에서 정렬할 때 사용합니다.
+	 * @return 일치하는 큐레이션 ID 비트맵
+	 * @see #search
+	 */
+	public RoaringBitmap searchIds(String title, String content, String author, RoaringBitmap filterIds) {
+		Optional<Query> query = buildQuery(title, content, author, filterIds);
+		if (query.isEmpty()) {
+			return new RoaringBitmap();
+		}
+
+		IndexSearcher searcher = null;
+		try {
+			searcher = searcherManager.acquire();
+			return searcher.search(query.get(), new IdCollectorManager());
+		} catch (IOException e) {
+			throw new UncheckedIOException("큐레이션 검색 색인 조회 실패", e);
+		} finally {
+			release(searcher);
+		}
+	}
+
+	/**
+	 * DB의 모든 큐레이션으로 색인을 다시 만듭니다.
+	 * 재구축 중에는 이전 색인으로 검색하며, 완료 후 한 번에 교체됩니다.
+	 * @return 색인된 큐레이션 수 (이미 재구축·동기화 중이면 -1)
+	 */
+	public long rebuild() {
+		if (!bulkIndexing.compareAndSet(false, true)) {
+			return -1;
+		}
+		try {
+			LocalDateTime startedAt = LocalDateTime.now();
+			indexWriter.deleteAll();
+			long count = indexBatches(afterId -> curationRepository.findForIndexing(afterId,
+				PageRequest.of(0, batchSize)));
+			commit(startedAt);
+			ready = true;
+			log.info("큐레이션 검색 색인 재구축 완료 ({}건)", count);
+			return count;
+		} catch (IOException e) {
+			throw new UncheckedIOException("큐레이션 검색 색인 재구축 실패", e);
+		} finally {
+			bulkIndexing.set(false);
+		}
+	}
+
+	/**
+	 * 마지막 동기화 이후 생성·수정된 큐레이션을 색인에 반영합니다.
+	 * 다른 인스턴스에서 발생한 변경을 따라잡기 위해 주기적으로 실행되며, 색인이 준비되지 않았으면
+	 * (비어 있거나 색인 방식이 바뀌었거나 이전 재구축이 실패) 전체를 재구축합니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.curation.search.sync-interval-ms:60000}")
+	public void syncModified() {
+		if (!ready) {
+			try {
+				rebuild();
+			} catch (UncheckedIOException | DataAccessException e) {
+				log.warn("큐레이션 검색 색인 재구축 실패, 다음 동기화 주기에 다시 시도합니다.", e);
+			}
+			return;
+		}
+		if (!bulkIndexing.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			LocalDateTime startedAt = LocalDateTime.now();
+			LocalDateTime since = lastSyncedAt.minusMinutes(SYNC_MARGIN_MINUTES);
+			long count = indexBatches(afterId -> curationRepository.findModifiedSince(since, afterId,
+				PageRequest.of(0, batchSize)));
+			commit(startedAt);
+			log.debug("큐레이션 검색 색인 동기화 ({}건)", count);
+		} catch (IOException e) {
+			log.warn("큐레이션 검색 색인 동기화 실패", e);
+		} finally {
+			bulkIndexing.set(false);
+		}
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		executor.shutdownNow();
+		searcherManager.close();
+		indexWriter.close();
+		directory.close();
+	}
+
+	private long indexBatches(LongFunction<List<Curation>> batchLoader) throws IOException {
+		long count = 0;
+		long lastId = 0;
+		while (true) {
+			List<Curation> batch = batchLoader.apply(lastId);
+			if (batch.isEmpty()) {
+				return count;
+			}
+			for (Curation curation : batch) {
+				indexWriter.updateDocument(idTerm(curation.getId()), toDocument(curation));
+			}
+			count += batch.size();
+			lastId = batch.get(batch.size() - 1).getId();
+		}
+	}
+
+	private void commit(LocalDateTime syncedAt) throws IOException {
+		indexWriter.setLiveCommitData(Map.of(LAST_SYNCED_AT_KEY, syncedAt.toString(),
+			ANALYZER_VERSION_KEY, ANALYZER_VERSION).entrySet());
+		indexWriter.commit();
+		lastSyncedAt = syncedAt;
+		analyzerVersion = ANALYZER_VERSION;
+		searcherManager.maybeRefresh();
+	}
+
+	/**
+	 * 재구축·동기화 중에는 일부만 채워진 색인이 보이지 않도록 검색 대상을 갱신하지 않는다.
+	 */
+	private void refresh() throws IOException {
+		if (!bulkIndexing.get()) {
+			searcherManager.maybeRefresh();
+		}
+	}
+
+	private void release(IndexSearcher searcher) {
+		if (searcher == null) {
+			return;
+		}
+		try {
+			searcherManager.release(searcher);
+		} catch (IOException e) {
+			log.warn("큐레이션 검색 색인 반환 실패", e);
+		}
+	}
+
+	/**
+	 * 검색어마다 단어 조건을 만들고 태그 조건은 점수에 영향을 주지 않는 필터로 더한다.
+	 * @return 검색 조건 (분석 후 남는 단어가 없는 검색어가 있으면 빈 값)
+	 */
+	private Optional<Query> buildQuery(String title, String content, String author, RoaringBitmap filterIds) {
+		BooleanQuery.Builder query = new BooleanQuery.Builder();
+		if (!addWords(query, TITLE_FIELD, title) || !addWords(query, CONTENT_FIELD, content)
+			|| !addWords(query, AUTHOR_FIELD, author)) {
+			return Optional.empty();
+		}
+		if (filterIds != null) {
+			if (filterIds.isEmpty()) {
+				return Optional.empty();
+			}
+			long[] ids = new long[filterIds.getCardinality()];
+			int i = 0;
+			for (int id : filterIds) {
+				ids[i++] = Integer.toUnsignedLong(id);
+			}
+			query.add(LongPoint.newSetQuery(CURATION_ID_FIELD, ids), BooleanClause.Occur.FILTER);
+		}
+		return Optional.of(query.build());
+	}
+
+	/**
+	 * 커서를 searchAfter 기준 문서로 바꾼다. 정렬 값이 같으면 ID로 순서가 정해지므로 커서 큐레이션 자체는 제외된다.
+	 * 관련도순은 커서 큐레이션을 ID 필터로 다시 검색해 현재 색인에서의 점수를 구한다.
+	 */
+	private Optional<FieldDoc> toFieldDoc(IndexSearcher searcher, Query query, SearchOrder order,
+		CurationCursor after) throws IOException {
+		return switch (order) {
+			case LATEST, OLDEST -> Optional.of(new FieldDoc(Integer.MAX_VALUE, Float.NaN,
+				new Object[] {toEpochMilli(after.createdAt()), after.id()}));
+			default -> {
+				Query cursorQuery = new BooleanQuery.Builder()
+					.add(query, BooleanClause.Occur.MUST)
+					.add(LongPoint.newExactQuery(CURATION_ID_FIELD, after.id()), BooleanClause.Occur.FILTER)
+					.build();
+				TopDocs cursorDocs = searcher.search(cursorQuery, 1);
+				if (cursorDocs.scoreDocs.length == 0) {
+					yield Optional.empty();
+				}
+				float score = cursorDocs.scoreDocs[0].score;
+				yield Optional.of(new FieldDoc(Integer.MAX_VALUE, score, new Object[] {score, after.id()}));
+			}
+		};
+	}
+
+	private List<Long> toIds(IndexSearcher searcher, TopDocs topDocs, int offset) throws IOException {
+		StoredFields storedFields = searcher.storedFields();
+		List<Long> ids = new ArrayList<>(Math.max(topDocs.scoreDocs.length - offset, 0));
+		for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+			ids.add(Long.parseLong(storedFields.document(topDocs.scoreDocs[i].doc).get(ID_FIELD)));
+		}
+		return ids;
+	}
+
+	private Term idTerm(Long curationId) {
+		return new Term(ID_FIELD, String.valueOf(curationId));
+	}
+
+	private Document toDocument(Curation curation) {
+		Document document = new Document();
+		document.add(new StringField(ID_FIELD, String.valueOf(curation.getId()), Field.Store.YES));
+		document.add(new LongPoint(CURATION_ID_FIELD, curation.getId()));
+		document.add(new NumericDocValuesField(CURATION_ID_FIELD, curation.getId()));
+		document.add(new TextField(TITLE_FIELD, nullToEmpty(curation.getTitle()), Field.Store.NO));
+		document.add(new TextField(CONTENT_FIELD, nullToEmpty(curation.getContent()), Field.Store.NO));
+		if (curation.getMember() != null) {
+			document.add(new TextField(AUTHOR_FIELD, nullToEmpty(curation.getMemberName()), Field.Store.NO));
+		}
+		if (curation.getCreatedAt() != null) {
+			document.add(new NumericDocValuesField(CREATED_AT_FIELD, toEpochMilli(curation.getCreatedAt())));
+		}
+		return document;
+	}
+
+	/**
+	 * 검색어의 단어마다 그 단어를 부분 문자열로 포함해야 하는 조건을 추가한다.
+	 * 한 글자 단어는 글자 하나로, 두 글자 이상은 2글자 조각들이 한 칸씩 이어지는 구문으로 찾는다.
+	 * @return 검색어가 없거나 조건이 추가되었으면 true, 분석 후 남는 단어가 없으면 false
+	 */
+	private boolean addWords(BooleanQuery.Builder query, String field, String text) {
+		if (text == null || text.isBlank()) {
+			return true;
+		}
+		Set<String> words = analyze(field, text);
+		int remainingTerms = MAX_TERMS_PER_FIELD;
+		for (String word : words) {
+			if (remainingTerms <= 0) {
+				break;
+			}
+			if (word.length() == 1) {
+				query.add(new TermQuery(new Term(field, word)), BooleanClause.Occur.MUST);
+				remainingTerms--;
+				continue;
+			}
+			PhraseQuery.Builder phrase = new PhraseQuery.Builder();
+			int bigrams = Math.min(word.length() - 1, remainingTerms);
+			for (int i = 0; i < bigrams; i++) {
+				phrase.add(new Term(field, word.substring(i, i + 2)), i);
+			}
+			query.add(phrase.build(), BooleanClause.Occur.MUST);
+			remainingTerms -= bigrams;
+		}
+		return !words.isEmpty();
+	}
+
+	private Set<String> analyze(String field, String text) {
+		Set<String> terms = new LinkedHashSet<>();
+		try (TokenStream tokenStream = queryAnalyzer.tokenStream(field, text)) {
+			CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+			tokenStream.reset();
+			while (tokenStream.incrementToken()) {
+				terms.add(termAttribute.toString());
+			}
+			tokenStream.end();
+		} catch (IOException e) {
+			throw new UncheckedIOException("검색어 분석 실패", e);
+		}
+		return terms;
+	}
+
+	private Sort sort(SearchOrder order) {
+		return switch (order) {
+			case LATEST -> new Sort(new SortField(CREATED_AT_FIELD, SortField.Type.LONG, true),
+				new SortField(CURATION_ID_FIELD, SortField.Type.LONG, true));
+			case OLDEST -> new Sort(new SortField(CREATED_AT_FIELD, SortField.Type.LONG, false),
+				new SortField(CURATION_ID_FIELD, SortField.Type.LONG, false));
+			default -> new Sort(SortField.FIELD_SCORE, new SortField(CURATION_ID_FIELD, SortField.Type.LONG, true));
+		};
+	}
+
+	private static long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private static String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+
+	/**
+	 * 일치하는 문서의 숫자 ID를 세그먼트별로 비트맵에 모은 뒤 합친다.
+	 */
+	private static final class IdCollectorManager implements CollectorManager<IdCollector, RoaringBitmap> {
+
+		@Override
+		public IdCollector newCollector() {
+			return new IdCollector();
+		}
+
+		@Override
+		public RoaringBitmap reduce(Collection<IdCollector> collectors) {
+			RoaringBitmap ids = new RoaringBitmap();
+			collectors.forEach(collector -> ids.or(collector.ids));
+			return ids;
+		}
+	}
+
+	private static final class IdCollector extends SimpleCollector {
+
+		private final RoaringBitmap ids = new RoaringBitmap();
+		private NumericDocValues curationIds;
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			curationIds = context.reader().getNumericDocValues(CURATION_ID_FIELD);
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if (curationIds != null && curationIds.advanceExact(doc)) {
+				ids.add(Math.toIntExact(curationIds.longValue()));
+			}
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return ScoreMode.COMPLETE_NO_SCORES;
+		}
+	}
+
+	/**
+	 * 단어 단위로 나눈 뒤 소문자로 맞추는 분석기.
+	 * 색인 시에는 본문의 HTML 태그를 제거하고 단어를 1~2글자 단위(n-gram)로 다시 나누며,
+	 * 검색 시에는 단어를 그대로 두어 {@link #addWords}가 구문 조건으로 만든다.
+	 */
+	private static class CurationAnalyzer extends Analyzer {
+
+		private final boolean forIndexing;
+
+		CurationAnalyzer(boolean forIndexing) {
+			this.forIndexing = forIndexing;
+		}
+
+		@Override
+		protected Reader initReader(String fieldName, Reader reader) {
+			return forIndexing && CONTENT_FIELD.equals(fieldName) ? new HTMLStripCharFilter(reader) : reader;
+		}
+
+		@Override
+		protected TokenStreamComponents createComponents(String fieldName) {
+			Tokenizer tokenizer = new StandardTokenizer();
+			TokenStream tokenStream = new CJKWidthFilter(tokenizer);
+			tokenStream = new LowerCaseFilter(tokenStream);
+			if (forIndexing) {
+				tokenStream = new PositionalGramFilter(tokenStream);
+			}
+			return new TokenStreamComponents(tokenizer, tokenStream);
+		}
+	}
+
+	/**
+	 * 단어의 글자마다 위치를 하나씩 매겨 그 글자(1-gram)와, 같은 위치에 그 글자로 시작하는 2글자(2-gram)를 만든다.
+	 * NGramTokenFilter는 한 단어의 조각을 모두 같은 위치에 두므로 조각의 순서와 인접 여부로 찾을 수 없다.
+	 * 예: "검색어" → 검(0), 검색(0), 색(1), 색어(1), 어(2)
+	 */
+	private static final class PositionalGramFilter extends TokenFilter {
+
+		private final CharTermAttribute termAttribute = addAttribute(CharTermAttribute.class);
+		private final PositionIncrementAttribute positionAttribute = addAttribute(PositionIncrementAttribute.class);
+
+		private char[] word;
+		private int start;
+		private boolean bigramPending;
+		private int wordPositionIncrement;
+		private State wordState;
+
+		PositionalGramFilter(TokenStream input) {
+			super(input);
+		}
+
+		@Override
+		public boolean incrementToken() throws IOException {
+			while (word == null || start >= word.length) {
+				if (!input.incrementToken()) {
+					return false;
+				}
+				word = Arrays.copyOf(termAttribute.buffer(), termAttribute.length());
+				start = 0;
+				bigramPending = false;
+				wordPositionIncrement = positionAttribute.getPositionIncrement();
+				wordState = captureState();
+			}
+
+			restoreState(wordState);
+			if (bigramPending) {
+				termAttribute.copyBuffer(word, start, 2);
+				positionAttribute.setPositionIncrement(0);
+				bigramPending = false;
+				start++;
+			} else {
+				termAttribute.copyBuffer(word, start, 1);
+				positionAttribute.setPositionIncrement(start == 0 ? wordPositionIncrement : 1);
+				if (start + 1 < word.length) {
+					bigramPending = true;
+				} else {
+					start++;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public void reset() throws IOException {
+			super.reset();
+			word = null;
+			wordState = null;
+		}
+	}
+}
@@ -1,19 +1,25 @@
 package com.team8.project2.domain.curation.curation.service;
 
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.time.Duration;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -22,43 +28,54 @@ import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import com.team8.project2.domain.curation.curation.dto.CurationCursor;
 import com.team8.project2.domain.curation.curation.dto.CurationDetailResDto;
 import com.team8.project2.domain.curation.curation.dto.CurationResDto;
 import com.team8.project2.domain.curation.curation.dto.CurationSearchResDto;
 import com.team8.project2.domain.curation.curation.dto.TrendingCurationResDto;
+import com.team8.project2.domain.curation.curation.dto.TrendingWindow;
 import com.team8.project2.domain.curation.curation.entity.Curation;
 import com.team8.project2.domain.curation.curation.entity.CurationLink;
 import com.team8.project2.domain.curation.curation.entity.CurationTag;
 import com.team8.project2.domain.curation.curation.entity.SearchOrder;
+import com.team8.project2.domain.curation.curation.event.CurationCreateEvent;
 import com.team8.project2.domain.curation.curation.event.CurationDeleteEvent;
 import com.team8.project2.domain.curation.curation.event.CurationUpdateEvent;
 import com.team8.project2.domain.curation.curation.repository.CurationLinkRepository;
 import com.team8.project2.domain.curation.curation.repository.CurationRepository;
 import com.team8.project2.domain.curation.curation.repository.CurationTagRepository;
-import com.team8.project2.domain.curation.like.entity.Like;
 import com.team8.project2.domain.curation.like.repository.LikeRepository;
+import com.team8.project2.domain.curation.like.service.LikeJournalConsumer;
+import com.team8.project2.domain.curation.like.service.LikeService;
 import com.team8.project2.domain.curation.report.entity.Report;
 import com.team8.project2.domain.curation.report.entity.ReportType;
 import com.team8.project2.domain.curation.report.repository.ReportRepository;
 import com.team8.project2.domain.curation.tag.service.TagService;
 import com.team8.project2.domain.image.entity.CurationImage;
 import com.team8.project2.domain.image.repository.CurationImageRepository;
+import com.team8.project2.domain.image.service.ImageNameExtractor;
 import com.team8.project2.domain.link.service.LinkService;
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.repository.FollowRepository;
 import com.team8.project2.domain.member.repository.MemberRepository;
 import com.team8.project2.domain.member.service.MemberService;
+import com.team8.project2.global.RedisLikeRebuilder;
+import com.team8.project2.global.RedisLikeSynchronizer;
 import com.team8.project2.global.Rq;
+import com.team8.project2.global.UniqueVisitorService;
 import com.team8.project2.global.exception.ServiceException;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 큐레이션 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
  * 큐레이션 생성, 수정, 삭제, 조회 및 좋아요 기능을 제공합니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CurationService {
@@ -72,13 +89,80 @@ public class CurationService {
 	private final MemberRepository memberRepository;
 	private final LikeRepository likeRepository;
 	private final ApplicationEventPublisher eventPublisher;
-	private final CurationViewService curationViewService;
+	private final CurationViewCountBuffer curationViewCountBuffer;
+	private final UniqueVisitorService uniqueVisitorService;
+	private final CurationDetailReader curationDetailReader;
+	private final CurationListReader curationListReader;
+	private final CurationDetailCache curationDetailCache;
+	private final CurationSearchIndex curationSearchIndex;
+	private final CurationTagIndex curationTagIndex;
+	private final CurationSearchCache curationSearchCache;
+	private final CurationTrendingService curationTrendingService;
+	private final TrendingCurationSnapshot trendingCurationSnapshot;
+	private final FollowingTimeline followingTimeline;
+	private final LikeService likeService;
+	private final RedisLikeSynchronizer redisLikeSynchronizer;
 	private final Rq rq;
 
 	private final RedisTemplate<String, String> redisTemplate;
-	private static final String VIEW_COUNT_KEY = "view_count:"; // Redis 키 접두사
-	private static final String DAY_VIEW_COUNT_KEY = "day_view_count:"; // Redis 키 접두사
 	private static final String LIKE_COUNT_KEY = "curation:like_count"; // 좋아요 수 저장
+	/** 좋아요순 검색 후보가 IN 조건 상한을 넘을 때 좋아요 순서로 한 번에 읽는 큐레이션 수 */
+	private static final int LIKE_SCAN_BATCH_SIZE = 1000;
+	/** 좋아요 행은 LikeJournalConsumer가 반영하므로 dirty SET 동기화는 좋아요 수만 갱신 */
+	public static final RedisLikeSynchronizer.Target CURATION_LIKE_SYNC = new RedisLikeSynchronizer.Target(
+		"큐레이션", "curation_like:", "dirty:curation_like", "curation", "curation_id", "likes", "curation_id", false);
+
+	/**
+	 * 좋아요 토글 스크립트 (토글한 결과를 DB 반영용 이벤트 스트림과 트렌딩 좋아요 버킷에도 추가하고,
+	 * 좋아요 재구축 중이면 재구축이 덮어쓰지 않도록 toggled SET에도 추가)
+	 * KEYS: 좋아요 SET, dirty SET, 좋아요 이벤트 스트림, 트렌딩 좋아요 버킷, 재구축 toggled SET
+	 * ARGV: 회원 ID, 큐레이션 ID, 버킷 TTL(초)
+	 * 반환: 1(좋아요 추가), 0(좋아요 삭제)
+	 */
+	private static final DefaultRedisScript<Long> LIKE_TOGGLE_SCRIPT = new DefaultRedisScript<>(
+		"local liked = 1 " +
+			"if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then " +
+			"   redis.call('SREM', KEYS[1], ARGV[1]) " +
+			"   liked = 0 " +
+			"else " +
+			"   redis.call('SADD', KEYS[1], ARGV[1]) " +
+			"end " +
+			"redis.call('SADD', KEYS[2], ARGV[2]) " +
+			"redis.call('XADD', KEYS[3], '*', " +
+			"   'curationId', ARGV[2], 'memberId', ARGV[1], 'op', liked == 1 and 'ADD' or 'REMOVE') " +
+			"redis.call('ZINCRBY', KEYS[4], liked == 1 and 1 or -1, ARGV[2]) " +
+			"redis.call('EXPIRE', KEYS[4], ARGV[3]) " +
+			"if redis.call('EXISTS', KEYS[5]) == 1 then " +
+			"   redis.call('SADD', KEYS[5], ARGV[2]) " +
+			"end " +
+			"return liked",
+		Long.class);
+
+	/**
+	 * 큐레이션 상세 조회 시 필요한 Redis 작업을 한 번에 처리하는 스크립트
+	 * 새 방문자 수는 {@link UniqueVisitorService#recordVisit}와 같이 PFADD 전후의 PFCOUNT 차이로 구합니다.
+	 * KEYS: 방문자 HyperLogLog, 트렌딩 조회수 버킷, 좋아요 SET
+	 * ARGV: 방문자 식별자, 큐레이션 ID, 방문자 키 TTL(초), 버킷 TTL(초), 로그인 회원 ID(비로그인 시 빈 문자열)
+	 * 반환: [새 방문자 수, 좋아요 수, 좋아요 여부]
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static final DefaultRedisScript<List> CURATION_DETAIL_SCRIPT = new DefaultRedisScript<>(
+		"local added = 0 " +
+			"local before = redis.call('PFCOUNT', KEYS[1]) " +
+			"if redis.call('PFADD', KEYS[1], ARGV[1]) == 1 then " +
+			"   redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+			"   added = math.max(redis.call('PFCOUNT', KEYS[1]) - before, 0) " +
+			"end " +
+			"if added > 0 then " +
+			"   redis.call('ZINCRBY', KEYS[2], added, ARGV[2]) " +
+			"   redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+			"end " +
+			"local liked = 0 " +
+			"if ARGV[5] ~= '' then " +
+			"   liked = redis.call('SISMEMBER', KEYS[3], ARGV[5]) " +
+			"end " +
+			"return {added, redis.call('SCARD', KEYS[3]), liked}",
+		List.class);
 	private final FollowRepository followRepository;
 	private final MemberService memberService;
 	private final ReportRepository reportRepository;
@@ -110,13 +194,12 @@ public class CurationService {
 			.comments(List.of())
 			.build();
 		curationRepository.save(curation);
+		eventPublisher.publishEvent(new CurationCreateEvent(curation.getId(), tags, member.getId(), member.getUsername()));
 
-		// 큐레이션 - 링크 연결
-		List<CurationLink> curationLinks = urls.stream()
-			.map(url -> {
-				CurationLink curationLink = new CurationLink();
-				return curationLink.setCurationAndLink(curation, linkService.getLink(url));
-			}).collect(Collectors.toList());
+		// 큐레이션 - 링크 연결 (링크는 한 번에 조회·생성하고 입력 순서대로 연결)
+		List<CurationLink> curationLinks = linkService.getLinks(urls).stream()
+			.map(link -> new CurationLink().setCurationAndLink(curation, link))
+			.collect(Collectors.toList());
 		curationLinkRepository.saveAll(curationLinks);
 		curation.setCurationLinks(curationLinks);
 
@@ -130,20 +213,7 @@ public class CurationService {
 		curation.setTags(curationTags);
 
 		// 작성한 큐레이션에 이미지가 첨부되어 있다면, 이미지에 큐레이션 번호를 연결 (연결이 이미 있는 이미지는 무시)
-		List<String> imageNames = curation.getImageNames();
-
-		for (int i = 0; i < imageNames.size(); i++) {
-			System.out.println(i + ": " + imageNames.get(i));
-		}
-
-		for (String imageName : imageNames) {
-			Optional<CurationImage> opImage = curationImageRepository.findByImageName(imageName);
-			if (opImage.isPresent()) {
-				CurationImage curationImage = opImage.get();
-				curationImage.setCurationIdIfNull(curation.getId());
-				curationImageRepository.save(curationImage);
-			}
-		}
+		linkImages(curation.getId(), ImageNameExtractor.extract(content));
 
 		return curation;
 	}
@@ -170,17 +240,24 @@ public class CurationService {
 		curation.setTitle(title);
 		curation.setContent(content);
 
-		// 큐레이션 - 링크 연결 업데이트
-		List<CurationLink> curationLinks = urls.stream()
-			.map(url -> {
-				CurationLink curationLink = new CurationLink();
-				return curationLink.setCurationAndLink(curation, linkService.getLink(url));
-			}).collect(Collectors.toList());
+		// 본문의 이미지는 한 번만 추출하고, 저장된 연결 정보와 비교해 추가·삭제된 이미지를 구함
+		Set<String> imageNames = ImageNameExtractor.extract(content);
+		List<String> removedImageNames = curationImageRepository.findByCurationId(curationId).stream()
+			.map(CurationImage::getImageName)
+			.filter(imageName -> !imageNames.contains(imageName))
+			.toList();
+		linkImages(curationId, imageNames);
+
+		// 큐레이션 - 링크 연결 업데이트 (링크는 한 번에 조회·생성하고 입력 순서대로 연결)
+		List<CurationLink> curationLinks = linkService.getLinks(urls).stream()
+			.map(link -> new CurationLink().setCurationAndLink(curation, link))
+			.collect(Collectors.toList());
 		curationLinkRepository.saveAll(curationLinks);
 		curation.getCurationLinks().clear();
 		curation.getCurationLinks().addAll(curationLinks);
 
 		// 큐레이션 - 태그 연결 업데이트
+		List<String> previousTagNames = tagNames(curation);
 		List<CurationTag> curationTags = tags.stream()
 			.map(tag -> {
 				CurationTag curationTag = new CurationTag();
@@ -195,12 +272,29 @@ public class CurationService {
 		// 큐레이션 수정 이벤트
 		eventPublisher.publishEvent(CurationUpdateEvent.builder()
 			.curationId(curation.getId())
-			.imageUrls(curation.getImageNames())
+			.removedImageNames(removedImageNames)
+			.tagNames(tags)
+			.previousTagNames(previousTagNames)
+			.authorName(curation.getMember().getUsername())
 			.build());
 
 		return result;
 	}
 
+	/**
+	 * 본문에 포함된 업로드 이미지에 큐레이션 번호를 연결합니다. (연결이 이미 있는 이미지는 무시)
+	 * @param curationId 큐레이션 ID
+	 * @param imageNames 본문에서 추출한 이미지 파일 이름
+	 */
+	private void linkImages(Long curationId, Set<String> imageNames) {
+		if (imageNames.isEmpty()) {
+			return;
+		}
+		for (CurationImage curationImage : curationImageRepository.findByImageNameIn(imageNames)) {
+			curationImage.setCurationIdIfNull(curationId);
+		}
+	}
+
 	/**
 	 * 큐레이션을 삭제합니다.
 	 * @param curationId 삭제할 큐레이션 ID
@@ -218,22 +312,68 @@ public class CurationService {
 		if (!curation.getMember().getId().equals(member.getId()) && !member.isAdmin()) {
 			throw new ServiceException("403-1", "권한이 없습니다."); // 권한 없음
 		}
+		List<String> tagNames = tagNames(curation);
 		reportRepository.deleteByCurationId(curationId);
 		curationLinkRepository.deleteByCurationId(curationId);
 		curationTagRepository.deleteByCurationId(curationId);
 		curationRepository.deleteById(curationId);
+		cleanUpDeletedCuration(curationId, tagNames);
+	}
 
-		// 조회 IP 정보 삭제
-		Set<String> keys = redisTemplate.keys(VIEW_COUNT_KEY + curationId + "*");
-		if (keys != null && !keys.isEmpty()) {
-			redisTemplate.delete(keys);
+	/**
+	 * 작성자의 큐레이션 ID별 태그 이름을 조회합니다. 일괄 삭제 전에 읽어 두고 {@link #cleanUpDeletedCurations}에 넘깁니다.
+	 * @param member 작성자
+	 * @return 큐레이션 ID별 태그 이름
+	 */
+	@Transactional(readOnly = true)
+	public Map<Long, List<String>> getTagNamesByAuthor(Member member) {
+		List<Long> curationIds = curationRepository.findIdsByMemberId(member.getId(), 0L, Pageable.unpaged());
+		if (curationIds.isEmpty()) {
+			return Map.of();
 		}
+		return curationRepository.findWithTagsByIdIn(curationIds).stream()
+			.collect(Collectors.toMap(Curation::getId, this::tagNames));
+	}
 
-		// 일일 조회수 삭제
-		redisTemplate.opsForZSet().remove(DAY_VIEW_COUNT_KEY, String.valueOf(curationId));
+	/**
+	 * 일괄 삭제한 큐레이션도 하나씩 삭제할 때와 같이 방문 기록과 트렌딩 순위를 정리하고 삭제 이벤트를 발행합니다.
+	 * 캐시, 검색 색인, 태그 색인, 태그 사용 수는 이벤트로 커밋 후에 정리됩니다.
+	 * 방문 기록은 보관 기간이 지나면 만료되고 트렌딩 순위는 조회 시 삭제된 큐레이션을 제외하므로,
+	 * Redis 정리에 실패해도 일괄 삭제를 되돌리지 않고 이벤트는 그대로 발행합니다.
+	 * @param tagNamesByCurationId 삭제한 큐레이션 ID별 삭제 전 태그 이름
+	 */
+	public void cleanUpDeletedCurations(Map<Long, List<String>> tagNamesByCurationId) {
+		try {
+			tagNamesByCurationId.keySet().forEach(this::removeVisitsAndTrending);
+		} catch (DataAccessException e) {
+			log.warn("삭제된 큐레이션의 방문 기록과 트렌딩 순위 정리에 실패했습니다. 만료와 조회 시 제외로 정리됩니다.", e);
+		}
+		tagNamesByCurationId.forEach(
+			(curationId, tagNames) -> eventPublisher.publishEvent(new CurationDeleteEvent(curationId, tagNames)));
+	}
+
+	private void cleanUpDeletedCuration(Long curationId, List<String> tagNames) {
+		removeVisitsAndTrending(curationId);
 
 		// 큐레이션 삭제 이벤트
-		eventPublisher.publishEvent(new CurationDeleteEvent(curationId));
+		eventPublisher.publishEvent(new CurationDeleteEvent(curationId, tagNames));
+	}
+
+	private void removeVisitsAndTrending(Long curationId) {
+		// 방문자 기록 삭제
+		uniqueVisitorService.deleteVisits(UniqueVisitorService.CURATION, curationId);
+
+		// 트렌딩 순위에서 삭제
+		curationTrendingService.remove(curationId);
+	}
+
+	private List<String> tagNames(Curation curation) {
+		if (curation.getTags() == null) {
+			return List.of();
+		}
+		return curation.getTags().stream()
+			.map(curationTag -> curationTag.getTag().getName())
+			.toList();
 	}
 
 	/**
@@ -241,80 +381,38 @@ public class CurationService {
 	 * @param curationId 조회할 큐레이션 ID
 	 * @return 조회된 큐레이션 객체
 	 */
-	@Transactional
+	@Transactional(readOnly = true)
 	public CurationDetailResDto getCuration(Long curationId, HttpServletRequest request) {
-		String ip = request.getHeader("X-Forwarded-For");
-
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("Proxy-Client-IP");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("WL-Proxy-Client-IP");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("HTTP_CLIENT_IP");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("HTTP_X_FORWARDED_FOR");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("X-Real-IP");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("X-RealIP");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("REMOTE_ADDR");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getRemoteAddr();
-		}
-
-		if (ip.equals("0:0:0:0:0:0:0:1") || ip.equals("127.0.0.1")) {
-			InetAddress address = null;
-			try {
-				address = InetAddress.getLocalHost();
-			} catch (UnknownHostException e) {
-				throw new RuntimeException(e);
-			}
-			ip = address.getHostName() + "/" + address.getHostAddress();
-		}
-		String key = VIEW_COUNT_KEY + curationId + ":" + ip;
-		System.out.println("Redis Key: " + key);
-		boolean isNewView = redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(true), Duration.ofDays(1));
-		System.out.println("Redis Key Set? " + isNewView + " | Key: " + key);
-
-		// 조회수 증가
-		if (isNewView) {
-			redisTemplate.opsForZSet().incrementScore(DAY_VIEW_COUNT_KEY, String.valueOf(curationId), 1); // curationId에 대한 조회수 증가
-			redisTemplate.expire(DAY_VIEW_COUNT_KEY, Duration.ofDays(1)); // 1일 동안 유효하게 설정 (TTL)
-		}
-
-		Curation curation = curationRepository.findById(curationId)
+		// 사용자와 무관한 상세 정보는 캐시에서 가져오고, 사용자별 정보는 아래에서 덧씌움
+		CurationDetailResDto detail = curationDetailCache.get(curationId, curationDetailReader::read);
+		// 캐시는 삭제 직후 잠시 남아 있을 수 있으므로 조회수를 읽으며 존재 여부를 DB에서 확인
+		long storedViewCount = curationRepository.findViewCountById(curationId)
 			.orElseThrow(() -> new ServiceException("404-1", "해당 큐레이션을 찾을 수 없습니다."));
 
-		// Redis의 좋아요 값(실제 값) 으로 수정
-		String redisKey = "curation_like:" + curationId;
-		Long likeCount = redisTemplate.opsForSet().size(redisKey);
-		curation.setLikeCount(likeCount);
-
-		boolean isLogin = false;
-		boolean isLiked = false;
-		boolean isFollowed = false;
-		if (rq.isLogin()) {
-			isLogin = true;
-			Member actor = rq.getActor();
-			isLiked = isLikedByMember(curationId, actor.getId());
-			isFollowed = memberService.isFollowed(curation.getMemberId(), actor.getId());
-		}
-
-		if (isNewView) {
-			curationViewService.increaseViewCount(curation);
-		} else {
-			System.out.println("조회수 증가 안 함 (이미 조회된 IP)");
+		boolean isLogin = rq.isLogin();
+		Member actor = isLogin ? rq.getActor() : null;
+
+		// 방문 중복 확인, 트렌딩 조회수 증가, 좋아요 수, 좋아요 여부를 한 번의 스크립트 호출로 처리
+		List<Long> result = redisTemplate.execute(CURATION_DETAIL_SCRIPT,
+			List.of(uniqueVisitorService.todayHyperLogLogKey(UniqueVisitorService.CURATION, curationId),
+				CurationTrendingService.currentViewBucketKey(), "curation_like:" + curationId),
+			uniqueVisitorService.resolveVisitor(request),
+			String.valueOf(curationId),
+			String.valueOf(UniqueVisitorService.RETENTION.toSeconds()),
+			String.valueOf(CurationTrendingService.BUCKET_TTL.toSeconds()),
+			actor != null ? String.valueOf(actor.getId()) : "");
+
+		long newViews = result.get(0);
+		boolean isLiked = result.get(2) == 1L;
+		boolean isFollowed = isLogin && memberService.isFollowed(detail.getAuthorId(), actor.getId());
+
+		// 조회수는 버퍼에 누적했다가 일괄 반영 (응답에는 반영 대기분 포함)
+		if (newViews > 0) {
+			curationViewCountBuffer.increment(curationId, newViews);
 		}
+		long viewCount = storedViewCount + curationViewCountBuffer.getPendingCount(curationId);
 
-		return CurationDetailResDto.fromEntity(curation, isLiked, isFollowed, isLogin);
+		return detail.withViewerState(result.get(1), viewCount, isLiked, isFollowed, isLogin);
 	}
 
 	/**
@@ -327,6 +425,34 @@ public class CurationService {
 	 */
 	public CurationSearchResDto searchCurations(List<String> tags, String title, String content, String author,
 		SearchOrder order, int page, int size) {
+		CurationSearchCache.Key key = CurationSearchCache.Key.ofPage(tags, title, content, author, order, page, size);
+		return cachedSearch(key, () -> findCurations(key.tags(), key.title(), key.content(), key.author(), order,
+			page, size));
+	}
+
+	private SearchResult findCurations(List<String> tags, String title, String content, String author,
+		SearchOrder order, int page, int size) {
+		// 검색어가 있으면 전문 검색 색인을 사용 (색인 장애 시나 색인이 준비되기 전에는 아래의 DB 검색으로 대체)
+		if (hasTextFilter(title, content, author) && curationSearchIndex.isReady()) {
+			try {
+				Optional<SearchResult> indexed = searchCurationsWithIndex(tags, title, content, author, order, page,
+					size);
+				if (indexed.isPresent()) {
+					return indexed.get();
+				}
+			} catch (UncheckedIOException e) {
+				log.warn("큐레이션 전문 검색에 실패해 DB 검색으로 대체합니다.", e);
+			}
+		}
+
+		// 태그만으로 검색하면 태그 색인의 비트맵 교집합으로 후보를 구함
+		if (tags != null && !tags.isEmpty() && !hasTextFilter(title, content, author)) {
+			Optional<RoaringBitmap> taggedIds = curationTagIndex.findCurationIdsHavingAllTags(tags);
+			if (taggedIds.isPresent() && (order != SearchOrder.LIKECOUNT || curationTagIndex.fitsInClause(taggedIds.get()))) {
+				return searchCurationsInIds(taggedIds.get(), order, page, size);
+			}
+		}
+
 		Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
 		if (order.equals(SearchOrder.OLDEST)) {
 				sort = Sort.by(Sort.Direction.ASC, "createdAt");
@@ -335,31 +461,324 @@ public class CurationService {
 				sort = Sort.by(Sort.Direction.DESC, "likeCount");
 		}
 		Pageable pageable = PageRequest.of(page, size, sort);
-		List<Curation> curations;
 		Page<Curation> curationPage;
 
 		if (tags == null || tags.isEmpty()) {
 			// 태그가 없을 경우 필터 없이 검색
 			curationPage = curationRepository.searchByFiltersWithoutTags(tags, title, content, author, pageable);
-			curations = curationPage.getContent().stream()
-				.map(curation -> {
-					String redisKey = "curation_like:" + curation.getId();
-					curation.setLikeCount(redisTemplate.opsForSet().size(redisKey));
-					return curation;
-				}).collect(Collectors.toList());
 		} else {
 			// 태그가 있을 경우 태그 필터 적용
 			curationPage = curationRepository.searchByFilters(tags, tags.size(), title, content, author, pageable);
-				curations = curationPage.getContent().stream()
-				.map(curation -> {
-					String redisKey = "curation_like:" + curation.getId();
-					curation.setLikeCount(redisTemplate.opsForSet().size(redisKey));
-					return curation;
-				}).collect(Collectors.toList());
 		}
 
-		return CurationSearchResDto.of(curations,curationPage.getTotalPages(), curationPage.getTotalElements(),
-			curationPage.getNumberOfElements(), curationPage.getSize());
+		return toSearchResult(curationPage);
+	}
+
+	/**
+	 * 전문 검색 색인에서 현재 페이지의 큐레이션 ID만 구해 한 번에 조회합니다.
+	 * 태그 조건은 태그 색인의 비트맵으로 색인 검색 안에서 거르고, 전체 개수는 색인의 일치 개수를 사용합니다.
+	 * 좋아요순은 DB의 좋아요 수로 정렬해야 하므로 일치하는 ID를 모두 구해 DB에서 정렬합니다.
+	 * @return 검색 결과 (태그 조건이 있는데 태그 색인이 준비되지 않았으면 빈 값)
+	 */
+	private Optional<SearchResult> searchCurationsWithIndex(List<String> tags, String title, String content,
+		String author, SearchOrder order, int page, int size) {
+		RoaringBitmap filterIds = null;
+		if (tags != null && !tags.isEmpty()) {
+			Optional<RoaringBitmap> taggedIds = curationTagIndex.findCurationIdsHavingAllTags(tags);
+			if (taggedIds.isEmpty()) {
+				return Optional.empty();
+			}
+			filterIds = taggedIds.get();
+		}
+		if (order == SearchOrder.LIKECOUNT) {
+			return Optional.of(searchCurationsInIds(curationSearchIndex.searchIds(title, content, author, filterIds),
+				order, page, size));
+		}
+
+		CurationSearchIndex.Hits hits = curationSearchIndex.search(title, content, author, filterIds, order,
+			page * size, size);
+		List<Curation> pageContent = findInIndexOrder(hits.ids());
+		return Optional.of(toSearchResult(new PageImpl<>(pageContent, PageRequest.of(page, size),
+			hits.totalHits() - (hits.ids().size() - pageContent.size()))));
+	}
+
+	/**
+	 * 커서 기반으로 큐레이션을 검색합니다.
+	 * OFFSET 없이 커서의 (정렬 값, ID) 다음부터 조회하므로 뒤쪽 페이지도 첫 페이지와 같은 비용으로 읽습니다.
+	 * 전체 개수는 includeTotal이 true일 때만 계산합니다.
+	 * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+	 * @param size 페이지 크기
+	 * @param includeTotal 전체 개수 포함 여부
+	 * @return 검색된 큐레이션 목록과 다음 페이지 커서
+	 */
+	public CurationSearchResDto searchCurationsByCursor(List<String> tags, String title, String content,
+		String author, SearchOrder order, String cursor, int size, boolean includeTotal) {
+		CurationCursor after = StringUtils.hasText(cursor) ? CurationCursor.decode(cursor.trim(), order) : null;
+		CurationSearchCache.Key key = CurationSearchCache.Key.ofCursor(tags, title, content, author, order, cursor,
+			size, includeTotal);
+		return cachedSearch(key, () -> findCurationsByCursor(key.tags(), key.title(), key.content(), key.author(),
+			order, after, size, includeTotal));
+	}
+
+	private SearchResult findCurationsByCursor(List<String> tags, String title, String content, String author,
+		SearchOrder order, CurationCursor after, int size, boolean includeTotal) {
+		if (hasTextFilter(title, content, author) && curationSearchIndex.isReady()) {
+			try {
+				Optional<SearchResult> indexed = searchCurationsWithIndexByCursor(tags, title, content, author, order,
+					after, size, includeTotal);
+				if (indexed.isPresent()) {
+					return indexed.get();
+				}
+			} catch (UncheckedIOException e) {
+				log.warn("큐레이션 전문 검색에 실패해 DB 검색으로 대체합니다.", e);
+			}
+		}
+
+		if (tags != null && !tags.isEmpty() && !hasTextFilter(title, content, author)) {
+			Optional<RoaringBitmap> taggedIds = curationTagIndex.findCurationIdsHavingAllTags(tags);
+			if (taggedIds.isPresent() && (order != SearchOrder.LIKECOUNT || curationTagIndex.fitsInClause(taggedIds.get()))) {
+				return searchCurationsInIdsByCursor(taggedIds.get(), order, after, size, includeTotal);
+			}
+		}
+
+		// 정렬 기준에 해당하는 커서 값만 채움
+		LocalDateTime beforeCreatedAt = null;
+		LocalDateTime afterCreatedAt = null;
+		Long beforeLikeCount = null;
+		Sort sort = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+		if (order == SearchOrder.OLDEST) {
+			sort = Sort.by(Sort.Direction.ASC, "createdAt", "id");
+			afterCreatedAt = after == null ? null : after.createdAt();
+		} else if (order == SearchOrder.LIKECOUNT) {
+			sort = Sort.by(Sort.Direction.DESC, "likeCount", "id");
+			beforeLikeCount = after == null ? null : after.likeCount();
+		} else {
+			beforeCreatedAt = after == null ? null : after.createdAt();
+		}
+		Long cursorId = after == null ? null : after.id();
+		Pageable limit = PageRequest.of(0, size + 1, sort);
+
+		List<Curation> fetched;
+		Long totalElements = null;
+		if (tags == null || tags.isEmpty()) {
+			fetched = curationRepository.searchByFiltersAfterCursor(title, content, author,
+				beforeCreatedAt, afterCreatedAt, beforeLikeCount, cursorId, limit);
+			if (includeTotal) {
+				totalElements = curationRepository.countByFilters(title, content, author);
+			}
+		} else {
+			fetched = curationRepository.searchByTagsAfterCursor(tags, tags.size(), title, content, author,
+				beforeCreatedAt, afterCreatedAt, beforeLikeCount, cursorId, limit);
+			if (includeTotal) {
+				totalElements = curationRepository.countByTags(tags, tags.size(), title, content, author);
+			}
+		}
+		return toCursorResult(fetched, order, size, totalElements);
+	}
+
+	/**
+	 * 전문 검색 색인의 정렬 결과에서 커서 다음 위치부터 조회합니다.
+	 * 좋아요순은 일치하는 ID 안에서 (좋아요 수, ID) 커서로 조회하고, 그 외에는 색인에서 커서의 정렬 값 다음부터 읽습니다.
+	 * @return 검색 결과 (태그 조건이 있는데 태그 색인이 준비되지 않았으면 빈 값)
+	 */
+	private Optional<SearchResult> searchCurationsWithIndexByCursor(List<String> tags, String title, String content,
+		String author, SearchOrder order, CurationCursor after, int size, boolean includeTotal) {
+		RoaringBitmap filterIds = null;
+		if (tags != null && !tags.isEmpty()) {
+			Optional<RoaringBitmap> taggedIds = curationTagIndex.findCurationIdsHavingAllTags(tags);
+			if (taggedIds.isEmpty()) {
+				return Optional.empty();
+			}
+			filterIds = taggedIds.get();
+		}
+		if (order == SearchOrder.LIKECOUNT) {
+			return Optional.of(searchCurationsInIdsByCursor(
+				curationSearchIndex.searchIds(title, content, author, filterIds), order, after, size, includeTotal));
+		}
+
+		CurationSearchIndex.Hits hits = curationSearchIndex.searchAfter(title, content, author, filterIds, order,
+				after, size + 1, includeTotal)
+			// 관련도순 커서의 큐레이션이 삭제되었거나 더 이상 검색 결과에 없음
+			.orElseThrow(() -> new ServiceException("400-1", "만료된 커서입니다. 처음부터 다시 조회해 주세요."));
+		return Optional.of(toCursorResult(findInIndexOrder(hits.ids()), order, size,
+			includeTotal ? hits.totalHits() : null));
+	}
+
+	/**
+	 * 페이지 크기보다 하나 더 조회한 결과로 다음 페이지 존재 여부를 판단하고 응답을 만듭니다.
+	 * 커서는 Redis 좋아요 수로 덮어쓰기 전의 DB 값으로 만들어야 다음 조회 조건과 어긋나지 않습니다.
+	 */
+	private SearchResult toCursorResult(List<Curation> fetched, SearchOrder order, int size, Long totalElements) {
+		boolean hasNext = fetched.size() > size;
+		List<Curation> content = hasNext ? fetched.subList(0, size) : fetched;
+		String nextCursor = hasNext ? CurationCursor.of(order, content.get(content.size() - 1)).encode() : null;
+		return new SearchResult(content, null, totalElements, size, nextCursor, true);
+	}
+
+	private SearchResult toSearchResult(Page<Curation> curationPage) {
+		return new SearchResult(curationPage.getContent(), curationPage.getTotalPages(),
+			curationPage.getTotalElements(), curationPage.getSize(), null, false);
+	}
+
+	/**
+	 * 검색 결과 캐시에서 큐레이션 ID를 찾아 한 번에 조회하고, 없으면 검색해 ID만 캐시에 저장합니다.
+	 * 이번 요청에서 검색했다면 이미 조회한 큐레이션을 그대로 사용합니다.
+	 * 좋아요 수와 좋아요 여부는 캐시 여부와 관계없이 매번 Redis에서 채웁니다.
+	 */
+	private CurationSearchResDto cachedSearch(CurationSearchCache.Key key, Supplier<SearchResult> search) {
+		List<SearchResult> loaded = new ArrayList<>(1);
+		CurationSearchCache.Entry entry = curationSearchCache.get(key, () -> {
+			SearchResult result = search.get();
+			loaded.add(result);
+			return result.toCacheEntry();
+		});
+
+		SearchResult result = loaded.isEmpty()
+			? new SearchResult(entry.ids().isEmpty() ? List.of() : findInIndexOrder(entry.ids()), entry.totalPages(),
+				entry.totalElements(), entry.size(), entry.nextCursor(), key.cursor() != null)
+			: loaded.get(0);
+		return toResDto(result);
+	}
+
+	private CurationSearchResDto toResDto(SearchResult result) {
+		List<Curation> curations = result.curations();
+		curationListReader.initialize(curations);
+		Set<Long> likedIds = hydrateLikes(curations);
+		if (result.cursorMode()) {
+			return CurationSearchResDto.ofCursor(curations, likedIds, result.size(), result.nextCursor(),
+				result.totalElements());
+		}
+		return CurationSearchResDto.of(curations, likedIds, result.totalPages(), result.totalElements(),
+			curations.size(), result.size());
+	}
+
+	/**
+	 * 주어진 ID의 큐레이션을 한 번에 조회해 ID 순서대로 반환합니다.
+	 * 색인에는 남아 있지만 DB에서 삭제된 큐레이션은 결과에서 빼고 전문 검색·태그 색인에서도 지웁니다.
+	 */
+	private List<Curation> findInIndexOrder(List<Long> ids) {
+		Map<Long, Curation> curationsById = curationRepository.findWithMemberByIdIn(ids).stream()
+			.collect(Collectors.toMap(Curation::getId, Function.identity()));
+
+		List<Long> deletedIds = ids.stream().filter(id -> !curationsById.containsKey(id)).toList();
+		curationSearchIndex.delete(deletedIds);
+		curationTagIndex.delete(deletedIds);
+
+		return ids.stream()
+			.map(curationsById::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	/**
+	 * 태그 색인이나 전문 검색 색인으로 구한 큐레이션 ID 중 현재 페이지만 조회합니다.
+	 * 큐레이션 ID는 작성 순서대로 증가하므로 최신순·오래된순은 비트맵의 ID 순서를 그대로 쓰고,
+	 * 좋아요순은 후보가 IN 조건 상한 이하이면 DB에서 정렬하고, 넘으면 좋아요순으로 나눠 읽으며 후보만 고릅니다.
+	 */
+	private SearchResult searchCurationsInIds(RoaringBitmap ids, SearchOrder order, int page, int size) {
+		long total = ids.getLongCardinality();
+		Pageable pageable = PageRequest.of(page, size);
+		List<Curation> content;
+		if (total == 0) {
+			content = List.of();
+		} else if (order == SearchOrder.LIKECOUNT && curationTagIndex.fitsInClause(ids)) {
+			content = curationRepository.findAllByIdIn(CurationTagIndex.slice(ids, false, 0, (int)total),
+				PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "likeCount", "id")));
+		} else if (order == SearchOrder.LIKECOUNT) {
+			content = scanByLikeCount(ids, null, (long)page * size, size);
+		} else {
+			List<Long> pageIds = CurationTagIndex.slice(ids, order != SearchOrder.OLDEST, (long)page * size, size);
+			content = findInIndexOrder(pageIds);
+			total -= pageIds.size() - content.size();
+		}
+
+		return toSearchResult(new PageImpl<>(content, pageable, total));
+	}
+
+	/**
+	 * 태그 색인이나 전문 검색 색인으로 구한 큐레이션 ID에서 커서 다음 위치부터 조회합니다.
+	 * 최신순·오래된순은 커서의 ID를 기준으로 비트맵에서 바로 다음 ID를 찾습니다.
+	 */
+	private SearchResult searchCurationsInIdsByCursor(RoaringBitmap ids, SearchOrder order, CurationCursor after,
+		int size, boolean includeTotal) {
+		long total = ids.getLongCardinality();
+		Long totalElements = includeTotal ? total : null;
+		if (total == 0) {
+			return toCursorResult(List.of(), order, size, totalElements);
+		}
+		if (order == SearchOrder.LIKECOUNT && curationTagIndex.fitsInClause(ids)) {
+			List<Curation> fetched = curationRepository.findByIdInAfterLikeCursor(
+				CurationTagIndex.slice(ids, false, 0, (int)total),
+				after == null ? null : after.likeCount(), after == null ? null : after.id(),
+				PageRequest.of(0, size + 1));
+			return toCursorResult(fetched, order, size, totalElements);
+		}
+		if (order == SearchOrder.LIKECOUNT) {
+			return toCursorResult(scanByLikeCount(ids, after, 0, size + 1), order, size, totalElements);
+		}
+		List<Long> sliceIds = CurationTagIndex.sliceAfter(ids, order != SearchOrder.OLDEST,
+			after == null ? null : after.id(), size + 1);
+		return toCursorResult(findInIndexOrder(sliceIds), order, size, totalElements);
+	}
+
+	/**
+	 * 후보가 IN 조건 상한보다 많은 좋아요순 조회는 (좋아요 수, ID) 순서로 ID를 나눠 읽으며 후보에 속한 큐레이션만 고릅니다.
+	 * 본문을 LIKE로 비교하지 않고 좋아요 수 인덱스만 읽으며, 후보가 많을수록 앞쪽 배치에서 채워집니다.
+	 * @param after 이 커서 다음부터 읽음 (선택적)
+	 * @param skip 건너뛸 후보 수
+	 * @param limit 고를 후보 수
+	 */
+	private List<Curation> scanByLikeCount(RoaringBitmap ids, CurationCursor after, long skip, int limit) {
+		List<Long> pageIds = new ArrayList<>(limit);
+		Long beforeLikeCount = after == null ? null : after.likeCount();
+		Long cursorId = after == null ? null : after.id();
+		long skipped = 0;
+		while (pageIds.size() < limit) {
+			List<Object[]> batch = curationRepository.findLikeCountsAfterCursor(beforeLikeCount, cursorId,
+				PageRequest.of(0, LIKE_SCAN_BATCH_SIZE));
+			for (Object[] row : batch) {
+				Long id = (Long)row[0];
+				if (!CurationTagIndex.contains(ids, id)) {
+					continue;
+				}
+				if (skipped < skip) {
+					skipped++;
+				} else if (pageIds.size() < limit) {
+					pageIds.add(id);
+				}
+			}
+			if (batch.size() < LIKE_SCAN_BATCH_SIZE) {
+				break;
+			}
+			Object[] last = batch.get(batch.size() - 1);
+			cursorId = (Long)last[0];
+			beforeLikeCount = (Long)last[1];
+		}
+		return findInIndexOrder(pageIds);
+	}
+
+	private boolean hasTextFilter(String title, String content, String author) {
+		return StringUtils.hasText(title) || StringUtils.hasText(content) || StringUtils.hasText(author);
+	}
+
+	/**
+	 * 목록 큐레이션의 좋아요 수를 Redis 값으로 덮어쓰고, 로그인 회원이 좋아요한 큐레이션 ID를 반환합니다.
+	 * 목록 전체를 한 번의 Redis 파이프라인으로 조회합니다.
+	 */
+	private Set<Long> hydrateLikes(List<Curation> curations) {
+		LikeService.LikeStates likeStates = likeService.getLikeStates(
+			curations.stream().map(Curation::getId).toList(), rq.getActorId());
+		curations.forEach(curation -> curation.setLikeCount(
+			likeStates.likeCount(curation.getId(), curation.getLikeCount())));
+		return likeStates.likedIds();
+	}
+
+	private List<CurationResDto> toResDtos(List<Curation> curations) {
+		curationListReader.initialize(curations);
+		Set<Long> likedIds = hydrateLikes(curations);
+		return curations.stream()
+			.map(curation -> new CurationResDto(curation, likedIds.contains(curation.getId())))
+			.collect(Collectors.toList());
 	}
 
 	@Transactional
@@ -371,59 +790,23 @@ public class CurationService {
 		Member member = memberRepository.findById(memberId)
 			.orElseThrow(() -> new ServiceException("404-1", "해당 멤버를 찾을 수 없습니다."));
 
-		// Redis Key 설정
-		String redisKey = "curation_like:" + curationId;
-		String value = String.valueOf(memberId);
-
-		// LUA 스크립트: 좋아요가 있으면 삭제, 없으면 추가
-		String luaScript =
-				"if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then " +
-						"   redis.call('SREM', KEYS[1], ARGV[1]); " +
-						"   return 0; " +  // 0이면 좋아요 삭제됨
-						"else " +
-						"   redis.call('SADD', KEYS[1], ARGV[1]); " +
-						"   return 1; " +  // 1이면 좋아요 추가됨
-						"end";
-
-		// LUA 스크립트 실행
-		Long result = redisTemplate.execute(
-				new DefaultRedisScript<>(luaScript, Long.class),
-				Collections.singletonList(redisKey),
-				value
+		// LUA 스크립트: 좋아요가 있으면 삭제, 없으면 추가하고 DB 동기화 대상과 이벤트 스트림에 기록
+		redisTemplate.execute(
+				LIKE_TOGGLE_SCRIPT,
+				List.of("curation_like:" + curationId, CURATION_LIKE_SYNC.dirtyKey(), LikeJournalConsumer.STREAM_KEY,
+					CurationTrendingService.currentLikeBucketKey(), RedisLikeRebuilder.toggledKey(CURATION_LIKE_SYNC)),
+				String.valueOf(memberId), String.valueOf(curationId),
+				String.valueOf(CurationTrendingService.BUCKET_TTL.toSeconds())
 		);
 	}
 
+	/**
+	 * 마지막 동기화 이후 좋아요가 바뀐 큐레이션만 좋아요 수를 DB에 반영합니다.
+	 * (좋아요 목록은 {@link LikeJournalConsumer}가 반영)
+	 */
 	@Scheduled(fixedRate = 600000) // 10분마다 실행
 	public void syncLikesToDatabase() {
-		// Redis에서 모든 큐레이션의 좋아요 개수를 가져와서 DB에 업데이트
-		Set<String> keys = redisTemplate.keys("curation_like:*");
-
-		for (String key : keys) {
-			String[] parts = key.split(":");
-			Long curationId = Long.parseLong(parts[1]);
-
-			// Like Repo에 좋아요 정보 추가
-			Set<String> memberIds = redisTemplate.opsForSet().members(key);
-			for (String memberId : memberIds) {
-				Curation curation = curationRepository.findById(curationId).get();
-				Member member = memberRepository.findByMemberId(memberId).get();
-				likeRepository.save(Like.of(curation, member));
-			}
-
-			// Redis에서 좋아요 개수 구하기
-			String redisKey = "curation_like:" + curationId;
-			Long likesCount = redisTemplate.opsForSet().size(redisKey);
-
-			if (likesCount != null) {
-				// 큐레이션을 DB에 반영
-				Optional<Curation> curationOpt = curationRepository.findById(curationId);
-				if (curationOpt.isPresent()) {
-					Curation curation = curationOpt.get();
-					curation.setLikeCount(likesCount);
-					curationRepository.save(curation);
-				}
-			}
-		}
+		redisLikeSynchronizer.sync(CURATION_LIKE_SYNC);
 	}
 
 	/**
@@ -439,15 +822,40 @@ public class CurationService {
 
 	/**
 	 * ✅ 특정 멤버가 팔로우하는 큐레이션 목록을 조회하는 메서드 추가
+	 * 팔로잉 타임라인에서 ID를 읽어 한 번에 조회하고, 타임라인 범위를 넘는 페이지만 DB에서 조회합니다.
 	 * @param member 팔로우한 멤버
 	 * @return 팔로우한 멤버의 큐레이션 목록
 	 */
 	public List<CurationResDto> getFollowingCurations(Member member, int page, int size) {
+		Optional<List<Long>> timelineIds = followingTimeline.getCurationIds(member.getId(), null, page * size, size);
+		if (timelineIds.isPresent()) {
+			return toResDtos(findTimelineCurations(timelineIds.get()));
+		}
 		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 		List<Curation> followingCurations = curationRepository.findFollowingCurations(member.getId(), pageable);
-		return followingCurations.stream()
-			.map(CurationResDto::new)
-			.collect(Collectors.toList());
+		return toResDtos(followingCurations);
+	}
+
+	/**
+	 * 팔로우한 회원의 큐레이션을 커서 기반으로 최신순 조회합니다.
+	 * @param member 팔로우한 멤버
+	 * @param cursor 이전 응답의 다음 페이지 커서 (비어 있으면 첫 페이지)
+	 * @param size 페이지 크기
+	 * @return 큐레이션 목록과 다음 페이지 커서
+	 */
+	public CurationSearchResDto getFollowingCurationsByCursor(Member member, String cursor, int size) {
+		CurationCursor after = StringUtils.hasText(cursor) ? CurationCursor.decode(cursor, SearchOrder.LATEST) : null;
+		Optional<List<Long>> timelineIds = followingTimeline.getCurationIds(member.getId(),
+			after == null ? null : after.id(), 0, size + 1);
+		List<Curation> fetched = timelineIds.isPresent()
+			? findTimelineCurations(timelineIds.get())
+			: curationRepository.findFollowingCurationsAfterCursor(member.getId(),
+			after == null ? null : after.createdAt(), after == null ? null : after.id(), PageRequest.of(0, size + 1));
+		return toResDto(toCursorResult(fetched, SearchOrder.LATEST, size, null));
+	}
+
+	private List<Curation> findTimelineCurations(List<Long> ids) {
+		return ids.isEmpty() ? List.of() : findInIndexOrder(ids);
 	}
 
 	@Transactional
@@ -474,25 +882,13 @@ public class CurationService {
 		return curationRepository.findAllByMember(member);
 	}
 
-	@Transactional(readOnly = true)
-	public TrendingCurationResDto getTrendingCuration() {// 조회수가 가장 높은 3개의 큐레이션을 가져옴
-		List<Curation> topCurations = redisTemplate.opsForZSet().reverseRange(DAY_VIEW_COUNT_KEY, 0, 2).stream()
-			.map(curationId -> curationRepository.findById(Long.parseLong(curationId))
-				.orElseGet(() -> {
-					redisTemplate.opsForZSet().remove(DAY_VIEW_COUNT_KEY, curationId);
-					return null;
-				}))
-			.filter(curation -> curation != null)
-			.map(curation -> {
-				curation.setViewCount(redisTemplate.opsForZSet().score(DAY_VIEW_COUNT_KEY, String.valueOf(curation.getId())).longValue());
-				return curation;
-			})
-			.toList();
-
-		if (topCurations.isEmpty()) {
-			return TrendingCurationResDto.of(curationRepository.findTop3ByOrderByViewCountDesc());
-		}
-		return TrendingCurationResDto.of(topCurations);
+	/**
+	 * 구간 안의 조회수와 좋아요로 매긴 트렌딩 순위 상위 큐레이션을 미리 만들어 둔 스냅샷에서 조회합니다.
+	 * @param window 집계 구간
+	 * @return 트렌딩 큐레이션 응답
+	 */
+	public TrendingCurationResDto getTrendingCuration(TrendingWindow window) {
+		return trendingCurationSnapshot.get(window);
 	}
 
 	@Transactional(readOnly = true)
@@ -500,8 +896,35 @@ public class CurationService {
 		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 		Member author = memberRepository.findByUsername(username)
 			.orElseThrow(() -> new ServiceException("404-1", "작성자가 존재하지 않습니다."));
-		return curationRepository.findAllByMember(author, pageable).stream()
-			.map(CurationResDto::new)
-			.collect(Collectors.toUnmodifiableList());
+		return Collections.unmodifiableList(toResDtos(curationRepository.findAllByMember(author, pageable)));
+	}
+
+	/**
+	 * 작성자의 큐레이션을 커서 기반으로 최신순 조회합니다.
+	 * @param username 작성자 이름
+	 * @param cursor 이전 응답의 다음 페이지 커서 (비어 있으면 첫 페이지)
+	 * @param size 페이지 크기
+	 * @return 큐레이션 목록과 다음 페이지 커서
+	 */
+	@Transactional(readOnly = true)
+	public CurationSearchResDto searchCurationByUserNameByCursor(String username, String cursor, int size) {
+		CurationCursor after = StringUtils.hasText(cursor) ? CurationCursor.decode(cursor, SearchOrder.LATEST) : null;
+		Member author = memberRepository.findByUsername(username)
+			.orElseThrow(() -> new ServiceException("404-1", "작성자가 존재하지 않습니다."));
+		List<Curation> fetched = curationRepository.findByMemberAfterCursor(author,
+			after == null ? null : after.createdAt(), after == null ? null : after.id(), PageRequest.of(0, size + 1));
+		return toResDto(toCursorResult(fetched, SearchOrder.LATEST, size, null));
+	}
+
+	/**
+	 * 검색으로 조회한 현재 페이지의 큐레이션과 페이지 정보
+	 */
+	private record SearchResult(List<Curation> curations, Integer totalPages, Long totalElements, int size,
+								String nextCursor, boolean cursorMode) {
+
+		CurationSearchCache.Entry toCacheEntry() {
+			return new CurationSearchCache.Entry(curations.stream().map(Curation::getId).toList(), totalPages,
+				totalElements, size, nextCursor);
+		}
 	}
-}
\ No newline at end of file
+}
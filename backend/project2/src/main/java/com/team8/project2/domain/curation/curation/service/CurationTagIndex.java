@@ -0,0 +1,384 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.curation.repository.CurationTagRepository;
+import com.team8.project2.domain.curation.curation.repository.CurationTagRepository.TagPosting;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 태그 이름별로 해당 태그가 달린 큐레이션 ID를 압축 비트맵(Roaring Bitmap)으로 보관하는 메모리 색인입니다.
+ * 여러 태그를 모두 가진 큐레이션은 비트맵 교집합으로 구하므로 GROUP BY / HAVING 없이 찾을 수 있습니다.
+ *
+ * 비트맵은 한 번 공개되면 수정하지 않고, 변경 묶음마다 바뀐 태그의 비트맵만 복사해 동시성 맵에서 태그별로
+ * 교체합니다(copy-on-write). 따라서 조회는 잠금 없이 수행되고 한 태그의 비트맵이 일부만 반영된 상태는 보지 않지만,
+ * 여러 태그를 함께 조회하면 묶음의 일부 태그만 교체된 상태를 잠시 볼 수 있습니다. 반환된 비트맵은 호출하는 쪽에서
+ * 수정하면 안 됩니다. 변경 시에는 큐레이션별 태그(역색인)로 그 큐레이션의 이전·새 태그만 다룹니다.
+ *
+ * 시작 시 큐레이션-태그 연결 전체로 구축하고, 같은 인스턴스의 변경은 이벤트로, 다른 인스턴스의 생성·수정은
+ * 주기적으로 수정 시각 기준으로 반영합니다. 다른 인스턴스의 삭제는 수정 시각으로 찾을 수 없으므로
+ * 주기적인 전체 재구축으로 반영합니다. 큐레이션 ID는 int 범위로 저장합니다.
+ */
+@Slf4j
+@Component
+public class CurationTagIndex {
+
+	/** 트랜잭션 커밋 지연과 서버 간 시각 차이를 고려해 동기화 기준 시각을 앞당기는 여유 시간(분) */
+	private static final long SYNC_MARGIN_MINUTES = 1;
+	/** 역색인 큐레이션 하나의 대략적인 크기 (HashMap 엔트리, Integer 키, 불변 Set, 64비트 JVM 압축 참조 기준) */
+	private static final long REVERSE_ENTRY_BYTES = 96;
+	/** 역색인 태그 참조 하나의 대략적인 크기 (불변 Set의 해시 테이블 슬롯) */
+	private static final long REVERSE_TAG_BYTES = 8;
+
+	private final CurationTagRepository curationTagRepository;
+	private final CurationRepository curationRepository;
+	private final int batchSize;
+	private final int maxInClause;
+
+	private final Object writeLock = new Object();
+	private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+	/** 재구축 중에 변경된 큐레이션 ID (교체 후 다시 반영) */
+	private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+	/** 태그별 큐레이션 ID (비트맵은 공개 후 수정하지 않음, 교체는 writeLock을 잡은 상태에서만) */
+	private volatile Map<String, RoaringBitmap> postings = new ConcurrentHashMap<>();
+	/** 큐레이션별 태그 (writeLock을 잡은 상태에서만 사용) */
+	private Map<Integer, Set<String>> tagsByCuration = new HashMap<>();
+	/** 역색인의 태그 참조 수 합계 (writeLock을 잡은 상태에서만 사용) */
+	private long reverseTagCount;
+	private volatile boolean ready;
+	private volatile LocalDateTime lastSyncedAt;
+
+	public CurationTagIndex(CurationTagRepository curationTagRepository, CurationRepository curationRepository,
+		@Value("${custom.curation.tag-index.batch-size:5000}") int batchSize,
+		@Value("${custom.curation.tag-index.max-in-clause:1000}") int maxInClause) {
+		this.curationTagRepository = curationTagRepository;
+		this.curationRepository = curationRepository;
+		this.batchSize = batchSize;
+		this.maxInClause = maxInClause;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		rebuild();
+	}
+
+	/**
+	 * 주어진 태그를 모두 가진 큐레이션 ID를 반환합니다.
+	 * @param tags 태그 이름 목록
+	 * @return 큐레이션 ID 비트맵 (색인이 준비되지 않았으면 empty, 수정 금지)
+	 */
+	public Optional<RoaringBitmap> findCurationIdsHavingAllTags(Collection<String> tags) {
+		if (!ready) {
+			return Optional.empty();
+		}
+		Map<String, RoaringBitmap> current = postings;
+		List<RoaringBitmap> bitmaps = new ArrayList<>(tags.size());
+		for (String tag : new HashSet<>(tags)) {
+			RoaringBitmap bitmap = current.get(tag);
+			if (bitmap == null) {
+				return Optional.of(new RoaringBitmap());
+			}
+			bitmaps.add(bitmap);
+		}
+		if (bitmaps.size() == 1) {
+			return Optional.of(bitmaps.get(0));
+		}
+
+		// 작은 비트맵부터 교집합을 구해 중간 결과를 최소화
+		bitmaps.sort((a, b) -> Long.compare(a.getLongCardinality(), b.getLongCardinality()));
+		RoaringBitmap result = RoaringBitmap.and(bitmaps.get(0), bitmaps.get(1));
+		for (int i = 2; i < bitmaps.size() && !result.isEmpty(); i++) {
+			result.and(bitmaps.get(i));
+		}
+		return Optional.of(result);
+	}
+
+	/**
+	 * 큐레이션들의 태그를 DB에서 다시 읽어 색인에 반영합니다. 삭제된 큐레이션은 색인에서 빠집니다.
+	 * @param curationIds 큐레이션 ID 목록
+	 */
+	public void reload(Collection<Long> curationIds) {
+		if (curationIds.isEmpty()) {
+			return;
+		}
+		Map<Long, Set<String>> changes = new HashMap<>();
+		curationIds.forEach(id -> changes.put(id, new HashSet<>()));
+		for (TagPosting posting : curationTagRepository.findPostingsByCurationIdIn(curationIds)) {
+			changes.get(posting.getCurationId()).add(posting.getTagName());
+		}
+
+		synchronized (writeLock) {
+			replaceTags(changes);
+			if (rebuilding.get()) {
+				changedDuringRebuild.addAll(curationIds);
+			}
+		}
+	}
+
+	/**
+	 * 큐레이션들을 색인에서 삭제합니다.
+	 * @param curationIds 삭제할 큐레이션 ID 목록
+	 */
+	public void delete(Collection<Long> curationIds) {
+		if (curationIds.isEmpty()) {
+			return;
+		}
+		Map<Long, Set<String>> changes = new HashMap<>();
+		curationIds.forEach(id -> changes.put(id, Set.of()));
+		synchronized (writeLock) {
+			replaceTags(changes);
+			if (rebuilding.get()) {
+				changedDuringRebuild.addAll(curationIds);
+			}
+		}
+	}
+
+	/**
+	 * 다른 인스턴스에서 삭제된 큐레이션을 반영하기 위해 주기적으로 색인을 다시 만듭니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.curation.tag-index.rebuild-interval-ms:3600000}",
+		initialDelayString = "${custom.curation.tag-index.rebuild-interval-ms:3600000}")
+	public void rebuildPeriodically() {
+		rebuild();
+	}
+
+	/**
+	 * 큐레이션-태그 연결 전체로 색인을 다시 만듭니다.
+	 * 구축 중에는 이전 색인으로 조회하며, 완료 후 한 번에 교체합니다.
+	 * @return 색인된 연결 수 (이미 재구축 중이면 -1)
+	 */
+	public long rebuild() {
+		if (!rebuilding.compareAndSet(false, true)) {
+			return -1;
+		}
+		try {
+			LocalDateTime startedAt = LocalDateTime.now();
+			Map<String, RoaringBitmap> rebuilt = new ConcurrentHashMap<>();
+			Map<Integer, Set<String>> rebuiltTags = new HashMap<>();
+			// 큐레이션별 태그가 같은 태그 이름 인스턴스를 공유하도록 맞춤
+			Map<String, String> tagNames = new HashMap<>();
+			long count = 0;
+			long lastCurationId = 0;
+			long lastTagId = 0;
+			while (true) {
+				List<TagPosting> batch = curationTagRepository.findPostingsAfter(lastCurationId, lastTagId,
+					PageRequest.of(0, batchSize));
+				if (batch.isEmpty()) {
+					break;
+				}
+				for (TagPosting posting : batch) {
+					String tagName = tagNames.computeIfAbsent(posting.getTagName(), Function.identity());
+					int indexId = toIndexId(posting.getCurationId());
+					rebuilt.computeIfAbsent(tagName, tag -> new RoaringBitmap()).add(indexId);
+					rebuiltTags.computeIfAbsent(indexId, id -> new HashSet<>()).add(tagName);
+				}
+				count += batch.size();
+				TagPosting last = batch.get(batch.size() - 1);
+				lastCurationId = last.getCurationId();
+				lastTagId = last.getTagId();
+			}
+			rebuilt.values().forEach(RoaringBitmap::runOptimize);
+			rebuiltTags.replaceAll((id, tags) -> Set.copyOf(tags));
+
+			Set<Long> changed;
+			synchronized (writeLock) {
+				postings = rebuilt;
+				tagsByCuration = rebuiltTags;
+				reverseTagCount = count;
+				lastSyncedAt = startedAt;
+				ready = true;
+				changed = new HashSet<>(changedDuringRebuild);
+				changedDuringRebuild.clear();
+				rebuilding.set(false);
+			}
+			reload(changed);
+
+			Stats stats = stats();
+			log.info("큐레이션 태그 색인 구축 완료 (태그 {}개, 연결 {}건, 비트맵 {} bytes, 역색인 약 {} bytes, "
+					+ "연결 100만 건당 {} bytes)", stats.tagCount(), stats.postings(), stats.bitmapSizeInBytes(),
+				stats.reverseIndexSizeInBytes(), stats.bytesPerMillionPostings());
+			return count;
+		} finally {
+			rebuilding.set(false);
+		}
+	}
+
+	/**
+	 * 마지막 동기화 이후 생성·수정된 큐레이션의 태그를 다시 읽습니다.
+	 * 다른 인스턴스에서 발생한 변경을 따라잡기 위해 주기적으로 실행됩니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.curation.tag-index.sync-interval-ms:60000}")
+	public void syncModified() {
+		if (!ready || rebuilding.get()) {
+			return;
+		}
+		LocalDateTime startedAt = LocalDateTime.now();
+		LocalDateTime since = lastSyncedAt.minusMinutes(SYNC_MARGIN_MINUTES);
+		long afterId = 0;
+		while (true) {
+			List<Long> ids = curationRepository.findIdsModifiedSince(since, afterId, PageRequest.of(0, batchSize));
+			if (ids.isEmpty()) {
+				break;
+			}
+			reload(ids);
+			afterId = ids.get(ids.size() - 1);
+		}
+		lastSyncedAt = startedAt;
+	}
+
+	/**
+	 * 색인 크기를 반환합니다. 역색인 크기는 엔트리 수로 추정한 대략적인 값입니다.
+	 */
+	public Stats stats() {
+		Map<String, RoaringBitmap> current = postings;
+		long postingCount = 0;
+		long bitmapSizeInBytes = 0;
+		for (RoaringBitmap bitmap : current.values()) {
+			postingCount += bitmap.getLongCardinality();
+			bitmapSizeInBytes += bitmap.getLongSizeInBytes();
+		}
+		long reverseSizeInBytes;
+		synchronized (writeLock) {
+			reverseSizeInBytes = tagsByCuration.size() * REVERSE_ENTRY_BYTES + reverseTagCount * REVERSE_TAG_BYTES;
+		}
+		long sizeInBytes = bitmapSizeInBytes + reverseSizeInBytes;
+		long bytesPerMillionPostings = postingCount == 0 ? 0 : sizeInBytes * 1_000_000 / postingCount;
+		return new Stats(current.size(), postingCount, bitmapSizeInBytes, reverseSizeInBytes, sizeInBytes,
+			bytesPerMillionPostings);
+	}
+
+	/**
+	 * ID 목록을 IN 조건으로 DB에 넘겨 정렬해도 될 만큼 작은지 반환합니다.
+	 * ID 순서가 아닌 값(좋아요 수)으로 정렬할 때만 사용하며, 너무 크면 DB 검색으로 대체해야 합니다.
+	 */
+	public boolean fitsInClause(RoaringBitmap ids) {
+		return ids.getLongCardinality() <= maxInClause;
+	}
+
+	public static boolean contains(RoaringBitmap ids, Long curationId) {
+		return curationId <= Integer.MAX_VALUE && ids.contains(curationId.intValue());
+	}
+
+	/**
+	 * ID 오름차순 비트맵에서 offset 번째부터 limit 개의 ID를 반환합니다.
+	 * @param ids 큐레이션 ID 비트맵
+	 * @param descending true면 큰 ID부터
+	 * @param offset 건너뛸 개수
+	 * @param limit 최대 개수
+	 * @return 정렬된 큐레이션 ID 목록
+	 */
+	public static List<Long> slice(RoaringBitmap ids, boolean descending, long offset, int limit) {
+		long cardinality = ids.getLongCardinality();
+		List<Long> result = new ArrayList<>(limit);
+		for (long i = offset; i < cardinality && result.size() < limit; i++) {
+			long rank = descending ? cardinality - 1 - i : i;
+			result.add(Integer.toUnsignedLong(ids.select((int)rank)));
+		}
+		return result;
+	}
+
+	/**
+	 * 비트맵에서 커서 ID 다음의 ID를 limit 개까지 반환합니다.
+	 * @param ids 큐레이션 ID 비트맵
+	 * @param descending true면 커서보다 작은 ID를 큰 것부터, false면 커서보다 큰 ID를 작은 것부터
+	 * @param cursorId 커서의 큐레이션 ID (null이면 처음부터)
+	 * @param limit 최대 개수
+	 * @return 정렬된 큐레이션 ID 목록
+	 */
+	public static List<Long> sliceAfter(RoaringBitmap ids, boolean descending, Long cursorId, int limit) {
+		if (cursorId == null) {
+			return slice(ids, descending, 0, limit);
+		}
+		long cardinality = ids.getLongCardinality();
+		// rank(x)는 x 이하인 ID 개수
+		long offset = descending
+			? cardinality - ids.rankLong(toIndexId(cursorId) - 1)
+			: ids.rankLong(toIndexId(cursorId));
+		return slice(ids, descending, offset, limit);
+	}
+
+	/**
+	 * 큐레이션들의 태그를 주어진 집합으로 바꾼다. writeLock을 잡은 상태에서 호출해야 한다.
+	 * 큐레이션별 태그로 이전·새 태그만 확인하며, 바뀐 태그의 비트맵만 묶음마다 한 번 복사해 맵에서 교체한다.
+	 */
+	private void replaceTags(Map<Long, Set<String>> changes) {
+		Map<String, RoaringBitmap> current = postings;
+		Map<String, RoaringBitmap> updated = new HashMap<>();
+		changes.forEach((curationId, tagNames) -> {
+			int indexId = toIndexId(curationId);
+			Set<String> previous = tagsByCuration.getOrDefault(indexId, Set.of());
+			for (String tagName : previous) {
+				if (!tagNames.contains(tagName)) {
+					writable(current, updated, tagName).remove(indexId);
+				}
+			}
+			for (String tagName : tagNames) {
+				if (!previous.contains(tagName)) {
+					writable(current, updated, tagName).add(indexId);
+				}
+			}
+			reverseTagCount += tagNames.size() - previous.size();
+			if (tagNames.isEmpty()) {
+				tagsByCuration.remove(indexId);
+			} else {
+				tagsByCuration.put(indexId, Set.copyOf(tagNames));
+			}
+		});
+
+		updated.forEach((tagName, bitmap) -> {
+			if (bitmap.isEmpty()) {
+				current.remove(tagName);
+			} else {
+				current.put(tagName, bitmap);
+			}
+		});
+	}
+
+	/** 이번 묶음에서 수정할 태그 비트맵의 복사본 (태그마다 한 번만 복사) */
+	private static RoaringBitmap writable(Map<String, RoaringBitmap> current, Map<String, RoaringBitmap> updated,
+		String tagName) {
+		return updated.computeIfAbsent(tagName, tag -> {
+			RoaringBitmap existing = current.get(tag);
+			return existing == null ? new RoaringBitmap() : existing.clone();
+		});
+	}
+
+	private static int toIndexId(long curationId) {
+		return Math.toIntExact(curationId);
+	}
+
+	/**
+	 * 태그 색인 크기
+	 * @param tagCount 태그 수
+	 * @param postings 큐레이션-태그 연결 수
+	 * @param bitmapSizeInBytes 비트맵 직렬화 크기 합계
+	 * @param reverseIndexSizeInBytes 큐레이션별 태그(역색인) 추정 크기
+	 * @param sizeInBytes 비트맵과 역색인 크기 합계
+	 * @param bytesPerMillionPostings 연결 100만 건당 크기
+	 */
+	public record Stats(int tagCount, long postings, long bitmapSizeInBytes, long reverseIndexSizeInBytes,
+		long sizeInBytes, long bytesPerMillionPostings) {
+	}
+}
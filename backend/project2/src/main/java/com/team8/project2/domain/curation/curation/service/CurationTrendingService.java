@@ -0,0 +1,172 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.team8.project2.domain.curation.curation.dto.TrendingWindow;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간 단위 버킷으로 큐레이션 트렌딩 순위를 계산하는 서비스입니다.
+ * 조회와 좋아요는 현재 시각의 버킷 ZSET(trending:views:{시각}, trending:likes:{시각})에 누적되고,
+ * 버킷은 가장 긴 구간(7일)이 지나면 만료됩니다.
+ *
+ * 주기적으로 구간(1시간, 24시간, 7일)마다 해당 버킷들을 ZUNIONSTORE로 합쳐 순위 ZSET(trending:{구간})을 만듭니다.
+ * 가장 오래된 버킷은 구간 밖으로 벗어난 비율만큼 가중치를 줄여 구간이 매끄럽게 이동하도록 하고,
+ * 반감기를 설정하면 오래된 버킷일수록 지수적으로 가중치를 낮춥니다. 좋아요는 조회보다 큰 가중치로 더합니다.
+ */
+@Slf4j
+@Service
+public class CurationTrendingService {
+
+	private static final String VIEW_BUCKET_KEY_PREFIX = "trending:views:";
+	private static final String LIKE_BUCKET_KEY_PREFIX = "trending:likes:";
+	private static final String RANKING_KEY_PREFIX = "trending:";
+	private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+	/** 버킷 보관 기간 (가장 긴 구간 + 여유 시간) */
+	public static final Duration BUCKET_TTL = Duration.ofHours(TrendingWindow.WEEK.getHours() + 2);
+	/** 갱신이 멈췄을 때 오래된 순위가 남지 않도록 하는 순위 보관 기간 */
+	private static final Duration RANKING_TTL = Duration.ofHours(1);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final double likeWeight;
+	private final double halfLifeHours;
+	private final int maxSize;
+	private final String tempKeySuffix = ":tmp:" + UUID.randomUUID();
+
+	public CurationTrendingService(RedisTemplate<String, String> redisTemplate,
+		@Value("${custom.curation.trending.like-weight:5}") double likeWeight,
+		@Value("${custom.curation.trending.half-life-hours:0}") double halfLifeHours,
+		@Value("${custom.curation.trending.max-size:1000}") int maxSize) {
+		this.redisTemplate = redisTemplate;
+		this.likeWeight = likeWeight;
+		this.halfLifeHours = halfLifeHours;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * 현재 시각의 조회수 버킷 키를 반환합니다.
+	 */
+	public static String currentViewBucketKey() {
+		return VIEW_BUCKET_KEY_PREFIX + currentHour(System.currentTimeMillis());
+	}
+
+	/**
+	 * 현재 시각의 좋아요 버킷 키를 반환합니다.
+	 */
+	public static String currentLikeBucketKey() {
+		return LIKE_BUCKET_KEY_PREFIX + currentHour(System.currentTimeMillis());
+	}
+
+	static String rankingKey(TrendingWindow window) {
+		return RANKING_KEY_PREFIX + window.name().toLowerCase();
+	}
+
+	private static long currentHour(long nowMillis) {
+		return nowMillis / HOUR_MILLIS;
+	}
+
+	/**
+	 * 구간의 트렌딩 순위 상위 큐레이션 ID를 조회합니다.
+	 * @param window 집계 구간
+	 * @param count 조회할 개수
+	 * @return 점수가 높은 순서의 큐레이션 ID
+	 */
+	public List<Long> getTopCurationIds(TrendingWindow window, int count) {
+		Set<String> ids = redisTemplate.opsForZSet().reverseRange(rankingKey(window), 0, count - 1);
+		if (ids == null) {
+			return List.of();
+		}
+		return ids.stream().map(Long::parseLong).toList();
+	}
+
+	/**
+	 * 삭제된 큐레이션을 모든 구간의 순위에서 제거합니다.
+	 * 버킷에 남은 기록은 다음 갱신 때 다시 합쳐지므로, 조회 시에도 존재하지 않는 큐레이션은 제외합니다.
+	 * @param curationId 큐레이션 ID
+	 */
+	public void remove(Long curationId) {
+		for (TrendingWindow window : TrendingWindow.values()) {
+			redisTemplate.opsForZSet().remove(rankingKey(window), String.valueOf(curationId));
+		}
+	}
+
+	/**
+	 * 시작 시 순위를 한 번 계산합니다. Redis에 연결할 수 없어도 시작을 막지 않고 다음 주기에 다시 계산합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		try {
+			refresh();
+		} catch (DataAccessException e) {
+			log.warn("트렌딩 순위 초기 계산 실패, 다음 주기에 다시 계산합니다.", e);
+		}
+	}
+
+	/**
+	 * 모든 구간의 순위를 다시 계산합니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.curation.trending.refresh-interval-ms:60000}",
+		initialDelayString = "${custom.curation.trending.refresh-interval-ms:60000}")
+	public void refresh() {
+		long now = System.currentTimeMillis();
+		for (TrendingWindow window : TrendingWindow.values()) {
+			refresh(window, now);
+		}
+	}
+
+	/**
+	 * 구간의 순위를 주어진 시각 기준으로 다시 계산합니다.
+	 * @param window 집계 구간
+	 * @param nowMillis 기준 시각 (epoch 밀리초)
+	 */
+	public void refresh(TrendingWindow window, long nowMillis) {
+		List<String> keys = new ArrayList<>();
+		List<Double> weights = new ArrayList<>();
+		long hour = currentHour(nowMillis);
+		double elapsedInHour = (double)(nowMillis % HOUR_MILLIS) / HOUR_MILLIS;
+		for (int age = 0; age <= window.getHours(); age++) {
+			// 가장 오래된 버킷은 구간 안에 남은 비율만큼만 반영
+			double weight = age == window.getHours() ? 1 - elapsedInHour : 1;
+			if (halfLifeHours > 0) {
+				weight *= Math.pow(0.5, age / halfLifeHours);
+			}
+			if (weight <= 0) {
+				continue;
+			}
+			keys.add(VIEW_BUCKET_KEY_PREFIX + (hour - age));
+			weights.add(weight);
+			keys.add(LIKE_BUCKET_KEY_PREFIX + (hour - age));
+			weights.add(weight * likeWeight);
+		}
+
+		String rankingKey = rankingKey(window);
+		String tempKey = rankingKey + tempKeySuffix;
+		Long size = redisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), tempKey,
+			Aggregate.SUM, Weights.of(weights.stream().mapToDouble(Double::doubleValue).toArray()));
+		if (size == null || size == 0) {
+			redisTemplate.delete(rankingKey);
+			return;
+		}
+		if (size > maxSize) {
+			redisTemplate.opsForZSet().removeRange(tempKey, 0, size - maxSize - 1);
+		}
+		redisTemplate.rename(tempKey, rankingKey);
+		redisTemplate.expire(rankingKey, RANKING_TTL);
+	}
+}
@@ -0,0 +1,174 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 큐레이션 조회수를 메모리에 모아 두었다가 일괄 반영하는 write-behind 버퍼입니다.
+ * 조회마다 별도 트랜잭션으로 엔티티 전체를 저장하던 방식을 대체하며,
+ * 스레드별로 나뉜 스트라이프에 증가분만 누적한 뒤 스케줄러가
+ * {@code UPDATE ... SET viewCount = viewCount + ?} 배치로 반영합니다.
+ */
+@Slf4j
+@Component
+public class CurationViewCountBuffer {
+
+	private static final String FLUSH_SQL = "UPDATE curation SET view_count = view_count + ? WHERE curation_id = ?";
+	private static final int STRIPE_COUNT = 16; // 2의 거듭제곱이어야 함
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final long maxLagMillis;
+	private final long maxPending;
+	private final boolean drainOnShutdown;
+
+	@SuppressWarnings("unchecked")
+	private final ConcurrentHashMap<Long, Long>[] stripes = new ConcurrentHashMap[STRIPE_COUNT];
+	private final LongAdder pendingViews = new LongAdder();
+	private final AtomicLong oldestPendingAt = new AtomicLong(0L);
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	public CurationViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+		@Value("${custom.curation.view-count.max-lag-ms:5000}") long maxLagMillis,
+		@Value("${custom.curation.view-count.max-pending:1000}") long maxPending,
+		@Value("${custom.curation.view-count.drain-on-shutdown:true}") boolean drainOnShutdown) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.maxLagMillis = maxLagMillis;
+		this.maxPending = maxPending;
+		this.drainOnShutdown = drainOnShutdown;
+		for (int i = 0; i < STRIPE_COUNT; i++) {
+			stripes[i] = new ConcurrentHashMap<>();
+		}
+	}
+
+	/**
+	 * 큐레이션 조회수 증가분을 버퍼에 기록합니다.
+	 * @param curationId 조회된 큐레이션 ID
+	 */
+	public void increment(Long curationId) {
+		increment(curationId, 1L);
+	}
+
+	/**
+	 * 큐레이션 조회수 증가분을 버퍼에 기록합니다.
+	 * @param curationId 조회된 큐레이션 ID
+	 * @param count 증가분 (순 방문자 추정치의 증가분)
+	 */
+	public void increment(Long curationId, long count) {
+		stripe().merge(curationId, count, Long::sum);
+		pendingViews.add(count);
+		oldestPendingAt.compareAndSet(0L, System.currentTimeMillis());
+	}
+
+	/**
+	 * 아직 DB에 반영되지 않은 조회수 증가분을 반환합니다.
+	 * @param curationId 큐레이션 ID
+	 * @return 반영 대기 중인 조회수
+	 */
+	public long getPendingCount(Long curationId) {
+		long sum = 0;
+		for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+			sum += stripe.getOrDefault(curationId, 0L);
+		}
+		return sum;
+	}
+
+	/**
+	 * 최대 지연 시간이 지났거나 대기 중인 조회수가 임계치를 넘으면 DB에 반영합니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.curation.view-count.flush-interval-ms:1000}")
+	public void flushIfNeeded() {
+		long since = oldestPendingAt.get();
+		if (since == 0L) {
+			return;
+		}
+		if (System.currentTimeMillis() - since >= maxLagMillis || pendingViews.sum() >= maxPending) {
+			flush();
+		}
+	}
+
+	/**
+	 * 버퍼에 쌓인 조회수 증가분을 모두 DB에 반영합니다.
+	 * 반영에 실패하면 증가분을 다시 버퍼에 되돌려 다음 주기에 재시도합니다.
+	 * @return 반영된 조회수 합계
+	 */
+	public long flush() {
+		flushLock.lock();
+		try {
+			oldestPendingAt.set(0L);
+			Map<Long, Long> deltas = drainStripes();
+			if (deltas.isEmpty()) {
+				return 0L;
+			}
+
+			List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+			long total = 0L;
+			for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+				batchArgs.add(new Object[] {entry.getValue(), entry.getKey()});
+				total += entry.getValue();
+			}
+			pendingViews.add(-total);
+
+			try {
+				transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+			} catch (RuntimeException e) {
+				log.warn("조회수 일괄 반영 실패, 다음 주기에 재시도합니다. (큐레이션 {}건)", deltas.size(), e);
+				deltas.forEach((curationId, delta) -> {
+					stripe().merge(curationId, delta, Long::sum);
+					pendingViews.add(delta);
+				});
+				oldestPendingAt.compareAndSet(0L, System.currentTimeMillis());
+				return 0L;
+			}
+			return total;
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * 애플리케이션 종료 시 남은 조회수를 반영합니다.
+	 */
+	@PreDestroy
+	public void drain() {
+		if (drainOnShutdown) {
+			long flushed = flush();
+			log.info("종료 전 조회수 {}건을 반영했습니다.", flushed);
+		}
+	}
+
+	private Map<Long, Long> drainStripes() {
+		Map<Long, Long> deltas = new HashMap<>();
+		for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+			for (Long curationId : stripe.keySet()) {
+				// remove는 키 단위로 원자적이므로 동시에 들어온 증가분은 유실되지 않고 다음 주기로 넘어간다
+				Long delta = stripe.remove(curationId);
+				if (delta != null) {
+					deltas.merge(curationId, delta, Long::sum);
+				}
+			}
+		}
+		return deltas;
+	}
+
+	private ConcurrentHashMap<Long, Long> stripe() {
+		return stripes[(int)(Thread.currentThread().threadId() & (STRIPE_COUNT - 1))];
+	}
+}
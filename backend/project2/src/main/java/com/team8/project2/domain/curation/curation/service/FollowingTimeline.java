@@ -0,0 +1,240 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.member.repository.FollowRepository;
+
+/**
+ * 팔로우한 회원의 큐레이션 피드를 회원별 타임라인(Redis ZSET, 점수와 값 모두 큐레이션 ID)으로 관리합니다.
+ * 큐레이션 ID는 작성 순서대로 증가하므로 ID 역순이 최신순입니다.
+ *
+ * 큐레이션이 생성되면 작성자의 팔로워 타임라인에 ID를 추가하고 최대 길이를 넘는 오래된 ID는 잘라냅니다(쓰기 시점 배포).
+ * 팔로워가 기준보다 많은 작성자는 쓰기 시점에 배포하지 않고 작성자 타임라인에만 기록한 뒤,
+ * 피드 조회 시 팔로워의 타임라인과 합칩니다(읽기 시점 병합).
+ *
+ * 타임라인은 조회될 때마다 만료 시간이 늘어나므로 활동하지 않는 회원의 타임라인은 만료되고,
+ * 배포는 이미 있는 타임라인에만 하므로 만료된 회원에게는 쓰지 않습니다.
+ * 없는 타임라인과 팔로우가 바뀐 회원의 타임라인은 다음 조회 시 DB에서 다시 만듭니다.
+ * DB에서 읽은 뒤 저장하기 전에 커밋된 큐레이션은 배포 시 타임라인이 없어 건너뛰므로,
+ * 저장한 뒤 읽은 가장 최신 ID보다 새로운 큐레이션을 한 번 더 읽어 추가합니다.
+ * 요청한 범위가 타임라인 최대 길이를 넘으면 호출자가 DB에서 조회하도록 빈 값을 반환합니다.
+ */
+@Component
+public class FollowingTimeline {
+
+	private static final String TIMELINE_KEY_PREFIX = "timeline:";
+	private static final String AUTHOR_TIMELINE_KEY_PREFIX = "timeline:author:";
+	/** 쓰기 시점에 배포하지 않는 작성자 ID (한 번 넘으면 팔로워가 줄어도 유지) */
+	static final String FAN_OUT_ON_READ_AUTHORS_KEY = "timeline:fan-out-on-read";
+	/** 한 번의 스크립트 실행으로 배포할 타임라인 수 */
+	private static final int FAN_OUT_CHUNK_SIZE = 500;
+
+	/**
+	 * 이미 있는 타임라인에만 큐레이션 ID를 추가하고 최대 길이로 자르는 스크립트
+	 * KEYS: 타임라인
+	 * ARGV: 큐레이션 ID, 최대 길이
+	 */
+	private static final DefaultRedisScript<Long> FAN_OUT_SCRIPT = new DefaultRedisScript<>(
+		"for _, key in ipairs(KEYS) do " +
+			"   if redis.call('EXISTS', key) == 1 then " +
+			"      redis.call('ZADD', key, ARGV[1], ARGV[1]) " +
+			"      redis.call('ZREMRANGEBYRANK', key, 0, -tonumber(ARGV[2]) - 1) " +
+			"   end " +
+			"end " +
+			"return 0",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final FollowRepository followRepository;
+	private final CurationRepository curationRepository;
+	private final int maxSize;
+	private final int fanOutLimit;
+	private final Duration ttl;
+
+	public FollowingTimeline(RedisTemplate<String, String> redisTemplate, FollowRepository followRepository,
+		CurationRepository curationRepository,
+		@Value("${custom.curation.timeline.max-size:800}") int maxSize,
+		@Value("${custom.curation.timeline.fan-out-limit:10000}") int fanOutLimit,
+		@Value("${custom.curation.timeline.ttl-seconds:604800}") long ttlSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.followRepository = followRepository;
+		this.curationRepository = curationRepository;
+		this.maxSize = maxSize;
+		this.fanOutLimit = fanOutLimit;
+		this.ttl = Duration.ofSeconds(ttlSeconds);
+	}
+
+	/**
+	 * 생성된 큐레이션을 작성자 타임라인과 팔로워 타임라인에 추가합니다.
+	 * 팔로워가 기준보다 많으면 작성자 타임라인에만 추가하고 읽기 시점 병합 대상으로 표시합니다.
+	 * @param curationId 생성된 큐레이션 ID
+	 * @param authorId 작성자 ID
+	 */
+	public void fanOut(Long curationId, Long authorId) {
+		List<String> keys = new ArrayList<>();
+		keys.add(authorTimelineKey(authorId));
+
+		boolean fanOutOnRead = Boolean.TRUE.equals(
+			redisTemplate.opsForSet().isMember(FAN_OUT_ON_READ_AUTHORS_KEY, authorId.toString()));
+		if (!fanOutOnRead) {
+			List<Long> followerIds = followRepository.findFollowerIds(authorId, PageRequest.of(0, fanOutLimit + 1));
+			if (followerIds.size() > fanOutLimit) {
+				redisTemplate.opsForSet().add(FAN_OUT_ON_READ_AUTHORS_KEY, authorId.toString());
+			} else {
+				followerIds.forEach(followerId -> keys.add(timelineKey(followerId)));
+			}
+		}
+
+		for (int from = 0; from < keys.size(); from += FAN_OUT_CHUNK_SIZE) {
+			redisTemplate.execute(FAN_OUT_SCRIPT, keys.subList(from, Math.min(from + FAN_OUT_CHUNK_SIZE, keys.size())),
+				curationId.toString(), String.valueOf(maxSize));
+		}
+	}
+
+	/**
+	 * 팔로우가 바뀐 회원의 타임라인을 지워 다음 조회 시 DB에서 다시 만들도록 합니다.
+	 * @param followerId 팔로워 회원 ID
+	 */
+	public void invalidate(Long followerId) {
+		redisTemplate.delete(timelineKey(followerId));
+	}
+
+	/**
+	 * 팔로우한 회원의 큐레이션 ID를 최신순으로 조회합니다.
+	 * @param followerId 팔로워 회원 ID
+	 * @param beforeId 이 ID보다 오래된 큐레이션만 조회 (null이면 처음부터)
+	 * @param offset 건너뛸 개수
+	 * @param limit 조회할 개수
+	 * @return 큐레이션 ID 목록 (타임라인으로 응답할 수 없는 범위면 빈 값)
+	 */
+	public Optional<List<Long>> getCurationIds(Long followerId, Long beforeId, int offset, int limit) {
+		int needed = offset + limit;
+		if (needed > maxSize) {
+			return Optional.empty();
+		}
+		List<Long> followeeIds = followRepository.findFolloweeIds(followerId);
+		if (followeeIds.isEmpty()) {
+			return Optional.of(List.of());
+		}
+
+		List<Source> sources = new ArrayList<>();
+		sources.add(new Source(timelineKey(followerId),
+			afterId -> curationRepository.findFollowingCurationIds(followerId, afterId, PageRequest.of(0, maxSize))));
+		Map<Object, Boolean> fanOutOnRead = redisTemplate.opsForSet()
+			.isMember(FAN_OUT_ON_READ_AUTHORS_KEY, followeeIds.stream().map(String::valueOf).toArray());
+		followeeIds.stream()
+			.filter(followeeId -> Boolean.TRUE.equals(fanOutOnRead.get(followeeId.toString())))
+			.forEach(followeeId -> sources.add(new Source(authorTimelineKey(followeeId),
+				afterId -> curationRepository.findIdsByMemberId(followeeId, afterId, PageRequest.of(0, maxSize)))));
+
+		double max = beforeId == null ? Double.POSITIVE_INFINITY : beforeId - 1;
+		List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+				ZSetOperations<String, String> zSetOperations = ops.opsForZSet();
+				for (Source source : sources) {
+					zSetOperations.reverseRangeByScore(source.key(), Double.NEGATIVE_INFINITY, max, 0, needed);
+					zSetOperations.zCard(source.key());
+					ops.expire(source.key(), ttl);
+				}
+				return null;
+			}
+		});
+
+		TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+		for (int i = 0; i < sources.size(); i++) {
+			Source source = sources.get(i);
+			@SuppressWarnings("unchecked")
+			Set<String> ids = (Set<String>)results.get(i * 3);
+			Long size = (Long)results.get(i * 3 + 1);
+
+			List<Long> sourceIds;
+			if (size == null || size == 0) {
+				List<Long> loaded = load(source);
+				sourceIds = loaded.stream().filter(id -> id <= max).limit(needed).toList();
+				size = (long)loaded.size();
+			} else {
+				sourceIds = ids == null ? List.of() : ids.stream().map(Long::valueOf).toList();
+			}
+			// 잘린 타임라인에서 요청 범위를 다 채우지 못하면 더 오래된 큐레이션이 빠졌을 수 있음
+			if (sourceIds.size() < needed && size >= maxSize) {
+				return Optional.empty();
+			}
+			merged.addAll(sourceIds);
+		}
+		return Optional.of(merged.stream().skip(offset).limit(limit).toList());
+	}
+
+	/**
+	 * DB에서 타임라인을 다시 만들어 저장하고, 저장 전에 커밋되어 배포되지 못한 큐레이션을 이어서 추가합니다.
+	 * @return 최신순 큐레이션 ID 목록
+	 */
+	private List<Long> load(Source source) {
+		List<Long> loaded = source.loader().apply(0L);
+		if (loaded.isEmpty()) {
+			return loaded;
+		}
+		store(source.key(), loaded);
+		// 읽은 뒤 저장 전에 배포된 큐레이션은 타임라인이 없어 건너뛰었으므로 다시 읽음
+		List<Long> newer = source.loader().apply(loaded.get(0));
+		if (newer.isEmpty()) {
+			return loaded;
+		}
+		store(source.key(), newer);
+		List<Long> merged = new ArrayList<>(newer);
+		merged.addAll(loaded);
+		return merged;
+	}
+
+	private void store(String key, List<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+				ids.forEach(id -> ops.opsForZSet().add(key, id.toString(), id));
+				ops.opsForZSet().removeRange(key, 0, -maxSize - 1);
+				ops.expire(key, ttl);
+				return null;
+			}
+		});
+	}
+
+	private static String timelineKey(Long memberId) {
+		return TIMELINE_KEY_PREFIX + memberId;
+	}
+
+	private static String authorTimelineKey(Long authorId) {
+		return AUTHOR_TIMELINE_KEY_PREFIX + authorId;
+	}
+
+	/**
+	 * @param key 타임라인 키
+	 * @param loader 타임라인이 없을 때 DB에서 주어진 ID보다 새로운 큐레이션 ID를 최신순으로 읽는 함수
+	 */
+	private record Source(String key, Function<Long, List<Long>> loader) {
+	}
+}
@@ -0,0 +1,185 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.domain.curation.curation.dto.TrendingCurationResDto;
+import com.team8.project2.domain.curation.curation.dto.TrendingWindow;
+import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.like.service.LikeService;
+import com.team8.project2.global.exception.ServiceException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구간별 트렌딩 큐레이션 응답을 미리 만들어 메모리에 두고, 요청은 DB·Redis 조회 없이 스냅샷으로 응답합니다.
+ *
+ * 주기적으로 구간마다 순위 상위 ID를 읽고, 모든 구간의 큐레이션을 작성자와 함께 한 번에 조회하고,
+ * 좋아요 수를 한 번의 파이프라인으로 읽어 응답을 만든 뒤 통째로 교체합니다.
+ * 트렌딩 기록이 없는 구간은 조회수 상위 큐레이션으로 채웁니다.
+ * 스냅샷이 최대 허용 나이보다 오래되면(갱신이 실패하고 있으면) 요청 스레드 하나가 직접 다시 만들고,
+ * 나머지 요청은 그동안 기존 스냅샷으로 응답합니다.
+ */
+@Slf4j
+@Component
+public class TrendingCurationSnapshot {
+
+	private final CurationTrendingService curationTrendingService;
+	private final CurationRepository curationRepository;
+	private final LikeService likeService;
+	private final int size;
+	private final long maxStalenessMillis;
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+	private final ReentrantLock rebuildLock = new ReentrantLock();
+
+	public TrendingCurationSnapshot(CurationTrendingService curationTrendingService,
+		CurationRepository curationRepository, LikeService likeService, MeterRegistry meterRegistry,
+		@Value("${custom.curation.trending.snapshot-size:3}") int size,
+		@Value("${custom.curation.trending.snapshot-max-staleness-ms:60000}") long maxStalenessMillis) {
+		this.curationTrendingService = curationTrendingService;
+		this.curationRepository = curationRepository;
+		this.likeService = likeService;
+		this.size = size;
+		this.maxStalenessMillis = maxStalenessMillis;
+
+		Gauge.builder("curation.trending.snapshot.age.seconds", this, TrendingCurationSnapshot::ageSeconds)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 구간의 트렌딩 큐레이션 응답을 반환합니다.
+	 * @param window 집계 구간
+	 * @return 트렌딩 큐레이션 응답
+	 */
+	public TrendingCurationResDto get(TrendingWindow window) {
+		Snapshot current = snapshot.get();
+		if (current == null || System.currentTimeMillis() - current.builtAt() > maxStalenessMillis) {
+			current = rebuildIfIdle(current);
+		}
+		return current.curations().get(window);
+	}
+
+	/**
+	 * 삭제된 큐레이션을 스냅샷에서 뺍니다.
+	 * @param curationId 삭제된 큐레이션 ID
+	 */
+	public void evict(Long curationId) {
+		snapshot.updateAndGet(current -> {
+			if (current == null) {
+				return null;
+			}
+			Map<TrendingWindow, TrendingCurationResDto> curations = new EnumMap<>(TrendingWindow.class);
+			current.curations().forEach((window, dto) -> curations.put(window, dto.without(curationId)));
+			return new Snapshot(curations, current.builtAt());
+		});
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		rebuild();
+	}
+
+	@Scheduled(fixedDelayString = "${custom.curation.trending.snapshot-interval-ms:10000}",
+		initialDelayString = "${custom.curation.trending.snapshot-interval-ms:10000}")
+	public void rebuild() {
+		rebuildLock.lock();
+		try {
+			snapshot.set(build());
+		} catch (RuntimeException e) {
+			log.warn("트렌딩 큐레이션 스냅샷 갱신 실패", e);
+		} finally {
+			rebuildLock.unlock();
+		}
+	}
+
+	/**
+	 * 다른 스레드가 갱신 중이 아니면 직접 갱신합니다. 갱신 중이면 기존 스냅샷을 반환하고,
+	 * 아직 스냅샷이 없으면 갱신이 끝날 때까지 기다립니다.
+	 */
+	private Snapshot rebuildIfIdle(Snapshot current) {
+		if (current == null) {
+			rebuild();
+		} else if (rebuildLock.tryLock()) {
+			try {
+				rebuild();
+			} finally {
+				rebuildLock.unlock();
+			}
+		} else {
+			return current;
+		}
+
+		Snapshot rebuilt = snapshot.get();
+		if (rebuilt == null) {
+			throw new ServiceException("500-1", "트렌딩 큐레이션을 조회할 수 없습니다.");
+		}
+		return rebuilt;
+	}
+
+	private Snapshot build() {
+		Map<TrendingWindow, List<Long>> idsByWindow = new EnumMap<>(TrendingWindow.class);
+		List<Long> mostViewedIds = null;
+		for (TrendingWindow window : TrendingWindow.values()) {
+			List<Long> ids = curationTrendingService.getTopCurationIds(window, size);
+			if (ids.isEmpty()) {
+				if (mostViewedIds == null) {
+					mostViewedIds = curationRepository.findIdsOrderByViewCountDesc(PageRequest.of(0, size));
+				}
+				ids = mostViewedIds;
+			}
+			idsByWindow.put(window, ids);
+		}
+
+		Set<Long> allIds = new LinkedHashSet<>();
+		idsByWindow.values().forEach(allIds::addAll);
+		Map<Long, Curation> curationsById = allIds.isEmpty() ? Map.of()
+			: curationRepository.findWithMemberByIdIn(allIds).stream()
+			.collect(Collectors.toMap(Curation::getId, Function.identity()));
+		allIds.stream()
+			.filter(id -> !curationsById.containsKey(id))
+			.forEach(curationTrendingService::remove);
+
+		// 공개 캐시되는 응답이므로 회원별 좋아요 여부 없이 좋아요 수만 반영
+		LikeService.LikeStates likeStates = likeService.getLikeStates(curationsById.keySet(), null);
+		curationsById.values().forEach(curation -> curation.setLikeCount(
+			likeStates.likeCount(curation.getId(), curation.getLikeCount())));
+
+		Map<TrendingWindow, TrendingCurationResDto> curations = new EnumMap<>(TrendingWindow.class);
+		idsByWindow.forEach((window, ids) -> curations.put(window, TrendingCurationResDto.of(ids.stream()
+			.map(curationsById::get)
+			.filter(Objects::nonNull)
+			.toList())));
+		return new Snapshot(curations, System.currentTimeMillis());
+	}
+
+	private double ageSeconds() {
+		Snapshot current = snapshot.get();
+		return current == null ? Double.NaN : (System.currentTimeMillis() - current.builtAt()) / 1000.0;
+	}
+
+	/**
+	 * @param curations 구간별 트렌딩 큐레이션 응답
+	 * @param builtAt 생성 시각 (epoch 밀리초)
+	 */
+	private record Snapshot(Map<TrendingWindow, TrendingCurationResDto> curations, long builtAt) {
+	}
+}
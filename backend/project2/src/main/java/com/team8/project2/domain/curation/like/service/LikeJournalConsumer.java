@@ -0,0 +1,313 @@
+package com.team8.project2.domain.curation.like.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 토글 이벤트 스트림(journal:curation_like)을 소비 그룹으로 읽어 likes 테이블에 반영합니다.
+ * likes 테이블의 큐레이션 좋아요 행은 이 소비자만 씁니다. (좋아요 dirty SET 동기화는 좋아요 수만 갱신)
+ * 토글 스크립트가 좋아요 SET 변경과 같은 원자 연산 안에서 (큐레이션 ID, 회원 ID, ADD/REMOVE)를 XADD하므로
+ * 스트림 순서가 곧 토글 순서이며, 이벤트 시각은 스트림 ID의 밀리초 값을 사용합니다.
+ *
+ * 여러 인스턴스가 동시에 반영하면 배치의 커밋 순서가 토글 순서와 어긋날 수 있으므로, 락을 가진 인스턴스 하나만 소비합니다.
+ * 소비자 이름은 인스턴스마다 다르며, 락을 넘겨받은 인스턴스는 먼저 다른 소비자가 반영하지 못하고 남긴 이벤트를
+ * 가져와(XCLAIM) 새 이벤트보다 먼저 처리합니다.
+ *
+ * 한 번에 읽은 이벤트는 (큐레이션, 회원)별 마지막 연산만 남겨 삭제·추가 JDBC 배치를 한 트랜잭션으로 쓰고,
+ * 커밋 후에 XACK합니다. 추가는 행이 없고 큐레이션과 회원이 모두 있을 때만, 삭제는 행이 없어도 무방하므로
+ * 같은 이벤트를 다시 반영해도 결과가 같습니다. 반영에 실패하면 ACK하지 않고 다음 주기에 대기 목록부터 다시 처리합니다.
+ * 스트림은 길이 상한으로 자르지 않고, 반영을 마친 이벤트까지만 잘라내므로 소비가 멈춰도 이벤트를 잃지 않습니다.
+ */
+@Slf4j
+@Component
+public class LikeJournalConsumer {
+
+	public static final String STREAM_KEY = "journal:curation_like";
+	static final String GROUP = "like-db-writer";
+	static final String LOCK_KEY = "journal:curation_like:lock";
+
+	private static final String ADD = "ADD";
+
+	/**
+	 * 락을 새로 잡거나, 이미 가지고 있으면 만료 시간을 늘림
+	 * KEYS: 락
+	 * ARGV: 소유자, TTL(밀리초)
+	 * 반환: 1(락 보유), 0(다른 인스턴스가 보유)
+	 */
+	private static final DefaultRedisScript<Long> LOCK_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+			"   redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+			"   return 1 " +
+			"end " +
+			"if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+			"   return 1 " +
+			"end " +
+			"return 0",
+		Long.class);
+
+	/**
+	 * 주어진 ID보다 오래된 이벤트를 잘라냄
+	 * KEYS: 스트림
+	 * ARGV: 남길 가장 오래된 이벤트 ID
+	 */
+	private static final DefaultRedisScript<Long> TRIM_SCRIPT = new DefaultRedisScript<>(
+		"return redis.call('XTRIM', KEYS[1], 'MINID', '~', ARGV[1])",
+		Long.class);
+
+	private static final String DELETE_SQL = "DELETE FROM likes WHERE curation_id = ? AND member_id = ?";
+	/** 행이 없고 큐레이션과 회원이 모두 있을 때만 추가 (다시 반영해도 중복 키 오류가 나지 않음) */
+	private static final String INSERT_SQL = "INSERT INTO likes (curation_id, member_id) "
+		+ "SELECT c.curation_id, m.id FROM curation c, member m WHERE c.curation_id = ? AND m.id = ? "
+		+ "AND NOT EXISTS (SELECT 1 FROM likes l WHERE l.curation_id = c.curation_id AND l.member_id = m.id)";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final String consumerName;
+	private final int batchSize;
+	private final Duration lockTtl;
+	private final Duration claimIdle;
+
+	private final Counter appliedEvents;
+	private final Counter failedBatches;
+	private final Timer applyLag;
+	private final AtomicLong lastLagMillis = new AtomicLong();
+	private volatile boolean groupReady;
+	/** 이 인스턴스가 마지막으로 ACK한 이벤트 ID */
+	private volatile RecordId lastAckedId;
+
+	public LikeJournalConsumer(RedisTemplate<String, String> redisTemplate, NamedParameterJdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+		@Value("${custom.curation.like-journal.consumer-name:}") String consumerName,
+		@Value("${custom.curation.like-journal.batch-size:500}") int batchSize,
+		@Value("${custom.curation.like-journal.lock-ttl-ms:30000}") long lockTtlMillis,
+		@Value("${custom.curation.like-journal.claim-idle-ms:60000}") long claimIdleMillis) {
+		this.redisTemplate = redisTemplate;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		// 이름이 같으면 여러 인스턴스가 대기 목록을 공유하므로, 지정하지 않으면 인스턴스마다 새 이름을 씀
+		this.consumerName = StringUtils.hasText(consumerName) ? consumerName : "like-journal-" + UUID.randomUUID();
+		this.batchSize = batchSize;
+		this.lockTtl = Duration.ofMillis(lockTtlMillis);
+		this.claimIdle = Duration.ofMillis(claimIdleMillis);
+
+		this.appliedEvents = Counter.builder("curation.like.journal.applied").register(meterRegistry);
+		this.failedBatches = Counter.builder("curation.like.journal.failures").register(meterRegistry);
+		// 토글부터 DB 반영까지 걸린 시간
+		this.applyLag = Timer.builder("curation.like.journal.lag").register(meterRegistry);
+		Gauge.builder("curation.like.journal.lag.last.ms", lastLagMillis, AtomicLong::get).register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void createGroup() {
+		try {
+			redisTemplate.execute((RedisCallback<String>)connection -> createGroup(connection));
+			groupReady = true;
+		} catch (DataAccessException e) {
+			if (String.valueOf(e.getMessage()).contains("BUSYGROUP")) {
+				groupReady = true;
+			} else {
+				log.warn("좋아요 이벤트 소비 그룹 생성 실패, 다음 주기에 재시도합니다.", e);
+			}
+		}
+	}
+
+	private String createGroup(RedisConnection connection) {
+		return connection.streamCommands().xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP,
+			ReadOffset.from("0"), true);
+	}
+
+	/**
+	 * 락을 가진 경우에만, 다른 소비자가 남긴 이벤트와 반영하지 못하고 남은 이벤트부터 처리한 뒤 새 이벤트를 읽습니다.
+	 * 읽은 배치가 가득 차 있으면 이어서 읽고, 모두 반영하면 반영을 마친 이벤트를 스트림에서 잘라냅니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.curation.like-journal.poll-interval-ms:1000}")
+	public void poll() {
+		if (!groupReady) {
+			createGroup();
+			if (!groupReady) {
+				return;
+			}
+		}
+		if (!holdLock()) {
+			return;
+		}
+
+		claimAbandoned();
+		int consumed;
+		do {
+			consumed = consume(ReadOffset.from("0"));
+		} while (consumed == batchSize && holdLock());
+		if (consumed < 0) {
+			return;
+		}
+		do {
+			consumed = consume(ReadOffset.lastConsumed());
+		} while (consumed == batchSize && holdLock());
+		if (consumed >= 0) {
+			trim();
+		}
+	}
+
+	/**
+	 * 소비 락을 잡거나 연장합니다. 배치마다 연장하므로 배치 하나가 TTL보다 오래 걸리지 않아야 합니다.
+	 */
+	boolean holdLock() {
+		Long held = redisTemplate.execute(LOCK_SCRIPT, List.of(LOCK_KEY), consumerName,
+			String.valueOf(lockTtl.toMillis()));
+		return held != null && held == 1L;
+	}
+
+	/**
+	 * 락 TTL보다 오래 처리되지 않은 다른 소비자의 대기 이벤트를 이 소비자로 가져옵니다.
+	 * 가져온 이벤트는 새 이벤트보다 오래되었으므로 대기 목록부터 읽는 다음 단계에서 먼저 반영됩니다.
+	 * 대기 이벤트가 없는 오래된 소비자는 그룹에서 지웁니다.
+	 */
+	void claimAbandoned() {
+		Range<String> range = Range.unbounded();
+		PendingMessages pending;
+		do {
+			pending = redisTemplate.opsForStream().pending(STREAM_KEY, GROUP, range, batchSize);
+			if (pending.isEmpty()) {
+				break;
+			}
+			RecordId[] abandoned = pending.stream()
+				.filter(message -> !consumerName.equals(message.getConsumerName()))
+				.filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) >= 0)
+				.map(PendingMessage::getId)
+				.toArray(RecordId[]::new);
+			if (abandoned.length > 0) {
+				redisTemplate.opsForStream().claim(STREAM_KEY, GROUP, consumerName, claimIdle, abandoned);
+				log.info("다른 소비자가 반영하지 못한 좋아요 이벤트 {}건을 가져왔습니다.", abandoned.length);
+			}
+			range = Range.rightUnbounded(Range.Bound.exclusive(pending.get(pending.size() - 1).getIdAsString()));
+		} while (pending.size() == batchSize);
+
+		redisTemplate.opsForStream().consumers(STREAM_KEY, GROUP).stream()
+			.filter(info -> !consumerName.equals(info.consumerName()))
+			.filter(info -> info.pendingCount() == 0 && info.idleTimeMs() >= claimIdle.toMillis())
+			.forEach(info -> redisTemplate.opsForStream()
+				.deleteConsumer(STREAM_KEY, Consumer.from(GROUP, info.consumerName())));
+	}
+
+	/**
+	 * @return 반영한 이벤트 수 (실패 시 -1)
+	 */
+	private int consume(ReadOffset offset) {
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+			Consumer.from(GROUP, consumerName),
+			StreamReadOptions.empty().count(batchSize),
+			StreamOffset.create(STREAM_KEY, offset));
+		if (records == null || records.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			apply(records);
+		} catch (RuntimeException e) {
+			failedBatches.increment();
+			log.warn("좋아요 이벤트 {}건 반영 실패, 다음 주기에 재시도합니다.", records.size(), e);
+			return -1;
+		}
+		redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP,
+			records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+		lastAckedId = records.get(records.size() - 1).getId();
+
+		long now = System.currentTimeMillis();
+		records.forEach(record -> applyLag.record(now - record.getId().getTimestamp(), TimeUnit.MILLISECONDS));
+		lastLagMillis.set(now - records.get(0).getId().getTimestamp());
+		appliedEvents.increment(records.size());
+		return records.size();
+	}
+
+	/**
+	 * 반영을 마친 이벤트를 잘라냅니다. 아직 ACK되지 않은 이벤트가 있으면 그 이전까지만 자릅니다.
+	 */
+	private void trim() {
+		RecordId keepFrom = lastAckedId;
+		if (keepFrom == null) {
+			return;
+		}
+		PendingMessagesSummary summary = redisTemplate.opsForStream().pending(STREAM_KEY, GROUP);
+		if (summary != null && summary.getTotalPendingMessages() > 0 && isBefore(summary.minRecordId(), keepFrom)) {
+			keepFrom = summary.minRecordId();
+		}
+		redisTemplate.execute(TRIM_SCRIPT, List.of(STREAM_KEY), keepFrom.getValue());
+	}
+
+	private static boolean isBefore(RecordId id, RecordId other) {
+		return id.getTimestamp() < other.getTimestamp()
+			|| (id.getTimestamp() == other.getTimestamp() && id.getSequence() < other.getSequence());
+	}
+
+	/**
+	 * 이벤트를 likes 테이블에 반영합니다.
+	 * @param records 스트림 순서대로 읽은 이벤트
+	 */
+	void apply(List<MapRecord<String, Object, Object>> records) {
+		// 같은 (큐레이션, 회원)은 마지막 연산만 반영
+		Map<LikeKey, Boolean> lastOps = new LinkedHashMap<>();
+		for (MapRecord<String, Object, Object> record : records) {
+			Map<Object, Object> value = record.getValue();
+			try {
+				LikeKey key = new LikeKey(Long.parseLong(String.valueOf(value.get("curationId"))),
+					Long.parseLong(String.valueOf(value.get("memberId"))));
+				lastOps.remove(key);
+				lastOps.put(key, ADD.equals(String.valueOf(value.get("op"))));
+			} catch (NumberFormatException e) {
+				log.warn("형식이 잘못된 좋아요 이벤트를 건너뜁니다: {} {}", record.getId(), value);
+			}
+		}
+
+		List<Object[]> deletes = new ArrayList<>();
+		List<Object[]> inserts = new ArrayList<>();
+		lastOps.forEach((key, added) ->
+			(added ? inserts : deletes).add(new Object[] {key.curationId(), key.memberId()}));
+
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.getJdbcOperations().batchUpdate(DELETE_SQL, deletes);
+			jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_SQL, inserts);
+		});
+	}
+
+	record LikeKey(long curationId, long memberId) {
+	}
+}
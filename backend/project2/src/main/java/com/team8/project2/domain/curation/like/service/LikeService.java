@@ -1,4 +1,107 @@
 package com.team8.project2.domain.curation.like.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 큐레이션 목록의 좋아요 정보를 Redis에서 한 번에 조회하는 서비스입니다.
+ * 좋아요는 Redis SET(curation_like:{id})에 저장되므로, 목록의 큐레이션마다 SCARD(와 로그인 시 SISMEMBER)를
+ * 하나의 파이프라인으로 보내 왕복 한 번에 조회합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
 public class LikeService {
+
+	private static final String LIKE_KEY_PREFIX = "curation_like:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * 큐레이션들의 좋아요 수와 회원의 좋아요 여부를 조회합니다.
+	 * Redis 조회에 실패하면 빈 결과를 반환하며, 호출하는 쪽은 DB의 좋아요 수를 그대로 사용합니다.
+	 * @param curationIds 큐레이션 ID 목록
+	 * @param memberId 로그인 회원 ID (비로그인 시 null)
+	 * @return 큐레이션별 좋아요 정보
+	 */
+	public LikeStates getLikeStates(Collection<Long> curationIds, Long memberId) {
+		List<Long> ids = new ArrayList<>(new LinkedHashSet<>(curationIds));
+		if (ids.isEmpty()) {
+			return LikeStates.EMPTY;
+		}
+
+		List<Object> results;
+		try {
+			results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					SetOperations<String, String> setOperations = ((RedisOperations<String, String>)operations)
+						.opsForSet();
+					for (Long id : ids) {
+						setOperations.size(LIKE_KEY_PREFIX + id);
+						if (memberId != null) {
+							setOperations.isMember(LIKE_KEY_PREFIX + id, String.valueOf(memberId));
+						}
+					}
+					return null;
+				}
+			});
+		} catch (DataAccessException e) {
+			log.warn("큐레이션 좋아요 정보 조회 실패 (ids: {})", ids, e);
+			return LikeStates.EMPTY;
+		}
+
+		// 결과는 요청 순서대로 [SCARD, (SISMEMBER)] 반복
+		Map<Long, Long> likeCounts = new HashMap<>();
+		Set<Long> likedIds = new HashSet<>();
+		int step = memberId != null ? 2 : 1;
+		for (int i = 0; i < ids.size(); i++) {
+			Long id = ids.get(i);
+			if (results.get(i * step) instanceof Long likeCount) {
+				likeCounts.put(id, likeCount);
+			}
+			if (memberId != null && Boolean.TRUE.equals(results.get(i * step + 1))) {
+				likedIds.add(id);
+			}
+		}
+		return new LikeStates(likeCounts, likedIds);
+	}
+
+	/**
+	 * 큐레이션별 좋아요 정보
+	 * @param likeCounts 큐레이션 ID별 좋아요 수
+	 * @param likedIds 회원이 좋아요한 큐레이션 ID
+	 */
+	public record LikeStates(Map<Long, Long> likeCounts, Set<Long> likedIds) {
+
+		public static final LikeStates EMPTY = new LikeStates(Map.of(), Set.of());
+
+		/**
+		 * Redis의 좋아요 수를 반환합니다. 조회하지 못한 경우 기본값을 반환합니다.
+		 */
+		public long likeCount(Long curationId, long defaultValue) {
+			return likeCounts.getOrDefault(curationId, defaultValue);
+		}
+
+		public boolean isLiked(Long curationId) {
+			return likedIds.contains(curationId);
+		}
+	}
 }
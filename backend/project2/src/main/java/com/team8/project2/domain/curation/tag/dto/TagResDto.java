@@ -17,4 +17,10 @@ public class TagResDto {
 		topTags.forEach(tag -> tagResDto.tags.add(tag.getName()));
 		return tagResDto;
 	}
+
+	public static TagResDto ofNames(List<String> tagNames) {
+		TagResDto tagResDto = new TagResDto();
+		tagResDto.tags = new ArrayList<>(tagNames);
+		return tagResDto;
+	}
 }
@@ -0,0 +1,48 @@
+package com.team8.project2.domain.curation.tag.event;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.team8.project2.domain.curation.curation.event.CurationCreateEvent;
+import com.team8.project2.domain.curation.curation.event.CurationDeleteEvent;
+import com.team8.project2.domain.curation.curation.event.CurationUpdateEvent;
+import com.team8.project2.domain.curation.tag.service.TagUsageCounter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐레이션 생성·수정·삭제로 연결이 바뀐 태그의 사용 수를 갱신한다.
+ * 커밋 이후에 DB에서 다시 세어야 롤백된 변경이 집계에 남지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TagUsageEventListener {
+
+	private final TagUsageCounter tagUsageCounter;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void countCreatedCuration(CurationCreateEvent event) {
+		tagUsageCounter.refresh(event.getTagNames());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void countUpdatedCuration(CurationUpdateEvent event) {
+		Set<String> tagNames = new LinkedHashSet<>();
+		if (event.getTagNames() != null) {
+			tagNames.addAll(event.getTagNames());
+		}
+		if (event.getPreviousTagNames() != null) {
+			tagNames.addAll(event.getPreviousTagNames());
+		}
+		tagUsageCounter.refresh(tagNames);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void countDeletedCuration(CurationDeleteEvent event) {
+		tagUsageCounter.refresh(event.getTagNames());
+	}
+}
@@ -1,12 +1,15 @@
 package com.team8.project2.domain.curation.tag.repository;
 
 import com.team8.project2.domain.curation.tag.entity.Tag;
+import com.team8.project2.domain.suggest.dto.SuggestSource;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,4 +32,23 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
      */
     @Query("SELECT t FROM Tag t LEFT JOIN t.curationTags ct GROUP BY t ORDER BY COUNT(ct) DESC")
     List<Tag> findTopTagsByCurationCountDesc(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 자동완성 색인과 태그 사용 수 보정용으로 태그 이름과 연결된 큐레이션 수를 ID 순서로 조회합니다.
+     * @param afterId 이 ID 다음부터 조회
+     * @param pageable 조회 개수
+     */
+    @Query("SELECT t.id AS id, t.name AS text, " +
+            "(SELECT COUNT(ct) FROM CurationTag ct WHERE ct.tag = t) AS weight " +
+            "FROM Tag t WHERE t.id > :afterId ORDER BY t.id")
+    List<SuggestSource> findSuggestSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 자동완성 색인과 태그 사용 수 갱신용으로 주어진 이름의 태그와 연결된 큐레이션 수를 조회합니다.
+     * @param names 태그 이름 목록
+     */
+    @Query("SELECT t.id AS id, t.name AS text, " +
+            "(SELECT COUNT(ct) FROM CurationTag ct WHERE ct.tag = t) AS weight " +
+            "FROM Tag t WHERE t.name IN :names")
+    List<SuggestSource> findSuggestSourcesByNameIn(@Param("names") Collection<String> names);
+}
@@ -23,6 +23,7 @@ public class TagService {
 
     private final TagRepository tagRepository;
     private final CurationRepository curationRepository;
+    private final TagUsageCounter tagUsageCounter;
 
     /**
      * 태그가 존재하면 기존 태그를 반환하고, 존재하지 않으면 새로 생성하여 반환합니다.
@@ -34,9 +35,17 @@ public class TagService {
                 .orElseGet(() -> tagRepository.save(Tag.builder().name(name).build()));
     }
 
-    // 많이 사용된 tag 수 반환
+    /**
+     * 연결된 큐레이션이 많은 태그 5개를 반환합니다.
+     * 사용 수 집계가 아직 없으면(Redis가 비워진 직후 등) DB에서 직접 집계합니다.
+     * @return 인기 태그 이름 목록
+     */
     @Transactional(readOnly = true)
     public TagResDto getTrendingTag() {
+        List<String> topTagNames = tagUsageCounter.getTopTagNames(5);
+        if (!topTagNames.isEmpty()) {
+            return TagResDto.ofNames(topTagNames);
+        }
         List<Tag> topTags = tagRepository.findTopTagsByCurationCountDesc(Pageable.ofSize(5));
         return TagResDto.of(topTags);
     }
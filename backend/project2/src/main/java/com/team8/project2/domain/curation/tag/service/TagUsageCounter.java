@@ -0,0 +1,190 @@
+package com.team8.project2.domain.curation.tag.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.domain.curation.tag.repository.TagRepository;
+import com.team8.project2.domain.suggest.dto.SuggestSource;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 태그별 사용 수(연결된 큐레이션 수)를 Redis ZSET(tag:usage)에 유지합니다.
+ * 큐레이션 생성·수정·삭제가 커밋되면 영향을 받은 태그만 DB에서 다시 세어 점수를 덮어쓰므로,
+ * 같은 이벤트가 두 번 반영되거나 순서가 바뀌어도 결과가 같습니다. 인기 태그는 ZREVRANGE로 상위 K개만 읽습니다.
+ *
+ * 이벤트를 놓친 경우(다른 경로의 삭제, 반영 전 종료 등)를 보정하기 위해 주기적으로 전체 태그를 ID 순서로 나눠 읽어
+ * 실행마다 다른 임시 키에 채운 뒤 RENAME으로 교체하므로, 여러 인스턴스가 동시에 보정해도 서로의 임시 키를 지우지 않습니다.
+ * 교체 전에 이벤트로 들어온 태그는 교체 후 다시 반영합니다. 시작 시 집계가 비어 있으면 별도 스레드에서 채우므로,
+ * 태그가 많거나 Redis에 연결할 수 없어도 애플리케이션 시작을 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class TagUsageCounter {
+
+	static final String USAGE_KEY = "tag:usage";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final TagRepository tagRepository;
+	private final int batchSize;
+
+	private final AtomicBoolean reconciling = new AtomicBoolean(false);
+	/** 전체 보정 중에 변경된 태그 (교체 후 다시 반영) */
+	private final Set<String> changedTagNames = ConcurrentHashMap.newKeySet();
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(
+		Thread.ofVirtual().name("tag-usage-initialize").factory());
+
+	public TagUsageCounter(RedisTemplate<String, String> redisTemplate, TagRepository tagRepository,
+		@Value("${custom.tag-usage.batch-size:1000}") int batchSize) {
+		this.redisTemplate = redisTemplate;
+		this.tagRepository = tagRepository;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 사용 수가 많은 태그 이름을 조회합니다.
+	 * @param count 조회할 개수
+	 * @return 사용 수가 많은 순서의 태그 이름 (집계 전이면 빈 목록)
+	 */
+	public List<String> getTopTagNames(int count) {
+		Set<String> names = redisTemplate.opsForZSet().reverseRange(USAGE_KEY, 0, count - 1);
+		return names == null ? List.of() : new ArrayList<>(names);
+	}
+
+	/**
+	 * 태그의 사용 수를 DB에서 다시 세어 반영합니다. 사용 수가 0이면 삭제합니다.
+	 * @param tagNames 태그 이름 목록
+	 */
+	public void refresh(Collection<String> tagNames) {
+		if (tagNames == null || tagNames.isEmpty()) {
+			return;
+		}
+		Set<String> names = new HashSet<>(tagNames);
+		if (reconciling.get()) {
+			changedTagNames.addAll(names);
+		}
+		List<SuggestSource> usages = tagRepository.findSuggestSourcesByNameIn(names);
+		usages.forEach(usage -> names.remove(usage.getText()));
+		// 이름으로 찾지 못한 태그는 사용 수 0으로 삭제
+		write(USAGE_KEY, usages, names);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initializeOnStartup() {
+		executor.execute(this::initialize);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 집계가 비어 있으면 전체 보정으로 채웁니다. 실패하면 다음 주기 보정에서 다시 채웁니다.
+	 */
+	void initialize() {
+		try {
+			Long size = redisTemplate.opsForZSet().zCard(USAGE_KEY);
+			if (size == null || size == 0) {
+				reconcile();
+			}
+		} catch (DataAccessException e) {
+			log.warn("태그 사용 수 초기화 실패, 다음 주기 보정에서 다시 채웁니다.", e);
+		}
+	}
+
+	/**
+	 * 전체 태그의 사용 수를 DB에서 다시 세어 교체합니다. 이미 보정 중이면 건너뜁니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.tag-usage.reconcile-interval-ms:3600000}",
+		initialDelayString = "${custom.tag-usage.reconcile-interval-ms:3600000}")
+	public void reconcile() {
+		if (!reconciling.compareAndSet(false, true)) {
+			return;
+		}
+		String tempKey = USAGE_KEY + ":reconcile:" + UUID.randomUUID();
+		long tagCount = 0;
+		try {
+			long startedAt = System.nanoTime();
+			long afterId = 0;
+			List<SuggestSource> batch;
+			do {
+				batch = tagRepository.findSuggestSourcesAfter(afterId, PageRequest.of(0, batchSize));
+				write(tempKey, batch, Set.of());
+				for (SuggestSource usage : batch) {
+					afterId = usage.getId();
+				}
+				tagCount += batch.size();
+			} while (batch.size() == batchSize);
+
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(tempKey))) {
+				redisTemplate.rename(tempKey, USAGE_KEY);
+			} else {
+				redisTemplate.delete(USAGE_KEY);
+			}
+			log.info("태그 사용 수 보정 완료: 태그 {}개 ({}ms)", tagCount, (System.nanoTime() - startedAt) / 1_000_000);
+		} finally {
+			// 교체 전에 실패하면 남은 임시 키를 지움 (교체 후에는 키가 없어 무시됨)
+			redisTemplate.delete(tempKey);
+			reconciling.set(false);
+		}
+
+		List<String> changed = new ArrayList<>(changedTagNames);
+		changedTagNames.removeAll(changed);
+		refresh(changed);
+	}
+
+	/**
+	 * 사용 수를 하나의 파이프라인으로 씁니다. 사용 수가 0인 태그와 removedNames는 삭제합니다.
+	 */
+	private void write(String key, List<SuggestSource> usages, Set<String> removedNames) {
+		Set<String> removed = new LinkedHashSet<>(removedNames);
+		List<SuggestSource> used = new ArrayList<>();
+		for (SuggestSource usage : usages) {
+			if (usage.getWeight() == null || usage.getWeight() == 0) {
+				removed.add(usage.getText());
+			} else {
+				used.add(usage);
+			}
+		}
+		if (used.isEmpty() && removed.isEmpty()) {
+			return;
+		}
+
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				ZSetOperations<String, String> zSetOperations = ((RedisOperations<String, String>)operations)
+					.opsForZSet();
+				used.forEach(usage -> zSetOperations.add(key, usage.getText(), usage.getWeight()));
+				if (!removed.isEmpty()) {
+					zSetOperations.remove(key, removed.toArray());
+				}
+				return null;
+			}
+		});
+	}
+}
@@ -1,6 +1,7 @@
 package com.team8.project2.domain.image.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,10 +18,16 @@ public interface CurationImageRepository extends JpaRepository<CurationImage, Lo
 
 	List<CurationImage> findByCurationId(Long curationId);
 
+	List<CurationImage> findByImageNameIn(Collection<String> imageNames);
+
 	void deleteByImageName(String imageName);
 
 	void deleteByCurationId(Long curationId);
 
 	@Query("SELECT c FROM CurationImage c WHERE c.curationId IS NULL AND c.uploadedAt <= :cutoffDate")
 	List<CurationImage> findUnusedImages(LocalDateTime cutoffDate);
+
+	@Query("SELECT c FROM CurationImage c WHERE c.curationId IS NOT NULL "
+		+ "AND NOT EXISTS (SELECT cu.id FROM Curation cu WHERE cu.id = c.curationId)")
+	List<CurationImage> findImagesOfDeletedCurations();
 }
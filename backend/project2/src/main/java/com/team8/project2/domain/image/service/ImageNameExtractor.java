@@ -0,0 +1,140 @@
+package com.team8.project2.domain.image.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 큐레이션 본문(HTML)에서 업로드된 이미지의 파일 이름을 추출합니다.
+ * DOM을 만들지 않고 문자열을 한 번 훑으면서 img 태그의 src 속성만 읽습니다.
+ * 주석 안의 태그는 무시하며, 같은 이미지가 여러 번 쓰여도 한 번만 반환합니다.
+ */
+public final class ImageNameExtractor {
+
+	private static final String BUCKET_URL_PREFIX = "https://linkurator-bucket";
+
+	private ImageNameExtractor() {
+	}
+
+	/**
+	 * 본문에 포함된 버킷 이미지의 파일 이름을 등장 순서대로 반환합니다.
+	 * @param html 큐레이션 본문
+	 * @return 이미지 파일 이름 집합
+	 */
+	public static Set<String> extract(String html) {
+		Set<String> imageNames = new LinkedHashSet<>();
+		if (html == null || html.isEmpty()) {
+			return imageNames;
+		}
+
+		int length = html.length();
+		int cursor = 0;
+		while (cursor < length) {
+			int tagStart = html.indexOf('<', cursor);
+			if (tagStart < 0) {
+				break;
+			}
+			if (html.startsWith("<!--", tagStart)) {
+				int commentEnd = html.indexOf("-->", tagStart + 4);
+				cursor = commentEnd < 0 ? length : commentEnd + 3;
+				continue;
+			}
+			if (!isImgTag(html, tagStart)) {
+				cursor = tagStart + 1;
+				continue;
+			}
+			cursor = readImgTag(html, tagStart + 4, imageNames);
+		}
+		return imageNames;
+	}
+
+	private static boolean isImgTag(String html, int tagStart) {
+		int nameEnd = tagStart + 4;
+		if (!html.regionMatches(true, tagStart + 1, "img", 0, 3)) {
+			return false;
+		}
+		return nameEnd == html.length() || isTagNameEnd(html.charAt(nameEnd));
+	}
+
+	/**
+	 * img 태그의 속성을 읽어 src 값을 처리하고, 태그가 끝난 다음 위치를 반환한다.
+	 */
+	private static int readImgTag(String html, int cursor, Set<String> imageNames) {
+		int length = html.length();
+		boolean srcFound = false;
+
+		while (cursor < length) {
+			char c = html.charAt(cursor);
+			if (c == '>') {
+				return cursor + 1;
+			}
+			if (Character.isWhitespace(c) || c == '/') {
+				cursor++;
+				continue;
+			}
+
+			// 속성 이름
+			int nameStart = cursor;
+			while (cursor < length && !isAttributeNameEnd(html.charAt(cursor))) {
+				cursor++;
+			}
+			boolean isSrc = cursor - nameStart == 3 && html.regionMatches(true, nameStart, "src", 0, 3);
+
+			cursor = skipWhitespace(html, cursor);
+			if (cursor >= length || html.charAt(cursor) != '=') {
+				continue;
+			}
+			cursor = skipWhitespace(html, cursor + 1);
+			if (cursor >= length) {
+				break;
+			}
+
+			// 속성 값 (따옴표 유무 모두 허용)
+			int valueStart;
+			int valueEnd;
+			char quote = html.charAt(cursor);
+			if (quote == '"' || quote == '\'') {
+				valueStart = cursor + 1;
+				valueEnd = html.indexOf(quote, valueStart);
+				if (valueEnd < 0) {
+					return length;
+				}
+				cursor = valueEnd + 1;
+			} else {
+				valueStart = cursor;
+				while (cursor < length && !Character.isWhitespace(html.charAt(cursor)) && html.charAt(cursor) != '>') {
+					cursor++;
+				}
+				valueEnd = cursor;
+			}
+
+			// 같은 속성이 여러 번 나오면 첫 번째 값만 사용
+			if (isSrc && !srcFound) {
+				srcFound = true;
+				addImageName(html.substring(valueStart, valueEnd).trim(), imageNames);
+			}
+		}
+		return length;
+	}
+
+	private static void addImageName(String src, Set<String> imageNames) {
+		String url = src.replace("&amp;", "&");
+		if (url.startsWith(BUCKET_URL_PREFIX)) {
+			imageNames.add(url.substring(url.lastIndexOf('/') + 1));
+		}
+	}
+
+	private static int skipWhitespace(String html, int cursor) {
+		while (cursor < html.length() && Character.isWhitespace(html.charAt(cursor))) {
+			cursor++;
+		}
+		return cursor;
+	}
+
+	private static boolean isTagNameEnd(char c) {
+		return Character.isWhitespace(c) || c == '/' || c == '>';
+	}
+
+	private static boolean isAttributeNameEnd(char c) {
+		return Character.isWhitespace(c) || c == '=' || c == '>' || c == '/';
+	}
+}
@@ -33,5 +33,12 @@ public class UnusedImageCleanerService {
 			s3Uploader.deleteFile(unusedImage.getImageName());
 			curationImageRepository.delete(unusedImage);
 		}
+
+		// 저장된 연결 정보 기준으로, 삭제된 큐레이션에 연결된 채 남은 이미지도 정리 (삭제 이벤트 처리 실패 대비)
+		List<CurationImage> orphanedImages = curationImageRepository.findImagesOfDeletedCurations();
+		for (CurationImage orphanedImage : orphanedImages) {
+			s3Uploader.deleteFile(orphanedImage.getImageName());
+			curationImageRepository.delete(orphanedImage);
+		}
 	}
 }
@@ -8,13 +8,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.*;
 import lombok.*;
 
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -60,6 +57,13 @@ public class Link {
 	@Column(name = "createdAt", nullable = false)
 	private LocalDateTime createdAt;
 
+	/**
+	 * 링크 수정 시간 (제목·설명·URL 수정과 메타데이터 수집 시 갱신, 도입 전에 저장된 링크는 null)
+	 */
+	@LastModifiedDate
+	@Column(name = "modifiedAt")
+	private LocalDateTime modifiedAt;
+
 	/**
 	 * 링크와 연관된 큐레이션 목록 (1:N 관계)
 	 */
@@ -81,21 +85,10 @@ public class Link {
 	@Column(name = "metaImageUrl")
 	private String metaImageUrl;
 
-	public void loadMetadata() {
-		try {
-			// Jsoup을 사용하여 URL의 HTML을 파싱
-			Document doc = Jsoup.connect(url).get();
-			this.title = getMetaTagContent(doc, "og:title");
-			this.description = getMetaTagContent(doc, "og:description");
-			this.metaImageUrl = getMetaTagContent(doc, "og:image");
-		} catch (IOException e) {
-			this.title = this.url;
-			this.description = this.url;
-		}
-	}
-
-	private String getMetaTagContent(Document doc, String property) {
-	    Element metaTag = doc.select("meta[property=" + property + "]").first();
-	    return metaTag != null ? metaTag.attr("content") : "";
-	}
+	/**
+	 * 메타데이터(제목, 설명, 이미지) 수집 상태 (상태 도입 전에 저장된 링크는 null)
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(name = "metadataStatus")
+	private LinkMetadataStatus metadataStatus;
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.team8.project2.domain.link.entity;
+
+/**
+ * 링크 메타데이터(제목, 설명, 이미지) 수집 상태를 정의하는 열거형(enum) 클래스입니다.
+ */
+public enum LinkMetadataStatus {
+
+	/** 저장 직후 수집 대기 중 */
+	PENDING,
+
+	/** 수집 완료 */
+	READY,
+
+	/** 재시도 후에도 수집 실패 (제목과 설명은 URL로 표시) */
+	FAILED
+}
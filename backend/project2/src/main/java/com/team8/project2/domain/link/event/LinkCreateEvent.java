@@ -0,0 +1,16 @@
+package com.team8.project2.domain.link.event;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메타데이터를 수집해야 하는 링크가 저장되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class LinkCreateEvent {
+	/** 같은 요청에서 저장된 링크의 ID별 URL */
+	private Map<Long, String> urls;
+}
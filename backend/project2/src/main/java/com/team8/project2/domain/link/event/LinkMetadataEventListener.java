@@ -0,0 +1,25 @@
+package com.team8.project2.domain.link.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.team8.project2.domain.link.service.LinkMetadataFetcher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 링크가 저장되면 메타데이터 수집을 예약한다.
+ * 커밋 이후에 예약해야 수집 결과를 반영할 행이 존재하고, 큐레이션 작성 트랜잭션이 외부 사이트 응답을 기다리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LinkMetadataEventListener {
+
+	private final LinkMetadataFetcher linkMetadataFetcher;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void fetchCreatedLink(LinkCreateEvent event) {
+		linkMetadataFetcher.enqueueAll(event.getUrls());
+	}
+}
@@ -0,0 +1,13 @@
+package com.team8.project2.domain.link.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 링크 메타데이터 수집이 끝나 제목, 설명, 이미지가 바뀌었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class LinkMetadataUpdateEvent {
+	private Long linkId;
+}
@@ -1,8 +1,16 @@
 package com.team8.project2.domain.link.repository;
 
 import com.team8.project2.domain.link.entity.Link;
+import com.team8.project2.domain.link.entity.LinkMetadataStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,4 +25,34 @@ public interface LinkRepository extends JpaRepository<Link, Long> {
      * @return 해당 URL을 가진 링크 객체 (없을 경우 빈 Optional 반환)
      */
     Optional<Link> findByUrl(String url);
+
+    /**
+     * 여러 링크 URL로 링크를 한 번에 조회합니다.
+     * @param urls 조회할 링크 URL 목록
+     * @return 존재하는 링크 목록 (순서 보장 없음)
+     */
+    List<Link> findByUrlIn(Collection<String> urls);
+
+    /**
+     * 메타데이터 수집 상태로 링크를 조회합니다.
+     * @param metadataStatus 수집 상태
+     * @param pageable 조회할 개수
+     * @return 링크 목록
+     */
+    List<Link> findByMetadataStatus(LinkMetadataStatus metadataStatus, Pageable pageable);
+
+    /**
+     * 수집 대기 중인 링크에 수집한 메타데이터를 반영합니다.
+     * 그 사이 사용자가 직접 수정해 대기 상태가 아니면 덮어쓰지 않습니다.
+     * 벌크 수정은 수정 시각 자동 갱신을 거치지 않으므로 직접 갱신합니다. (공개 플레이리스트 ETag에 반영)
+     * @return 반영된 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Link l SET l.title = :title, l.description = :description, l.metaImageUrl = :imageUrl, " +
+            "l.metadataStatus = :status, l.modifiedAt = LOCAL_DATETIME " +
+            "WHERE l.id = :linkId AND l.metadataStatus = com.team8.project2.domain.link.entity.LinkMetadataStatus.PENDING")
+    int updatePendingMetadata(@Param("linkId") Long linkId, @Param("title") String title,
+                              @Param("description") String description, @Param("imageUrl") String imageUrl,
+                              @Param("status") LinkMetadataStatus status);
 }
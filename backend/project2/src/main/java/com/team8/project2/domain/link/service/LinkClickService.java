@@ -17,10 +17,11 @@ public class LinkClickService {
      * 링크의 클릭수를 증가시킵니다.
      *
      * @param link 클릭수 증가 대상 링크
+     * @param count 증가분 (순 방문자 추정치의 증가분)
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW) // 별도 트랜잭션 실행
-    public void increaseClickCount(Link link) {
-        link.setClick(link.getClick() + 1);
+    public void increaseClickCount(Link link, long count) {
+        link.setClick(link.getClick() + (int) count);
         linkRepository.save(link);
         linkRepository.flush(); // 즉시 반영
     }
@@ -0,0 +1,261 @@
+package com.team8.project2.domain.link.service;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.UnsupportedMimeTypeException;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team8.project2.domain.link.entity.LinkMetadataStatus;
+import com.team8.project2.domain.link.event.LinkMetadataUpdateEvent;
+import com.team8.project2.domain.link.repository.LinkRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 링크의 Open Graph 메타데이터(제목, 설명, 이미지)를 요청 스레드와 분리해 수집합니다.
+ *
+ * 수집은 가상 스레드에서 실행하되, 전체 동시 수집 수와 호스트별 동시 수집 수를 세마포어로 제한해
+ * 한 사이트에 요청이 몰리지 않도록 합니다. 호스트별 세마포어는 한동안 쓰이지 않으면 제거하고 호스트 수도 제한합니다.
+ * 타임아웃이나 5xx 응답은 간격을 늘려 가며 재시도하고,
+ * 끝내 실패하면 이전처럼 제목과 설명을 URL로 채웁니다. 결과는 대기 상태인 행에만 반영합니다.
+ *
+ * 같은 요청에서 저장된 링크들은 동시에 수집하고 하나의 수집 기한을 공유합니다.
+ * 기한이 지나면 남은 대기·재시도를 멈추고 실패로 처리해, 링크가 많은 큐레이션도 정해진 시간 안에 카드가 완성됩니다.
+ *
+ * 대기 중인 수집이 너무 많으면 새 요청은 건너뛰고, 종료나 누락으로 대기 상태에 남은 링크는
+ * 주기적으로 다시 예약합니다.
+ */
+@Slf4j
+@Component
+public class LinkMetadataFetcher {
+
+	/** 메타데이터를 읽기 위해 내려받을 최대 본문 크기 */
+	private static final int MAX_BODY_BYTES = 1024 * 1024;
+
+	private final LinkRepository linkRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final int timeoutMillis;
+	private final int maxAttempts;
+	private final long retryBackoffMillis;
+	private final int perHostConcurrency;
+	private final int maxQueued;
+	private final long requestDeadlineNanos;
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Semaphore permits;
+	private final Cache<String, Semaphore> hostPermits;
+	/** 예약되었거나 수집 중인 링크 ID */
+	private final Set<Long> queuedLinkIds = ConcurrentHashMap.newKeySet();
+
+	public LinkMetadataFetcher(LinkRepository linkRepository, ApplicationEventPublisher eventPublisher,
+		@Value("${custom.link-metadata.timeout-ms:5000}") int timeoutMillis,
+		@Value("${custom.link-metadata.max-attempts:3}") int maxAttempts,
+		@Value("${custom.link-metadata.retry-backoff-ms:1000}") long retryBackoffMillis,
+		@Value("${custom.link-metadata.max-concurrency:32}") int maxConcurrency,
+		@Value("${custom.link-metadata.per-host-concurrency:2}") int perHostConcurrency,
+		@Value("${custom.link-metadata.max-queued:1000}") int maxQueued,
+		@Value("${custom.link-metadata.request-deadline-ms:15000}") long requestDeadlineMillis,
+		@Value("${custom.link-metadata.max-hosts:10000}") long maxHosts,
+		@Value("${custom.link-metadata.host-idle-ms:600000}") long hostIdleMillis) {
+		this.linkRepository = linkRepository;
+		this.eventPublisher = eventPublisher;
+		this.timeoutMillis = timeoutMillis;
+		this.maxAttempts = maxAttempts;
+		this.retryBackoffMillis = retryBackoffMillis;
+		this.perHostConcurrency = perHostConcurrency;
+		this.maxQueued = maxQueued;
+		this.requestDeadlineNanos = TimeUnit.MILLISECONDS.toNanos(requestDeadlineMillis);
+		this.permits = new Semaphore(maxConcurrency);
+		// 허가를 가진 수집은 기한 안에 끝나므로, 기한보다 오래 쓰이지 않은 세마포어만 제거해 사용 중인 세마포어가 바뀌지 않게 함
+		this.hostPermits = Caffeine.newBuilder()
+			.maximumSize(maxHosts)
+			.expireAfterAccess(Duration.ofMillis(Math.max(hostIdleMillis, requestDeadlineMillis)))
+			.build();
+	}
+
+	/**
+	 * 같은 요청에서 저장된 링크들의 메타데이터 수집을 하나의 기한으로 예약합니다.
+	 * @param urls 링크 ID별 URL
+	 */
+	public void enqueueAll(Map<Long, String> urls) {
+		long deadline = System.nanoTime() + requestDeadlineNanos;
+		urls.forEach((linkId, url) -> enqueue(linkId, url, deadline));
+	}
+
+	/**
+	 * 링크 메타데이터 수집을 예약합니다. 이미 예약되었거나 대기 중인 수집이 많으면 건너뜁니다.
+	 */
+	private void enqueue(Long linkId, String url, long deadline) {
+		if (queuedLinkIds.size() >= maxQueued || !queuedLinkIds.add(linkId)) {
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					fetchAndStore(linkId, url, deadline);
+				} finally {
+					queuedLinkIds.remove(linkId);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			queuedLinkIds.remove(linkId);
+		}
+	}
+
+	/**
+	 * 대기 상태로 남은 링크(종료 전에 수집하지 못했거나 예약을 건너뛴 링크)를 다시 예약합니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.link-metadata.sweep-interval-ms:60000}",
+		initialDelayString = "${custom.link-metadata.sweep-interval-ms:60000}")
+	public void enqueuePending() {
+		int capacity = maxQueued - queuedLinkIds.size();
+		if (capacity <= 0) {
+			return;
+		}
+		long deadline = System.nanoTime() + requestDeadlineNanos;
+		linkRepository.findByMetadataStatus(LinkMetadataStatus.PENDING, PageRequest.of(0, capacity))
+			.forEach(link -> enqueue(link.getId(), link.getUrl(), deadline));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * @param deadline 수집 기한 ({@link System#nanoTime()} 기준)
+	 */
+	void fetchAndStore(Long linkId, String url, long deadline) {
+		LinkMetadata metadata;
+		try {
+			metadata = fetchWithRetry(url, deadline);
+		} catch (InterruptedException e) {
+			// 종료 중이면 대기 상태로 두고 다음 실행에서 다시 수집
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		int updated = metadata == null
+			? linkRepository.updatePendingMetadata(linkId, url, url, null, LinkMetadataStatus.FAILED)
+			: linkRepository.updatePendingMetadata(linkId, metadata.title(), metadata.description(),
+			metadata.imageUrl(), LinkMetadataStatus.READY);
+		if (updated > 0) {
+			eventPublisher.publishEvent(new LinkMetadataUpdateEvent(linkId));
+		}
+	}
+
+	/**
+	 * 메타데이터를 수집합니다. 일시적인 오류만 재시도하고, 기한이 지나면 대기나 재시도 없이 실패로 처리합니다.
+	 * @return 수집한 메타데이터 (실패 시 null)
+	 */
+	private LinkMetadata fetchWithRetry(String url, long deadline) throws InterruptedException {
+		Semaphore hostPermit;
+		try {
+			hostPermit = hostPermits.get(host(url), host -> new Semaphore(perHostConcurrency));
+		} catch (IllegalArgumentException e) {
+			log.debug("링크 메타데이터 수집 불가 URL: {}", url);
+			return null;
+		}
+
+		for (int attempt = 1; ; attempt++) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0 || !hostPermit.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+				log.debug("링크 메타데이터 수집 기한 초과: {}", url);
+				return null;
+			}
+			try {
+				if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+					log.debug("링크 메타데이터 수집 기한 초과: {}", url);
+					return null;
+				}
+				try {
+					long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+					return fetch(url, (int)Math.max(1, Math.min(timeoutMillis, remainingMillis)));
+				} finally {
+					permits.release();
+				}
+			} catch (IOException | IllegalArgumentException e) {
+				if (attempt >= maxAttempts || !isRetryable(e)) {
+					log.debug("링크 메타데이터 수집 실패: {} ({}회 시도)", url, attempt, e);
+					return null;
+				}
+			} finally {
+				hostPermit.release();
+			}
+			// 재시도 간격: 1, 2, 4배 ... (기한을 넘기지 않는 범위에서)
+			long backoffNanos = TimeUnit.MILLISECONDS.toNanos(retryBackoffMillis << (attempt - 1));
+			if (System.nanoTime() + backoffNanos >= deadline) {
+				log.debug("링크 메타데이터 수집 기한 초과: {} ({}회 시도)", url, attempt);
+				return null;
+			}
+			TimeUnit.NANOSECONDS.sleep(backoffNanos);
+		}
+	}
+
+	/**
+	 * URL의 HTML을 내려받아 Open Graph 메타 태그를 읽습니다.
+	 * Jsoup 타임아웃은 연결과 응답 읽기에 각각 적용됩니다.
+	 * @param timeoutMillis 타임아웃 (설정값과 남은 기한 중 짧은 값)
+	 */
+	LinkMetadata fetch(String url, int timeoutMillis) throws IOException {
+		Document doc = Jsoup.connect(url)
+			.timeout(timeoutMillis)
+			.maxBodySize(MAX_BODY_BYTES)
+			.get();
+		return new LinkMetadata(getMetaTagContent(doc, "og:title"), getMetaTagContent(doc, "og:description"),
+			getMetaTagContent(doc, "og:image"));
+	}
+
+	private boolean isRetryable(Exception e) {
+		if (e instanceof HttpStatusException statusException) {
+			int status = statusException.getStatusCode();
+			return status >= 500 || status == 429;
+		}
+		return e instanceof IOException
+			&& !(e instanceof UnsupportedMimeTypeException)
+			&& !(e instanceof MalformedURLException);
+	}
+
+	private static String host(String url) {
+		String host = URI.create(url).getHost();
+		if (host == null) {
+			throw new IllegalArgumentException("호스트가 없는 URL: " + url);
+		}
+		return host.toLowerCase();
+	}
+
+	private static String getMetaTagContent(Document doc, String property) {
+		Element metaTag = doc.select("meta[property=" + property + "]").first();
+		return metaTag != null ? metaTag.attr("content") : "";
+	}
+
+	/**
+	 * @param title og:title
+	 * @param description og:description
+	 * @param imageUrl og:image
+	 */
+	record LinkMetadata(String title, String description, String imageUrl) {
+	}
+}
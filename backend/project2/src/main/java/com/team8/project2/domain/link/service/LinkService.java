@@ -1,30 +1,26 @@
 package com.team8.project2.domain.link.service;
 
 
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.team8.project2.domain.link.dto.LinkClickResDto;
 import com.team8.project2.domain.link.dto.LinkReqDTO;
 import com.team8.project2.domain.link.entity.Link;
+import com.team8.project2.domain.link.entity.LinkMetadataStatus;
+import com.team8.project2.domain.link.event.LinkCreateEvent;
 import com.team8.project2.domain.link.repository.LinkRepository;
+import com.team8.project2.global.UniqueVisitorService;
 import com.team8.project2.global.exception.ServiceException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.time.Duration;
-import java.util.Optional;
 
 /**
  * 링크(Link) 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -36,8 +32,9 @@ public class LinkService {
 
     private final LinkRepository linkRepository;
     private final LinkClickService linkClickService;
-    private final RedisTemplate<String, String> redisTemplate; // RedisTemplate 추가
-    private static final String CLICK_KEY = "link:click:"; // Redis 키 접두사
+    private final UniqueVisitorService uniqueVisitorService;
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 특정 링크를 조회하고 클릭수를 증가시킵니다.
      *
@@ -47,57 +44,17 @@ public class LinkService {
      */
     @Transactional
     public LinkClickResDto getLinkAndIncrementClick(Long linkId, HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_CLIENT_IP");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_X_FORWARDED_FOR");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-RealIP");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("REMOTE_ADDR");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-
-        if(ip.equals("0:0:0:0:0:0:0:1") || ip.equals("127.0.0.1"))
-        {
-            InetAddress address = null;
-            try {
-                address = InetAddress.getLocalHost();
-            } catch (UnknownHostException e) {
-                throw new RuntimeException(e);
-            }
-            ip = address.getHostName() + "/" + address.getHostAddress();
-        }
-
-        String key = CLICK_KEY + linkId + ":" + ip;
-
-        // Redis에 먼저 키 저장 (최초 요청만 true 반환, 10분 유지)
-        boolean isNewClick = redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(true), Duration.ofMinutes(10));
-        System.out.println("Redis Key Set? " + isNewClick + " | Key: " + key);
+        // 오늘 처음 방문한 사용자만 클릭수 집계 (로그인 시 회원, 비로그인 시 IP 기준)
+        long newClicks = uniqueVisitorService.recordVisit(UniqueVisitorService.LINK, linkId,
+                uniqueVisitorService.resolveVisitor(request));
 
         // 링크 조회
         Link link = linkRepository.findById(linkId)
                 .orElseThrow(() -> new ServiceException("404-1", "해당 링크를 찾을 수 없습니다."));
 
         // 새로운 조회일 때만 클릭수 증가
-        if (isNewClick) {
-            linkClickService.increaseClickCount(link);
+        if (newClicks > 0) {
+            linkClickService.increaseClickCount(link, newClicks);
             System.out.println("클릭수 증가! 현재 조회수: " + link.getClick());
         } else {
             System.out.println("클릭수 증가 안 함 (이미 조회된 IP)");
@@ -154,6 +111,7 @@ public class LinkService {
 
     /**
      * 링크가 존재하면 기존 링크를 반환하고, 존재하지 않으면 새로 생성하여 반환합니다.
+     * 새로 생성한 링크는 메타데이터 수집 대기 상태로 저장됩니다.
      *
      * @param url 조회할 링크 URL
      * @return 기존 또는 새로 생성된 링크 객체
@@ -164,11 +122,48 @@ public class LinkService {
         if (opLink.isPresent()) {
             return opLink.get();
         }
+        // 메타데이터는 커밋 이후 별도 스레드에서 수집 (트랜잭션이 외부 사이트 응답을 기다리지 않도록)
         Link link = Link.builder()
             .url(url)
+            .metadataStatus(LinkMetadataStatus.PENDING)
             .build();
-        link.loadMetadata();
-        return linkRepository.save(link);
+        Link savedLink = linkRepository.save(link);
+        eventPublisher.publishEvent(new LinkCreateEvent(Map.of(savedLink.getId(), savedLink.getUrl())));
+        return savedLink;
+    }
+
+    /**
+     * 여러 링크를 한 번에 조회하고, 존재하지 않는 링크는 한 번에 생성합니다.
+     * 새로 생성한 링크는 커밋 이후 동시에 메타데이터를 수집하며, 하나의 수집 기한을 공유합니다.
+     *
+     * @param urls 조회할 링크 URL 목록
+     * @return 입력과 같은 순서의 링크 목록
+     */
+    @Transactional
+    public List<Link> getLinks(List<String> urls) {
+        if (urls.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Link> linksByUrl = new HashMap<>();
+        linkRepository.findByUrlIn(urls).forEach(link -> linksByUrl.putIfAbsent(link.getUrl(), link));
+
+        List<Link> newLinks = urls.stream()
+            .distinct()
+            .filter(url -> !linksByUrl.containsKey(url))
+            .map(url -> Link.builder()
+                .url(url)
+                .metadataStatus(LinkMetadataStatus.PENDING)
+                .build())
+            .toList();
+        if (!newLinks.isEmpty()) {
+            Map<Long, String> newUrls = new LinkedHashMap<>();
+            linkRepository.saveAll(newLinks).forEach(link -> {
+                linksByUrl.put(link.getUrl(), link);
+                newUrls.put(link.getId(), link.getUrl());
+            });
+            eventPublisher.publishEvent(new LinkCreateEvent(newUrls));
+        }
+        return urls.stream().map(linksByUrl::get).toList();
     }
 
 
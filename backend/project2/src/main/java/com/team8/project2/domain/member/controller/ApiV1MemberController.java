@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.team8.project2.domain.curation.curation.service.CurationService;
+import com.team8.project2.domain.member.dto.ActorStatusResDto;
 import com.team8.project2.domain.member.dto.AllMemberResDto;
 import com.team8.project2.domain.member.dto.CuratorInfoDto;
 import com.team8.project2.domain.member.dto.FollowResDto;
@@ -25,6 +26,7 @@ import com.team8.project2.domain.member.dto.MemberUpdateReqDTO;
 import com.team8.project2.domain.member.dto.UnfollowResDto;
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.entity.RoleEnum;
+import com.team8.project2.domain.member.service.ActorStatusService;
 import com.team8.project2.domain.member.service.MemberService;
 import com.team8.project2.global.Rq;
 import com.team8.project2.global.dto.RsData;
@@ -46,6 +48,7 @@ public class ApiV1MemberController {
     private final CurationService curationService;
     private final AdminService adminService;
     private final MemberService memberService;
+    private final ActorStatusService actorStatusService;
     private final CommentService commentService;
     private final Rq rq;
 
@@ -187,6 +190,23 @@ public class ApiV1MemberController {
         return new RsData<>("200-1", "팔로우 중인 사용자를 조회했습니다.", followingResDto);
     }
 
+    /**
+     * 목록 카드들의 좋아요·팔로우 여부를 한 번에 조회합니다.
+     * @param curationIds 큐레이션 ID 목록
+     * @param playlistIds 플레이리스트 ID 목록
+     * @param authorIds 작성자 회원 ID 목록
+     * @return ID별 좋아요·팔로우 여부 (비로그인 시 모두 false)
+     */
+    @GetMapping("/me/status")
+    public RsData<ActorStatusResDto> actorStatus(
+            @RequestParam(required = false) List<Long> curationIds,
+            @RequestParam(required = false) List<Long> playlistIds,
+            @RequestParam(required = false) List<Long> authorIds) {
+        Member actor = rq.isLogin() ? rq.getActor() : null;
+        ActorStatusResDto status = actorStatusService.getStatus(actor, curationIds, playlistIds, authorIds);
+        return new RsData<>("200-1", "좋아요·팔로우 여부를 조회했습니다.", status);
+    }
+
     @PostMapping("/profile/images/upload")
     @PreAuthorize("isAuthenticated()")
     public RsData<Void> updateProfileImage(@RequestParam("file") MultipartFile file) {
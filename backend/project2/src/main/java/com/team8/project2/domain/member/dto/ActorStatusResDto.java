@@ -0,0 +1,36 @@
+package com.team8.project2.domain.member.dto;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.Getter;
+
+/**
+ * 목록 화면의 카드별 사용자 상태 응답 DTO입니다.
+ * 요청한 ID마다 좋아요·팔로우 여부를 담으며, 비로그인 시 모두 false입니다.
+ */
+@Getter
+public class ActorStatusResDto {
+
+	private Map<Long, Boolean> likedCurations;
+	private Map<Long, Boolean> likedPlaylists;
+	private Map<Long, Boolean> followedAuthors;
+
+	public static ActorStatusResDto of(Collection<Long> curationIds, Set<Long> likedCurationIds,
+		Collection<Long> playlistIds, Set<Long> likedPlaylistIds,
+		Collection<Long> authorIds, Set<Long> followedAuthorIds) {
+		ActorStatusResDto dto = new ActorStatusResDto();
+		dto.likedCurations = flags(curationIds, likedCurationIds);
+		dto.likedPlaylists = flags(playlistIds, likedPlaylistIds);
+		dto.followedAuthors = flags(authorIds, followedAuthorIds);
+		return dto;
+	}
+
+	private static Map<Long, Boolean> flags(Collection<Long> ids, Set<Long> trueIds) {
+		Map<Long, Boolean> flags = new LinkedHashMap<>();
+		ids.forEach(id -> flags.put(id, trueIds.contains(id)));
+		return flags;
+	}
+}
@@ -0,0 +1,14 @@
+package com.team8.project2.domain.member.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팔로우 또는 언팔로우로 회원의 팔로워 수가 바뀌었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class FollowChangeEvent {
+	private Long followerId;
+	private Long followeeId;
+}
@@ -4,9 +4,11 @@ import lombok.Getter;
 
 @Getter
 public class ProfileImageUpdateEvent {
+	private Long memberId;
 	private String oldProfileImageUrl;
 
-	public ProfileImageUpdateEvent(String oldProfileImageUrl) {
+	public ProfileImageUpdateEvent(Long memberId, String oldProfileImageUrl) {
+		this.memberId = memberId;
 		this.oldProfileImageUrl = oldProfileImageUrl;
 	}
 }
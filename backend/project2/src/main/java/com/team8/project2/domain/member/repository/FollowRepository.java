@@ -1,9 +1,13 @@
 package com.team8.project2.domain.member.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.team8.project2.domain.member.entity.Follow;
@@ -17,5 +21,23 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
 	boolean existsByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
 
+	/**
+	 * 주어진 회원들 중 팔로우하고 있는 회원의 ID를 조회합니다.
+	 */
+	@Query("SELECT f.id.followeeId FROM Follow f WHERE f.id.followerId = :followerId AND f.id.followeeId IN :followeeIds")
+	List<Long> findFolloweeIdsIn(@Param("followerId") Long followerId, @Param("followeeIds") Collection<Long> followeeIds);
+
+	/**
+	 * 회원이 팔로우하는 회원의 ID를 조회합니다.
+	 */
+	@Query("SELECT f.id.followeeId FROM Follow f WHERE f.id.followerId = :followerId")
+	List<Long> findFolloweeIds(@Param("followerId") Long followerId);
+
+	/**
+	 * 회원을 팔로우하는 회원의 ID를 조회합니다.
+	 */
+	@Query("SELECT f.id.followerId FROM Follow f WHERE f.id.followeeId = :followeeId")
+	List<Long> findFollowerIds(@Param("followeeId") Long followeeId, Pageable pageable);
+
 	void deleteByFollowerOrFollowee(Member member, Member member2);
 }
@@ -2,11 +2,15 @@ package com.team8.project2.domain.member.repository;
 
 
 import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.suggest.dto.SuggestSource;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +18,23 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
   Optional<Member> findByMemberId(String MemberId);
   Optional<Member> findByUsername(String username);
   Page<Member> findAll(Pageable pageable);
+
+  /**
+   * 자동완성 색인용으로 회원 이름과 팔로워 수를 ID 순서로 조회합니다.
+   * @param afterId 이 ID 다음부터 조회
+   * @param pageable 조회 개수
+   */
+  @Query("SELECT m.id AS id, m.username AS text, " +
+      "(SELECT COUNT(f) FROM Follow f WHERE f.followee = m) AS weight " +
+      "FROM Member m WHERE m.id > :afterId AND m.username IS NOT NULL ORDER BY m.id")
+  List<SuggestSource> findSuggestSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+  /**
+   * 자동완성 색인용으로 주어진 회원의 이름과 팔로워 수를 조회합니다.
+   * @param ids 회원 ID 목록
+   */
+  @Query("SELECT m.id AS id, m.username AS text, " +
+      "(SELECT COUNT(f) FROM Follow f WHERE f.followee = m) AS weight " +
+      "FROM Member m WHERE m.id IN :ids AND m.username IS NOT NULL")
+  List<SuggestSource> findSuggestSourcesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,122 @@
+package com.team8.project2.domain.member.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.team8.project2.domain.member.dto.ActorStatusResDto;
+import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.member.repository.FollowRepository;
+import com.team8.project2.global.exception.ServiceException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 목록 화면에 보이는 큐레이션·플레이리스트 좋아요 여부와 작성자 팔로우 여부를 한 번에 조회하는 서비스입니다.
+ * 좋아요 여부는 대상별 SET(curation_like:{id}, playlist_like:{id})에 대한 SISMEMBER를 하나의 파이프라인으로 보내고,
+ * 팔로우 여부는 IN 조건 쿼리 한 번으로 조회합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActorStatusService {
+
+	/** 종류별 최대 ID 수 */
+	public static final int MAX_IDS = 100;
+
+	private static final String CURATION_LIKE_KEY_PREFIX = "curation_like:";
+	private static final String PLAYLIST_LIKE_KEY_PREFIX = "playlist_like:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final FollowRepository followRepository;
+
+	/**
+	 * 사용자의 좋아요·팔로우 여부를 조회합니다.
+	 * @param actor 로그인 회원 (비로그인 시 null)
+	 * @param curationIds 큐레이션 ID 목록
+	 * @param playlistIds 플레이리스트 ID 목록
+	 * @param authorIds 작성자 회원 ID 목록
+	 * @return 요청한 ID별 좋아요·팔로우 여부
+	 */
+	@Transactional(readOnly = true)
+	public ActorStatusResDto getStatus(Member actor, List<Long> curationIds, List<Long> playlistIds,
+		List<Long> authorIds) {
+		Set<Long> curations = distinct(curationIds);
+		Set<Long> playlists = distinct(playlistIds);
+		Set<Long> authors = distinct(authorIds);
+		if (actor == null) {
+			return ActorStatusResDto.of(curations, Set.of(), playlists, Set.of(), authors, Set.of());
+		}
+
+		Set<Long> likedCurationIds = new HashSet<>();
+		Set<Long> likedPlaylistIds = new HashSet<>();
+		findLiked(actor.getId(), curations, likedCurationIds, playlists, likedPlaylistIds);
+		Set<Long> followedAuthorIds = authors.isEmpty() ? Set.of()
+			: new HashSet<>(followRepository.findFolloweeIdsIn(actor.getId(), authors));
+
+		return ActorStatusResDto.of(curations, likedCurationIds, playlists, likedPlaylistIds, authors,
+			followedAuthorIds);
+	}
+
+	private Set<Long> distinct(List<Long> ids) {
+		if (ids == null) {
+			return Set.of();
+		}
+		Set<Long> distinctIds = new LinkedHashSet<>(ids);
+		distinctIds.remove(null);
+		if (distinctIds.size() > MAX_IDS) {
+			throw new ServiceException("400-1", "한 번에 조회할 수 있는 ID는 " + MAX_IDS + "개까지입니다.");
+		}
+		return distinctIds;
+	}
+
+	/**
+	 * 큐레이션과 플레이리스트의 좋아요 여부를 한 번의 파이프라인으로 조회합니다.
+	 * Redis 조회에 실패하면 좋아요하지 않은 것으로 응답합니다.
+	 */
+	private void findLiked(Long memberId, Set<Long> curationIds, Set<Long> likedCurationIds,
+		Set<Long> playlistIds, Set<Long> likedPlaylistIds) {
+		if (curationIds.isEmpty() && playlistIds.isEmpty()) {
+			return;
+		}
+		String member = String.valueOf(memberId);
+
+		List<Object> results;
+		try {
+			results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					SetOperations<String, String> setOperations = ((RedisOperations<String, String>)operations)
+						.opsForSet();
+					curationIds.forEach(id -> setOperations.isMember(CURATION_LIKE_KEY_PREFIX + id, member));
+					playlistIds.forEach(id -> setOperations.isMember(PLAYLIST_LIKE_KEY_PREFIX + id, member));
+					return null;
+				}
+			});
+		} catch (DataAccessException e) {
+			log.warn("좋아요 여부 조회 실패 (curationIds: {}, playlistIds: {})", curationIds, playlistIds, e);
+			return;
+		}
+
+		// 결과는 요청 순서대로 큐레이션, 플레이리스트
+		List<Long> ids = new ArrayList<>(curationIds);
+		ids.addAll(playlistIds);
+		for (int i = 0; i < ids.size(); i++) {
+			if (Boolean.TRUE.equals(results.get(i))) {
+				(i < curationIds.size() ? likedCurationIds : likedPlaylistIds).add(ids.get(i));
+			}
+		}
+	}
+}
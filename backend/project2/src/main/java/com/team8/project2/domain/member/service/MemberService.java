@@ -23,6 +23,7 @@ import com.team8.project2.domain.member.dto.UnfollowResDto;
 import com.team8.project2.domain.member.entity.Follow;
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.entity.RoleEnum;
+import com.team8.project2.domain.member.event.FollowChangeEvent;
 import com.team8.project2.domain.member.event.ProfileImageUpdateEvent;
 import com.team8.project2.domain.member.repository.FollowRepository;
 import com.team8.project2.domain.member.repository.MemberRepository;
@@ -135,6 +136,7 @@ public class MemberService {
 		});
 
 		follow = followRepository.save(follow);
+		eventPublisher.publishEvent(new FollowChangeEvent(follower.getId(), followee.getId()));
 		return FollowResDto.fromEntity(follow);
 	}
 
@@ -154,6 +156,7 @@ public class MemberService {
 			.orElseThrow(() -> new ServiceException("400-1", "팔로우중이 아닙니다."));
 
 		followRepository.delete(follow);
+		eventPublisher.publishEvent(new FollowChangeEvent(follower.getId(), followee.getId()));
 		return UnfollowResDto.fromEntity(follow);
 	}
 
@@ -202,6 +205,6 @@ public class MemberService {
 		actor.setProfileImage(s3Uploader.getBaseUrl() + imageFileName);
 
 		memberRepository.save(actor);
-		eventPublisher.publishEvent(new ProfileImageUpdateEvent(oldProfileImageUrl));
+		eventPublisher.publishEvent(new ProfileImageUpdateEvent(actor.getId(), oldProfileImageUrl));
 	}
 }
@@ -12,10 +12,14 @@ import com.team8.project2.domain.playlist.service.PlaylistService;
 import com.team8.project2.global.Rq;
 import com.team8.project2.global.dto.RsData;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.Duration;
 import java.util.List;
@@ -32,6 +36,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ApiV1PlaylistController {
 
+    private static final Duration EXPLORE_MAX_AGE = Duration.ofSeconds(60);
+
     private final PlaylistService playlistService;
     private final PlaylistRepository playlistRepository;
     private final PlaylistLikeRepository playlistLikeRepository;
@@ -52,13 +58,21 @@ public class ApiV1PlaylistController {
 
     /**
      * 특정 플레이리스트를 조회합니다.
+     * 조회수 집계를 위해 서비스는 항상 호출하고, If-None-Match가 현재 ETag와 같으면 본문 없이 304로 응답합니다.
      *
      * @param id 조회할 플레이리스트의 ID
-     * @return 조회된 플레이리스트 정보
+     * @return 조회된 플레이리스트 정보 (변경이 없으면 null)
      */
     @GetMapping("/{id}")
-    public RsData<PlaylistDto> getPlaylist(@PathVariable Long id, HttpServletRequest request) {
+    public RsData<PlaylistDto> getPlaylist(@PathVariable Long id, HttpServletRequest request,
+                                           HttpServletResponse response, WebRequest webRequest) {
         PlaylistDto playlist = playlistService.getPlaylist(id, request);
+
+        // 소유 여부가 포함되므로 브라우저에만 저장하고 매번 재검증
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (webRequest.checkNotModified(playlist.eTag())) {
+            return null;
+        }
         return RsData.success("플레이리스트 조회 성공", playlist);
     }
 
@@ -210,8 +224,24 @@ public class ApiV1PlaylistController {
 
     private final LinkService linkService;
 
+    /**
+     * 공개 플레이리스트 전체를 조회합니다.
+     * 집계 쿼리로 만든 ETag를 먼저 비교해, 변경이 없으면 목록을 읽지 않고 304로 응답합니다.
+     * 비로그인 응답은 공유 캐시에 짧게 저장할 수 있고, 로그인 응답은 소유 여부가 포함되므로 브라우저에만 저장합니다.
+     *
+     * @return 공개 플레이리스트 목록 (변경이 없으면 null)
+     */
     @GetMapping("/explore")
-    public RsData<List<PlaylistDto>> getAllPublicPlaylists(){
+    public RsData<List<PlaylistDto>> getAllPublicPlaylists(HttpServletResponse response, WebRequest webRequest) {
+        CacheControl cacheControl = rq.isLogin()
+                ? CacheControl.noCache().cachePrivate()
+                : CacheControl.maxAge(EXPLORE_MAX_AGE).cachePublic();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION + ", " + HttpHeaders.COOKIE);
+
+        if (webRequest.checkNotModified(playlistService.getPublicPlaylistsETag())) {
+            return null;
+        }
         List<PlaylistDto> playlists = playlistService.getAllPublicPlaylists();
         return RsData.success("공개 플레이리스트 전체 조회를 하였습니다.", playlists);
     }
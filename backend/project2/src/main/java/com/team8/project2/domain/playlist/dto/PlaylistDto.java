@@ -2,6 +2,7 @@ package com.team8.project2.domain.playlist.dto;
 
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.playlist.entity.Playlist;
+import com.team8.project2.standard.util.Ut;
 import lombok.Builder;
 import lombok.Data;
 
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -80,4 +82,13 @@ public class PlaylistDto {
                 .build();
     }
 
+    /**
+     * 응답 내용을 식별하는 약한 ETag를 반환합니다.
+     * 태그는 정렬해서 사용하므로 Set의 순회 순서와 무관하게 같은 값이 나옵니다.
+     * @return 약한 ETag
+     */
+    public String eTag() {
+        return Ut.ETag.weakHash(id, title, description, isPublic, viewCount, likeCount, items,
+                tags == null ? null : new TreeSet<>(tags), createdAt, isOwner);
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
@@ -61,6 +62,34 @@ public interface PlaylistRepository extends JpaRepository<Playlist, Long> {
 
     List<Playlist> findAllByIsPublicTrue();
 
+    /**
+     * 공개 플레이리스트 전체 목록의 변경 여부를 판단하기 위한 집계 값을 조회하는 메서드입니다.
+     * 플레이리스트 수정 시각과 조회수·좋아요 수, 항목의 추가·삭제·순서 변경, 항목으로 보여 주는 링크의
+     * 제목·설명·URL 변경(링크 수정 시각)이 집계에 반영됩니다.
+     *
+     * @return 공개 플레이리스트 집계 값
+     */
+    @Query("SELECT COUNT(p) AS playlistCount, MAX(p.modifiedAt) AS lastModifiedAt, " +
+            "COALESCE(SUM(p.viewCount), 0) AS viewCountSum, COALESCE(SUM(p.likeCount), 0) AS likeCountSum, " +
+            "(SELECT COUNT(i) FROM PlaylistItem i WHERE i.playlist.isPublic = true) AS itemCount, " +
+            "(SELECT COALESCE(SUM(i.id * i.displayOrder), 0) FROM PlaylistItem i WHERE i.playlist.isPublic = true) AS itemOrderChecksum, " +
+            "(SELECT MAX(l.modifiedAt) FROM PlaylistItem i JOIN i.link l WHERE i.playlist.isPublic = true) AS linkLastModifiedAt " +
+            "FROM Playlist p WHERE p.isPublic = true")
+    PublicPlaylistSummary summarizePublicPlaylists();
+
+    /**
+     * 공개 플레이리스트 집계 값 프로젝션입니다.
+     */
+    interface PublicPlaylistSummary {
+        Long getPlaylistCount();
+        LocalDateTime getLastModifiedAt();
+        Long getViewCountSum();
+        Long getLikeCountSum();
+        Long getItemCount();
+        Long getItemOrderChecksum();
+        LocalDateTime getLinkLastModifiedAt();
+    }
+
     /**
      * 특정 사용자의 플레이리스트 중 특정 큐레이션이 포함된 플레이리스트를 조회하는 메서드입니다.
      *
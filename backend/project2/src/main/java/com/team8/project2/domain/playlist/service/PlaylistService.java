@@ -10,9 +10,13 @@ import com.team8.project2.domain.playlist.entity.PlaylistItem;
 import com.team8.project2.domain.playlist.entity.PlaylistLike;
 import com.team8.project2.domain.playlist.repository.PlaylistLikeRepository;
 import com.team8.project2.domain.playlist.repository.PlaylistRepository;
+import com.team8.project2.global.RedisLikeRebuilder;
+import com.team8.project2.global.RedisLikeSynchronizer;
 import com.team8.project2.global.Rq;
+import com.team8.project2.global.UniqueVisitorService;
 import com.team8.project2.global.exception.BadRequestException;
 import com.team8.project2.global.exception.NotFoundException;
+import com.team8.project2.standard.util.Ut;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,10 +24,9 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 import java.time.Duration;
 import java.util.*;
 import java.util.function.Function;
@@ -46,8 +49,13 @@ public class PlaylistService {
     private static final String VIEW_COUNT_KEY = "playlist:view_count:"; // 조회수 저장
     private static final String LIKE_COUNT_KEY = "playlist:like_count:"; // 좋아요 수 저장
     private static final String RECOMMEND_KEY = "playlist:recommend:"; // 추천 캐싱
+    public static final RedisLikeSynchronizer.Target PLAYLIST_LIKE_SYNC = new RedisLikeSynchronizer.Target(
+            "플레이리스트", "playlist_like:", "dirty:playlist_like", "playlist", "id", "playlist_likes", "playlist_id",
+            true);
     private final Rq rq;
     private final LinkService linkService;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final RedisLikeSynchronizer redisLikeSynchronizer;
 
     /**
      * ✅ 플레이리스트 추천 로직
@@ -204,39 +212,40 @@ public class PlaylistService {
 
     /**
      * 좋아요 토글 처리
+     * 좋아요 수와 좋아요 목록은 Redis에만 반영하고, DB에는 syncPlaylistLikesToDB에서 바뀐 플레이리스트만 일괄 반영합니다.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public void likePlaylist(Long playlistId, Long memberId) {
+        if (!playlistRepository.existsById(playlistId)) {
+            throw new NotFoundException("해당 플레이리스트를 찾을 수 없습니다.");
+        }
+
         String redisKey = "playlist_like:" + playlistId;
         String memberLikedKey = "member_liked_playlists:" + memberId;
         String memberStr = String.valueOf(memberId);
 
         String luaScript =
+                "local liked = 1 " +
                 "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then " +
-                        "   redis.call('SREM', KEYS[1], ARGV[1]); return 0; " +  // 좋아요 취소
+                        "   redis.call('SREM', KEYS[1], ARGV[1]); " +
+                        "   redis.call('SREM', KEYS[2], ARGV[2]); " +  // 좋아요 취소
+                        "   redis.call('SADD', KEYS[3], ARGV[2]); liked = 0; " +
                         "else " +
-                        "   redis.call('SADD', KEYS[1], ARGV[1]); return 1; " +  // 좋아요 추가
-                        "end";
-
-        Long result = redisTemplate.execute(
+                        "   redis.call('SADD', KEYS[1], ARGV[1]); " +
+                        "   redis.call('SADD', KEYS[2], ARGV[2]); " +  // 좋아요 추가
+                        "   redis.call('SADD', KEYS[3], ARGV[2]); " +
+                        "end " +
+                        "if redis.call('EXISTS', KEYS[4]) == 1 then " +  // 좋아요 재구축 중이면 덮어쓰지 않도록 기록
+                        "   redis.call('SADD', KEYS[4], ARGV[2]); " +
+                        "end " +
+                        "return liked";
+
+        redisTemplate.execute(
                 new DefaultRedisScript<>(luaScript, Long.class),
-                Collections.singletonList(redisKey),
-                memberStr
+                List.of(redisKey, memberLikedKey, PLAYLIST_LIKE_SYNC.dirtyKey(),
+                        RedisLikeRebuilder.toggledKey(PLAYLIST_LIKE_SYNC)),
+                memberStr, String.valueOf(playlistId)
         );
-
-        if (result != null && result == 1) {
-            redisTemplate.opsForSet().add(memberLikedKey, String.valueOf(playlistId));
-        } else if (result != null && result == 0) {
-            redisTemplate.opsForSet().remove(memberLikedKey, String.valueOf(playlistId));
-        }
-
-        Long likeCount = redisTemplate.opsForSet().size(redisKey);
-
-        Playlist playlist = playlistRepository.findById(playlistId)
-                .orElseThrow(() -> new NotFoundException("해당 플레이리스트를 찾을 수 없습니다."));
-        playlist.setLikeCount(likeCount != null ? likeCount : 0);
-        playlistRepository.save(playlist);
-
     }
 
     /**
@@ -260,56 +269,12 @@ public class PlaylistService {
     }
 
     /**
-     * Redis에 저장된 플레이리스트 좋아요 수를 DB 동기화
+     * 마지막 동기화 이후 좋아요가 바뀐 플레이리스트만 좋아요 수와 좋아요 목록을 DB에 반영
      */
     @Scheduled(fixedRate = 600000)
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void syncPlaylistLikesToDB() {
-        Set<String> keys = redisTemplate.keys("playlist_like:*");
-
-        for (String key : keys) {
-            Long playlistId = Long.parseLong(key.split(":")[1]);
-            Playlist playlist = playlistRepository.findById(playlistId).orElse(null);
-            if (playlist == null) continue;
-
-            Set<Object> rawMemberIds = redisTemplate.opsForSet().members(key);
-            if (rawMemberIds == null) continue;
-
-            Set<String> memberIds = rawMemberIds.stream()
-                    .map(Object::toString)
-                    .collect(Collectors.toSet());
-
-            if (memberIds == null) continue;
-
-            for (String memberStr : memberIds) {
-                Long memberId = Long.parseLong(memberStr);
-                Member member = memberRepository.findById(memberId).orElse(null);
-                if (member == null) continue;
-
-                PlaylistLike.PlaylistLikeId likeId = new PlaylistLike.PlaylistLikeId();
-                likeId.setPlaylistId(playlistId);
-                likeId.setMemberId(memberId);
-
-                if (!playlistLikeRepository.existsById(likeId)) {
-                    PlaylistLike like = PlaylistLike.createLike(playlist, member);
-                    playlistLikeRepository.save(like);
-                }
-            }
-
-            Long likeCount = redisTemplate.opsForSet().size(key);
-            playlist.setLikeCount(likeCount != null ? likeCount : 0);
-            playlistRepository.save(playlist);
-
-            List<PlaylistLike> currentLikesInDB = playlistLikeRepository.findAllById_PlaylistId(playlistId);
-            Set<Long> currentMemberIdSet = memberIds.stream().map(Long::parseLong).collect(Collectors.toSet());
-
-            for (PlaylistLike dbLike : currentLikesInDB) {
-                if (!currentMemberIdSet.contains(dbLike.getMember().getId())) {
-                    playlistLikeRepository.delete(dbLike);
-                }
-            }
-        }
-
+        redisLikeSynchronizer.sync(PLAYLIST_LIKE_SYNC);
     }
 
 
@@ -391,13 +356,13 @@ public class PlaylistService {
             playlist.setItems(new ArrayList<>());
         }
 
-        String ip = getClientIp(request);
-        String redisKey = "playlist_view_" + id + "_" + ip;
-        Boolean isNewView = redisTemplate.opsForValue().setIfAbsent(redisKey, "true", Duration.ofDays(1));
+        // 오늘 처음 방문한 사용자만 조회수 집계 (로그인 시 회원, 비로그인 시 IP 기준)
+        long newViews = uniqueVisitorService.recordVisit(UniqueVisitorService.PLAYLIST, id,
+                uniqueVisitorService.resolveVisitor(request));
 
-        if (Boolean.TRUE.equals(isNewView)) {
-            redisTemplate.opsForZSet().incrementScore(VIEW_COUNT_KEY, id.toString(), 1);
-            playlist.setViewCount(currentViewCount + 1);
+        if (newViews > 0) {
+            redisTemplate.opsForZSet().incrementScore(VIEW_COUNT_KEY, id.toString(), newViews);
+            playlist.setViewCount(currentViewCount + newViews);
         }
 
         Member actor = rq.isLogin() ? rq.getActor() : null;
@@ -440,48 +405,6 @@ public class PlaylistService {
         }
     }
 
-    // getCuration의  IP 기반 조회수 증가 방지 로직 추가
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_CLIENT_IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_X_FORWARDED_FOR");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-RealIP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("REMOTE_ADDR");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-
-        if ("0:0:0:0:0:0:0:1".equals(ip) || "127.0.0.1".equals(ip)) {
-            try {
-                InetAddress address = InetAddress.getLocalHost();
-                ip = address.getHostName() + "/" + address.getHostAddress();
-            } catch (UnknownHostException e) {
-                throw new RuntimeException(e);
-            }
-        }
-
-        return ip;
-    }
-
-
-
     /**
      * 사용자의 모든 플레이리스트를 조회합니다.
      *
@@ -500,6 +423,21 @@ public class PlaylistService {
     /*
      * 공개 플레이리스트 전체 조회
      */
+    /**
+     * 공개 플레이리스트 전체 조회 응답의 약한 ETag를 반환합니다.
+     * 플레이리스트와 항목을 모두 읽지 않고 집계 쿼리 한 번으로 변경 여부를 판단합니다.
+     * 소유 여부(isOwner)가 응답에 포함되므로 로그인한 회원 ID도 ETag에 포함합니다.
+     */
+    @Transactional(readOnly = true)
+    public String getPublicPlaylistsETag() {
+        PlaylistRepository.PublicPlaylistSummary summary = playlistRepository.summarizePublicPlaylists();
+        Long actorId = rq.isLogin() ? rq.getActor().getId() : null;
+
+        return Ut.ETag.weakHash(summary.getPlaylistCount(), summary.getLastModifiedAt(),
+                summary.getViewCountSum(), summary.getLikeCountSum(), summary.getItemCount(),
+                summary.getItemOrderChecksum(), summary.getLinkLastModifiedAt(), actorId);
+    }
+
     public List<PlaylistDto> getAllPublicPlaylists() {
         List<Playlist> playlists = playlistRepository.findAllByIsPublicTrue();
 
@@ -577,6 +515,7 @@ public class PlaylistService {
             playlistLikeRepository.deleteById_PlaylistId(id);
         }
         playlistRepository.deleteById(id);
+        uniqueVisitorService.deleteVisits(UniqueVisitorService.PLAYLIST, id);
     }
 
 
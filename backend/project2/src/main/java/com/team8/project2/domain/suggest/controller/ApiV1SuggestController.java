@@ -0,0 +1,40 @@
+package com.team8.project2.domain.suggest.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.team8.project2.domain.suggest.dto.SuggestResDto;
+import com.team8.project2.domain.suggest.dto.SuggestType;
+import com.team8.project2.domain.suggest.service.SuggestService;
+import com.team8.project2.global.dto.RsData;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색어 자동완성 API 컨트롤러 클래스입니다.
+ */
+@RestController
+@RequestMapping("/api/v1/suggest")
+@RequiredArgsConstructor
+public class ApiV1SuggestController {
+
+	private final SuggestService suggestService;
+
+	/**
+	 * 입력 중인 검색어로 시작하는 태그, 큐레이터, 큐레이션 제목을 조회합니다.
+	 * 메모리 색인만 사용하므로 DB를 조회하지 않습니다.
+	 * @param q 입력 중인 검색어
+	 * @param type 조회할 종류 (없으면 전체)
+	 * @param size 종류별 최대 개수
+	 * @return 자동완성 결과
+	 */
+	@GetMapping
+	public RsData<SuggestResDto> suggest(@RequestParam(defaultValue = "") String q,
+		@RequestParam(required = false) SuggestType type,
+		@RequestParam(defaultValue = "5") int size) {
+		SuggestResDto result = suggestService.suggest(q, type, size);
+		return new RsData<>("200-1", "자동완성 결과를 조회했습니다.", result);
+	}
+}
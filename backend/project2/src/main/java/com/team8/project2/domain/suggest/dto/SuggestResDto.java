@@ -0,0 +1,44 @@
+package com.team8.project2.domain.suggest.dto;
+
+import java.util.List;
+
+import com.team8.project2.domain.suggest.service.PrefixTrie;
+
+import lombok.Getter;
+
+/**
+ * 자동완성 응답 DTO입니다. 종류별로 순위가 높은 순서대로 담습니다.
+ */
+@Getter
+public class SuggestResDto {
+
+	private List<Item> tags;
+	private List<Item> members;
+	private List<Item> curations;
+
+	public static SuggestResDto of(List<PrefixTrie.Entry> tags, List<PrefixTrie.Entry> members,
+		List<PrefixTrie.Entry> curations) {
+		SuggestResDto dto = new SuggestResDto();
+		dto.tags = tags.stream().map(Item::from).toList();
+		dto.members = members.stream().map(Item::from).toList();
+		dto.curations = curations.stream().map(Item::from).toList();
+		return dto;
+	}
+
+	public static SuggestResDto empty() {
+		return of(List.of(), List.of(), List.of());
+	}
+
+	/**
+	 * 자동완성 항목
+	 * @param id 태그·회원·큐레이션 ID
+	 * @param text 태그 이름, 회원 이름 또는 큐레이션 제목
+	 * @param weight 순위 기준 값 (태그 사용 수, 팔로워 수, 좋아요 수)
+	 */
+	public record Item(Long id, String text, long weight) {
+
+		static Item from(PrefixTrie.Entry entry) {
+			return new Item(entry.id(), entry.text(), entry.weight());
+		}
+	}
+}
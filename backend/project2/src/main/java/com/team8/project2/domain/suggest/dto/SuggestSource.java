@@ -0,0 +1,12 @@
+package com.team8.project2.domain.suggest.dto;
+
+/**
+ * 자동완성 색인에 넣을 항목의 ID, 문자열, 가중치를 조회하는 프로젝션입니다.
+ */
+public interface SuggestSource {
+	Long getId();
+
+	String getText();
+
+	Long getWeight();
+}
@@ -0,0 +1,10 @@
+package com.team8.project2.domain.suggest.dto;
+
+/**
+ * 자동완성 대상 종류
+ */
+public enum SuggestType {
+	TAG,
+	MEMBER,
+	CURATION
+}
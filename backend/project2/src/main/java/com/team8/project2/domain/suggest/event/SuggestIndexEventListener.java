@@ -0,0 +1,48 @@
+package com.team8.project2.domain.suggest.event;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.team8.project2.domain.curation.curation.event.CurationCreateEvent;
+import com.team8.project2.domain.curation.curation.event.CurationDeleteEvent;
+import com.team8.project2.domain.curation.curation.event.CurationUpdateEvent;
+import com.team8.project2.domain.member.event.FollowChangeEvent;
+import com.team8.project2.domain.suggest.service.SuggestService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐레이션과 팔로우 변경을 자동완성 색인에 반영한다.
+ * 커밋 이후에 DB에서 다시 읽어야 롤백된 변경이 색인에 남지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SuggestIndexEventListener {
+
+	private final SuggestService suggestService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void indexCreatedCuration(CurationCreateEvent event) {
+		suggestService.refreshCurations(List.of(event.getCurationId()));
+		suggestService.refreshTags(event.getTagNames());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void indexUpdatedCuration(CurationUpdateEvent event) {
+		suggestService.refreshCurations(List.of(event.getCurationId()));
+		suggestService.refreshTags(event.getTagNames());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void deleteCuration(CurationDeleteEvent event) {
+		suggestService.refreshCurations(List.of(event.getCurationId()));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void indexFollowee(FollowChangeEvent event) {
+		suggestService.refreshMembers(List.of(event.getFolloweeId()));
+	}
+}
@@ -0,0 +1,248 @@
+package com.team8.project2.domain.suggest.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가중치가 있는 문자열을 접두어로 찾는 메모리 트라이입니다.
+ * 각 노드는 자식을 문자 배열로 정렬해 보관하고(이진 탐색), 하위 트리에서 가중치가 가장 큰 항목 K개를 미리 계산해 둡니다.
+ * 따라서 조회는 접두어 길이만큼 노드를 따라간 뒤 저장된 목록을 복사하는 것으로 끝납니다.
+ *
+ * 항목을 추가하거나 가중치를 올리면 경로의 상위 목록에 끼워 넣고,
+ * 삭제하거나 가중치를 내리면 그 항목이 상위 목록에 있던 노드만 자식의 목록으로 다시 계산합니다.
+ * 삭제로 비게 된 노드는 남겨 두고 주기적 재구축 때 정리합니다.
+ *
+ * 메모리를 줄이기 위해 트라이 깊이는 maxDepth 글자로 제한합니다. 더 긴 문자열은 maxDepth 위치의 노드에 보관하고,
+ * 그보다 긴 접두어는 그 노드의 항목을 직접 걸러서 찾습니다.
+ */
+public class PrefixTrie {
+
+	private static final Comparator<Entry> BY_WEIGHT = Comparator.comparingLong(Entry::weight).reversed()
+		.thenComparingLong(Entry::id);
+	private static final Entry[] NO_ENTRIES = new Entry[0];
+	private static final char[] NO_LABELS = new char[0];
+	private static final Node[] NO_CHILDREN = new Node[0];
+
+	private final int topK;
+	private final int maxDepth;
+	private final Node root = new Node();
+	private final Map<Long, Entry> entries = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public PrefixTrie(int topK, int maxDepth) {
+		this.topK = topK;
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * 접두어로 시작하는 항목을 가중치가 큰 순서로 반환합니다.
+	 * @param prefix 접두어 (대소문자·앞뒤 공백 무시)
+	 * @param limit 최대 개수 (K보다 크면 K개)
+	 * @return 항목 목록
+	 */
+	public List<Entry> search(String prefix, int limit) {
+		String key = normalize(prefix);
+		lock.readLock().lock();
+		try {
+			Node node = root;
+			int depth = Math.min(key.length(), maxDepth);
+			for (int i = 0; i < depth && node != null; i++) {
+				node = node.child(key.charAt(i));
+			}
+			if (node == null) {
+				return List.of();
+			}
+			if (key.length() <= maxDepth) {
+				return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+			}
+			if (node.terminals == null) {
+				return List.of();
+			}
+			return node.terminals.stream()
+				.filter(entry -> normalize(entry.text()).startsWith(key))
+				.sorted(BY_WEIGHT)
+				.limit(limit)
+				.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 항목을 추가하거나 문자열·가중치를 바꿉니다.
+	 * @param id 항목 ID
+	 * @param text 표시할 문자열
+	 * @param weight 가중치
+	 */
+	public void put(long id, String text, long weight) {
+		Entry entry = new Entry(id, text, weight);
+		lock.writeLock().lock();
+		try {
+			Entry previous = entries.put(id, entry);
+			if (previous != null) {
+				if (previous.equals(entry)) {
+					return;
+				}
+				detach(previous);
+			}
+			attach(entry);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 항목을 삭제합니다.
+	 * @param id 항목 ID
+	 */
+	public void remove(long id) {
+		lock.writeLock().lock();
+		try {
+			Entry previous = entries.remove(id);
+			if (previous != null) {
+				detach(previous);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void attach(Entry entry) {
+		String key = indexKey(entry.text());
+		Node node = root;
+		node.offer(entry, topK);
+		for (int i = 0; i < key.length(); i++) {
+			node = node.childOrCreate(key.charAt(i));
+			node.offer(entry, topK);
+		}
+		if (node.terminals == null) {
+			node.terminals = new ArrayList<>(1);
+		}
+		node.terminals.add(entry);
+	}
+
+	private void detach(Entry entry) {
+		String key = indexKey(entry.text());
+		List<Node> path = new ArrayList<>(key.length() + 1);
+		Node node = root;
+		path.add(node);
+		for (int i = 0; i < key.length(); i++) {
+			node = node.child(key.charAt(i));
+			path.add(node);
+		}
+		node.terminals.remove(entry);
+		if (node.terminals.isEmpty()) {
+			node.terminals = null;
+		}
+
+		// 아래쪽 노드부터 다시 계산해야 상위 노드가 갱신된 자식 목록을 사용
+		for (int i = path.size() - 1; i >= 0; i--) {
+			Node current = path.get(i);
+			if (current.contains(entry)) {
+				current.recompute(topK);
+			}
+		}
+	}
+
+	private String indexKey(String text) {
+		String key = normalize(text);
+		return key.length() > maxDepth ? key.substring(0, maxDepth) : key;
+	}
+
+	static String normalize(String text) {
+		return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 트라이 항목
+	 * @param id 항목 ID
+	 * @param text 표시할 문자열
+	 * @param weight 가중치
+	 */
+	public record Entry(long id, String text, long weight) {
+	}
+
+	private static final class Node {
+		private char[] labels = NO_LABELS;
+		private Node[] children = NO_CHILDREN;
+		/** 이 노드에서 끝나는 항목 (없으면 null) */
+		private List<Entry> terminals;
+		/** 하위 트리에서 가중치가 가장 큰 항목들 (가중치 내림차순) */
+		private Entry[] top = NO_ENTRIES;
+
+		Node child(char label) {
+			int index = Arrays.binarySearch(labels, label);
+			return index < 0 ? null : children[index];
+		}
+
+		Node childOrCreate(char label) {
+			int index = Arrays.binarySearch(labels, label);
+			if (index >= 0) {
+				return children[index];
+			}
+			int insertAt = -index - 1;
+			Node node = new Node();
+			char[] newLabels = new char[labels.length + 1];
+			Node[] newChildren = new Node[children.length + 1];
+			System.arraycopy(labels, 0, newLabels, 0, insertAt);
+			System.arraycopy(children, 0, newChildren, 0, insertAt);
+			newLabels[insertAt] = label;
+			newChildren[insertAt] = node;
+			System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+			System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+			labels = newLabels;
+			children = newChildren;
+			return node;
+		}
+
+		boolean contains(Entry entry) {
+			for (Entry candidate : top) {
+				if (candidate.equals(entry)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/** 상위 목록에 들어갈 수 있으면 정렬 위치에 끼워 넣음 */
+		void offer(Entry entry, int topK) {
+			int position = Arrays.binarySearch(top, entry, BY_WEIGHT);
+			int insertAt = position < 0 ? -position - 1 : position;
+			if (insertAt >= topK) {
+				return;
+			}
+			int length = Math.min(top.length + 1, topK);
+			Entry[] newTop = new Entry[length];
+			System.arraycopy(top, 0, newTop, 0, insertAt);
+			newTop[insertAt] = entry;
+			System.arraycopy(top, insertAt, newTop, insertAt + 1, length - insertAt - 1);
+			top = newTop;
+		}
+
+		/** 이 노드에서 끝나는 항목과 자식들의 상위 목록으로 다시 계산 */
+		void recompute(int topK) {
+			List<Entry> candidates = terminals == null ? new ArrayList<>() : new ArrayList<>(terminals);
+			for (Node child : children) {
+				candidates.addAll(Arrays.asList(child.top));
+			}
+			candidates.sort(BY_WEIGHT);
+			top = candidates.subList(0, Math.min(topK, candidates.size())).toArray(NO_ENTRIES);
+		}
+	}
+}
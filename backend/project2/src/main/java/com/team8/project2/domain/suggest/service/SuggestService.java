@@ -0,0 +1,209 @@
+package com.team8.project2.domain.suggest.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.tag.repository.TagRepository;
+import com.team8.project2.domain.member.repository.MemberRepository;
+import com.team8.project2.domain.suggest.dto.SuggestResDto;
+import com.team8.project2.domain.suggest.dto.SuggestSource;
+import com.team8.project2.domain.suggest.dto.SuggestType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 태그 이름, 회원 이름, 큐레이션 제목의 자동완성을 제공하는 서비스입니다.
+ * 종류별로 접두어 트라이를 메모리에 두고, 태그는 연결된 큐레이션 수, 회원은 팔로워 수, 큐레이션은 좋아요 수로 순위를 매깁니다.
+ *
+ * 시작 시와 주기적으로 DB에서 전체를 다시 구축하고, 같은 인스턴스의 큐레이션 생성·수정·삭제와 팔로우 변경은
+ * 이벤트로 해당 항목만 다시 읽어 반영합니다. 큐레이션 삭제·태그 제거로 줄어든 태그 사용 수, 신규 회원,
+ * 좋아요 수 변화, 다른 인스턴스의 변경은 다음 재구축 때 반영됩니다.
+ */
+@Slf4j
+@Service
+public class SuggestService {
+
+	private final TagRepository tagRepository;
+	private final MemberRepository memberRepository;
+	private final CurationRepository curationRepository;
+	private final int topK;
+	private final int maxDepth;
+	private final int batchSize;
+
+	private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+	/** 재구축 중에 변경된 항목 (교체 후 다시 반영) */
+	private final Set<String> changedTagNames = ConcurrentHashMap.newKeySet();
+	private final Set<Long> changedMemberIds = ConcurrentHashMap.newKeySet();
+	private final Set<Long> changedCurationIds = ConcurrentHashMap.newKeySet();
+
+	private volatile PrefixTrie tags;
+	private volatile PrefixTrie members;
+	private volatile PrefixTrie curations;
+
+	public SuggestService(TagRepository tagRepository, MemberRepository memberRepository,
+		CurationRepository curationRepository,
+		@Value("${custom.suggest.top-k:10}") int topK,
+		@Value("${custom.suggest.max-depth:12}") int maxDepth,
+		@Value("${custom.suggest.batch-size:1000}") int batchSize) {
+		this.tagRepository = tagRepository;
+		this.memberRepository = memberRepository;
+		this.curationRepository = curationRepository;
+		this.topK = topK;
+		this.maxDepth = maxDepth;
+		this.batchSize = batchSize;
+		this.tags = new PrefixTrie(topK, maxDepth);
+		this.members = new PrefixTrie(topK, maxDepth);
+		this.curations = new PrefixTrie(topK, maxDepth);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		rebuild();
+	}
+
+	/**
+	 * 접두어로 시작하는 태그, 회원, 큐레이션을 순위대로 조회합니다.
+	 * @param query 입력 중인 검색어
+	 * @param type 조회할 종류 (null이면 전체)
+	 * @param size 종류별 최대 개수 (최대 top-k)
+	 * @return 자동완성 결과
+	 */
+	public SuggestResDto suggest(String query, SuggestType type, int size) {
+		if (!StringUtils.hasText(query) || size <= 0) {
+			return SuggestResDto.empty();
+		}
+		int limit = Math.min(size, topK);
+		return SuggestResDto.of(
+			type == null || type == SuggestType.TAG ? tags.search(query, limit) : List.of(),
+			type == null || type == SuggestType.MEMBER ? members.search(query, limit) : List.of(),
+			type == null || type == SuggestType.CURATION ? curations.search(query, limit) : List.of());
+	}
+
+	/**
+	 * 태그의 사용 수를 DB에서 다시 읽어 반영합니다.
+	 * @param tagNames 태그 이름 목록
+	 */
+	public void refreshTags(Collection<String> tagNames) {
+		if (tagNames == null || tagNames.isEmpty()) {
+			return;
+		}
+		if (rebuilding.get()) {
+			changedTagNames.addAll(tagNames);
+		}
+		PrefixTrie current = tags;
+		tagRepository.findSuggestSourcesByNameIn(tagNames).forEach(source -> put(current, source));
+	}
+
+	/**
+	 * 회원 이름과 팔로워 수를 DB에서 다시 읽어 반영합니다. 없는 회원은 삭제합니다.
+	 * @param memberIds 회원 ID 목록
+	 */
+	public void refreshMembers(Collection<Long> memberIds) {
+		if (memberIds.isEmpty()) {
+			return;
+		}
+		if (rebuilding.get()) {
+			changedMemberIds.addAll(memberIds);
+		}
+		reload(members, memberIds, memberRepository.findSuggestSourcesByIdIn(memberIds));
+	}
+
+	/**
+	 * 큐레이션 제목과 좋아요 수를 DB에서 다시 읽어 반영합니다. 삭제된 큐레이션은 삭제합니다.
+	 * @param curationIds 큐레이션 ID 목록
+	 */
+	public void refreshCurations(Collection<Long> curationIds) {
+		if (curationIds.isEmpty()) {
+			return;
+		}
+		if (rebuilding.get()) {
+			changedCurationIds.addAll(curationIds);
+		}
+		reload(curations, curationIds, curationRepository.findSuggestSourcesByIdIn(curationIds));
+	}
+
+	/**
+	 * DB 전체로 트라이를 새로 만들어 교체합니다. 이미 재구축 중이면 건너뜁니다.
+	 * 교체 전에 이벤트로 들어온 변경은 교체 후 다시 읽어 반영합니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.suggest.rebuild-interval-ms:600000}",
+		initialDelayString = "${custom.suggest.rebuild-interval-ms:600000}")
+	public void rebuild() {
+		if (!rebuilding.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			long startedAt = System.nanoTime();
+			PrefixTrie newTags = build(tagRepository::findSuggestSourcesAfter);
+			PrefixTrie newMembers = build(memberRepository::findSuggestSourcesAfter);
+			PrefixTrie newCurations = build(curationRepository::findSuggestSourcesAfter);
+			tags = newTags;
+			members = newMembers;
+			curations = newCurations;
+			log.info("자동완성 색인 재구축 완료: 태그 {}개, 회원 {}명, 큐레이션 {}개 ({}ms)", newTags.size(),
+				newMembers.size(), newCurations.size(), (System.nanoTime() - startedAt) / 1_000_000);
+		} finally {
+			rebuilding.set(false);
+		}
+
+		List<String> tagNames = drain(changedTagNames);
+		List<Long> memberIds = drain(changedMemberIds);
+		List<Long> curationIds = drain(changedCurationIds);
+		refreshTags(tagNames);
+		refreshMembers(memberIds);
+		refreshCurations(curationIds);
+	}
+
+	private PrefixTrie build(BiFunction<Long, Pageable, List<SuggestSource>> loader) {
+		PrefixTrie trie = new PrefixTrie(topK, maxDepth);
+		long afterId = 0;
+		List<SuggestSource> batch;
+		do {
+			batch = loader.apply(afterId, PageRequest.of(0, batchSize));
+			for (SuggestSource source : batch) {
+				put(trie, source);
+				afterId = source.getId();
+			}
+		} while (batch.size() == batchSize);
+		return trie;
+	}
+
+	private void reload(PrefixTrie trie, Collection<Long> ids, List<SuggestSource> sources) {
+		Set<Long> missingIds = new HashSet<>(ids);
+		for (SuggestSource source : sources) {
+			put(trie, source);
+			missingIds.remove(source.getId());
+		}
+		missingIds.forEach(trie::remove);
+	}
+
+	private void put(PrefixTrie trie, SuggestSource source) {
+		if (!StringUtils.hasText(source.getText())) {
+			trie.remove(source.getId());
+			return;
+		}
+		trie.put(source.getId(), source.getText(), source.getWeight() == null ? 0 : source.getWeight());
+	}
+
+	private <T> List<T> drain(Set<T> changed) {
+		List<T> drained = new ArrayList<>(changed);
+		changed.removeAll(drained);
+		return drained;
+	}
+}
@@ -0,0 +1,229 @@
+package com.team8.project2.global;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청을 보낸 클라이언트의 IP를 구하는 컴포넌트입니다.
+ * 신뢰하는 프록시(CIDR)를 거쳐 들어온 요청만 X-Forwarded-For 헤더를 오른쪽부터 따라가며,
+ * 신뢰하지 않는 첫 번째 주소를 클라이언트 IP로 봅니다. 그 외 헤더는 위조될 수 있으므로 사용하지 않습니다.
+ * 각 홉은 이름 조회 없이 숫자 주소로만 해석하며, 해석할 수 없는 홉을 만나면 더 따라가지 않습니다.
+ * 결과는 요청 속성에 저장되어 한 요청 안에서는 한 번만 계산됩니다.
+ */
+@Slf4j
+@Component
+public class ClientIpResolver {
+
+	/** 계산된 클라이언트 IP가 저장되는 요청 속성 이름 */
+	public static final String CLIENT_IP_ATTRIBUTE = ClientIpResolver.class.getName() + ".CLIENT_IP";
+
+	private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+	/** IPv6 주소 문자열의 최대 길이 (IPv4가 포함된 형식 기준) */
+	private static final int MAX_LITERAL_LENGTH = 45;
+
+	private final List<IpAddressMatcher> trustedProxies;
+	private final String localHostIdentity;
+
+	public ClientIpResolver(
+		@Value("${custom.client-ip.trusted-proxies:127.0.0.1/32,::1/128}") List<String> trustedProxyCidrs) {
+		this.trustedProxies = trustedProxyCidrs.stream()
+			.map(String::trim)
+			.filter(cidr -> !cidr.isEmpty())
+			.map(IpAddressMatcher::new)
+			.toList();
+		this.localHostIdentity = lookupLocalHostIdentity();
+	}
+
+	/**
+	 * 클라이언트 IP를 반환합니다. 루프백 주소는 서버 호스트 식별자로 바꿔서 반환합니다.
+	 * @param request 클라이언트 요청 객체
+	 * @return 클라이언트 IP
+	 */
+	public String resolve(HttpServletRequest request) {
+		Object cached = request.getAttribute(CLIENT_IP_ATTRIBUTE);
+		if (cached instanceof String ip) {
+			return ip;
+		}
+
+		String ip = resolveForwardedChain(request);
+		if (isLoopback(ip)) {
+			ip = localHostIdentity;
+		}
+		request.setAttribute(CLIENT_IP_ATTRIBUTE, ip);
+		return ip;
+	}
+
+	private String resolveForwardedChain(HttpServletRequest request) {
+		String remoteAddr = request.getRemoteAddr();
+		if (!isTrusted(remoteAddr)) {
+			return remoteAddr;
+		}
+
+		String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+		if (forwardedFor == null || forwardedFor.isBlank()) {
+			return remoteAddr;
+		}
+
+		// 가장 가까운 홉부터 거슬러 올라가며 신뢰하지 않는 첫 주소를 찾음
+		String[] hops = forwardedFor.split(",");
+		String client = remoteAddr;
+		for (int i = hops.length - 1; i >= 0; i--) {
+			String hop = hops[i].trim();
+			if (parseIpLiteral(hop) == null) {
+				break;
+			}
+			client = hop;
+			if (!isTrusted(hop)) {
+				break;
+			}
+		}
+		return client;
+	}
+
+	private boolean isTrusted(String address) {
+		byte[] bytes = parseIpLiteral(address);
+		if (bytes == null) {
+			return false;
+		}
+		// 정규화한 주소를 넘겨 IpAddressMatcher 내부에서 호스트 이름 조회나 파싱 오류가 일어나지 않도록 함
+		String canonical;
+		try {
+			canonical = InetAddress.getByAddress(bytes).getHostAddress();
+		} catch (UnknownHostException e) {
+			return false;
+		}
+		for (IpAddressMatcher trustedProxy : trustedProxies) {
+			if (trustedProxy.matches(canonical)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * IPv4(점 4개로 구분된 0~255) 또는 IPv6 숫자 주소를 이름 조회 없이 바이트로 바꾼다.
+	 * @return 4바이트 또는 16바이트 주소 (숫자 주소가 아니면 null)
+	 */
+	static byte[] parseIpLiteral(String address) {
+		if (address == null || address.isEmpty() || address.length() > MAX_LITERAL_LENGTH) {
+			return null;
+		}
+		return address.indexOf(':') < 0 ? parseIpv4(address) : parseIpv6(address);
+	}
+
+	private static byte[] parseIpv4(String address) {
+		String[] parts = address.split("\\.", -1);
+		if (parts.length != 4) {
+			return null;
+		}
+		byte[] bytes = new byte[4];
+		for (int i = 0; i < 4; i++) {
+			int value = parseNumber(parts[i], 10, 3);
+			if (value < 0 || value > 255) {
+				return null;
+			}
+			bytes[i] = (byte)value;
+		}
+		return bytes;
+	}
+
+	private static byte[] parseIpv6(String address) {
+		int compressed = address.indexOf("::");
+		if (compressed >= 0 && address.indexOf("::", compressed + 1) >= 0) {
+			return null;
+		}
+		List<Integer> head = parseIpv6Groups(compressed < 0 ? address : address.substring(0, compressed), compressed < 0);
+		List<Integer> tail = compressed < 0 ? List.of() : parseIpv6Groups(address.substring(compressed + 2), true);
+		if (head == null || tail == null) {
+			return null;
+		}
+		int groups = head.size() + tail.size();
+		if (compressed < 0 ? groups != 8 : groups > 7) {
+			return null;
+		}
+
+		byte[] bytes = new byte[16];
+		for (int i = 0; i < head.size(); i++) {
+			bytes[i * 2] = (byte)(head.get(i) >> 8);
+			bytes[i * 2 + 1] = head.get(i).byteValue();
+		}
+		int offset = 8 - tail.size();
+		for (int i = 0; i < tail.size(); i++) {
+			bytes[(offset + i) * 2] = (byte)(tail.get(i) >> 8);
+			bytes[(offset + i) * 2 + 1] = tail.get(i).byteValue();
+		}
+		return bytes;
+	}
+
+	/**
+	 * 콜론으로 구분된 16비트 그룹을 읽는다. 마지막 부분이면 끝에 IPv4 형식(::ffff:1.2.3.4)을 허용한다.
+	 */
+	private static List<Integer> parseIpv6Groups(String part, boolean last) {
+		List<Integer> groups = new ArrayList<>();
+		if (part.isEmpty()) {
+			return groups;
+		}
+		String[] tokens = part.split(":", -1);
+		for (int i = 0; i < tokens.length; i++) {
+			if (last && i == tokens.length - 1 && tokens[i].indexOf('.') >= 0) {
+				byte[] ipv4 = parseIpv4(tokens[i]);
+				if (ipv4 == null) {
+					return null;
+				}
+				groups.add((ipv4[0] & 0xff) << 8 | (ipv4[1] & 0xff));
+				groups.add((ipv4[2] & 0xff) << 8 | (ipv4[3] & 0xff));
+				continue;
+			}
+			int value = parseNumber(tokens[i], 16, 4);
+			if (value < 0) {
+				return null;
+			}
+			groups.add(value);
+		}
+		return groups;
+	}
+
+	/**
+	 * @return 숫자 값 (비어 있거나 maxDigits보다 길거나 숫자가 아니면 -1)
+	 */
+	private static int parseNumber(String digits, int radix, int maxDigits) {
+		if (digits.isEmpty() || digits.length() > maxDigits) {
+			return -1;
+		}
+		int value = 0;
+		for (int i = 0; i < digits.length(); i++) {
+			int digit = Character.digit(digits.charAt(i), radix);
+			if (digit < 0) {
+				return -1;
+			}
+			value = value * radix + digit;
+		}
+		return value;
+	}
+
+	private boolean isLoopback(String ip) {
+		return ip.equals("0:0:0:0:0:0:0:1") || ip.equals("::1") || ip.equals("127.0.0.1");
+	}
+
+	/**
+	 * 호스트 이름 조회는 블로킹될 수 있으므로 애플리케이션 시작 시 한 번만 수행한다.
+	 */
+	private static String lookupLocalHostIdentity() {
+		try {
+			InetAddress address = InetAddress.getLocalHost();
+			return address.getHostName() + "/" + address.getHostAddress();
+		} catch (UnknownHostException e) {
+			log.warn("로컬 호스트 정보를 가져오지 못해 루프백 주소를 그대로 사용합니다.", e);
+			return "127.0.0.1";
+		}
+	}
+}
@@ -0,0 +1,396 @@
+package com.team8.project2.global;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.domain.curation.curation.service.CurationService;
+import com.team8.project2.domain.playlist.service.PlaylistService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB의 좋아요 테이블로 Redis 좋아요 SET을 다시 채웁니다.
+ * 좋아요 상태는 Redis에만 있으므로 Redis가 비워지면 다시 누르기 전까지 좋아요가 0으로 보입니다.
+ * 시작 시 재구축 기록(like_rebuild:{좋아요 테이블})이 없으면, 좋아요 SET이 하나도 없을 때만 자동으로 재구축하고
+ * 이미 좋아요 SET이 있으면 그 상태를 그대로 완료로 기록합니다. 관리자 요청 시에는 수동으로 재구축합니다.
+ *
+ * 좋아요 테이블을 (대상 ID, 회원 ID) 순서의 키셋 페이지로 앞으로만 읽되, 한 대상의 좋아요가 두 페이지에 나뉘지 않도록
+ * 페이지 끝의 대상은 다음 페이지에서 통째로 다시 읽습니다. 페이지를 쓸 때마다 마지막 대상과 처리 행 수를 기록하므로,
+ * 중단되면 다음 시작 시 이어서 처리합니다. 초당 처리 행 수를 제한해 DB와 Redis 부하를 조절합니다.
+ *
+ * Redis의 좋아요 SET은 DB보다 최신이므로 덮어쓰지 않습니다. 대상별로 하나의 스크립트에서 좋아요 SET이 없고,
+ * DB 동기화 전(dirty SET)이 아니며, 재구축 중에 토글되지(toggled SET) 않은 경우에만 씁니다.
+ * 좋아요 토글 스크립트는 재구축 중에만 존재하는 toggled SET에 대상 ID를 남깁니다. ({@link #toggledKey})
+ */
+@Slf4j
+@Component
+public class RedisLikeRebuilder {
+
+	private static final String STATE_KEY_PREFIX = "like_rebuild:";
+	/** 여러 인스턴스가 동시에 재구축하지 않도록 잡는 락 */
+	private static final String LOCK_KEY = "like_rebuild:lock";
+	private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+	private static final long PROGRESS_LOG_INTERVAL_MS = 10_000;
+	/** 재구축이 진행 중임을 나타내기 위해 toggled SET에 넣어 두는 값 (대상 ID와 겹치지 않음) */
+	private static final String TOGGLED_PLACEHOLDER = "-";
+
+	/**
+	 * 한 페이지의 좋아요를 대상별로 조건부로 쓰는 스크립트
+	 * KEYS: dirty SET, syncing SET, toggled SET, 대상별 좋아요 SET...
+	 * ARGV: 회원별 SET 키 접두사(없으면 빈 문자열), 이후 대상마다 [대상 ID, 회원 수, 회원 ID...]
+	 * 반환: 쓴 대상 수
+	 */
+	private static final DefaultRedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+		"local prefix = ARGV[1] " +
+			"local pos = 2 " +
+			"local written = 0 " +
+			"for i = 4, #KEYS do " +
+			"   local id = ARGV[pos] " +
+			"   local first = pos + 2 " +
+			"   local last = pos + 1 + tonumber(ARGV[pos + 1]) " +
+			"   pos = last + 1 " +
+			"   if redis.call('EXISTS', KEYS[i]) == 0 " +
+			"      and redis.call('SISMEMBER', KEYS[1], id) == 0 " +
+			"      and redis.call('SISMEMBER', KEYS[2], id) == 0 " +
+			"      and redis.call('SISMEMBER', KEYS[3], id) == 0 then " +
+			"      for j = first, last, 1000 do " +
+			"         redis.call('SADD', KEYS[i], unpack(ARGV, j, math.min(j + 999, last))) " +
+			"      end " +
+			"      if prefix ~= '' then " +
+			"         for j = first, last do " +
+			"            redis.call('SADD', prefix .. ARGV[j], id) " +
+			"         end " +
+			"      end " +
+			"      written = written + 1 " +
+			"   end " +
+			"end " +
+			"return written",
+		Long.class);
+
+	private static final List<Source> SOURCES = List.of(
+		new Source(CurationService.CURATION_LIKE_SYNC, null),
+		new Source(PlaylistService.PLAYLIST_LIKE_SYNC, "member_liked_playlists:"));
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final JdbcTemplate jdbcTemplate;
+	private final boolean onStartup;
+	private final int batchSize;
+	private final int maxRowsPerSecond;
+
+	private final String lockOwner = UUID.randomUUID().toString();
+	private final AtomicBoolean running = new AtomicBoolean(false);
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(
+		Thread.ofVirtual().name("like-rebuild").factory());
+
+	public RedisLikeRebuilder(RedisTemplate<String, String> redisTemplate, JdbcTemplate jdbcTemplate,
+		@Value("${custom.like-rebuild.on-startup:true}") boolean onStartup,
+		@Value("${custom.like-rebuild.batch-size:5000}") int batchSize,
+		@Value("${custom.like-rebuild.max-rows-per-second:50000}") int maxRowsPerSecond) {
+		this.redisTemplate = redisTemplate;
+		this.jdbcTemplate = jdbcTemplate;
+		this.onStartup = onStartup;
+		this.batchSize = batchSize;
+		this.maxRowsPerSecond = maxRowsPerSecond;
+	}
+
+	/**
+	 * 완료 기록이 없는 좋아요 테이블을 재구축합니다. (Redis가 비워졌거나 이전 재구축이 중단된 경우)
+	 * 기록은 없지만 좋아요 SET이 이미 있으면 재구축하지 않고 완료로 기록합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeOnStartup() {
+		if (onStartup) {
+			start(false);
+		}
+	}
+
+	/**
+	 * 백그라운드에서 재구축을 시작합니다.
+	 * @param restart true면 완료·중단 기록을 지우고 처음부터, false면 완료되지 않은 테이블만 이어서 처리
+	 *                (어느 경우든 Redis에 이미 있는 좋아요 SET은 덮어쓰지 않고, 없는 대상만 채움)
+	 * @return 시작 여부 (이미 진행 중이면 false)
+	 */
+	public boolean start(boolean restart) {
+		if (!running.compareAndSet(false, true)) {
+			return false;
+		}
+		executor.execute(() -> {
+			try {
+				rebuildAll(restart);
+			} finally {
+				running.set(false);
+			}
+		});
+		return true;
+	}
+
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	/**
+	 * 좋아요 테이블별 재구축 진행 상황을 조회합니다.
+	 */
+	public List<Progress> progress() {
+		HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+		List<Progress> progresses = new ArrayList<>();
+		for (Source source : SOURCES) {
+			progresses.add(Progress.of(source.target().likeTable(),
+				hashOperations.entries(stateKey(source)), System.currentTimeMillis()));
+		}
+		return progresses;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	void rebuildAll(boolean restart) {
+		Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockOwner, LOCK_TTL);
+		if (!Boolean.TRUE.equals(locked)) {
+			log.info("다른 인스턴스에서 좋아요 재구축이 진행 중입니다.");
+			return;
+		}
+		try {
+			for (Source source : SOURCES) {
+				if (restart) {
+					redisTemplate.delete(List.of(stateKey(source), toggledKey(source.target())));
+				} else if (adoptExisting(source)) {
+					continue;
+				}
+				rebuild(source);
+			}
+		} catch (RuntimeException e) {
+			log.warn("좋아요 재구축 실패, 다음 시작 시 이어서 처리합니다.", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			if (lockOwner.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+				redisTemplate.delete(LOCK_KEY);
+			}
+		}
+	}
+
+	/**
+	 * 재구축 기록이 없는데 좋아요 SET이 이미 있으면(재구축 기능 배포 전부터 쓰던 Redis) 그 상태를 완료로 기록합니다.
+	 * DB에는 좋아요 취소가 반영되지 않은 행이 남아 있을 수 있으므로, 살아 있는 Redis 상태 위로 재구축하지 않습니다.
+	 * @return 완료로 기록했으면 true
+	 */
+	private boolean adoptExisting(Source source) {
+		String stateKey = stateKey(source);
+		if (Boolean.TRUE.equals(redisTemplate.hasKey(stateKey)) || !hasLikeSets(source.target())) {
+			return false;
+		}
+		Map<String, String> adopted = new HashMap<>();
+		adopted.put("status", Status.DONE.name());
+		adopted.put("adoptedAt", String.valueOf(System.currentTimeMillis()));
+		redisTemplate.opsForHash().putAll(stateKey, adopted);
+		log.info("{} 좋아요 SET이 이미 있어 재구축하지 않습니다.", source.target().name());
+		return true;
+	}
+
+	private boolean hasLikeSets(RedisLikeSynchronizer.Target target) {
+		ScanOptions options = ScanOptions.scanOptions().match(target.likeKeyPrefix() + "*").count(1000).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			return cursor.hasNext();
+		}
+	}
+
+	void rebuild(Source source) throws InterruptedException {
+		RedisLikeSynchronizer.Target target = source.target();
+		String stateKey = stateKey(source);
+		HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+		Map<String, String> state = hashOperations.entries(stateKey);
+		if (Status.DONE.name().equals(state.get("status"))) {
+			return;
+		}
+		// 지금부터 토글된 대상은 토글 스크립트가 toggled SET에 남기므로 DB 값으로 덮어쓰지 않음
+		redisTemplate.opsForSet().add(toggledKey(target), TOGGLED_PLACEHOLDER);
+
+		long lastTargetId = parseLong(state.get("lastTargetId"));
+		long rows = parseLong(state.get("rows"));
+		Long totalRows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + target.likeTable(), Long.class);
+		long startedAt = System.currentTimeMillis();
+		Map<String, String> started = new HashMap<>();
+		started.put("status", Status.RUNNING.name());
+		started.put("totalRows", String.valueOf(totalRows));
+		started.put("runStartedAt", String.valueOf(startedAt));
+		started.put("runStartRows", String.valueOf(rows));
+		hashOperations.putAll(stateKey, started);
+		log.info("{} 좋아요 재구축 시작: {}/{}행부터", target.name(), rows, totalRows);
+
+		String sql = "SELECT " + target.likeTargetColumn() + ", member_id FROM " + target.likeTable()
+			+ " WHERE " + target.likeTargetColumn() + " > ? ORDER BY " + target.likeTargetColumn() + ", member_id LIMIT ?";
+		long runRows = 0;
+		long skippedTargets = 0;
+		long lastLoggedAt = startedAt;
+		boolean full;
+		do {
+			List<long[]> page = jdbcTemplate.query(sql, (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)},
+				lastTargetId, batchSize);
+			if (page.isEmpty()) {
+				break;
+			}
+			full = page.size() == batchSize;
+			if (full) {
+				page = completeTargets(target, page);
+			}
+			int targetCount = (int)page.stream().mapToLong(like -> like[0]).distinct().count();
+			skippedTargets += targetCount - write(source, page);
+
+			lastTargetId = page.get(page.size() - 1)[0];
+			rows += page.size();
+			runRows += page.size();
+			Map<String, String> checkpoint = new HashMap<>();
+			checkpoint.put("lastTargetId", String.valueOf(lastTargetId));
+			checkpoint.put("rows", String.valueOf(rows));
+			checkpoint.put("updatedAt", String.valueOf(System.currentTimeMillis()));
+			hashOperations.putAll(stateKey, checkpoint);
+			redisTemplate.expire(LOCK_KEY, LOCK_TTL);
+
+			long now = System.currentTimeMillis();
+			if (now - lastLoggedAt >= PROGRESS_LOG_INTERVAL_MS) {
+				log.info("{} 좋아요 재구축 중: {}/{}행 ({}행/초)", target.name(), rows, totalRows,
+					runRows * 1000 / Math.max(now - startedAt, 1));
+				lastLoggedAt = now;
+			}
+			throttle(runRows, startedAt);
+		} while (full);
+
+		Map<String, String> finished = new HashMap<>();
+		finished.put("status", Status.DONE.name());
+		finished.put("finishedAt", String.valueOf(System.currentTimeMillis()));
+		hashOperations.putAll(stateKey, finished);
+		redisTemplate.delete(toggledKey(target));
+		log.info("{} 좋아요 재구축 완료: {}행, 이미 있거나 바뀐 대상 {}개 건너뜀 ({}ms)", target.name(), rows, skippedTargets,
+			System.currentTimeMillis() - startedAt);
+	}
+
+	/**
+	 * 꽉 찬 페이지는 마지막 대상의 좋아요가 다음 페이지로 이어질 수 있으므로, 그 대상을 빼고 다음 페이지에서 통째로 읽습니다.
+	 * 페이지 전체가 한 대상이면 그 대상의 좋아요를 모두 읽습니다.
+	 */
+	private List<long[]> completeTargets(RedisLikeSynchronizer.Target target, List<long[]> page) {
+		long firstTargetId = page.get(0)[0];
+		long lastTargetId = page.get(page.size() - 1)[0];
+		if (firstTargetId != lastTargetId) {
+			return page.stream().filter(like -> like[0] != lastTargetId).toList();
+		}
+		return jdbcTemplate.query("SELECT " + target.likeTargetColumn() + ", member_id FROM " + target.likeTable()
+				+ " WHERE " + target.likeTargetColumn() + " = ?",
+			(rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)}, lastTargetId);
+	}
+
+	/**
+	 * 한 페이지의 좋아요를 대상별로 하나의 스크립트에서 씁니다.
+	 * 좋아요 SET이 이미 있거나, DB 동기화 전이거나, 재구축 중에 토글된 대상은 Redis가 더 최신이므로 건너뜁니다.
+	 * @return 쓴 대상 수
+	 */
+	private long write(Source source, List<long[]> page) {
+		RedisLikeSynchronizer.Target target = source.target();
+		Map<Long, List<String>> membersByTarget = new LinkedHashMap<>();
+		for (long[] like : page) {
+			membersByTarget.computeIfAbsent(like[0], id -> new ArrayList<>()).add(String.valueOf(like[1]));
+		}
+
+		List<String> keys = new ArrayList<>(List.of(target.dirtyKey(), target.syncingKey(), toggledKey(target)));
+		List<String> args = new ArrayList<>();
+		args.add(source.memberIndexKeyPrefix() == null ? "" : source.memberIndexKeyPrefix());
+		membersByTarget.forEach((id, memberIds) -> {
+			keys.add(target.likeKeyPrefix() + id);
+			args.add(String.valueOf(id));
+			args.add(String.valueOf(memberIds.size()));
+			args.addAll(memberIds);
+		});
+		Long written = redisTemplate.execute(WRITE_SCRIPT, keys, args.toArray());
+		return written == null ? 0 : written;
+	}
+
+	/** 이번 실행에서 처리한 행 수가 초당 상한을 넘지 않도록 대기 */
+	private void throttle(long runRows, long startedAt) throws InterruptedException {
+		if (maxRowsPerSecond <= 0) {
+			return;
+		}
+		long expectedElapsed = runRows * 1000 / maxRowsPerSecond;
+		long elapsed = System.currentTimeMillis() - startedAt;
+		if (expectedElapsed > elapsed) {
+			Thread.sleep(expectedElapsed - elapsed);
+		}
+	}
+
+	private static long parseLong(String value) {
+		return value == null ? 0 : Long.parseLong(value);
+	}
+
+	private static String stateKey(Source source) {
+		return STATE_KEY_PREFIX + source.target().likeTable();
+	}
+
+	/**
+	 * 재구축 중에 토글된 대상 ID를 모으는 SET 키. 재구축 중에만 존재하며, 좋아요 토글 스크립트는 이 키가 있을 때만 추가합니다.
+	 * @param target 좋아요 동기화 대상
+	 */
+	public static String toggledKey(RedisLikeSynchronizer.Target target) {
+		return STATE_KEY_PREFIX + target.likeTable() + ":toggled";
+	}
+
+	/**
+	 * 재구축 대상
+	 * @param target 좋아요 동기화 대상 (좋아요 테이블, Redis 키)
+	 * @param memberIndexKeyPrefix 회원별 좋아요 대상 SET 키 접두사 (없으면 null)
+	 */
+	record Source(RedisLikeSynchronizer.Target target, String memberIndexKeyPrefix) {
+	}
+
+	public enum Status {
+		RUNNING, DONE
+	}
+
+	/**
+	 * 좋아요 테이블별 재구축 진행 상황
+	 * @param table 좋아요 테이블
+	 * @param status 상태 (기록이 없으면 null)
+	 * @param rows 처리한 행 수
+	 * @param totalRows 시작 시점의 전체 행 수
+	 * @param rowsPerSecond 마지막 실행의 초당 처리 행 수
+	 * @param remainingSeconds 남은 예상 시간 (초, 진행 중이 아니면 0)
+	 */
+	public record Progress(String table, String status, long rows, long totalRows, long rowsPerSecond,
+						   long remainingSeconds) {
+
+		static Progress of(String table, Map<String, String> state, long now) {
+			String status = state.get("status");
+			long rows = parseLong(state.get("rows"));
+			long totalRows = parseLong(state.get("totalRows"));
+			long runStartedAt = parseLong(state.get("runStartedAt"));
+			long end = state.containsKey("finishedAt") ? parseLong(state.get("finishedAt"))
+				: parseLong(state.get("updatedAt"));
+			long runRows = rows - parseLong(state.get("runStartRows"));
+			long rowsPerSecond = runStartedAt > 0 && end > runStartedAt ? runRows * 1000 / (end - runStartedAt) : 0;
+			long remainingSeconds = Status.RUNNING.name().equals(status) && rowsPerSecond > 0
+				? Math.max(totalRows - rows, 0) / rowsPerSecond : 0;
+			return new Progress(table, status, rows, totalRows, rowsPerSecond, remainingSeconds);
+		}
+	}
+}
@@ -0,0 +1,211 @@
+package com.team8.project2.global;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis SET에 저장된 좋아요를 DB에 반영합니다.
+ * 좋아요를 누르거나 취소하면 대상 ID를 dirty SET에 기록하고, 동기화할 때 dirty SET을 처리용 키로 옮겨
+ * 그동안 바뀐 대상만 반영합니다. 옮긴 뒤에 들어온 변경은 새 dirty SET에 쌓여 다음 주기에 처리됩니다.
+ *
+ * 대상별 좋아요 회원은 SSCAN으로 나눠 읽고, 좋아요 수 갱신과 좋아요 행 추가·삭제는 JDBC 배치로 한 번에 씁니다.
+ * 좋아요 행을 다른 경로(이벤트 스트림 소비자)가 쓰는 대상은 좋아요 수만 갱신해, 좋아요 테이블을 쓰는 곳이 하나가 되게 합니다.
+ * 추가는 행이 없을 때만 하므로 같은 대상을 다시 반영해도 중복 키 오류가 나지 않습니다.
+ * 반영에 실패한 대상은 처리용 키에 남아 다음 주기에 새 dirty SET과 합쳐 다시 처리합니다.
+ */
+@Slf4j
+@Component
+public class RedisLikeSynchronizer {
+
+	/**
+	 * dirty SET을 처리용 키로 옮김 (이전에 실패해 남은 처리용 키가 있으면 합침)
+	 * KEYS: dirty SET, 처리용 SET
+	 * 반환: 처리할 대상 수
+	 */
+	private static final DefaultRedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 1 then " +
+			"   if redis.call('EXISTS', KEYS[2]) == 1 then " +
+			"      redis.call('SUNIONSTORE', KEYS[2], KEYS[1], KEYS[2]) " +
+			"      redis.call('DEL', KEYS[1]) " +
+			"   else " +
+			"      redis.call('RENAME', KEYS[1], KEYS[2]) " +
+			"   end " +
+			"end " +
+			"return redis.call('SCARD', KEYS[2])",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+
+	public RedisLikeSynchronizer(RedisTemplate<String, String> redisTemplate, JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${custom.like-sync.batch-size:500}") int batchSize) {
+		this.redisTemplate = redisTemplate;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 마지막 동기화 이후 좋아요가 바뀐 대상을 DB에 반영합니다.
+	 * @param target 동기화 대상
+	 * @return 반영한 대상 수
+	 */
+	public int sync(Target target) {
+		Long pending = redisTemplate.execute(ROTATE_SCRIPT,
+			List.of(target.dirtyKey(), target.syncingKey()));
+		if (pending == null || pending == 0) {
+			return 0;
+		}
+
+		List<Long> ids = new ArrayList<>();
+		for (String id : scan(target.syncingKey())) {
+			ids.add(Long.parseLong(id));
+		}
+
+		int synced = 0;
+		for (int from = 0; from < ids.size(); from += batchSize) {
+			List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+			try {
+				syncChunk(target, chunk);
+			} catch (RuntimeException e) {
+				log.warn("{} 좋아요 동기화 실패, 다음 주기에 재시도합니다. (남은 대상 {}건)", target.name(),
+					ids.size() - from, e);
+				break;
+			}
+			redisTemplate.opsForSet().remove(target.syncingKey(), chunk.stream().map(String::valueOf).toArray());
+			synced += chunk.size();
+		}
+		log.info("{} 좋아요 동기화 완료: {}건", target.name(), synced);
+		return synced;
+	}
+
+	private void syncChunk(Target target, List<Long> ids) {
+		// 삭제된 대상·회원의 좋아요는 외래 키 위반이 되므로 존재하는 것만 반영
+		Set<Long> existingIds = new HashSet<>(selectIds(
+			"SELECT " + target.idColumn() + " FROM " + target.table() + " WHERE " + target.idColumn(), ids));
+		List<Object[]> counts = new ArrayList<>();
+		if (!target.writesLikeRows()) {
+			for (Long id : existingIds) {
+				Long size = redisTemplate.opsForSet().size(target.likeKeyPrefix() + id);
+				counts.add(new Object[] {size != null ? size : 0L, id});
+			}
+			jdbcTemplate.batchUpdate("UPDATE " + target.table() + " SET like_count = ? WHERE "
+				+ target.idColumn() + " = ?", counts);
+			return;
+		}
+
+		Map<Long, Set<Long>> likedMembers = new HashMap<>();
+		for (Long id : existingIds) {
+			Set<Long> liked = scan(target.likeKeyPrefix() + id).stream()
+				.map(Long::parseLong)
+				.collect(Collectors.toSet());
+			likedMembers.put(id, liked);
+			counts.add(new Object[] {(long)liked.size(), id});
+		}
+		Set<Long> existingMembers = new HashSet<>(selectIds("SELECT id FROM member WHERE id",
+			likedMembers.values().stream().flatMap(Set::stream).collect(Collectors.toSet())));
+		Map<Long, Set<Long>> storedMembers = new HashMap<>();
+		List<long[]> storedLikes = queryIn("SELECT " + target.likeTargetColumn() + ", member_id FROM "
+			+ target.likeTable() + " WHERE " + target.likeTargetColumn(), existingIds,
+			(rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)});
+		for (long[] like : storedLikes) {
+			storedMembers.computeIfAbsent(like[0], id -> new HashSet<>()).add(like[1]);
+		}
+
+		List<Object[]> inserts = new ArrayList<>();
+		List<Object[]> deletes = new ArrayList<>();
+		for (Long id : existingIds) {
+			Set<Long> liked = likedMembers.get(id);
+			Set<Long> stored = storedMembers.getOrDefault(id, Set.of());
+			liked.stream()
+				.filter(memberId -> !stored.contains(memberId) && existingMembers.contains(memberId))
+				.forEach(memberId -> inserts.add(new Object[] {id, memberId, id, memberId}));
+			stored.stream()
+				.filter(memberId -> !liked.contains(memberId))
+				.forEach(memberId -> deletes.add(new Object[] {id, memberId}));
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.batchUpdate("UPDATE " + target.table() + " SET like_count = ? WHERE "
+				+ target.idColumn() + " = ?", counts);
+			jdbcTemplate.batchUpdate("DELETE FROM " + target.likeTable() + " WHERE "
+				+ target.likeTargetColumn() + " = ? AND member_id = ?", deletes);
+			jdbcTemplate.batchUpdate("INSERT INTO " + target.likeTable() + " (" + target.likeTargetColumn()
+				+ ", member_id) SELECT ?, ? FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM " + target.likeTable()
+				+ " WHERE " + target.likeTargetColumn() + " = ? AND member_id = ?)", inserts);
+		});
+	}
+
+	private List<String> scan(String key) {
+		List<String> values = new ArrayList<>();
+		try (Cursor<String> cursor = redisTemplate.opsForSet()
+			.scan(key, ScanOptions.scanOptions().count(batchSize).build())) {
+			while (cursor.hasNext()) {
+				values.add(cursor.next());
+			}
+		}
+		return values;
+	}
+
+	private List<Long> selectIds(String sqlPrefix, Collection<Long> ids) {
+		return queryIn(sqlPrefix, ids, (rs, rowNum) -> rs.getLong(1));
+	}
+
+	/** IN 조건을 batchSize 단위로 나눠 조회 */
+	private <T> List<T> queryIn(String sqlPrefix, Collection<Long> ids, RowMapper<T> rowMapper) {
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<Long> values = new ArrayList<>(new LinkedHashSet<>(ids));
+		List<T> results = new ArrayList<>();
+		for (int from = 0; from < values.size(); from += batchSize) {
+			List<Long> chunk = values.subList(from, Math.min(from + batchSize, values.size()));
+			String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+			results.addAll(jdbcTemplate.query(sqlPrefix + " IN (" + placeholders + ")", rowMapper, chunk.toArray()));
+		}
+		return results;
+	}
+
+	/**
+	 * 좋아요 동기화 대상
+	 * @param name 로그에 표시할 이름
+	 * @param likeKeyPrefix 대상별 좋아요 회원 SET 키 접두사 (뒤에 대상 ID)
+	 * @param dirtyKey 좋아요가 바뀐 대상 ID를 모으는 SET 키
+	 * @param table 좋아요 수 컬럼(like_count)이 있는 테이블
+	 * @param idColumn 대상 테이블의 ID 컬럼
+	 * @param likeTable 좋아요 테이블 (대상 ID 컬럼, member_id)
+	 * @param likeTargetColumn 좋아요 테이블의 대상 ID 컬럼
+	 * @param writesLikeRows 좋아요 행도 이 동기화에서 추가·삭제할지 (false면 좋아요 수만 갱신)
+	 */
+	public record Target(String name, String likeKeyPrefix, String dirtyKey, String table, String idColumn,
+						 String likeTable, String likeTargetColumn, boolean writesLikeRows) {
+
+		String syncingKey() {
+			return dirtyKey + ":syncing";
+		}
+	}
+}
@@ -83,6 +83,17 @@ public class Rq {
         return authentication.isAuthenticated();
     }
 
+    /**
+     * 로그인한 유저의 ID를 DB 조회 없이 반환 (비로그인 시 null)
+     */
+    public Long getActorId() {
+        if (!isLogin()) {
+            return null;
+        }
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return principal instanceof SecurityUser user ? user.getId() : null;
+    }
+
     /**
      * 요청 헤더에서 특정 값 가져오기
      */
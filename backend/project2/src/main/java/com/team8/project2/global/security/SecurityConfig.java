@@ -52,6 +52,7 @@ public class SecurityConfig {
 				.requestMatchers(HttpMethod.POST, "/api/v1/images/upload").permitAll()
 				.requestMatchers(HttpMethod.POST, "/api/v1/link/**").permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/v1/link/**").permitAll()
+				.requestMatchers(HttpMethod.GET, "/api/v1/suggest").permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/v1/admin/**").permitAll()
 				.requestMatchers(HttpMethod.DELETE, "api/v1/admin/**").permitAll()
 				.requestMatchers(HttpMethod.GET, "/h2-console/**").permitAll()
@@ -92,6 +93,8 @@ public class SecurityConfig {
 		configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS","PATCH"));
 		configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Forwarded-For", "X-Real-IP"));
 		configuration.setAllowedHeaders(List.of("*"));
+		// 커서 기반 목록 조회의 다음 페이지 커서
+		configuration.setExposedHeaders(List.of("X-Next-Cursor"));
 
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
 		source.registerCorsConfiguration("/**", configuration);
@@ -9,9 +9,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 public class Ut {
     private static final Logger log = LoggerFactory.getLogger(Ut.class);
@@ -82,4 +86,29 @@ public class Ut {
                     .getPayload();
         }
     }
+
+    public static class ETag {
+        /**
+         * 구성 요소를 '-'로 이어 붙여 약한 ETag를 만듭니다.
+         * 응답 본문의 바이트가 아니라 의미상 동일한지를 나타내므로 약한 ETag를 사용합니다.
+         */
+        public static String weak(Object... parts) {
+            return "W/\"" + join(parts) + "\"";
+        }
+
+        /**
+         * 구성 요소가 길 때 CRC32 값으로 줄여서 약한 ETag를 만듭니다.
+         */
+        public static String weakHash(Object... parts) {
+            CRC32 crc = new CRC32();
+            crc.update(join(parts).getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + Long.toHexString(crc.getValue()) + "\"";
+        }
+
+        private static String join(Object... parts) {
+            return Arrays.stream(parts)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining("-"));
+        }
+    }
 }
@@ -1,8 +1,15 @@
 package com.team8.project2.domain.admin.service;
 
 import com.team8.project2.domain.admin.dto.StatsResDto;
+import com.team8.project2.domain.comment.event.CommentChangeEvent;
+import com.team8.project2.domain.comment.repository.CommentRepository;
 import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.curation.service.CurationService;
+import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.member.event.FollowChangeEvent;
+import com.team8.project2.domain.member.repository.FollowRepository;
 import com.team8.project2.domain.member.repository.MemberRepository;
+import com.team8.project2.domain.member.service.MemberService;
 import com.team8.project2.domain.playlist.repository.PlaylistRepository;
 import com.team8.project2.global.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +18,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,6 +41,21 @@ class AdminServiceTest {
     @Mock
     private PlaylistRepository playlistRepository;
 
+    @Mock
+    private CurationService curationService;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -82,6 +109,31 @@ class AdminServiceTest {
         assertEquals("멤버를 찾을 수 없습니다.", exception.getMessage());
     }
 
+    // ✅ 회원 탈퇴 시 일괄 삭제한 데이터의 정리 이벤트 발행
+    @Test
+    @DisplayName("멤버 삭제 - 일괄 삭제 전에 읽어 둔 큐레이션, 댓글, 팔로우 관계로 정리 이벤트를 발행한다.")
+    void deleteMember_ShouldPublishCleanUpEvents() {
+        Member member = Member.builder().id(1L).memberId("member").build();
+        Map<Long, List<String>> deletedCurations = Map.of(10L, List.of("java"));
+        when(curationService.getTagNamesByAuthor(member)).thenReturn(deletedCurations);
+        when(commentRepository.findCurationIdsByAuthor(member)).thenReturn(List.of(10L, 20L));
+        when(followRepository.findFollowerIds(1L, Pageable.unpaged())).thenReturn(List.of(2L));
+        when(followRepository.findFolloweeIds(1L)).thenReturn(List.of(3L));
+
+        adminService.deleteMember(member);
+
+        verify(curationRepository).deleteByMember(member);
+        verify(curationService).cleanUpDeletedCurations(deletedCurations);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof CommentChangeEvent changed
+            && changed.getCurationId() == 20L));
+        verify(eventPublisher, never()).publishEvent(argThat((Object event) -> event instanceof CommentChangeEvent changed
+            && changed.getCurationId() == 10L));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof FollowChangeEvent changed
+            && changed.getFollowerId() == 2L && changed.getFolloweeId() == 1L));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof FollowChangeEvent changed
+            && changed.getFollowerId() == 1L && changed.getFolloweeId() == 3L));
+    }
+
     // ✅ 통계 데이터 조회 테스트
     @Test
     @DisplayName("통계 조회 - 큐레이션 및 플레이리스트의 조회수와 좋아요 수를 올바르게 반환한다.")
@@ -26,6 +26,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -166,6 +168,22 @@ public class ApiV1CurationControllerTest {
 				.andExpect(jsonPath("$.data.comments[0].content").value("comment test content"));
 	}
 
+	@Test
+	@DisplayName("내용이 바뀌지 않았으면 If-None-Match 요청에 304로 응답한다")
+	void getCurationNotModified() throws Exception {
+		String eTag = mockMvc.perform(get("/api/v1/curation/{id}", 1L))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Cache-Control", "no-cache, private"))
+				.andReturn()
+				.getResponse()
+				.getHeader("ETag");
+
+		mockMvc.perform(get("/api/v1/curation/{id}", 1L)
+					.header("If-None-Match", eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+	}
+
 	@Test
 	@DisplayName("큐레이션을 전체 조회할 수 있다")
 	void findAll() throws Exception {
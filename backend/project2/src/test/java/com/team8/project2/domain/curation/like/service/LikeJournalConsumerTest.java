@@ -0,0 +1,95 @@
+package com.team8.project2.domain.curation.like.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LikeJournalConsumerTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Mock
+	private JdbcOperations jdbcOperations;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private LikeJournalConsumer consumer;
+
+	@BeforeEach
+	void setUp() {
+		consumer = new LikeJournalConsumer(redisTemplate, jdbcTemplate, transactionManager, new SimpleMeterRegistry(),
+			"test", 100, 30000, 60000);
+	}
+
+	private MapRecord<String, Object, Object> event(String id, Object curationId, Object memberId, String op) {
+		Map<Object, Object> value = Map.of("curationId", curationId, "memberId", memberId, "op", op);
+		return MapRecord.create(LikeJournalConsumer.STREAM_KEY, value).withId(RecordId.of(id));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("같은 (큐레이션, 회원)은 마지막 연산만 반영하고, 추가는 다시 반영해도 중복되지 않는 조건부 INSERT로 쓴다")
+	void applyLastOperationPerPair() {
+		when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+
+		consumer.apply(List.of(
+			event("1-0", "1", "10", "ADD"),
+			event("2-0", "1", "11", "ADD"),
+			event("3-0", "1", "10", "REMOVE"),
+			event("4-0", "2", "12", "ADD"),
+			event("5-0", "x", "10", "ADD")));
+
+		ArgumentCaptor<List<Object[]>> deletes = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+		verify(jdbcOperations).batchUpdate(startsWith("DELETE FROM likes"), deletes.capture());
+		verify(jdbcOperations).batchUpdate(
+			argThat((String sql) -> sql.startsWith("INSERT INTO likes") && sql.contains("NOT EXISTS")),
+			inserts.capture());
+		assertThat(deletes.getValue()).containsExactly(new Object[] {1L, 10L});
+		assertThat(inserts.getValue()).containsExactly(new Object[] {1L, 11L}, new Object[] {2L, 12L});
+		verifyNoMoreInteractions(jdbcOperations);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 소비 락을 가지고 있으면 스트림을 읽지 않는다")
+	@SuppressWarnings("unchecked")
+	void skipWithoutLock() {
+		// 소비 그룹 생성 후 락 스크립트 호출 (ARGV: 소비자 이름, 락 TTL(ms))
+		when(redisTemplate.execute(any(RedisCallback.class))).thenReturn("OK");
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of(LikeJournalConsumer.LOCK_KEY)), eq("test"),
+			eq("30000"))).thenReturn(0L);
+
+		consumer.poll();
+
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LikeJournalConsumer.LOCK_KEY)), eq("test"),
+			eq("30000"));
+		verify(redisTemplate, never()).opsForStream();
+	}
+}
@@ -0,0 +1,75 @@
+package com.team8.project2.domain.curation.like.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+@ExtendWith(MockitoExtension.class)
+class LikeServiceTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@InjectMocks
+	private LikeService likeService;
+
+	@Test
+	@DisplayName("로그인 회원은 좋아요 수와 좋아요 여부를 한 번의 파이프라인으로 조회한다")
+	void getLikeStatesWithMember() {
+		when(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.thenReturn(List.of(3L, true, 0L, false));
+
+		LikeService.LikeStates likeStates = likeService.getLikeStates(List.of(1L, 2L, 1L), 7L);
+
+		assertThat(likeStates.likeCount(1L, -1)).isEqualTo(3L);
+		assertThat(likeStates.likeCount(2L, -1)).isEqualTo(0L);
+		assertThat(likeStates.isLiked(1L)).isTrue();
+		assertThat(likeStates.isLiked(2L)).isFalse();
+		verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+	}
+
+	@Test
+	@DisplayName("비로그인 사용자는 좋아요 수만 조회하고, 값이 없으면 기본값을 사용한다")
+	void getLikeStatesWithoutMember() {
+		when(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.thenReturn(Arrays.asList(5L, null));
+
+		LikeService.LikeStates likeStates = likeService.getLikeStates(List.of(1L, 2L), null);
+
+		assertThat(likeStates.likeCount(1L, 0)).isEqualTo(5L);
+		assertThat(likeStates.likeCount(2L, 9L)).isEqualTo(9L);
+		assertThat(likeStates.likedIds()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Redis 조회에 실패하면 빈 결과를 반환해 DB 값을 사용하게 한다")
+	void fallbackWhenRedisFails() {
+		when(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.thenThrow(new RedisConnectionFailureException("down"));
+
+		LikeService.LikeStates likeStates = likeService.getLikeStates(List.of(1L), 7L);
+
+		assertThat(likeStates.likeCount(1L, 4L)).isEqualTo(4L);
+		assertThat(likeStates.isLiked(1L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("빈 목록은 Redis를 호출하지 않는다")
+	void skipEmpty() {
+		assertThat(likeService.getLikeStates(List.of(), 7L)).isSameAs(LikeService.LikeStates.EMPTY);
+		verifyNoInteractions(redisTemplate);
+	}
+}
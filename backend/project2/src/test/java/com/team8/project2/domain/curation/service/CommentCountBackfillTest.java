@@ -0,0 +1,91 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.curation.service.CommentCountBackfill;
+
+@ExtendWith(MockitoExtension.class)
+class CommentCountBackfillTest {
+
+	@Mock
+	private CurationRepository curationRepository;
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private CommentCountBackfill backfill;
+
+	@BeforeEach
+	void setUp() {
+		backfill = new CommentCountBackfill(curationRepository, redisTemplate, transactionManager, false, 2);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		lenient().when(valueOperations.setIfAbsent(eq("comment_count_backfill:lock"), anyString(), any())).thenReturn(true);
+	}
+
+	@Test
+	@DisplayName("기록된 마지막 큐레이션 다음부터 배치마다 댓글 수를 다시 세고, 끝나면 완료로 기록한다")
+	void resumeFromCheckpoint() {
+		when(valueOperations.get("comment_count_backfill")).thenReturn("3");
+		when(curationRepository.findIdsAfter(3L, PageRequest.of(0, 2))).thenReturn(List.of(4L, 5L));
+		when(curationRepository.findIdsAfter(5L, PageRequest.of(0, 2))).thenReturn(List.of(7L));
+
+		backfill.backfill();
+
+		InOrder inOrder = inOrder(curationRepository, valueOperations);
+		inOrder.verify(curationRepository).recountCommentCounts(List.of(4L, 5L));
+		inOrder.verify(valueOperations).set("comment_count_backfill", "5");
+		inOrder.verify(curationRepository).recountCommentCounts(List.of(7L));
+		inOrder.verify(valueOperations).set("comment_count_backfill", "7");
+		inOrder.verify(valueOperations).set("comment_count_backfill", "DONE");
+	}
+
+	@Test
+	@DisplayName("이미 완료된 보정은 다시 실행하지 않는다")
+	void skipWhenDone() {
+		when(valueOperations.get("comment_count_backfill")).thenReturn("DONE");
+
+		backfill.backfill();
+
+		verifyNoInteractions(curationRepository);
+	}
+
+	@Test
+	@DisplayName("시작 시 Redis에 연결할 수 없어도 예외를 던지지 않고, 다음 주기에 다시 시도한다")
+	void retryWhenRedisUnavailable() {
+		backfill = new CommentCountBackfill(curationRepository, redisTemplate, transactionManager, true, 2);
+		when(valueOperations.get("comment_count_backfill"))
+			.thenThrow(new RedisConnectionFailureException("연결 실패"))
+			.thenReturn("DONE");
+
+		backfill.backfillOnStartup();
+		verify(valueOperations, timeout(1000)).get("comment_count_backfill");
+
+		backfill.retry();
+		verify(valueOperations, timeout(1000).times(2)).get("comment_count_backfill");
+		verifyNoInteractions(curationRepository);
+		backfill.shutdown();
+	}
+}
@@ -0,0 +1,156 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team8.project2.domain.curation.curation.dto.CurationDetailResDto;
+import com.team8.project2.domain.curation.curation.service.CurationDetailCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CurationDetailCacheTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.findAndRegisterModules()
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+	private SimpleMeterRegistry meterRegistry;
+	private CurationDetailCache cache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new CurationDetailCache(redisTemplate, objectMapper, meterRegistry, 100, 60, 600);
+	}
+
+	private CurationDetailResDto detail() {
+		return CurationDetailResDto.builder()
+			.id(1L)
+			.title("title")
+			.content("content")
+			.authorId(1L)
+			.authorName("author")
+			.urls(List.of())
+			.tags(List.of())
+			.comments(List.of())
+			.createdAt(LocalDateTime.of(2025, 3, 1, 12, 0))
+			.likeCount(3L)
+			.viewCount(10L)
+			.build();
+	}
+
+	private static final List<String> KEYS = List.of("curation:detail:1", "curation:detail:generation:1");
+
+	@Test
+	@DisplayName("두 계층 모두 없으면 loader로 만든 값을 Redis에 저장하고, 이후에는 로컬 캐시에서 반환한다")
+	@SuppressWarnings("unchecked")
+	void loadOnceThenServeLocally() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList(null, null));
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(1L, id -> {
+			loads.incrementAndGet();
+			return detail();
+		});
+		CurationDetailResDto second = cache.get(1L, id -> {
+			loads.incrementAndGet();
+			return detail();
+		});
+
+		assertThat(loads).hasValue(1);
+		assertThat(second.getTitle()).isEqualTo("title");
+		assertThat(second.getContentVersion()).isPositive();
+		// 응답의 ETag와 다른 인스턴스가 읽을 값이 같은 버전을 가리켜야 함
+		verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS),
+			contains("\"version\":" + second.getContentVersion()), eq("600"), eq("0"));
+		assertThat(meterRegistry.get("curation.detail.cache.redis").tag("result", "miss").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("Redis에 저장된 값은 저장된 버전과 함께 역직렬화해서 사용하고 loader를 호출하지 않는다")
+	void serveFromRedis() throws Exception {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(KEYS))
+			.thenReturn(Arrays.asList("{\"version\":42,\"detail\":" + objectMapper.writeValueAsString(detail()) + "}",
+				null));
+
+		CurationDetailResDto result = cache.get(1L, id -> {
+			throw new AssertionError("loader must not be called");
+		});
+
+		assertThat(result.getTitle()).isEqualTo("title");
+		assertThat(result.getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 3, 1, 12, 0));
+		assertThat(result.getContentVersion()).isEqualTo(42L);
+		assertThat(meterRegistry.get("curation.detail.cache.redis").tag("result", "hit").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("삭제하면 두 계층 모두에서 제거하고 세대를 올려, 다음 조회 시 다시 로드한다")
+	@SuppressWarnings("unchecked")
+	void evict() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList(null, null));
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(1L, id -> {
+			loads.incrementAndGet();
+			return detail();
+		});
+		cache.evict(1L);
+		cache.get(1L, id -> {
+			loads.incrementAndGet();
+			return detail();
+		});
+		cache.evictAll(List.of(1L, 2L));
+
+		assertThat(loads).hasValue(2);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("600"));
+		verify(redisTemplate).execute(any(RedisScript.class),
+			eq(List.of("curation:detail:1", "curation:detail:generation:1", "curation:detail:2",
+				"curation:detail:generation:2")), eq("600"));
+	}
+
+	@Test
+	@DisplayName("다시 읽은 값은 loader 호출 전에 읽은 세대와 함께 조건부로 저장한다")
+	@SuppressWarnings("unchecked")
+	void writeWithGenerationReadBeforeLoad() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList(null, "3"));
+
+		cache.get(1L, id -> {
+			// loader 실행 중에 커밋 후 삭제가 일어나도 저장 조건은 읽기 전 세대를 기준으로 함
+			verify(valueOperations).multiGet(KEYS);
+			return detail();
+		});
+
+		verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), anyString(), eq("600"), eq("3"));
+	}
+}
@@ -0,0 +1,101 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.team8.project2.domain.comment.entity.Comment;
+import com.team8.project2.domain.comment.entity.ReplyComment;
+import com.team8.project2.domain.comment.repository.CommentRepository;
+import com.team8.project2.domain.comment.repository.ReplyCommentRepository;
+import com.team8.project2.domain.curation.curation.dto.CurationDetailResDto;
+import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.curation.service.CurationDetailReader;
+import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.member.repository.MemberRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CurationDetailReaderTest {
+
+	private static final long MAX_QUERY_COUNT = 4;
+
+	@Autowired
+	private CurationDetailReader curationDetailReader;
+
+	@Autowired
+	private CurationRepository curationRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private ReplyCommentRepository replyCommentRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@ParameterizedTest(name = "댓글 {0}개, 댓글당 답글 {1}개")
+	@CsvSource({"0, 0", "3, 2", "20, 5"})
+	@DisplayName("댓글과 답글 수와 관계없이 상세 조회 쿼리 수가 일정하다")
+	void readWithBoundedQueries(int commentCount, int repliesPerComment) {
+		Curation curation = curationRepository.findById(1L).get();
+		List<Member> members = memberRepository.findAll();
+
+		for (int i = 0; i < commentCount; i++) {
+			Comment comment = commentRepository.save(Comment.builder()
+				.author(members.get(i % members.size()))
+				.curation(curation)
+				.content("comment " + i)
+				.build());
+			for (int j = 0; j < repliesPerComment; j++) {
+				replyCommentRepository.save(ReplyComment.builder()
+					.author(members.get((i + j + 1) % members.size()))
+					.comment(comment)
+					.curation(curation)
+					.content("reply " + i + "-" + j)
+					.build());
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		CurationDetailResDto detail = curationDetailReader.read(1L);
+
+		assertThat(detail.getComments()).hasSizeGreaterThanOrEqualTo(commentCount);
+		assertThat(detail.getComments())
+			.filteredOn(comment -> comment.getContent().startsWith("comment "))
+			.allSatisfy(comment -> assertThat(comment.getReplies()).hasSize(repliesPerComment));
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_QUERY_COUNT);
+	}
+}
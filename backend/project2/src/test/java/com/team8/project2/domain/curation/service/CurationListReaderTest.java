@@ -0,0 +1,144 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.team8.project2.domain.comment.dto.CommentDto;
+import com.team8.project2.domain.comment.service.CommentService;
+import com.team8.project2.domain.curation.curation.dto.CurationResDto;
+import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.domain.curation.curation.entity.CurationLink;
+import com.team8.project2.domain.curation.curation.entity.CurationTag;
+import com.team8.project2.domain.curation.curation.repository.CurationLinkRepository;
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.curation.repository.CurationTagRepository;
+import com.team8.project2.domain.curation.curation.service.CurationListReader;
+import com.team8.project2.domain.curation.tag.entity.Tag;
+import com.team8.project2.domain.curation.tag.repository.TagRepository;
+import com.team8.project2.domain.link.entity.Link;
+import com.team8.project2.domain.link.repository.LinkRepository;
+import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.member.repository.MemberRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CurationListReaderTest {
+
+	private static final long MAX_QUERY_COUNT = 2;
+
+	@Autowired
+	private CurationListReader curationListReader;
+
+	@Autowired
+	private CurationRepository curationRepository;
+
+	@Autowired
+	private CurationLinkRepository curationLinkRepository;
+
+	@Autowired
+	private CurationTagRepository curationTagRepository;
+
+	@Autowired
+	private LinkRepository linkRepository;
+
+	@Autowired
+	private TagRepository tagRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@ParameterizedTest(name = "큐레이션 {0}개")
+	@ValueSource(ints = {1, 10, 40})
+	@DisplayName("목록 크기와 관계없이 카드 응답을 만드는 쿼리 수가 일정하다")
+	void initializeWithBoundedQueries(int curationCount) {
+		List<Member> members = memberRepository.findAll();
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < curationCount; i++) {
+			Curation curation = curationRepository.save(Curation.builder()
+				.member(members.get(i % members.size()))
+				.title("title " + i)
+				.content("content " + i)
+				.build());
+			for (int j = 0; j < 2; j++) {
+				Link link = linkRepository.save(Link.builder().url("https://example.com/" + i + "/" + j).build());
+				curationLinkRepository.save(new CurationLink().setCurationAndLink(curation, link));
+				Tag tag = tagRepository.save(Tag.builder().name("list-tag-" + i + "-" + j).build());
+				curationTagRepository.save(new CurationTag().setCurationAndTag(curation, tag));
+			}
+			ids.add(curation.getId());
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		List<Curation> curations = curationRepository.findAllById(ids);
+		statistics.clear();
+
+		curationListReader.initialize(curations);
+		List<CurationResDto> dtos = curations.stream().map(CurationResDto::new).toList();
+
+		assertThat(dtos).hasSize(curationCount)
+			.allSatisfy(dto -> {
+				assertThat(dto.getUrls()).hasSize(2);
+				assertThat(dto.getTags()).hasSize(2);
+				assertThat(dto.getAuthorName()).isNotNull();
+			});
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_QUERY_COUNT);
+	}
+
+	@Test
+	@DisplayName("댓글 수는 댓글 작성·삭제 시 컬럼에 반영되어 댓글 컬렉션 없이 응답한다")
+	void commentCountColumn() {
+		Member member = memberRepository.findAll().get(0);
+		Curation curation = curationRepository.save(Curation.builder()
+			.member(member)
+			.title("title")
+			.content("content")
+			.build());
+		CommentDto first = commentService.createComment(member, curation.getId(),
+			CommentDto.builder().content("first").build());
+		commentService.createComment(member, curation.getId(), CommentDto.builder().content("second").build());
+		commentService.deleteComment(first.getId());
+		entityManager.flush();
+		entityManager.clear();
+
+		Curation reloaded = curationRepository.findById(curation.getId()).get();
+
+		assertThat(new CurationResDto(reloaded).getCommentCount()).isEqualTo(1);
+		assertThat(Hibernate.isInitialized(reloaded.getComments())).isFalse();
+	}
+}
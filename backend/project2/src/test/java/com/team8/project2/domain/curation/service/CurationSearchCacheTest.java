@@ -0,0 +1,97 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.team8.project2.domain.curation.curation.entity.SearchOrder;
+import com.team8.project2.domain.curation.curation.service.CurationSearchCache;
+import com.team8.project2.domain.curation.curation.service.CurationSearchCache.Entry;
+import com.team8.project2.domain.curation.curation.service.CurationSearchCache.Key;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CurationSearchCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private CurationSearchCache searchCache;
+	private AtomicInteger loads;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		searchCache = new CurationSearchCache(meterRegistry, 100, 30);
+		loads = new AtomicInteger();
+	}
+
+	private Entry load(Key key, Entry entry) {
+		return searchCache.get(key, () -> {
+			loads.incrementAndGet();
+			return entry;
+		});
+	}
+
+	private Entry page(Long... ids) {
+		return new Entry(List.of(ids), 1, (long)ids.length, 10, null);
+	}
+
+	@Test
+	@DisplayName("태그 순서·중복과 검색어 공백이 달라도 같은 조건이면 캐시를 공유한다")
+	void normalizeKey() {
+		Key first = Key.ofPage(List.of("spring", "java", "java"), " jpa ", "", null, SearchOrder.LATEST, 0, 10);
+		Key second = Key.ofPage(List.of(" java", "spring"), "jpa", null, "  ", SearchOrder.LATEST, 0, 10);
+
+		load(first, page(1L));
+		Entry cached = load(second, page(2L));
+
+		assertThat(first).isEqualTo(second);
+		assertThat(cached.ids()).containsExactly(1L);
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(meterRegistry.get("curation.search.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("새 큐레이션은 태그와 작성자가 맞는 결과만 삭제하고, 오래된순은 마지막 페이지만 삭제한다")
+	void evictForCreated() {
+		Key latestJava = Key.ofPage(List.of("java"), null, null, null, SearchOrder.LATEST, 0, 10);
+		Key latestKotlin = Key.ofPage(List.of("kotlin"), null, null, null, SearchOrder.LATEST, 0, 10);
+		Key latestOtherAuthor = Key.ofPage(List.of(), null, null, "bob", SearchOrder.LATEST, 0, 10);
+		Key oldestFirstPage = Key.ofCursor(List.of("java"), null, null, null, SearchOrder.OLDEST, null, 1, false);
+		Key oldestLastPage = Key.ofCursor(List.of("java"), null, null, null, SearchOrder.OLDEST, "next", 1, false);
+		load(latestJava, page(1L));
+		load(latestKotlin, page(2L));
+		load(latestOtherAuthor, page(3L));
+		load(oldestFirstPage, new Entry(List.of(1L), null, null, 1, "next"));
+		load(oldestLastPage, new Entry(List.of(), null, null, 1, null));
+
+		searchCache.evictForCreated(4L, List.of("java", "spring"), "Alice");
+
+		load(latestJava, page());
+		load(latestKotlin, page());
+		load(latestOtherAuthor, page());
+		load(oldestFirstPage, page());
+		load(oldestLastPage, page());
+		// 다시 읽은 것은 최신순 java, 오래된순 마지막 페이지뿐
+		assertThat(loads.get()).isEqualTo(5 + 2);
+	}
+
+	@Test
+	@DisplayName("수정·삭제된 큐레이션이 들어 있는 결과를 삭제한다")
+	void evictContainingCuration() {
+		Key withCuration = Key.ofPage(List.of("java"), null, null, null, SearchOrder.LIKECOUNT, 0, 10);
+		Key withoutCuration = Key.ofPage(List.of("java"), null, null, null, SearchOrder.LIKECOUNT, 1, 10);
+		load(withCuration, page(1L, 2L));
+		load(withoutCuration, page(3L));
+
+		searchCache.evictForDeleted(2L);
+
+		load(withCuration, page());
+		load(withoutCuration, page());
+		assertThat(loads.get()).isEqualTo(3);
+	}
+}
@@ -0,0 +1,187 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+
+import com.team8.project2.domain.curation.curation.dto.CurationCursor;
+import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.domain.curation.curation.entity.SearchOrder;
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.curation.service.CurationSearchIndex;
+import com.team8.project2.domain.member.entity.Member;
+
+@ExtendWith(MockitoExtension.class)
+class CurationSearchIndexTest {
+
+	@Mock
+	private CurationRepository curationRepository;
+
+	private CurationSearchIndex searchIndex;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		searchIndex = new CurationSearchIndex(curationRepository, "", 2);
+		searchIndex.open();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		searchIndex.close();
+	}
+
+	private Curation curation(long id, String title, String content, String author, int day) {
+		return Curation.builder()
+			.id(id)
+			.title(title)
+			.content(content)
+			.member(Member.builder().id(id).username(author).build())
+			.createdAt(LocalDateTime.of(2025, 3, day, 12, 0))
+			.build();
+	}
+
+	private List<Long> ids(String title, String content, String author, SearchOrder order) {
+		return searchIndex.search(title, content, author, null, order, 0, 100).ids();
+	}
+
+	@Test
+	@DisplayName("한글 조사가 붙은 단어와 영문 단어의 일부로도 검색된다")
+	void searchByPartialWords() {
+		searchIndex.index(curation(1L, "스프링 검색엔진은", "<p>본문</p>", "author1", 1));
+		searchIndex.index(curation(2L, "test-example", "<p>본문</p>", "author2", 2));
+		searchIndex.index(curation(3L, "ex1", "<p>본문</p>", "author1", 3));
+
+		assertThat(ids("검색엔진", null, null, SearchOrder.RELEVANCE)).isEqualTo(List.of(1L));
+		assertThat(ids("ex", null, null, SearchOrder.LATEST)).isEqualTo(List.of(3L, 2L));
+		assertThat(ids(null, null, "author1", SearchOrder.OLDEST)).isEqualTo(List.of(1L, 3L));
+	}
+
+	@Test
+	@DisplayName("검색어의 조각이 단어 안에서 순서대로 붙어 있어야 검색된다")
+	void matchGramsInOrder() {
+		searchIndex.index(curation(1L, "나가 가나", "본문", "author", 1));
+		searchIndex.index(curation(2L, "가나가다", "본문", "author", 2));
+
+		assertThat(ids("가나가", null, null, SearchOrder.LATEST)).isEqualTo(List.of(2L));
+		assertThat(ids("가", null, null, SearchOrder.LATEST)).isEqualTo(List.of(2L, 1L));
+	}
+
+	@Test
+	@DisplayName("일치하는 큐레이션이 많아도 색인 안에서 페이지를 나누고 전체 개수를 함께 반환한다")
+	void pageInsideIndex() {
+		for (long id = 1; id <= 5; id++) {
+			searchIndex.index(curation(id, "spring " + id, "본문", "author", (int)id));
+		}
+
+		CurationSearchIndex.Hits hits = searchIndex.search("spring", null, null, null, SearchOrder.LATEST, 2, 2);
+
+		assertThat(hits.ids()).containsExactly(3L, 2L);
+		assertThat(hits.totalHits()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("커서 다음 위치부터 이어 읽고, 관련도순 커서의 큐레이션이 결과에 없으면 빈 값을 반환한다")
+	void searchAfterCursor() {
+		searchIndex.index(curation(1L, "spring", "본문", "author", 1));
+		searchIndex.index(curation(2L, "spring spring", "본문", "author", 2));
+		searchIndex.index(curation(3L, "spring", "본문", "author", 3));
+
+		CurationCursor latest = new CurationCursor(SearchOrder.LATEST, LocalDateTime.of(2025, 3, 3, 12, 0).toString(), 3L);
+		assertThat(searchIndex.searchAfter("spring", null, null, null, SearchOrder.LATEST, latest, 10, true))
+			.contains(new CurationSearchIndex.Hits(List.of(2L, 1L), 3));
+
+		List<Long> relevance = ids("spring", null, null, SearchOrder.RELEVANCE);
+		CurationCursor first = new CurationCursor(SearchOrder.RELEVANCE, "", relevance.get(0));
+		assertThat(searchIndex.searchAfter("spring", null, null, null, SearchOrder.RELEVANCE, first, 10, false)
+			.map(CurationSearchIndex.Hits::ids)).contains(relevance.subList(1, 3));
+
+		searchIndex.delete(List.of(relevance.get(0)));
+		assertThat(searchIndex.searchAfter("spring", null, null, null, SearchOrder.RELEVANCE, first, 10, false))
+			.isEmpty();
+	}
+
+	@Test
+	@DisplayName("태그 조건의 ID로 걸러 검색하고, 일치하는 ID를 모두 구할 수 있다")
+	void filterByIds() {
+		searchIndex.index(curation(1L, "spring", "본문", "author", 1));
+		searchIndex.index(curation(2L, "spring", "본문", "author", 2));
+		searchIndex.index(curation(3L, "spring", "본문", "author", 3));
+
+		assertThat(searchIndex.search("spring", null, null, RoaringBitmap.bitmapOf(1, 3), SearchOrder.OLDEST, 0, 10))
+			.isEqualTo(new CurationSearchIndex.Hits(List.of(1L, 3L), 2));
+		assertThat(searchIndex.search("spring", null, null, new RoaringBitmap(), SearchOrder.OLDEST, 0, 10).ids())
+			.isEmpty();
+		assertThat(searchIndex.searchIds("spring", null, null, null)).isEqualTo(RoaringBitmap.bitmapOf(1, 2, 3));
+		assertThat(searchIndex.searchIds("spring", null, null, RoaringBitmap.bitmapOf(2)))
+			.isEqualTo(RoaringBitmap.bitmapOf(2));
+	}
+
+	@Test
+	@DisplayName("본문의 HTML 태그와 속성은 색인되지 않는다")
+	void stripHtmlFromContent() {
+		searchIndex.index(curation(1L, "title", "<img src=\"https://bucket/image.png\"><p>링크 모음</p>", "author", 1));
+
+		assertThat(ids(null, "링크", null, SearchOrder.LATEST)).isEqualTo(List.of(1L));
+		assertThat(ids(null, "image", null, SearchOrder.LATEST)).isEqualTo(List.of());
+	}
+
+	@Test
+	@DisplayName("여러 검색어는 모두 만족해야 하고, 삭제된 큐레이션은 검색되지 않는다")
+	void combineFiltersAndDelete() {
+		searchIndex.index(curation(1L, "popular", "famous1", "author", 1));
+		searchIndex.index(curation(2L, "sample", "test-famous", "author", 2));
+
+		assertThat(ids("popular", "famous", null, SearchOrder.LATEST)).isEqualTo(List.of(1L));
+
+		searchIndex.delete(List.of(1L));
+		assertThat(ids("popular", "famous", null, SearchOrder.LATEST)).isEqualTo(List.of());
+	}
+
+	@Test
+	@DisplayName("재구축하면 DB의 큐레이션을 배치 단위로 모두 다시 색인한다")
+	void rebuildFromDatabase() {
+		searchIndex.index(curation(99L, "stale", "deleted curation", "author", 1));
+		when(curationRepository.findForIndexing(anyLong(), any(Pageable.class)))
+			.thenReturn(List.of(curation(1L, "first", "content", "author", 1), curation(2L, "second", "content", "author", 2)))
+			.thenReturn(List.of(curation(3L, "third", "content", "author", 3)))
+			.thenReturn(List.of());
+
+		assertThat(searchIndex.isReady()).isFalse();
+		assertThat(searchIndex.rebuild()).isEqualTo(3);
+		assertThat(searchIndex.isReady()).isTrue();
+		assertThat(ids(null, "content", null, SearchOrder.OLDEST)).isEqualTo(List.of(1L, 2L, 3L));
+		assertThat(ids("stale", null, null, SearchOrder.LATEST)).isEqualTo(List.of());
+		verify(curationRepository).findForIndexing(eq(2L), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("색인이 준비되지 않았으면 동기화 주기에 재구축하고, DB에 연결할 수 없으면 다음 주기에 다시 시도한다")
+	void rebuildWhenNotReady() {
+		when(curationRepository.findForIndexing(anyLong(), any(Pageable.class)))
+			.thenThrow(new DataAccessResourceFailureException("연결 실패"))
+			.thenReturn(List.of(curation(1L, "first", "content", "author", 1)))
+			.thenReturn(List.of());
+
+		searchIndex.syncModified();
+		assertThat(searchIndex.isReady()).isFalse();
+
+		searchIndex.syncModified();
+		assertThat(searchIndex.isReady()).isTrue();
+		assertThat(ids(null, "content", null, SearchOrder.LATEST)).isEqualTo(List.of(1L));
+		verify(curationRepository, never()).findModifiedSince(any(), anyLong(), any(Pageable.class));
+	}
+}
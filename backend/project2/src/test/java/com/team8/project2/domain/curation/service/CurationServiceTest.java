@@ -1,6 +1,9 @@
 package com.team8.project2.domain.curation.service;
 
+import com.team8.project2.domain.curation.curation.dto.CurationCursor;
 import com.team8.project2.domain.curation.curation.dto.CurationDetailResDto;
+import com.team8.project2.domain.curation.curation.dto.CurationSearchResDto;
+import com.team8.project2.domain.curation.curation.event.CurationDeleteEvent;
 import com.team8.project2.domain.curation.curation.entity.Curation;
 import com.team8.project2.domain.curation.curation.entity.CurationLink;
 import com.team8.project2.domain.curation.curation.entity.CurationTag;
@@ -8,31 +11,54 @@ import com.team8.project2.domain.curation.curation.entity.SearchOrder;
 import com.team8.project2.domain.curation.curation.repository.CurationLinkRepository;
 import com.team8.project2.domain.curation.curation.repository.CurationRepository;
 import com.team8.project2.domain.curation.curation.repository.CurationTagRepository;
+import com.team8.project2.domain.curation.curation.service.CurationDetailCache;
+import com.team8.project2.domain.curation.curation.service.CurationDetailReader;
+import com.team8.project2.domain.curation.curation.service.CurationListReader;
+import com.team8.project2.domain.curation.curation.service.CurationSearchCache;
+import com.team8.project2.domain.curation.curation.service.CurationSearchIndex;
 import com.team8.project2.domain.curation.curation.service.CurationService;
+import com.team8.project2.domain.curation.curation.service.CurationTagIndex;
+import com.team8.project2.domain.curation.curation.service.CurationTrendingService;
+import com.team8.project2.domain.curation.curation.service.CurationViewCountBuffer;
+import com.team8.project2.domain.curation.curation.service.FollowingTimeline;
+import com.team8.project2.domain.curation.curation.service.TrendingCurationSnapshot;
 import com.team8.project2.domain.curation.like.entity.Like;
 import com.team8.project2.domain.curation.like.repository.LikeRepository;
+import com.team8.project2.domain.curation.like.service.LikeService;
 import com.team8.project2.domain.curation.tag.entity.Tag;
 import com.team8.project2.domain.curation.tag.service.TagService;
+import com.team8.project2.domain.image.repository.CurationImageRepository;
 import com.team8.project2.domain.link.entity.Link;
 import com.team8.project2.domain.link.service.LinkService;
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.repository.MemberRepository;
+import com.team8.project2.global.Rq;
+import com.team8.project2.global.UniqueVisitorService;
 import com.team8.project2.global.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
@@ -69,6 +95,51 @@ class CurationServiceTest {
 	@Mock
 	private RedisTemplate<String, Object> redisTemplate;
 
+	@Mock
+	private CurationViewCountBuffer curationViewCountBuffer;
+
+	@Mock
+	private UniqueVisitorService uniqueVisitorService;
+
+	@Mock
+	private Rq rq;
+
+	@Mock
+	private CurationDetailReader curationDetailReader;
+
+	@Mock
+	private CurationListReader curationListReader;
+
+	@Mock
+	private CurationDetailCache curationDetailCache;
+
+	@Mock
+	private CurationImageRepository curationImageRepository;
+
+	@Mock
+	private LikeService likeService;
+
+	@Mock
+	private CurationTrendingService curationTrendingService;
+
+	@Mock
+	private TrendingCurationSnapshot trendingCurationSnapshot;
+
+	@Mock
+	private FollowingTimeline followingTimeline;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private CurationSearchIndex curationSearchIndex;
+
+	@Mock
+	private CurationTagIndex curationTagIndex;
+
+	@Spy
+	private CurationSearchCache curationSearchCache = new CurationSearchCache(new SimpleMeterRegistry(), 100, 30);
+
 	@InjectMocks
 	private  CurationService curationService;
 
@@ -112,7 +183,7 @@ class CurationServiceTest {
 		List<String> tags = Arrays.asList("tag1", "tag2", "tag3");
 
 		// Mocking repository and service calls
-		when(linkService.getLink(anyString())).thenReturn(link);
+		when(linkService.getLinks(urls)).thenReturn(List.of(link, link));
 		when(tagService.getTag(anyString())).thenReturn(tag);
 		when(curationRepository.save(any(Curation.class))).thenReturn(curation);
 		when(curationLinkRepository.saveAll(ArgumentMatchers.anyList())).thenReturn(List.of(new CurationLink()));
@@ -152,7 +223,7 @@ class CurationServiceTest {
 
 		// Mocking 리포지토리 및 서비스 호출
 		when(curationRepository.findById(1L)).thenReturn(Optional.of(curation));
-		when(linkService.getLink(anyString())).thenReturn(link);
+		when(linkService.getLinks(urls)).thenReturn(List.of(link, link));
 		when(tagService.getTag(anyString())).thenReturn(tag);
 		when(curationRepository.save(any(Curation.class))).thenReturn(curation);
 		when(curationLinkRepository.saveAll(ArgumentMatchers.anyList())).thenReturn(List.of(new CurationLink()));
@@ -230,13 +301,15 @@ class CurationServiceTest {
 	void GetCuration() {
 		// HttpServletRequest 모킹
 		HttpServletRequest request = mock(HttpServletRequest.class);
-		when(request.getRemoteAddr()).thenReturn("192.168.0.1");  // IP를 임의로 설정
-
-		ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(uniqueVisitorService.resolveVisitor(request)).thenReturn("ip:192.168.0.1");  // 방문자를 임의로 설정
+		when(uniqueVisitorService.todayHyperLogLogKey(UniqueVisitorService.CURATION, 1L))
+				.thenReturn("uv:curation:1:20250301");
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+				.thenReturn(List.of(1L, 0L, 0L)); // [새 방문자 수, 좋아요 수, 좋아요 여부]
 
-		// Mocking repository to return a Curation
-		when(curationRepository.findById(anyLong())).thenReturn(Optional.of(curation));
+		// Mocking cache to return a Curation detail
+		when(curationDetailCache.get(anyLong(), any())).thenReturn(curationDetail());
+		when(curationRepository.findViewCountById(1L)).thenReturn(Optional.of(0L));
 
 		CurationDetailResDto retrievedCuration = curationService.getCuration(1L, request);
 
@@ -245,6 +318,17 @@ class CurationServiceTest {
 		assert retrievedCuration.getTitle().equals("Test Title");
 	}
 
+	private CurationDetailResDto curationDetail() {
+		return CurationDetailResDto.builder()
+				.id(curation.getId())
+				.title(curation.getTitle())
+				.content(curation.getContent())
+				.authorId(member.getId())
+				.likeCount(0L)
+				.viewCount(0L)
+				.build();
+	}
+
 	@Test
 	@DisplayName("큐레이션 조회수는 한 번만 증가해야 한다")
 	void GetCurationMultipleTimes() {
@@ -252,22 +336,18 @@ class CurationServiceTest {
 
 		// HttpServletRequest 모킹
 		HttpServletRequest request = mock(HttpServletRequest.class);
-		when(request.getRemoteAddr()).thenReturn("192.168.0.1");  // IP를 임의로 설정
+		when(uniqueVisitorService.resolveVisitor(request)).thenReturn("ip:192.168.0.1");  // 방문자를 임의로 설정
+		when(uniqueVisitorService.todayHyperLogLogKey(UniqueVisitorService.CURATION, 1L))
+				.thenReturn("uv:curation:1:20250301");
 
-		// Given: Redis와 큐레이션 관련 의존성 준비
-		ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
-		// 첫 번째 조회에서만 true 반환하고, 그 이후에는 false 반환하도록 설정
-		when(valueOperations.setIfAbsent(anyString(), eq("true"), eq(Duration.ofMinutes(10))))
-				.thenReturn(true)  // 첫 번째 조회에서는 키가 없으므로 true 반환
-				.thenReturn(false); // 두 번째 이후의 조회에서는 키가 이미 있으므로 false 반환
+		// 첫 번째 조회에서만 방문자 수가 증가하도록 설정
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+				.thenReturn(List.of(1L, 0L, 0L))  // 첫 번째 조회에서는 방문 기록이 없으므로 신규 방문
+				.thenReturn(List.of(0L, 0L, 0L)); // 두 번째 이후의 조회에서는 이미 방문했으므로 중복 방문
 
 		// 큐레이션 조회 로직이 제대로 동작하도록 설정
-		when(curationRepository.findById(1L)).thenReturn(Optional.of(curation));
-
-		// 조회수 초기 상태 저장
-		Long initialViewCount = curation.getViewCount();
+		when(curationDetailCache.get(eq(1L), any())).thenReturn(curationDetail());
+		when(curationRepository.findViewCountById(1L)).thenReturn(Optional.of(0L));
 
 		// When: 큐레이션을 여러 번 조회한다
 		curationService.getCuration(1L, request);  // 첫 번째 조회
@@ -275,7 +355,20 @@ class CurationServiceTest {
 		curationService.getCuration(1L, request);  // 세 번째 조회
 
 		// Then: 조회수는 한 번만 증가해야 한다
-		assertEquals(initialViewCount + 1, curation.getViewCount()); // 조회수가 1만 증가해야 한다.
+		verify(curationViewCountBuffer, times(1)).increment(1L, 1L); // 조회수가 1만 증가해야 한다.
+	}
+
+	@Test
+	@DisplayName("실패 - 캐시에 남아 있어도 DB에서 삭제된 큐레이션을 조회하면 404로 실패한다")
+	void GetDeletedCurationFromCache() {
+		HttpServletRequest request = mock(HttpServletRequest.class);
+		when(curationDetailCache.get(eq(1L), any())).thenReturn(curationDetail());
+		when(curationRepository.findViewCountById(1L)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> curationService.getCuration(1L, request))
+			.isInstanceOf(ServiceException.class)
+			.hasMessageContaining("해당 큐레이션을 찾을 수 없습니다.");
+		verify(curationViewCountBuffer, never()).increment(anyLong(), anyLong());
 	}
 
 	@Test
@@ -283,13 +376,10 @@ class CurationServiceTest {
 	void GetCurationNotFound() {
 		// HttpServletRequest 모킹
 		HttpServletRequest request = mock(HttpServletRequest.class);
-		when(request.getRemoteAddr()).thenReturn("192.168.0.1");  // IP를 임의로 설정
 
-		ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
-		// Mocking repository to return empty Optional
-		when(curationRepository.findById(anyLong())).thenReturn(Optional.empty());
+		// Mocking cache to throw not found
+		when(curationDetailCache.get(anyLong(), any()))
+				.thenThrow(new ServiceException("404-1", "해당 큐레이션을 찾을 수 없습니다."));
 
 		// Check if exception is thrown
 		try {
@@ -422,5 +512,88 @@ class CurationServiceTest {
 		verify(likeRepository, never()).save(any(Like.class));
 	}
 
+	/** 목록 응답으로 변환할 수 있도록 링크·태그 목록을 채운 큐레이션 (좋아요 수는 ID와 같게 둠) */
+	private Curation listedCuration(long id, String title) {
+		return Curation.builder().id(id).title(title).content(title).member(member).likeCount(id)
+			.curationLinks(List.of()).tags(List.of()).build();
+	}
+
+	@Test
+	@DisplayName("커서 기반 검색은 한 건을 더 조회해 DB 좋아요 수로 다음 페이지 커서를 만든다")
+	void searchCurationsByCursor() {
+		Curation first = listedCuration(10L, "a");
+		Curation second = listedCuration(7L, "b");
+		Curation third = listedCuration(3L, "c");
+		when(curationRepository.searchByFiltersAfterCursor(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+			isNull(), any(Pageable.class))).thenReturn(List.of(first, second, third));
+		// 비로그인 요청 (Rq 목은 기본값으로 0을 반환하므로 명시)
+		when(rq.getActorId()).thenReturn(null);
+		when(likeService.getLikeStates(anyList(), isNull()))
+			.thenReturn(new LikeService.LikeStates(Map.of(10L, 1L, 7L, 1L, 3L, 1L), Set.of()));
+
+		CurationSearchResDto result = curationService.searchCurationsByCursor(null, null, null, null,
+			SearchOrder.LIKECOUNT, "", 2, false);
+
+		assertEquals(2, result.getCurations().size());
+		assertEquals(1L, result.getCurations().get(0).getLikeCount());
+		assertEquals(null, result.getTotalElements());
+		CurationCursor next = CurationCursor.decode(result.getNextCursor(), SearchOrder.LIKECOUNT);
+		assertEquals(7L, next.likeCount());
+		assertEquals(7L, next.id());
+
+		// 다음 페이지는 커서 값을 조건으로 조회
+		when(curationRepository.searchByFiltersAfterCursor(isNull(), isNull(), isNull(), isNull(), isNull(), eq(7L),
+			eq(7L), any(Pageable.class))).thenReturn(List.of(third));
+
+		CurationSearchResDto last = curationService.searchCurationsByCursor(null, null, null, null,
+			SearchOrder.LIKECOUNT, result.getNextCursor(), 2, false);
+
+		assertEquals(1, last.getCurations().size());
+		assertEquals(null, last.getNextCursor());
+	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("좋아요순 전문 검색은 일치하는 큐레이션이 IN 조건 상한보다 많아도 DB 검색 대신 좋아요 순서로 골라 읽는다")
+	void searchBroadQueryByLikeCount() {
+		RoaringBitmap matched = RoaringBitmap.bitmapOf(3, 7);
+		when(curationSearchIndex.isReady()).thenReturn(true);
+		when(curationSearchIndex.searchIds("spring", null, null, null)).thenReturn(matched);
+		when(curationTagIndex.fitsInClause(matched)).thenReturn(false);
+		when(curationRepository.findLikeCountsAfterCursor(isNull(), isNull(), any(Pageable.class)))
+			.thenReturn(List.of(new Object[] {10L, 9L}, new Object[] {7L, 5L}, new Object[] {3L, 2L}));
+		when(curationRepository.findWithMemberByIdIn(List.of(3L))).thenReturn(List.of(listedCuration(3L, "c")));
+		when(rq.getActorId()).thenReturn(null);
+		when(likeService.getLikeStates(anyList(), isNull()))
+			.thenReturn(new LikeService.LikeStates(Map.of(3L, 2L), Set.of()));
+
+		CurationSearchResDto result = curationService.searchCurations(null, "spring", null, null,
+			SearchOrder.LIKECOUNT, 1, 1);
+
+		assertEquals(1, result.getCurations().size());
+		assertEquals(3L, result.getCurations().get(0).getId());
+		assertEquals(2L, result.getTotalElements());
+		verify(curationRepository, never()).searchByFiltersWithoutTags(any(), any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("일괄 삭제 정리는 Redis에 연결할 수 없어도 예외를 던지지 않고 삭제 이벤트를 발행한다")
+	void cleanUpDeletedCurationsWithoutRedis() {
+		doThrow(new RedisConnectionFailureException("연결 실패"))
+			.when(uniqueVisitorService).deleteVisits(eq(UniqueVisitorService.CURATION), anyLong());
+
+		curationService.cleanUpDeletedCurations(Map.of(1L, List.of("java"), 2L, List.of()));
+
+		verify(eventPublisher, times(2)).publishEvent(any(CurationDeleteEvent.class));
+	}
+
+	@Test
+	@DisplayName("실패 - 다른 정렬 기준으로 발급된 커서는 사용할 수 없다")
+	void searchCurationsByCursorWithMismatchedOrder() {
+		String cursor = new CurationCursor(SearchOrder.LIKECOUNT, "3", 3L).encode();
+
+		assertThatThrownBy(() -> curationService.searchCurationsByCursor(null, null, null, null,
+			SearchOrder.LATEST, cursor, 2, false))
+			.isInstanceOf(ServiceException.class)
+			.hasMessageContaining("잘못된 커서");
+	}
+}
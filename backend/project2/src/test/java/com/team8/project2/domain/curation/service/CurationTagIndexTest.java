@@ -0,0 +1,176 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Pageable;
+
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.curation.repository.CurationTagRepository;
+import com.team8.project2.domain.curation.curation.repository.CurationTagRepository.TagPosting;
+import com.team8.project2.domain.curation.curation.service.CurationTagIndex;
+
+@ExtendWith(MockitoExtension.class)
+class CurationTagIndexTest {
+
+	@Mock
+	private CurationTagRepository curationTagRepository;
+
+	@Mock
+	private CurationRepository curationRepository;
+
+	private CurationTagIndex tagIndex;
+
+	@BeforeEach
+	void setUp() {
+		tagIndex = new CurationTagIndex(curationTagRepository, curationRepository, 2, 1000);
+	}
+
+	private TagPosting posting(long curationId, long tagId, String tagName) {
+		return new TagPosting() {
+			@Override
+			public Long getCurationId() {
+				return curationId;
+			}
+
+			@Override
+			public Long getTagId() {
+				return tagId;
+			}
+
+			@Override
+			public String getTagName() {
+				return tagName;
+			}
+		};
+	}
+
+	private void buildIndex() {
+		// 배치 크기 2로 나눠 읽음
+		when(curationTagRepository.findPostingsAfter(eq(0L), eq(0L), any(Pageable.class)))
+			.thenReturn(List.of(posting(1L, 1L, "java"), posting(1L, 2L, "spring")));
+		when(curationTagRepository.findPostingsAfter(eq(1L), eq(2L), any(Pageable.class)))
+			.thenReturn(List.of(posting(2L, 1L, "java"), posting(3L, 1L, "java")));
+		when(curationTagRepository.findPostingsAfter(eq(3L), eq(1L), any(Pageable.class)))
+			.thenReturn(List.of(posting(3L, 2L, "spring")));
+		when(curationTagRepository.findPostingsAfter(eq(3L), eq(2L), any(Pageable.class)))
+			.thenReturn(List.of());
+
+		assertThat(tagIndex.rebuild()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("구축 전에는 색인을 사용하지 않는다")
+	void notReadyBeforeBuild() {
+		assertThat(tagIndex.findCurationIdsHavingAllTags(List.of("java"))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("여러 태그는 모두 가진 큐레이션만 반환한다")
+	void intersectTags() {
+		buildIndex();
+
+		assertThat(tagIndex.findCurationIdsHavingAllTags(List.of("java")).orElseThrow().toArray())
+			.containsExactly(1, 2, 3);
+		assertThat(tagIndex.findCurationIdsHavingAllTags(List.of("java", "spring")).orElseThrow().toArray())
+			.containsExactly(1, 3);
+		assertThat(tagIndex.findCurationIdsHavingAllTags(List.of("java", "unknown")).orElseThrow().isEmpty())
+			.isTrue();
+	}
+
+	@Test
+	@DisplayName("태그가 바뀌거나 삭제된 큐레이션은 다시 읽은 태그로 반영되고, 이전 조회 결과는 바뀌지 않는다")
+	void reloadAndDelete() {
+		buildIndex();
+		RoaringBitmap before = tagIndex.findCurationIdsHavingAllTags(List.of("spring")).orElseThrow();
+		when(curationTagRepository.findPostingsByCurationIdIn(List.of(1L)))
+			.thenReturn(List.of(posting(1L, 3L, "kotlin")));
+
+		tagIndex.reload(List.of(1L));
+		tagIndex.delete(List.of(3L));
+
+		assertThat(tagIndex.findCurationIdsHavingAllTags(List.of("java")).orElseThrow().toArray())
+			.containsExactly(2);
+		assertThat(tagIndex.findCurationIdsHavingAllTags(List.of("kotlin")).orElseThrow().toArray())
+			.containsExactly(1);
+		assertThat(tagIndex.findCurationIdsHavingAllTags(List.of("spring")).orElseThrow().isEmpty()).isTrue();
+		assertThat(before.toArray()).containsExactly(1, 3);
+	}
+
+	@Test
+	@DisplayName("다시 구축하면 다른 인스턴스에서 삭제된 큐레이션이 빠지고, 이후 변경은 새 색인 기준으로 반영된다")
+	void rebuildDropsCurationsDeletedElsewhere() {
+		buildIndex();
+		when(curationTagRepository.findPostingsAfter(eq(0L), eq(0L), any(Pageable.class)))
+			.thenReturn(List.of(posting(1L, 1L, "java"), posting(3L, 1L, "java")));
+		when(curationTagRepository.findPostingsAfter(eq(3L), eq(1L), any(Pageable.class)))
+			.thenReturn(List.of());
+
+		assertThat(tagIndex.rebuild()).isEqualTo(2);
+		tagIndex.delete(List.of(1L));
+
+		assertThat(tagIndex.findCurationIdsHavingAllTags(List.of("java")).orElseThrow().toArray())
+			.containsExactly(3);
+		assertThat(tagIndex.findCurationIdsHavingAllTags(List.of("spring")).orElseThrow().isEmpty()).isTrue();
+	}
+
+	@Test
+	@DisplayName("비트맵에서 ID 순서로 페이지와 커서 다음 위치를 구한다")
+	void sliceByIdOrder() {
+		RoaringBitmap ids = RoaringBitmap.bitmapOf(3, 5, 8, 13, 21);
+
+		assertThat(CurationTagIndex.slice(ids, true, 1, 2)).containsExactly(13L, 8L);
+		assertThat(CurationTagIndex.slice(ids, false, 4, 2)).containsExactly(21L);
+		assertThat(CurationTagIndex.sliceAfter(ids, true, 13L, 2)).containsExactly(8L, 5L);
+		assertThat(CurationTagIndex.sliceAfter(ids, false, 8L, 10)).containsExactly(13L, 21L);
+		assertThat(CurationTagIndex.sliceAfter(ids, true, 9L, 1)).containsExactly(8L);
+	}
+
+	@Test
+	@DisplayName("색인 크기는 비트맵과 큐레이션별 태그(역색인)를 합쳐 태그 수, 연결 수, 연결 100만 건당 크기로 보고된다")
+	void reportStats() {
+		buildIndex();
+
+		CurationTagIndex.Stats stats = tagIndex.stats();
+
+		assertThat(stats.tagCount()).isEqualTo(2);
+		assertThat(stats.postings()).isEqualTo(5);
+		assertThat(stats.bitmapSizeInBytes()).isPositive();
+		// 큐레이션 3개, 태그 참조 5개
+		assertThat(stats.reverseIndexSizeInBytes()).isEqualTo(3 * 96 + 5 * 8);
+		assertThat(stats.sizeInBytes()).isEqualTo(stats.bitmapSizeInBytes() + stats.reverseIndexSizeInBytes());
+		assertThat(stats.bytesPerMillionPostings()).isEqualTo(stats.sizeInBytes() * 1_000_000 / 5);
+
+		tagIndex.delete(List.of(1L));
+
+		assertThat(tagIndex.stats().reverseIndexSizeInBytes()).isEqualTo(2 * 96 + 3 * 8);
+	}
+
+	@Test
+	@DisplayName("변경된 태그의 비트맵만 새로 만들고 나머지 태그의 비트맵은 그대로 둔다")
+	void replaceOnlyChangedBitmaps() {
+		buildIndex();
+		RoaringBitmap java = tagIndex.findCurationIdsHavingAllTags(List.of("java")).orElseThrow();
+		RoaringBitmap spring = tagIndex.findCurationIdsHavingAllTags(List.of("spring")).orElseThrow();
+		when(curationTagRepository.findPostingsByCurationIdIn(List.of(2L)))
+			.thenReturn(List.of(posting(2L, 1L, "java"), posting(2L, 2L, "spring")));
+
+		tagIndex.reload(List.of(2L));
+
+		assertThat(tagIndex.findCurationIdsHavingAllTags(List.of("java")).orElseThrow()).isSameAs(java);
+		assertThat(tagIndex.findCurationIdsHavingAllTags(List.of("spring")).orElseThrow().toArray())
+			.containsExactly(1, 2, 3);
+		// 이미 공개된 비트맵은 수정하지 않음
+		assertThat(spring.toArray()).containsExactly(1, 3);
+	}
+}
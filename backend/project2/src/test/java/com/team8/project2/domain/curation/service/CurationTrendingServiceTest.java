@@ -0,0 +1,105 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import com.team8.project2.domain.curation.curation.dto.TrendingWindow;
+import com.team8.project2.domain.curation.curation.service.CurationTrendingService;
+
+@ExtendWith(MockitoExtension.class)
+class CurationTrendingServiceTest {
+
+	private static final long HOUR = 480_000L;
+	/** 480000시 15분 */
+	private static final long NOW = HOUR * Duration.ofHours(1).toMillis() + Duration.ofMinutes(15).toMillis();
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@BeforeEach
+	void setUp() {
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Weights refresh(CurationTrendingService service, Long size) {
+		ArgumentCaptor<List<String>> otherKeys = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<Weights> weights = ArgumentCaptor.forClass(Weights.class);
+		when(zSetOperations.unionAndStore(anyString(), anyList(), anyString(), any(Aggregate.class), any(Weights.class)))
+			.thenReturn(size);
+
+		service.refresh(TrendingWindow.HOUR, NOW);
+
+		verify(zSetOperations).unionAndStore(eq("trending:views:" + HOUR), otherKeys.capture(),
+			startsWith("trending:hour:tmp:"), eq(Aggregate.SUM), weights.capture());
+		assertThat(otherKeys.getValue()).containsExactly("trending:likes:" + HOUR,
+			"trending:views:" + (HOUR - 1), "trending:likes:" + (HOUR - 1));
+		return weights.getValue();
+	}
+
+	@Test
+	@DisplayName("현재 버킷과 구간 안에 남은 비율만큼의 이전 버킷을 좋아요 가중치와 함께 합쳐 순위를 교체한다")
+	void refreshSlidingWindow() {
+		CurationTrendingService service = new CurationTrendingService(redisTemplate, 5, 0, 1000);
+
+		Weights weights = refresh(service, 10L);
+
+		assertThat(weights.toArray()).containsExactly(1.0, 5.0, 0.75, 3.75);
+		verify(redisTemplate).rename(startsWith("trending:hour:tmp:"), eq("trending:hour"));
+		verify(zSetOperations, never()).removeRange(anyString(), anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("반감기를 설정하면 오래된 버킷의 가중치를 줄이고, 최대 개수를 넘는 하위 항목은 잘라낸다")
+	void refreshWithDecayAndTrim() {
+		CurationTrendingService service = new CurationTrendingService(redisTemplate, 2, 1, 3);
+
+		Weights weights = refresh(service, 5L);
+
+		assertThat(weights.toArray()).containsExactly(1.0, 2.0, 0.375, 0.75);
+		verify(zSetOperations).removeRange(startsWith("trending:hour:tmp:"), eq(0L), eq(1L));
+	}
+
+	@Test
+	@DisplayName("구간 안에 기록이 없으면 순위를 삭제한다")
+	void refreshEmpty() {
+		CurationTrendingService service = new CurationTrendingService(redisTemplate, 5, 0, 1000);
+
+		refresh(service, 0L);
+
+		verify(redisTemplate).delete("trending:hour");
+		verify(redisTemplate, never()).rename(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("시작 시 Redis에 연결할 수 없어도 예외를 던지지 않는다")
+	void initializeWithoutRedis() {
+		CurationTrendingService service = new CurationTrendingService(redisTemplate, 5, 0, 1000);
+		when(zSetOperations.unionAndStore(anyString(), anyList(), anyString(), any(Aggregate.class), any(Weights.class)))
+			.thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+		service.initialize();
+
+		verify(redisTemplate, never()).rename(anyString(), anyString());
+	}
+}
@@ -0,0 +1,78 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.team8.project2.domain.curation.curation.service.CurationViewCountBuffer;
+
+@ExtendWith(MockitoExtension.class)
+class CurationViewCountBufferTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private CurationViewCountBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+		buffer = new CurationViewCountBuffer(jdbcTemplate, transactionManager, 5000, 1000, true);
+	}
+
+	@Test
+	@DisplayName("같은 큐레이션의 조회수는 하나의 증가분으로 합쳐서 반영된다")
+	@SuppressWarnings("unchecked")
+	void flushAggregatesDeltas() {
+		buffer.increment(1L);
+		buffer.increment(1L);
+		buffer.increment(2L);
+
+		assertThat(buffer.getPendingCount(1L)).isEqualTo(2L);
+
+		long flushed = buffer.flush();
+
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+		assertThat(flushed).isEqualTo(3L);
+		assertThat(captor.getValue()).hasSize(2);
+		assertThat(buffer.getPendingCount(1L)).isZero();
+	}
+
+	@Test
+	@DisplayName("반영에 실패하면 증가분이 버퍼에 남아 다음 주기에 재시도된다")
+	void flushFailureKeepsDeltas() {
+		when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+			.thenThrow(new DataAccessResourceFailureException("db down"));
+
+		buffer.increment(1L);
+		buffer.flush();
+
+		assertThat(buffer.getPendingCount(1L)).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("대기 중인 조회수가 없으면 DB에 접근하지 않는다")
+	void flushWithoutPendingDoesNothing() {
+		buffer.flushIfNeeded();
+		buffer.flush();
+
+		verifyNoInteractions(jdbcTemplate);
+	}
+}
@@ -0,0 +1,65 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.team8.project2.domain.curation.curation.event.CurationCreateEvent;
+import com.team8.project2.domain.curation.curation.event.FollowingTimelineEventListener;
+import com.team8.project2.domain.curation.curation.service.FollowingTimeline;
+
+@ExtendWith(MockitoExtension.class)
+class FollowingTimelineEventListenerTest {
+
+	@Mock
+	private FollowingTimeline followingTimeline;
+
+	private FollowingTimelineEventListener listener;
+
+	@BeforeEach
+	void setUp() {
+		// 배포 스레드 1개, 대기 큐 1개
+		listener = new FollowingTimelineEventListener(followingTimeline, 1, 1, 5000);
+	}
+
+	private CurationCreateEvent created(long curationId) {
+		return new CurationCreateEvent(curationId, List.of(), 10L, "author");
+	}
+
+	@Test
+	@DisplayName("대기 큐가 가득 차면 배포를 버리지 않고 요청 스레드에서 처리하고, 종료 시 대기 중인 배포를 마저 처리한다")
+	void runOnCallerWhenQueueIsFullAndDrainOnShutdown() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(followingTimeline).fanOut(1L, 10L);
+
+		listener.fanOutCreatedCuration(created(1L));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		listener.fanOutCreatedCuration(created(2L));
+		listener.fanOutCreatedCuration(created(3L));
+
+		// 큐가 가득 차 요청 스레드에서 바로 배포
+		verify(followingTimeline).fanOut(3L, 10L);
+		verify(followingTimeline, never()).fanOut(2L, 10L);
+
+		release.countDown();
+		listener.shutdown();
+
+		verify(followingTimeline).fanOut(1L, 10L);
+		verify(followingTimeline).fanOut(2L, 10L);
+	}
+}
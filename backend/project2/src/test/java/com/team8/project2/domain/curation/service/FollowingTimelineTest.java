@@ -0,0 +1,136 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.curation.service.FollowingTimeline;
+import com.team8.project2.domain.member.repository.FollowRepository;
+
+@ExtendWith(MockitoExtension.class)
+class FollowingTimelineTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private SetOperations<String, String> setOperations;
+
+	@Mock
+	private FollowRepository followRepository;
+
+	@Mock
+	private CurationRepository curationRepository;
+
+	private FollowingTimeline followingTimeline;
+
+	@BeforeEach
+	void setUp() {
+		followingTimeline = new FollowingTimeline(redisTemplate, followRepository, curationRepository, 5, 2, 60);
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+	}
+
+	/** 타임라인별 [최신순 ID, 크기, 만료 시간 설정 결과] 파이프라인 응답 */
+	@SafeVarargs
+	private void stubPipeline(List<String>... timelines) {
+		List<Object> results = new ArrayList<>();
+		for (List<String> ids : timelines) {
+			results.add(new LinkedHashSet<>(ids));
+			results.add((long)ids.size());
+			results.add(true);
+		}
+		when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(results);
+	}
+
+	@Test
+	@DisplayName("팔로워가 기준 이하이면 작성자와 팔로워의 타임라인에 배포한다")
+	void fanOutToFollowers() {
+		when(followRepository.findFollowerIds(eq(1L), any(Pageable.class))).thenReturn(List.of(2L, 3L));
+
+		followingTimeline.fanOut(10L, 1L);
+
+		verify(redisTemplate).execute(any(RedisScript.class),
+			eq(List.of("timeline:author:1", "timeline:2", "timeline:3")), eq("10"), eq("5"));
+		verify(setOperations, never()).add(anyString(), any(String[].class));
+	}
+
+	@Test
+	@DisplayName("팔로워가 기준보다 많으면 작성자 타임라인에만 쓰고 읽기 시점 병합 대상으로 표시한다")
+	void fanOutOnReadForPopularAuthor() {
+		when(followRepository.findFollowerIds(eq(1L), any(Pageable.class))).thenReturn(List.of(2L, 3L, 4L));
+
+		followingTimeline.fanOut(10L, 1L);
+
+		verify(setOperations).add("timeline:fan-out-on-read", "1");
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("timeline:author:1")), eq("10"), eq("5"));
+	}
+
+	@Test
+	@DisplayName("팔로워 타임라인과 읽기 시점 병합 대상 작성자의 타임라인을 합쳐 최신순으로 자른다")
+	@SuppressWarnings("unchecked")
+	void mergeTimelineWithPopularAuthors() {
+		when(followRepository.findFolloweeIds(7L)).thenReturn(List.of(1L, 2L));
+		when(setOperations.isMember(eq("timeline:fan-out-on-read"), any(Object[].class)))
+			.thenReturn(Map.of("1", false, "2", true));
+		stubPipeline(List.of("9", "4"), List.of("8", "6"));
+
+		Optional<List<Long>> ids = followingTimeline.getCurationIds(7L, null, 1, 2);
+
+		assertThat(ids).contains(List.of(8L, 6L));
+		verifyNoInteractions(curationRepository);
+	}
+
+	@Test
+	@DisplayName("타임라인이 없으면 DB에서 다시 만들고, 잘린 타임라인으로 채울 수 없는 범위는 빈 값을 반환한다")
+	@SuppressWarnings("unchecked")
+	void rebuildMissingTimelineAndFallBack() {
+		when(followRepository.findFolloweeIds(7L)).thenReturn(List.of(1L));
+		when(setOperations.isMember(eq("timeline:fan-out-on-read"), any(Object[].class)))
+			.thenReturn(Map.of("1", false));
+		stubPipeline(List.of());
+		when(curationRepository.findFollowingCurationIds(eq(7L), eq(0L), any(Pageable.class)))
+			.thenReturn(List.of(15L, 12L, 11L, 5L, 3L));
+		when(curationRepository.findFollowingCurationIds(eq(7L), eq(15L), any(Pageable.class))).thenReturn(List.of());
+
+		assertThat(followingTimeline.getCurationIds(7L, 12L, 0, 2)).contains(List.of(11L, 5L));
+		assertThat(followingTimeline.getCurationIds(7L, 5L, 0, 2)).isEmpty();
+		assertThat(followingTimeline.getCurationIds(7L, null, 4, 2)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("타임라인을 다시 만든 뒤, 저장 전에 커밋되어 배포되지 못한 큐레이션을 이어서 추가한다")
+	@SuppressWarnings("unchecked")
+	void addCurationsCommittedWhileRebuilding() {
+		when(followRepository.findFolloweeIds(7L)).thenReturn(List.of(1L));
+		when(setOperations.isMember(eq("timeline:fan-out-on-read"), any(Object[].class)))
+			.thenReturn(Map.of("1", false));
+		stubPipeline(List.of());
+		when(curationRepository.findFollowingCurationIds(eq(7L), eq(0L), any(Pageable.class)))
+			.thenReturn(List.of(12L, 11L));
+		when(curationRepository.findFollowingCurationIds(eq(7L), eq(12L), any(Pageable.class)))
+			.thenReturn(List.of(13L));
+
+		assertThat(followingTimeline.getCurationIds(7L, null, 0, 3)).contains(List.of(13L, 12L, 11L));
+		verify(redisTemplate, times(3)).executePipelined(any(SessionCallback.class));
+	}
+}
@@ -0,0 +1,96 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.team8.project2.domain.curation.curation.dto.CurationSummaryResDto;
+import com.team8.project2.domain.curation.curation.dto.TrendingWindow;
+import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.curation.curation.service.CurationTrendingService;
+import com.team8.project2.domain.curation.curation.service.TrendingCurationSnapshot;
+import com.team8.project2.domain.curation.like.service.LikeService;
+import com.team8.project2.domain.member.entity.Member;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingCurationSnapshotTest {
+
+	@Mock
+	private CurationTrendingService curationTrendingService;
+
+	@Mock
+	private CurationRepository curationRepository;
+
+	@Mock
+	private LikeService likeService;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private TrendingCurationSnapshot snapshot;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		snapshot = new TrendingCurationSnapshot(curationTrendingService, curationRepository, likeService,
+			meterRegistry, 3, 60_000);
+
+		Member member = Member.builder().id(100L).username("작성자").build();
+		when(curationTrendingService.getTopCurationIds(TrendingWindow.HOUR, 3)).thenReturn(List.of());
+		when(curationTrendingService.getTopCurationIds(TrendingWindow.DAY, 3)).thenReturn(List.of(2L, 1L, 9L));
+		when(curationTrendingService.getTopCurationIds(TrendingWindow.WEEK, 3)).thenReturn(List.of(1L));
+		when(curationRepository.findIdsOrderByViewCountDesc(any(Pageable.class))).thenReturn(List.of(3L));
+		when(curationRepository.findWithMemberByIdIn(anyCollection())).thenReturn(List.of(
+			Curation.builder().id(1L).title("a").content("a").member(member).build(),
+			Curation.builder().id(2L).title("b").content("b").member(member).build(),
+			Curation.builder().id(3L).title("c").content("c").member(member).build()));
+		when(likeService.getLikeStates(anyCollection(), isNull()))
+			.thenReturn(new LikeService.LikeStates(Map.of(2L, 5L), Set.of()));
+	}
+
+	private List<Long> ids(TrendingWindow window) {
+		return snapshot.get(window).getCurations().stream().map(CurationSummaryResDto::getCurationId).toList();
+	}
+
+	@Test
+	@DisplayName("모든 구간의 큐레이션을 한 번에 조회해 응답을 만들고, 요청은 스냅샷으로 응답한다")
+	void buildOnceAndServeFromMemory() {
+		snapshot.rebuild();
+
+		assertThat(ids(TrendingWindow.HOUR)).containsExactly(3L);
+		assertThat(ids(TrendingWindow.DAY)).containsExactly(2L, 1L);
+		assertThat(ids(TrendingWindow.WEEK)).containsExactly(1L);
+		assertThat(snapshot.get(TrendingWindow.DAY).getCurations().get(0).getLikeCount()).isEqualTo(5L);
+
+		verify(curationRepository, times(1)).findWithMemberByIdIn(anyCollection());
+		verify(likeService, times(1)).getLikeStates(anyCollection(), isNull());
+		verify(curationTrendingService).remove(9L);
+		assertThat(meterRegistry.get("curation.trending.snapshot.age.seconds").gauge().value()).isLessThan(60);
+	}
+
+	@Test
+	@DisplayName("스냅샷이 없으면 첫 요청에서 만들고, 삭제된 큐레이션은 스냅샷에서 바로 뺀다")
+	void buildOnFirstRequestAndEvict() {
+		assertThat(ids(TrendingWindow.DAY)).containsExactly(2L, 1L);
+
+		snapshot.evict(1L);
+
+		assertThat(ids(TrendingWindow.DAY)).containsExactly(2L);
+		assertThat(ids(TrendingWindow.WEEK)).isEmpty();
+		verify(curationRepository, times(1)).findWithMemberByIdIn(anyCollection());
+	}
+}
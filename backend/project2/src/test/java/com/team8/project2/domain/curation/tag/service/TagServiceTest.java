@@ -1,15 +1,18 @@
 package com.team8.project2.domain.curation.tag.service;
 
+import com.team8.project2.domain.curation.tag.dto.TagResDto;
 import com.team8.project2.domain.curation.tag.entity.Tag;
 import com.team8.project2.domain.curation.tag.repository.TagRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.domain.Pageable;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,6 +24,9 @@ class TagServiceTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private TagUsageCounter tagUsageCounter;
+
     @InjectMocks
     private TagService tagService;
 
@@ -61,4 +67,32 @@ class TagServiceTest {
         verify(tagRepository, times(1)).findByName("newTag");
         verify(tagRepository, times(1)).save(any(Tag.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("인기 태그는 집계된 사용 수에서 조회한다")
+    void getTrendingTag_WhenCounted_ShouldNotQueryDatabase() {
+        // given
+        when(tagUsageCounter.getTopTagNames(5)).thenReturn(List.of("java", "spring"));
+
+        // when
+        TagResDto result = tagService.getTrendingTag();
+
+        // then
+        assertThat(result.getTags()).containsExactly("java", "spring");
+        verify(tagRepository, never()).findTopTagsByCurationCountDesc(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("사용 수 집계가 없으면 DB에서 인기 태그를 집계한다")
+    void getTrendingTag_WhenNotCounted_ShouldQueryDatabase() {
+        // given
+        when(tagUsageCounter.getTopTagNames(5)).thenReturn(List.of());
+        when(tagRepository.findTopTagsByCurationCountDesc(any(Pageable.class))).thenReturn(List.of(tag));
+
+        // when
+        TagResDto result = tagService.getTrendingTag();
+
+        // then
+        assertThat(result.getTags()).containsExactly("testTag");
+    }
+}
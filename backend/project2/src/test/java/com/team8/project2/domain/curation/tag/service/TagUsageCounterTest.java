@@ -0,0 +1,123 @@
+package com.team8.project2.domain.curation.tag.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import com.team8.project2.domain.curation.tag.repository.TagRepository;
+import com.team8.project2.domain.suggest.dto.SuggestSource;
+
+@ExtendWith(MockitoExtension.class)
+class TagUsageCounterTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private TagRepository tagRepository;
+
+	private TagUsageCounter tagUsageCounter;
+
+	@BeforeEach
+	void setUp() {
+		tagUsageCounter = new TagUsageCounter(redisTemplate, tagRepository, 2);
+	}
+
+	private SuggestSource usage(long id, String name, long count) {
+		return new SuggestSource() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public String getText() {
+				return name;
+			}
+
+			@Override
+			public Long getWeight() {
+				return count;
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private ZSetOperations<String, String> runPipelines(int times) {
+		ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+		verify(redisTemplate, times(times)).executePipelined(callback.capture());
+		RedisOperations<String, String> operations = mock(RedisOperations.class);
+		ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+		when(operations.opsForZSet()).thenReturn(zSetOperations);
+		callback.getAllValues().forEach(value -> value.execute(operations));
+		return zSetOperations;
+	}
+
+	@Test
+	@DisplayName("바뀐 태그만 DB에서 다시 세어 덮어쓰고, 사용 수가 0이거나 없는 태그는 삭제한다")
+	void refreshChangedTags() {
+		when(tagRepository.findSuggestSourcesByNameIn(anyCollection()))
+			.thenReturn(List.of(usage(1L, "java", 3), usage(2L, "spring", 0)));
+
+		tagUsageCounter.refresh(List.of("java", "spring", "gone"));
+
+		ZSetOperations<String, String> zSetOperations = runPipelines(1);
+		verify(zSetOperations).add("tag:usage", "java", 3.0);
+		verify(zSetOperations).remove("tag:usage", "gone", "spring");
+	}
+
+	@Test
+	@DisplayName("전체 보정은 태그를 나눠 읽어 실행마다 다른 임시 키에 채운 뒤 교체한다")
+	void reconcileAllTags() {
+		when(tagRepository.findSuggestSourcesAfter(eq(0L), any(Pageable.class)))
+			.thenReturn(List.of(usage(1L, "java", 3), usage(2L, "spring", 1)));
+		when(tagRepository.findSuggestSourcesAfter(eq(2L), any(Pageable.class)))
+			.thenReturn(List.of(usage(5L, "jpa", 2)));
+		when(redisTemplate.hasKey(startsWith("tag:usage:reconcile:"))).thenReturn(true);
+
+		tagUsageCounter.reconcile();
+
+		ArgumentCaptor<String> tempKey = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).rename(tempKey.capture(), eq("tag:usage"));
+		assertThat(tempKey.getValue()).startsWith("tag:usage:reconcile:");
+		ZSetOperations<String, String> zSetOperations = runPipelines(2);
+		verify(zSetOperations).add(tempKey.getValue(), "java", 3.0);
+		verify(zSetOperations).add(tempKey.getValue(), "spring", 1.0);
+		verify(zSetOperations).add(tempKey.getValue(), "jpa", 2.0);
+
+		tagUsageCounter.reconcile();
+
+		ArgumentCaptor<String> nextTempKey = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate, times(2)).rename(nextTempKey.capture(), eq("tag:usage"));
+		assertThat(nextTempKey.getAllValues().get(1)).isNotEqualTo(tempKey.getValue());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("시작 시 Redis에 연결할 수 없으면 예외를 던지지 않고 다음 주기 보정에 맡긴다")
+	void initializeWithoutRedis() {
+		ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.zCard("tag:usage")).thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+		tagUsageCounter.initialize();
+
+		verifyNoInteractions(tagRepository);
+	}
+}
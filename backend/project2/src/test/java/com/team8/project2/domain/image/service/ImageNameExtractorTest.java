@@ -0,0 +1,42 @@
+package com.team8.project2.domain.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageNameExtractorTest {
+
+	private static final String BASE_URL = "https://linkurator-bucket.s3.amazonaws.com/";
+
+	@Test
+	@DisplayName("버킷 이미지의 파일 이름만 등장 순서대로 중복 없이 추출한다")
+	void extractBucketImages() {
+		String html = "<p>본문</p><img src=\"" + BASE_URL + "a.png\">"
+			+ "<IMG alt='x' SRC='" + BASE_URL + "b.jpg' />"
+			+ "<img src=\"https://other.com/c.png\">"
+			+ "<img src=" + BASE_URL + "a.png>";
+
+		assertThat(ImageNameExtractor.extract(html)).containsExactly("a.png", "b.jpg");
+	}
+
+	@Test
+	@DisplayName("주석 안의 태그와 img로 시작하는 다른 태그, data-src 속성은 무시한다")
+	void ignoreCommentsAndSimilarNames() {
+		String html = "<!-- <img src=\"" + BASE_URL + "hidden.png\"> -->"
+			+ "<imgx src=\"" + BASE_URL + "x.png\">"
+			+ "<img data-src=\"" + BASE_URL + "lazy.png\" src=\"" + BASE_URL + "real.png\">";
+
+		assertThat(ImageNameExtractor.extract(html)).containsExactly("real.png");
+	}
+
+	@Test
+	@DisplayName("속성 값 안의 >나 닫히지 않은 태그가 있어도 예외 없이 처리한다")
+	void handleMalformedHtml() {
+		String html = "<img title=\"a > b\" src=\"" + BASE_URL + "gt.png\"><img src=\"" + BASE_URL;
+
+		assertThat(ImageNameExtractor.extract(html)).containsExactly("gt.png");
+		assertThat(ImageNameExtractor.extract(null)).isEmpty();
+		assertThat(ImageNameExtractor.extract("<img")).isEmpty();
+	}
+}
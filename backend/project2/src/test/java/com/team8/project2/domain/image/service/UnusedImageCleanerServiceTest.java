@@ -43,4 +43,20 @@ public class UnusedImageCleanerServiceTest {
 		verify(curationImageRepository, times(1)).delete(any(CurationImage.class));
 		verify(s3Uploader, times(1)).deleteFile(imageName);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("삭제된 큐레이션에 연결된 채 남은 이미지도 함께 삭제된다")
+	public void testCleanImagesOfDeletedCurations() {
+		var imageName = "orphan.png";
+		when(curationImageRepository.findImagesOfDeletedCurations())
+			.thenReturn(List.of(CurationImage.builder()
+				.imageName(imageName)
+				.curationId(99L)
+				.build()));
+
+		unusedImageCleanerService.cleanUnusedImages();
+
+		verify(curationImageRepository, times(1)).delete(any(CurationImage.class));
+		verify(s3Uploader, times(1)).deleteFile(imageName);
+	}
+}
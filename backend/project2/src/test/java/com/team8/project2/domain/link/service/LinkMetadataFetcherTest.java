@@ -0,0 +1,94 @@
+package com.team8.project2.domain.link.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.HttpStatusException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.team8.project2.domain.link.entity.LinkMetadataStatus;
+import com.team8.project2.domain.link.event.LinkMetadataUpdateEvent;
+import com.team8.project2.domain.link.repository.LinkRepository;
+
+@ExtendWith(MockitoExtension.class)
+class LinkMetadataFetcherTest {
+
+	private static final String URL = "https://example.com/post";
+
+	@Mock
+	private LinkRepository linkRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private LinkMetadataFetcher fetcher;
+
+	@BeforeEach
+	void setUp() {
+		fetcher = spy(new LinkMetadataFetcher(linkRepository, eventPublisher, 1000, 3, 0, 4, 1, 10, 60_000, 100,
+			60_000));
+	}
+
+	private long deadline() {
+		return System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+	}
+
+	@Test
+	@DisplayName("타임아웃은 재시도하고, 수집한 메타데이터를 대기 중인 링크에 반영한다")
+	void retryTimeoutAndStore() throws Exception {
+		doThrow(new SocketTimeoutException("timeout"))
+			.doReturn(new LinkMetadataFetcher.LinkMetadata("제목", "설명", "https://example.com/og.png"))
+			.when(fetcher).fetch(eq(URL), anyInt());
+		when(linkRepository.updatePendingMetadata(1L, "제목", "설명", "https://example.com/og.png",
+			LinkMetadataStatus.READY)).thenReturn(1);
+
+		fetcher.fetchAndStore(1L, URL, deadline());
+
+		verify(fetcher, times(2)).fetch(eq(URL), anyInt());
+		verify(eventPublisher).publishEvent(any(LinkMetadataUpdateEvent.class));
+	}
+
+	@Test
+	@DisplayName("4xx 응답은 재시도하지 않고 제목과 설명을 URL로 채워 실패로 표시한다")
+	void failWithoutRetryOnClientError() throws Exception {
+		doThrow(new HttpStatusException("not found", 404, URL)).when(fetcher).fetch(eq(URL), anyInt());
+
+		fetcher.fetchAndStore(1L, URL, deadline());
+
+		verify(fetcher, times(1)).fetch(eq(URL), anyInt());
+		verify(linkRepository).updatePendingMetadata(1L, URL, URL, null, LinkMetadataStatus.FAILED);
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+	@Test
+	@DisplayName("재시도 횟수를 모두 쓰면 실패로 표시한다")
+	void failAfterMaxAttempts() throws Exception {
+		doThrow(new SocketTimeoutException("timeout")).when(fetcher).fetch(eq(URL), anyInt());
+		when(linkRepository.updatePendingMetadata(1L, URL, URL, null, LinkMetadataStatus.FAILED)).thenReturn(1);
+
+		fetcher.fetchAndStore(1L, URL, deadline());
+
+		verify(fetcher, times(3)).fetch(eq(URL), anyInt());
+		verify(eventPublisher).publishEvent(any(LinkMetadataUpdateEvent.class));
+	}
+
+	@Test
+	@DisplayName("요청의 수집 기한이 지나면 수집하지 않고 제목을 URL로 채워 실패로 표시한다")
+	void failAfterDeadline() throws Exception {
+		when(linkRepository.updatePendingMetadata(1L, URL, URL, null, LinkMetadataStatus.FAILED)).thenReturn(1);
+
+		fetcher.fetchAndStore(1L, URL, System.nanoTime() - 1);
+
+		verify(fetcher, never()).fetch(anyString(), anyInt());
+		verify(eventPublisher).publishEvent(any(LinkMetadataUpdateEvent.class));
+	}
+}
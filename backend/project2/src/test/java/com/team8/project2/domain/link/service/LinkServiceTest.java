@@ -2,7 +2,10 @@ package com.team8.project2.domain.link.service;
 
 import com.team8.project2.domain.link.dto.LinkReqDTO;
 import com.team8.project2.domain.link.entity.Link;
+import com.team8.project2.domain.link.entity.LinkMetadataStatus;
+import com.team8.project2.domain.link.event.LinkCreateEvent;
 import com.team8.project2.domain.link.repository.LinkRepository;
+import com.team8.project2.global.UniqueVisitorService;
 import com.team8.project2.global.exception.ServiceException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,10 +15,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,11 +30,14 @@ class LinkServiceTest {
     private LinkRepository linkRepository;
 
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
+    private UniqueVisitorService uniqueVisitorService;
 
     @Mock
     private HttpServletRequest request;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LinkService linkService;
 
@@ -142,7 +148,8 @@ class LinkServiceTest {
         // then
         assertNotNull(foundLink);
         assertEquals(url, foundLink.getUrl());
-        verify(linkRepository, times(1)).save(any(Link.class));
+        verify(linkRepository, times(1)).save(argThat(saved -> saved.getMetadataStatus() == LinkMetadataStatus.PENDING));
+        verify(eventPublisher, times(1)).publishEvent(any(LinkCreateEvent.class));
     }
 
     // 링크가 존재하면 기존 링크 반환하는 테스트
@@ -159,6 +166,33 @@ class LinkServiceTest {
         assertNotNull(foundLink);
         assertEquals(url, foundLink.getUrl());
         verify(linkRepository, times(0)).save(any(Link.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    // 여러 링크를 한 번에 조회·생성하는 테스트
+    @Test
+    @DisplayName("여러 링크를 한 번에 조회하고 없는 링크만 생성해 입력 순서대로 반환한다")
+    void GetLinks() {
+        // given
+        Link existing = Link.builder().id(1L).url("https://a.com").build();
+        when(linkRepository.findByUrlIn(anyList())).thenReturn(List.of(existing));
+        when(linkRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Link> saved = invocation.getArgument(0);
+            saved.get(0).setId(2L);
+            return saved;
+        });
+
+        // when
+        List<Link> links = linkService.getLinks(List.of("https://b.com", "https://a.com", "https://b.com"));
+
+        // then
+        assertEquals(List.of("https://b.com", "https://a.com", "https://b.com"),
+                links.stream().map(Link::getUrl).toList());
+        assertSame(links.get(0), links.get(2));
+        assertEquals(LinkMetadataStatus.PENDING, links.get(0).getMetadataStatus());
+        verify(linkRepository, times(1)).saveAll(argThat((List<Link> saved) -> saved.size() == 1));
+        verify(eventPublisher, times(1)).publishEvent(argThat(
+                (Object event) -> ((LinkCreateEvent) event).getUrls().equals(Map.of(2L, "https://b.com"))));
     }
 
     // 링크 클릭수 증가 테스트 (새로운 클릭)
@@ -166,14 +200,12 @@ class LinkServiceTest {
     @DisplayName("링크 클릭수는 한 번만 증가해야 한다")
     void GetLinkAndIncrementClick_NewClick() {
         // Given: Redis와 링크 관련 의존성 준비
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(request.getRemoteAddr()).thenReturn("192.168.0.1"); // Mock IP 설정
+        when(uniqueVisitorService.resolveVisitor(request)).thenReturn("ip:192.168.0.1"); // Mock 방문자 설정
 
-        // 첫 번째 클릭에서만 true 반환하고, 그 이후에는 false 반환하도록 설정
-        when(valueOperations.setIfAbsent(anyString(), eq("true"), eq(Duration.ofMinutes(10))))
-                .thenReturn(true)  // 첫 번째 클릭에서는 키가 없으므로 true 반환
-                .thenReturn(false); // 두 번째 이후의 클릭에서는 키가 이미 있으므로 false 반환
+        // 첫 번째 클릭에서만 방문자 수가 증가하도록 설정
+        when(uniqueVisitorService.recordVisit(eq(UniqueVisitorService.LINK), eq(1L), anyString()))
+                .thenReturn(1L)  // 첫 번째 클릭에서는 방문자 수가 1 증가
+                .thenReturn(0L); // 두 번째 이후의 클릭에서는 이미 방문했으므로 증가 없음
 
         // 링크 클릭 로직이 제대로 동작하도록 설정
         when(linkRepository.findById(1L)).thenReturn(Optional.of(link));
@@ -196,13 +228,11 @@ class LinkServiceTest {
     @DisplayName("이미 클릭한 경우 클릭수가 증가하지 않아야 한다")
     void GetLinkAndIncrementClick_AlreadyClicked() {
         // Given: Redis와 링크 관련 의존성 준비
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(request.getRemoteAddr()).thenReturn("192.168.0.1");
+        when(uniqueVisitorService.resolveVisitor(request)).thenReturn("ip:192.168.0.1");
 
-        // 이미 클릭한 경우 false 반환하도록 설정
-        when(valueOperations.setIfAbsent(anyString(), eq("true"), eq(Duration.ofMinutes(10))))
-                .thenReturn(false); // 이미 클릭했으므로 false 반환
+        // 이미 클릭한 경우 방문자 수가 증가하지 않도록 설정
+        when(uniqueVisitorService.recordVisit(eq(UniqueVisitorService.LINK), eq(1L), anyString()))
+                .thenReturn(0L); // 이미 클릭했으므로 증가 없음
 
         // 링크 클릭 로직이 제대로 동작하도록 설정
         when(linkRepository.findById(1L)).thenReturn(Optional.of(link));
@@ -223,13 +253,11 @@ class LinkServiceTest {
     @DisplayName("링크가 존재하지 않으면 예외가 발생해야 한다")
     void GetLinkAndIncrementClick_LinkNotFound() {
         // Given: Redis와 링크 관련 의존성 준비
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(request.getRemoteAddr()).thenReturn("192.168.0.1");
+        when(uniqueVisitorService.resolveVisitor(request)).thenReturn("ip:192.168.0.1");
 
-        // 첫 번째 클릭에서만 true 반환하도록 설정
-        when(valueOperations.setIfAbsent(anyString(), eq("true"), eq(Duration.ofMinutes(10))))
-                .thenReturn(true); // 첫 번째 클릭에서는 키가 없으므로 true 반환
+        // 첫 번째 클릭에서 방문자 수가 증가하도록 설정
+        when(uniqueVisitorService.recordVisit(eq(UniqueVisitorService.LINK), eq(1L), anyString()))
+                .thenReturn(1L); // 첫 번째 클릭에서는 방문자 수가 1 증가
 
         // 링크 조회 시 존재하지 않는 링크를 반환하도록 설정
         when(linkRepository.findById(1L)).thenReturn(Optional.empty());
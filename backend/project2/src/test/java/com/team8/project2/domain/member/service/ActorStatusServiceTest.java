@@ -0,0 +1,75 @@
+package com.team8.project2.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import com.team8.project2.domain.member.dto.ActorStatusResDto;
+import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.member.repository.FollowRepository;
+import com.team8.project2.global.exception.ServiceException;
+
+@ExtendWith(MockitoExtension.class)
+class ActorStatusServiceTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private FollowRepository followRepository;
+
+	@InjectMocks
+	private ActorStatusService actorStatusService;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("좋아요 여부는 한 번의 파이프라인으로, 팔로우 여부는 한 번의 쿼리로 조회한다")
+	void getStatus() {
+		Member actor = Member.builder().id(1L).build();
+		when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(true, false, true));
+		when(followRepository.findFolloweeIdsIn(eq(1L), anyCollection())).thenReturn(List.of(7L));
+
+		ActorStatusResDto status = actorStatusService.getStatus(actor, List.of(10L, 11L, 10L), List.of(20L),
+			List.of(7L, 8L));
+
+		assertThat(status.getLikedCurations()).containsExactly(entry(10L, true), entry(11L, false));
+		assertThat(status.getLikedPlaylists()).containsExactly(entry(20L, true));
+		assertThat(status.getFollowedAuthors()).containsExactly(entry(7L, true), entry(8L, false));
+		verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+		verify(followRepository, times(1)).findFolloweeIdsIn(eq(1L), anyCollection());
+	}
+
+	@Test
+	@DisplayName("비로그인 시 Redis와 DB를 조회하지 않고 모두 false로 응답한다")
+	void getStatusWithoutLogin() {
+		ActorStatusResDto status = actorStatusService.getStatus(null, List.of(10L), null, List.of(7L));
+
+		assertThat(status.getLikedCurations()).containsExactly(entry(10L, false));
+		assertThat(status.getLikedPlaylists()).isEmpty();
+		assertThat(status.getFollowedAuthors()).containsExactly(entry(7L, false));
+		verifyNoInteractions(redisTemplate, followRepository);
+	}
+
+	@Test
+	@DisplayName("종류별 ID가 최대 개수를 넘으면 예외가 발생한다")
+	void getStatusWithTooManyIds() {
+		List<Long> ids = LongStream.rangeClosed(1, ActorStatusService.MAX_IDS + 1).boxed().toList();
+
+		assertThatThrownBy(() -> actorStatusService.getStatus(null, ids, null, null))
+			.isInstanceOf(ServiceException.class);
+	}
+}
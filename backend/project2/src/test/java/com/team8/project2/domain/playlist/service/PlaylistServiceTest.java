@@ -9,6 +9,7 @@ import com.team8.project2.domain.playlist.entity.Playlist;
 import com.team8.project2.domain.playlist.entity.PlaylistItem;
 import com.team8.project2.domain.playlist.repository.PlaylistLikeRepository;
 import com.team8.project2.domain.playlist.repository.PlaylistRepository;
+import com.team8.project2.global.Rq;
 import com.team8.project2.global.exception.BadRequestException;
 import com.team8.project2.global.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,6 +53,9 @@ class PlaylistServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private Rq rq;
+
     private Playlist samplePlaylist;
 
     private Member sampleMember;
@@ -499,6 +504,32 @@ class PlaylistServiceTest {
         verify(valueOperations, times(1)).set(eq("playlist:recommend:" + playlistId), any(), any());
     }
 
+    private PlaylistRepository.PublicPlaylistSummary publicSummary(LocalDateTime linkLastModifiedAt) {
+        return new PlaylistRepository.PublicPlaylistSummary() {
+            public Long getPlaylistCount() { return 1L; }
+            public LocalDateTime getLastModifiedAt() { return LocalDateTime.of(2025, 3, 1, 0, 0); }
+            public Long getViewCountSum() { return 0L; }
+            public Long getLikeCountSum() { return 0L; }
+            public Long getItemCount() { return 1L; }
+            public Long getItemOrderChecksum() { return 1L; }
+            public LocalDateTime getLinkLastModifiedAt() { return linkLastModifiedAt; }
+        };
+    }
+
+    @Test
+    @DisplayName("항목 링크의 제목·설명·URL이 바뀌면 공개 플레이리스트 ETag도 바뀌어야 한다.")
+    void publicPlaylistsETagChangesWithLinkDetails() {
+        when(playlistRepository.summarizePublicPlaylists())
+                .thenReturn(publicSummary(LocalDateTime.of(2025, 3, 1, 0, 0)))
+                .thenReturn(publicSummary(LocalDateTime.of(2025, 3, 1, 0, 0)))
+                .thenReturn(publicSummary(LocalDateTime.of(2025, 3, 2, 0, 0)));
+
+        String eTag = playlistService.getPublicPlaylistsETag();
+
+        assertEquals(eTag, playlistService.getPublicPlaylistsETag());
+        assertNotEquals(eTag, playlistService.getPublicPlaylistsETag());
+    }
+
 
 
 
@@ -0,0 +1,59 @@
+package com.team8.project2.domain.suggest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrefixTrieTest {
+
+	private PrefixTrie trie;
+
+	@BeforeEach
+	void setUp() {
+		trie = new PrefixTrie(2, 4);
+		trie.put(1L, "Java", 10);
+		trie.put(2L, "JavaScript", 30);
+		trie.put(3L, "JPA", 20);
+		trie.put(4L, "Kotlin", 5);
+	}
+
+	private List<Long> ids(List<PrefixTrie.Entry> entries) {
+		return entries.stream().map(PrefixTrie.Entry::id).toList();
+	}
+
+	@Test
+	@DisplayName("접두어로 시작하는 항목을 대소문자 구분 없이 가중치 순서로 최대 K개 반환한다")
+	void searchByPrefix() {
+		assertThat(ids(trie.search("j", 10))).containsExactly(2L, 3L);
+		assertThat(ids(trie.search(" JAV", 10))).containsExactly(2L, 1L);
+		assertThat(ids(trie.search("jav", 1))).containsExactly(2L);
+		assertThat(trie.search("python", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("최대 깊이보다 긴 접두어는 해당 노드의 항목을 걸러서 찾는다")
+	void searchLongerThanMaxDepth() {
+		assertThat(ids(trie.search("javas", 10))).containsExactly(2L);
+		assertThat(ids(trie.search("java", 10))).containsExactly(2L, 1L);
+		assertThat(trie.search("javax", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("가중치가 줄거나 삭제된 항목은 상위 목록에서 빠지고 다음 항목이 올라온다")
+	void updateAndRemove() {
+		trie.put(2L, "JavaScript", 1);
+		assertThat(ids(trie.search("j", 10))).containsExactly(3L, 1L);
+
+		trie.remove(3L);
+		assertThat(ids(trie.search("j", 10))).containsExactly(1L, 2L);
+
+		trie.put(1L, "Kotlin Coroutine", 50);
+		assertThat(ids(trie.search("j", 10))).containsExactly(2L);
+		assertThat(ids(trie.search("k", 10))).containsExactly(1L, 4L);
+		assertThat(trie.size()).isEqualTo(3);
+	}
+}
@@ -0,0 +1,90 @@
+package com.team8.project2.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+
+	private final ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8", "127.0.0.1/32"));
+
+	private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRemoteAddr(remoteAddr);
+		if (forwardedFor != null) {
+			request.addHeader("X-Forwarded-For", forwardedFor);
+		}
+		return request;
+	}
+
+	@Test
+	@DisplayName("신뢰하지 않는 주소에서 온 요청은 X-Forwarded-For를 무시한다")
+	void ignoreForwardedForFromUntrustedPeer() {
+		assertThat(resolver.resolve(request("203.0.113.5", "1.2.3.4"))).isEqualTo("203.0.113.5");
+	}
+
+	@Test
+	@DisplayName("신뢰하는 프록시를 오른쪽부터 건너뛰고 첫 번째 외부 주소를 사용한다")
+	void walkForwardedForRightToLeft() {
+		String ip = resolver.resolve(request("10.0.0.1", "6.6.6.6, 198.51.100.7, 10.0.0.2"));
+
+		assertThat(ip).isEqualTo("198.51.100.7");
+	}
+
+	@Test
+	@DisplayName("X-Forwarded-For에 IP가 아닌 값이 있으면 그 앞의 홉에서 멈춘다")
+	void stopAtInvalidHop() {
+		String ip = resolver.resolve(request("10.0.0.1", "198.51.100.7, unknown, 10.0.0.2"));
+
+		assertThat(ip).isEqualTo("10.0.0.2");
+	}
+
+	@Test
+	@DisplayName("숫자 주소로 해석할 수 없는 홉은 예외 없이 신뢰하지 않는 것으로 보고 그 앞에서 멈춘다")
+	void stopAtMalformedHop() {
+		for (String malformed : List.of("dead:", "1:2:3:4:5:6:7:8:9", "999.999.999.999", "1::2::3", "::ffff:1.2.3")) {
+			String ip = resolver.resolve(request("10.0.0.1", "198.51.100.7, " + malformed + ", 10.0.0.2"));
+
+			assertThat(ip).as(malformed).isEqualTo("10.0.0.2");
+		}
+		assertThat(resolver.resolve(request("10.0.0.1", "999.999.999.999"))).isEqualTo("10.0.0.1");
+	}
+
+	@Test
+	@DisplayName("IPv6 숫자 주소는 축약 형식과 IPv4 포함 형식도 해석한다")
+	void parseIpv6Literals() {
+		assertThat(ClientIpResolver.parseIpLiteral("::1")).hasSize(16).endsWith(1);
+		assertThat(ClientIpResolver.parseIpLiteral("2001:db8::8a2e:370:7334")).hasSize(16);
+		assertThat(ClientIpResolver.parseIpLiteral("::ffff:10.0.0.2")).endsWith(10, 0, 0, 2);
+		assertThat(ClientIpResolver.parseIpLiteral("1:2:3:4:5:6:7:8")).hasSize(16);
+
+		String ip = resolver.resolve(request("10.0.0.1", "198.51.100.7, ::ffff:10.0.0.2"));
+
+		assertThat(ip).isEqualTo("198.51.100.7");
+	}
+
+	@Test
+	@DisplayName("계산 결과는 요청 속성에 저장되어 재사용된다")
+	void cacheResultInRequestAttribute() {
+		MockHttpServletRequest request = request("10.0.0.1", "198.51.100.7");
+
+		resolver.resolve(request);
+		request.setRemoteAddr("203.0.113.5");
+
+		assertThat(resolver.resolve(request)).isEqualTo("198.51.100.7");
+		assertThat(request.getAttribute(ClientIpResolver.CLIENT_IP_ATTRIBUTE)).isEqualTo("198.51.100.7");
+	}
+
+	@Test
+	@DisplayName("루프백 주소는 시작 시 조회해 둔 서버 호스트 식별자로 바뀐다")
+	void replaceLoopbackWithHostIdentity() {
+		String first = resolver.resolve(request("127.0.0.1", null));
+		String second = resolver.resolve(request("127.0.0.1", null));
+
+		assertThat(first).isEqualTo(second);
+	}
+}
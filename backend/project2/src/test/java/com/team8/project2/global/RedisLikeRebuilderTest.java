@@ -0,0 +1,138 @@
+package com.team8.project2.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLikeRebuilderTest {
+
+	private static final RedisLikeRebuilder.Source SOURCE = new RedisLikeRebuilder.Source(
+		new RedisLikeSynchronizer.Target("플레이리스트", "playlist_like:", "dirty:playlist_like", "playlist", "id",
+			"playlist_likes", "playlist_id", true),
+		"member_liked_playlists:");
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private HashOperations<String, String, String> hashOperations;
+
+	@Mock
+	private SetOperations<String, String> setOperations;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private RedisLikeRebuilder rebuilder;
+
+	@BeforeEach
+	void setUp() {
+		rebuilder = new RedisLikeRebuilder(redisTemplate, jdbcTemplate, false, 100, 0);
+		lenient().when(redisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+		lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+	}
+
+	@Test
+	@DisplayName("완료된 테이블은 다시 읽지 않는다")
+	void skipWhenDone() throws InterruptedException {
+		when(hashOperations.entries("like_rebuild:playlist_likes")).thenReturn(Map.of("status", "DONE"));
+
+		rebuilder.rebuild(SOURCE);
+
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("재구축 기록이 없어도 좋아요 SET이 이미 있으면 재구축하지 않고 완료로 기록한다")
+	void adoptExistingLikeSets() {
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(eq("like_rebuild:lock"), anyString(), any())).thenReturn(true);
+		when(redisTemplate.hasKey(startsWith("like_rebuild:"))).thenReturn(false);
+		Cursor<String> cursor = mock(Cursor.class);
+		when(cursor.hasNext()).thenReturn(true);
+		when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+		rebuilder.rebuildAll(false);
+
+		verify(hashOperations).putAll(eq("like_rebuild:likes"), argThat(state -> "DONE".equals(state.get("status"))));
+		verify(hashOperations).putAll(eq("like_rebuild:playlist_likes"),
+			argThat(state -> "DONE".equals(state.get("status"))));
+		verifyNoInteractions(jdbcTemplate);
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("기록된 마지막 대상 다음부터 읽고, 대상별로 조건부 스크립트로 좋아요 SET과 회원별 SET에 쓴다")
+	void resumeFromCheckpoint() throws InterruptedException {
+		when(hashOperations.entries("like_rebuild:playlist_likes"))
+			.thenReturn(Map.of("status", "RUNNING", "lastTargetId", "1", "rows", "1"));
+		when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(4L);
+		when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+			.thenReturn(List.of(new long[] {2L, 11L}, new long[] {2L, 12L}, new long[] {3L, 11L}));
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+		rebuilder.rebuild(SOURCE);
+
+		verify(setOperations).add("like_rebuild:playlist_likes:toggled", "-");
+		verify(jdbcTemplate).query(startsWith("SELECT playlist_id, member_id FROM playlist_likes"),
+			any(RowMapper.class), eq(1L), eq(100));
+		verify(redisTemplate).execute(any(RedisScript.class),
+			eq(List.of("dirty:playlist_like", "dirty:playlist_like:syncing", "like_rebuild:playlist_likes:toggled",
+				"playlist_like:2", "playlist_like:3")),
+			eq("member_liked_playlists:"), eq("2"), eq("2"), eq("11"), eq("12"), eq("3"), eq("1"), eq("11"));
+
+		ArgumentCaptor<Map<String, String>> state = ArgumentCaptor.forClass(Map.class);
+		verify(hashOperations, atLeastOnce()).putAll(eq("like_rebuild:playlist_likes"), state.capture());
+		assertThat(state.getAllValues()).anySatisfy(checkpoint -> assertThat(checkpoint)
+			.containsEntry("lastTargetId", "3").containsEntry("rows", "4"));
+		assertThat(state.getValue()).containsEntry("status", "DONE");
+		verify(redisTemplate).delete("like_rebuild:playlist_likes:toggled");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("꽉 찬 페이지의 마지막 대상은 나누어 쓰지 않고 다음 페이지에서 통째로 다시 읽는다")
+	void keepTargetInOnePage() throws InterruptedException {
+		rebuilder = new RedisLikeRebuilder(redisTemplate, jdbcTemplate, false, 3, 0);
+		when(hashOperations.entries("like_rebuild:playlist_likes")).thenReturn(Map.of());
+		when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(4L);
+		when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+			.thenReturn(List.of(new long[] {1L, 10L}, new long[] {1L, 11L}, new long[] {2L, 10L}))
+			.thenReturn(List.of(new long[] {2L, 10L}, new long[] {2L, 11L}));
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+		rebuilder.rebuild(SOURCE);
+
+		verify(jdbcTemplate).query(anyString(), any(RowMapper.class), eq(0L), eq(3));
+		verify(jdbcTemplate).query(anyString(), any(RowMapper.class), eq(1L), eq(3));
+		verify(redisTemplate).execute(any(RedisScript.class), argThat(keys -> keys.contains("playlist_like:1")
+				&& !keys.contains("playlist_like:2")),
+			eq("member_liked_playlists:"), eq("1"), eq("2"), eq("10"), eq("11"));
+		verify(redisTemplate).execute(any(RedisScript.class), argThat(keys -> keys.contains("playlist_like:2")),
+			eq("member_liked_playlists:"), eq("2"), eq("2"), eq("10"), eq("11"));
+	}
+}
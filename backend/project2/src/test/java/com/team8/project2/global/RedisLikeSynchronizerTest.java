@@ -0,0 +1,128 @@
+package com.team8.project2.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLikeSynchronizerTest {
+
+	private static final RedisLikeSynchronizer.Target TARGET = new RedisLikeSynchronizer.Target(
+		"큐레이션", "curation_like:", "dirty:curation_like", "curation", "curation_id", "likes", "curation_id", true);
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private SetOperations<String, String> setOperations;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private RedisLikeSynchronizer synchronizer;
+
+	@BeforeEach
+	void setUp() {
+		synchronizer = new RedisLikeSynchronizer(redisTemplate, jdbcTemplate, transactionManager, 100);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Cursor<String> cursorOf(String... values) {
+		Iterator<String> iterator = List.of(values).iterator();
+		Cursor<String> cursor = mock(Cursor.class);
+		when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+		lenient().when(cursor.next()).thenAnswer(invocation -> iterator.next());
+		return cursor;
+	}
+
+	@Test
+	@DisplayName("바뀐 대상이 없으면 DB를 조회하지 않는다")
+	void skipWhenNothingChanged() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(0L);
+
+		assertThat(synchronizer.sync(TARGET)).isZero();
+
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("바뀐 대상의 좋아요 수를 갱신하고, Redis와 DB 좋아요 목록의 차이만 추가·삭제한다")
+	void syncChangedTargetsOnly() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(1L);
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		Cursor<String> dirtyCursor = cursorOf("1");
+		Cursor<String> likeCursor = cursorOf("10", "11");
+		when(setOperations.scan(eq("dirty:curation_like:syncing"), any(ScanOptions.class))).thenReturn(dirtyCursor);
+		when(setOperations.scan(eq("curation_like:1"), any(ScanOptions.class))).thenReturn(likeCursor);
+		when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(invocation -> {
+			String sql = invocation.getArgument(0);
+			if (sql.startsWith("SELECT curation_id FROM curation")) {
+				return List.of(1L);
+			}
+			if (sql.startsWith("SELECT id FROM member")) {
+				return List.of(10L, 11L);
+			}
+			return List.of(new long[] {1L, 11L}, new long[] {1L, 12L});
+		});
+
+		assertThat(synchronizer.sync(TARGET)).isEqualTo(1);
+
+		ArgumentCaptor<List<Object[]>> counts = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<List<Object[]>> deletes = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(startsWith("UPDATE curation"), counts.capture());
+		verify(jdbcTemplate).batchUpdate(startsWith("DELETE FROM likes"), deletes.capture());
+		verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO likes"), inserts.capture());
+		assertThat(counts.getValue()).containsExactly(new Object[] {2L, 1L});
+		assertThat(deletes.getValue()).containsExactly(new Object[] {1L, 12L});
+		assertThat(inserts.getValue()).containsExactly(new Object[] {1L, 10L, 1L, 10L});
+		verify(setOperations).remove("dirty:curation_like:syncing", "1");
+		verify(redisTemplate, never()).keys(anyString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("좋아요 행을 다른 경로가 쓰는 대상은 좋아요 수만 갱신한다")
+	void syncCountsOnly() {
+		RedisLikeSynchronizer.Target countsOnly = new RedisLikeSynchronizer.Target("큐레이션", "curation_like:",
+			"dirty:curation_like", "curation", "curation_id", "likes", "curation_id", false);
+		when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(1L);
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		Cursor<String> dirtyCursor = cursorOf("1");
+		when(setOperations.scan(eq("dirty:curation_like:syncing"), any(ScanOptions.class))).thenReturn(dirtyCursor);
+		when(setOperations.size("curation_like:1")).thenReturn(2L);
+		when(jdbcTemplate.query(startsWith("SELECT curation_id FROM curation"), any(RowMapper.class),
+			any(Object[].class))).thenReturn(List.of(1L));
+
+		assertThat(synchronizer.sync(countsOnly)).isEqualTo(1);
+
+		ArgumentCaptor<List<Object[]>> counts = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(startsWith("UPDATE curation"), counts.capture());
+		assertThat(counts.getValue()).containsExactly(new Object[] {2L, 1L});
+		verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT INTO likes"), anyList());
+		verify(jdbcTemplate, never()).batchUpdate(startsWith("DELETE FROM likes"), anyList());
+	}
+}
@@ -0,0 +1,99 @@
+package com.team8.project2.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.team8.project2.global.security.SecurityUser;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+class UniqueVisitorServiceTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ClientIpResolver clientIpResolver;
+
+	@Mock
+	private HttpServletRequest request;
+
+	@InjectMocks
+	private UniqueVisitorService uniqueVisitorService;
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("방문자는 HyperLogLog 하나에만 기록하고, 추정 방문자 수의 증가분을 반환한다")
+	@SuppressWarnings("unchecked")
+	void recordVisit() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("ip:1.1.1.1"), eq("172800")))
+			.thenReturn(1L)
+			.thenReturn(0L);
+
+		assertThat(uniqueVisitorService.recordVisit(UniqueVisitorService.CURATION, 1L, "ip:1.1.1.1")).isEqualTo(1L);
+		assertThat(uniqueVisitorService.recordVisit(UniqueVisitorService.CURATION, 1L, "ip:1.1.1.1")).isZero();
+
+		ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+		verify(redisTemplate, times(2)).execute(any(RedisScript.class), keys.capture(), any(), any());
+		assertThat(keys.getValue()).singleElement().asString().startsWith("uv:curation:1:");
+	}
+
+	@Test
+	@DisplayName("스크립트는 PFADD 전후의 PFCOUNT 차이를 증가분으로 돌려준다")
+	@SuppressWarnings("unchecked")
+	void recordVisitScriptUsesCountDelta() {
+		uniqueVisitorService.recordVisit(UniqueVisitorService.LINK, 2L, "m:1");
+
+		ArgumentCaptor<RedisScript<Long>> script = ArgumentCaptor.forClass(RedisScript.class);
+		verify(redisTemplate).execute(script.capture(), anyList(), any(), any());
+		assertThat(script.getValue().getScriptAsString())
+			.contains("PFCOUNT", "PFADD")
+			.doesNotContain("SADD");
+	}
+
+	@Test
+	@DisplayName("방문 기록 삭제는 보관 기간의 키만 지운다")
+	@SuppressWarnings("unchecked")
+	void deleteVisits() {
+		uniqueVisitorService.deleteVisits(UniqueVisitorService.PLAYLIST, 3L);
+
+		ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+		verify(redisTemplate).delete(captor.capture());
+		assertThat(captor.getValue()).hasSize(2).allMatch(key -> key.startsWith("uv:playlist:3:"));
+		verify(redisTemplate, never()).keys(anyString());
+	}
+
+	@Test
+	@DisplayName("로그인한 사용자는 회원 ID, 비로그인 사용자는 IP로 식별한다")
+	void resolveVisitor() {
+		when(clientIpResolver.resolve(request)).thenReturn("192.168.0.1");
+		assertThat(uniqueVisitorService.resolveVisitor(request)).isEqualTo("ip:192.168.0.1");
+
+		SecurityUser user = new SecurityUser(7L, "member7", "", List.of());
+		SecurityContextHolder.getContext()
+			.setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+		assertThat(uniqueVisitorService.resolveVisitor(request)).isEqualTo("m:7");
+	}
+}